@@ -0,0 +1,116 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.EntryBook;
+import seedu.address.model.entry.Description;
+import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.Link;
+import seedu.address.model.entry.Title;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Synthetic entries and bundled fixtures for the benchmarks, so that they run offline and reproducibly.
+ */
+public class BenchmarkData {
+
+    /** Base URL that the bundled fixtures pretend to have been fetched from. */
+    public static final String FIXTURE_BASE_URL = "https://blog.example.com/posts/42/";
+    public static final String FEED_FIXTURE = "/fixtures/feed.xml";
+    public static final String ARTICLE_FIXTURE = "/fixtures/article.html";
+
+    private static final String[] WORDS = {"latency", "throughput", "garbage", "collector", "heap", "allocation",
+        "compiler", "inlining", "escape", "analysis", "kernel", "scheduler", "cache", "memory", "bandwidth",
+        "queue", "lock", "contention", "thread", "pool", "vector", "branch", "profile", "benchmark"};
+    private static final int TAG_COUNT = 50;
+
+    /**
+     * Returns {@code count} distinct entries with titles, descriptions and tags of realistic length.
+     * The same count always gives the same entries.
+     */
+    public static List<Entry> createEntries(int count) {
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(createEntry(i));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns an entry book of {@link #createEntries(int)}.
+     */
+    public static EntryBook createEntryBook(int count) {
+        EntryBook entryBook = new EntryBook();
+        entryBook.setEntries(createEntries(count));
+        return entryBook;
+    }
+
+    /**
+     * Returns the {@code i}th synthetic entry.
+     */
+    public static Entry createEntry(int i) {
+        String title = capitalise(word(i)) + " " + word(i / 3) + " and " + word(i / 7) + ", part " + i;
+        String description = "Notes on " + word(i / 11) + " " + word(i / 13) + " for " + word(i / 17)
+                + " in production " + word(i / 19) + " systems";
+        Set<Tag> tags = new HashSet<>();
+        tags.add(new Tag("topic" + (i % TAG_COUNT)));
+        if (i % 3 == 0) {
+            tags.add(new Tag(word(i)));
+        }
+        try {
+            return new Entry(new Title(title), new Description(description),
+                    new Link("https://blog" + (i % 97) + ".example.com/posts/" + i + "/" + word(i)), tags);
+        } catch (MalformedURLException mue) {
+            throw new AssertionError("Synthetic links are valid", mue);
+        }
+    }
+
+    /**
+     * Returns the content of the bundled fixture at {@code resourcePath}.
+     */
+    public static byte[] readFixture(String resourcePath) {
+        try (InputStream inputStream = BenchmarkData.class.getResourceAsStream(resourcePath)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("Missing benchmark fixture: " + resourcePath);
+            }
+            return inputStream.readAllBytes();
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    public static URL getFixtureBaseUrl() {
+        try {
+            return new URL(FIXTURE_BASE_URL);
+        } catch (MalformedURLException mue) {
+            throw new AssertionError("Fixture base URL is valid", mue);
+        }
+    }
+
+    /**
+     * Returns the entries in shuffled order, the same order for the same seed.
+     */
+    public static List<Entry> shuffled(List<Entry> entries, long seed) {
+        List<Entry> shuffled = new ArrayList<>(entries);
+        Collections.shuffle(shuffled, new Random(seed));
+        return shuffled;
+    }
+
+    private static String word(int i) {
+        return WORDS[Math.floorMod(i * 31 + 7, WORDS.length)];
+    }
+
+    private static String capitalise(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.commons.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.rometools.rome.feed.synd.SyndFeed;
+import com.rometools.rome.io.FeedException;
+import com.rometools.rome.io.SyndFeedInput;
+import com.rometools.rome.io.XmlReader;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.EntryBook;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Benchmarks importing the bundled RSS feed fixture of 200 items into an entry book.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedUtilBenchmark {
+
+    private static final Set<Tag> TAGS = Collections.singleton(new Tag("benchmark"));
+
+    private byte[] feedContent;
+    private SyndFeed syndFeed;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, FeedException {
+        feedContent = BenchmarkData.readFixture(BenchmarkData.FEED_FIXTURE);
+        syndFeed = new SyndFeedInput().build(new XmlReader(new ByteArrayInputStream(feedContent)));
+    }
+
+    /**
+     * Converts an already parsed feed into entries.
+     */
+    @Benchmark
+    public EntryBook serializeToEntryBook() {
+        return FeedUtil.serializeToEntryBook(syndFeed, BenchmarkData.FIXTURE_BASE_URL, TAGS);
+    }
+
+    /**
+     * Parses the feed and converts it into entries, as done for every fetched feed.
+     */
+    @Benchmark
+    public EntryBook fromFeedContent() throws IOException, FeedException {
+        return FeedUtil.fromFeedContent(feedContent, BenchmarkData.getFixtureBaseUrl(), TAGS);
+    }
+
+    /**
+     * Parses the feed with Rome and converts it into entries, as done for feeds the streaming parser cannot parse.
+     */
+    @Benchmark
+    public EntryBook fromFeedContentWithRome() throws IOException, FeedException {
+        SyndFeed parsedFeed = new SyndFeedInput().build(new XmlReader(new ByteArrayInputStream(feedContent)));
+        return FeedUtil.serializeToEntryBook(parsedFeed, BenchmarkData.FIXTURE_BASE_URL, TAGS);
+    }
+}
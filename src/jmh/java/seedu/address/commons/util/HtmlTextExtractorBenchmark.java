@@ -0,0 +1,37 @@
+package seedu.address.commons.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.Jsoup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks extracting the text of a typical feed item description, against parsing it with Jsoup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HtmlTextExtractorBenchmark {
+
+    private static final String DESCRIPTION = "<p>Dicynodonts were <b>herbivorous</b> therapsids with tusks&nbsp;and "
+            + "beaks, and among the most successful land animals of the Permian [&#8230;]</p>\n"
+            + "<p>The post <a href=\"https://example.com/dicynodonts\">Dicynodonts</a> appeared first on "
+            + "<a href=\"https://example.com\">Therapsid news</a>.</p>";
+
+    private final HtmlTextExtractor extractor = new HtmlTextExtractor();
+
+    @Benchmark
+    public String extractText() {
+        return extractor.extractText(DESCRIPTION);
+    }
+
+    @Benchmark
+    public String jsoupText() {
+        return Jsoup.parseBodyFragment(DESCRIPTION).body().text();
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LINK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks tokenizing the arguments of typical commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArgumentTokenizerBenchmark {
+
+    private static final String ADD_ARGUMENTS = " " + PREFIX_LINK + "https://blog.example.com/posts/42/"
+            + " " + PREFIX_TITLE + "Reducing tail latency in a garbage collected service"
+            + " " + PREFIX_DESCRIPTION + "How allocation rate and heap sizing affect pause times"
+            + " " + PREFIX_TAG + "performance " + PREFIX_TAG + "jvm " + PREFIX_TAG + "gc";
+    private static final String FIND_ARGUMENTS = " " + PREFIX_TITLE + "latency " + PREFIX_ALL + "garbage collection "
+            + PREFIX_CONTENT + "tail latency " + PREFIX_TAG + "jvm";
+
+    private static final String MANY_TAGS_ARGUMENTS;
+
+    static {
+        StringBuilder builder = new StringBuilder(ADD_ARGUMENTS);
+        for (int i = 0; i < 50; i++) {
+            builder.append(' ').append(PREFIX_TAG).append("tag").append(i);
+        }
+        MANY_TAGS_ARGUMENTS = builder.toString();
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAdd() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, PREFIX_TITLE, PREFIX_DESCRIPTION, PREFIX_LINK, PREFIX_TAG);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeFind() {
+        return ArgumentTokenizer.tokenize(FIND_ARGUMENTS, PREFIX_TITLE, PREFIX_DESCRIPTION, PREFIX_LINK, PREFIX_ALL,
+                PREFIX_CONTENT, PREFIX_TAG);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeManyTags() {
+        return ArgumentTokenizer.tokenize(MANY_TAGS_ARGUMENTS, PREFIX_TITLE, PREFIX_DESCRIPTION, PREFIX_LINK,
+                PREFIX_TAG);
+    }
+}
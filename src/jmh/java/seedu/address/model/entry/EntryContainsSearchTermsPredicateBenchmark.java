@@ -0,0 +1,118 @@
+package seedu.address.model.entry;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.logic.commands.FindCommand.FindEntryDescriptor;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Benchmarks filtering entries with {@link EntryContainsSearchTermsPredicate}, against the predicate it replaced,
+ * which interpreted the search terms afresh for every entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntryContainsSearchTermsPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int entryCount;
+
+    private List<Entry> entries;
+    private FindEntryDescriptor descriptor;
+    private Predicate<Entry> compiled;
+    private Predicate<Entry> interpreted;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entries = BenchmarkData.createEntries(entryCount);
+        descriptor = new FindEntryDescriptor();
+        descriptor.setTitle("Escape Analysis");
+        descriptor.setDescription("kernel scheduler");
+        descriptor.setLink("example.com/posts/42/");
+        descriptor.setAll("bandwidth");
+        descriptor.setTags(Collections.singleton(new Tag("unused")));
+
+        compiled = new EntryContainsSearchTermsPredicate(descriptor);
+        interpreted = new InterpretedSearchTermsPredicate(descriptor);
+        long compiledMatches = entries.stream().filter(compiled).count();
+        long interpretedMatches = entries.stream().filter(interpreted).count();
+        if (compiledMatches != interpretedMatches) {
+            throw new IllegalStateException("Predicates disagree: " + compiledMatches + " vs " + interpretedMatches);
+        }
+    }
+
+    @Benchmark
+    public long compiledPredicate() {
+        return entries.stream().filter(compiled).count();
+    }
+
+    @Benchmark
+    public long interpretedPredicate() {
+        return entries.stream().filter(interpreted).count();
+    }
+
+    /**
+     * Includes compiling the search terms, which is done once per find command.
+     */
+    @Benchmark
+    public long compileAndFilter() {
+        return entries.stream().filter(new EntryContainsSearchTermsPredicate(descriptor)).count();
+    }
+
+    /**
+     * The search predicate as it was before search terms were compiled.
+     */
+    private static class InterpretedSearchTermsPredicate implements Predicate<Entry> {
+        private final FindEntryDescriptor findEntryDescriptor;
+
+        InterpretedSearchTermsPredicate(FindEntryDescriptor findEntryDescriptor) {
+            this.findEntryDescriptor = findEntryDescriptor;
+        }
+
+        @Override
+        public boolean test(Entry entry) {
+            boolean result = false;
+            if (findEntryDescriptor.getTags().isPresent()) {
+                result = findEntryDescriptor.getTags().get().stream().anyMatch(tag -> entry.getTags().contains(tag));
+            }
+            if (!result && findEntryDescriptor.getTitle().isPresent()) {
+                result = containsPhraseIgnoreCase(entry.getTitle().fullTitle, findEntryDescriptor.getTitle().get());
+            }
+            if (!result && findEntryDescriptor.getLink().isPresent()) {
+                result = containsPhraseIgnoreCase(entry.getLink().value.toString(),
+                        findEntryDescriptor.getLink().get());
+            }
+            if (!result && findEntryDescriptor.getDescription().isPresent()) {
+                result = containsPhraseIgnoreCase(entry.getDescription().value,
+                        findEntryDescriptor.getDescription().get());
+            }
+            if (!result && findEntryDescriptor.getAll().isPresent()) {
+                String all = findEntryDescriptor.getAll().get();
+                result = (Tag.isValidTagName(all) && entry.getTags().contains(new Tag(all)))
+                        || containsPhraseIgnoreCase(entry.getTitle().fullTitle, all)
+                        || containsPhraseIgnoreCase(entry.getDescription().value, all)
+                        || containsPhraseIgnoreCase(entry.getLink().value.toString(), all);
+            }
+            return result;
+        }
+
+        private static boolean containsPhraseIgnoreCase(String sentence, String phrase) {
+            return Pattern.compile(Pattern.quote(phrase.trim()), Pattern.CASE_INSENSITIVE).matcher(sentence).find();
+        }
+    }
+}
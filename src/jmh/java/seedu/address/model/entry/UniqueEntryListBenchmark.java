@@ -0,0 +1,93 @@
+package seedu.address.model.entry;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Benchmarks building, querying and modifying a {@link UniqueEntryList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniqueEntryListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int entryCount;
+
+    private List<Entry> entries;
+    private List<Entry> lookups;
+    private Entry absentEntry;
+    private UniqueEntryList populatedList;
+    private Entry editedEntry;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        entries = BenchmarkData.createEntries(entryCount);
+        lookups = BenchmarkData.shuffled(entries, 42).subList(0, Math.min(1000, entryCount));
+        absentEntry = BenchmarkData.createEntry(entryCount);
+        editedEntry = new Entry(new Title("Edited"), entries.get(entryCount / 2).getDescription(),
+                entries.get(entryCount / 2).getLink(), entries.get(entryCount / 2).getTags());
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        populatedList = new UniqueEntryList();
+        populatedList.setEntries(entries);
+    }
+
+    @Benchmark
+    public UniqueEntryList setEntries() {
+        UniqueEntryList list = new UniqueEntryList();
+        list.setEntries(entries);
+        return list;
+    }
+
+    @Benchmark
+    public UniqueEntryList addEach() {
+        UniqueEntryList list = new UniqueEntryList();
+        for (Entry entry : entries) {
+            list.add(entry);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public void contains(Blackhole blackhole) {
+        for (Entry entry : lookups) {
+            blackhole.consume(populatedList.contains(entry));
+        }
+        blackhole.consume(populatedList.contains(absentEntry));
+    }
+
+    /**
+     * Adds and removes the same entry, leaving the list as it was for the next invocation.
+     */
+    @Benchmark
+    public void addAndRemove() {
+        populatedList.add(absentEntry);
+        populatedList.remove(absentEntry);
+    }
+
+    /**
+     * Edits an entry in the middle of the list and edits it back.
+     */
+    @Benchmark
+    public void setEntryAndRevert() {
+        Entry original = entries.get(entryCount / 2);
+        populatedList.setEntry(original, editedEntry);
+        populatedList.setEntry(editedEntry, original);
+    }
+}
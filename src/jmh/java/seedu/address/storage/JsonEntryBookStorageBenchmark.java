@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.EntryBook;
+import seedu.address.model.ReadOnlyEntryBook;
+
+/**
+ * Benchmarks saving and loading an entry book with {@link JsonEntryBookStorage} in a temporary directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonEntryBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int entryCount;
+
+    private Path directoryPath;
+    private EntryBook entryBook;
+    private JsonEntryBookStorage savedStorage;
+    private JsonEntryBookStorage scratchStorage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directoryPath = Files.createTempDirectory("jsonEntryBookStorageBenchmark");
+        entryBook = BenchmarkData.createEntryBook(entryCount);
+        savedStorage = new JsonEntryBookStorage(directoryPath.resolve("saved.json"));
+        savedStorage.saveEntryBook(entryBook);
+        scratchStorage = new JsonEntryBookStorage(directoryPath.resolve("scratch.json"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savedStorage.getEntryBookFilePath());
+        Files.deleteIfExists(scratchStorage.getEntryBookFilePath());
+        Files.deleteIfExists(directoryPath);
+    }
+
+    @Benchmark
+    public void saveEntryBook() throws IOException {
+        scratchStorage.saveEntryBook(entryBook);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyEntryBook> readEntryBook() throws DataConversionException {
+        return savedStorage.readEntryBook();
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.ui.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Benchmarks generating the reader view of the bundled article fixture.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReaderViewUtilBenchmark {
+
+    private String rawHtml;
+    private Document rawDocument;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rawHtml = new String(BenchmarkData.readFixture(BenchmarkData.ARTICLE_FIXTURE), StandardCharsets.UTF_8);
+        rawDocument = Jsoup.parse(rawHtml, BenchmarkData.FIXTURE_BASE_URL);
+    }
+
+    /**
+     * Generates the reader view of an already parsed document.
+     * Readability modifies the document it extracts from, so each invocation works on a fresh copy.
+     */
+    @Benchmark
+    public Document generateReaderViewFrom() {
+        return ReaderViewUtil.generateReaderViewFrom(rawDocument.clone());
+    }
+
+    /**
+     * Parses the article and generates its reader view as html, as done when an article is displayed.
+     */
+    @Benchmark
+    public String generateReaderViewStringFrom() {
+        return ReaderViewUtil.generateReaderViewStringFrom(rawHtml, BenchmarkData.FIXTURE_BASE_URL);
+    }
+}
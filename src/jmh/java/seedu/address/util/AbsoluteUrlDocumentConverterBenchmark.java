@@ -0,0 +1,38 @@
+package seedu.address.util;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Benchmarks making the links in the bundled article fixture absolute, as done for every saved article.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AbsoluteUrlDocumentConverterBenchmark {
+
+    private URL baseUrl;
+    private byte[] articleContent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        baseUrl = BenchmarkData.getFixtureBaseUrl();
+        articleContent = BenchmarkData.readFixture(BenchmarkData.ARTICLE_FIXTURE);
+    }
+
+    @Benchmark
+    public byte[] convert() {
+        return AbsoluteUrlDocumentConverter.convert(baseUrl, articleContent);
+    }
+}
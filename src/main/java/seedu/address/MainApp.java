@@ -7,6 +7,7 @@ import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -14,6 +15,8 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.FeedPollingScheduler;
+import seedu.address.logic.IdleArticleDownloader;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.EntryBook;
@@ -23,13 +26,17 @@ import seedu.address.model.ReadOnlyEntryBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.storage.ArticleStorage;
+import seedu.address.storage.CompressedArticleStorage;
 import seedu.address.storage.DataConversionAndIoExceptionsThrowingSupplier;
 import seedu.address.storage.DataDirectoryArticleStorage;
 import seedu.address.storage.EntryBookStorage;
-import seedu.address.storage.JsonEntryBookStorage;
+import seedu.address.storage.FeedStateStorage;
+import seedu.address.storage.JournalEntryBookStorage;
+import seedu.address.storage.JsonFeedStateStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.StreamingJsonEntryBookStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -49,6 +56,8 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected FeedPollingScheduler feedPollingScheduler;
+    protected IdleArticleDownloader idleArticleDownloader;
 
     @Override
     public void init() throws Exception {
@@ -60,19 +69,27 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        EntryBookStorage listEntryBookStorage = new JsonEntryBookStorage(userPrefs.getListEntryBookFilePath());
-        EntryBookStorage archivesEntryBookStorage = new JsonEntryBookStorage(userPrefs.getArchivesEntryBookFilePath());
-        EntryBookStorage feedsEntryBookStorage = new JsonEntryBookStorage(userPrefs.getFeedsEntryBookFilePath());
-        ArticleStorage articleStorage = new DataDirectoryArticleStorage(userPrefs.getArticleDataDirectoryPath());
+        Network.setRequestLimits(userPrefs.getMaxConcurrentRequests(), userPrefs.getMaxConcurrentRequestsPerHost());
+        EntryBookStorage listEntryBookStorage = initEntryBookStorage(userPrefs.getListEntryBookFilePath(), userPrefs);
+        EntryBookStorage archivesEntryBookStorage =
+                initEntryBookStorage(userPrefs.getArchivesEntryBookFilePath(), userPrefs);
+        EntryBookStorage feedsEntryBookStorage = initEntryBookStorage(userPrefs.getFeedsEntryBookFilePath(), userPrefs);
+        ArticleStorage articleStorage = initArticleStorage(userPrefs);
+        FeedStateStorage feedStateStorage = new JsonFeedStateStorage(
+                userPrefs.getFeedsEntryBookFilePath().resolveSibling(JsonFeedStateStorage.FEED_STATE_FILE_NAME));
 
         storage = new StorageManager(listEntryBookStorage, archivesEntryBookStorage, feedsEntryBookStorage,
-                userPrefsStorage, articleStorage);
+                userPrefsStorage, articleStorage, feedStateStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, Platform::runLater);
+
+        feedPollingScheduler = new FeedPollingScheduler(model, Platform::runLater);
+
+        idleArticleDownloader = new IdleArticleDownloader(model, Platform::runLater, logic.getRunningCommands());
 
         ui = new UiManager(logic);
     }
@@ -121,6 +138,62 @@ public class MainApp extends Application {
         }
     }
 
+    /**
+     * Returns an {@code EntryBookStorage} for the entry book at {@code filePath},
+     * in the storage format given by {@code userPrefs}.
+     */
+    private EntryBookStorage initEntryBookStorage(Path filePath, ReadOnlyUserPrefs userPrefs) {
+        switch (userPrefs.getEntryBookStorageFormat()) {
+        case JOURNAL:
+            return new JournalEntryBookStorage(filePath, userPrefs.getEntryBookJournalCompactionThreshold());
+        case JSON:
+        default:
+            return new StreamingJsonEntryBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns an {@code ArticleStorage} for the article data directory,
+     * in the storage format given by {@code userPrefs}, with the saved articles already loaded.
+     * Loading them here keeps the scan of the data directory off the UI thread.
+     */
+    private ArticleStorage initArticleStorage(ReadOnlyUserPrefs userPrefs) {
+        ArticleStorage articleStorage;
+        switch (userPrefs.getArticleStorageFormat()) {
+        case COMPRESSED:
+            articleStorage = new CompressedArticleStorage(userPrefs.getArticleDataDirectoryPath());
+            break;
+        case PLAIN:
+        default:
+            articleStorage = new DataDirectoryArticleStorage(userPrefs.getArticleDataDirectoryPath());
+            break;
+        }
+
+        try {
+            articleStorage.loadArticles();
+        } catch (IOException e) {
+            logger.warning("Problem while loading saved articles. They will be loaded when first accessed: " + e);
+        }
+        indexArticlesInBackground(articleStorage);
+        return articleStorage;
+    }
+
+    /**
+     * Indexes the text of any saved articles missing from the text index on a background thread,
+     * as parsing many articles would hold up startup.
+     */
+    private void indexArticlesInBackground(ArticleStorage articleStorage) {
+        Thread indexer = new Thread(() -> {
+            try {
+                articleStorage.indexArticles();
+            } catch (IOException e) {
+                logger.warning("Problem while indexing saved articles. They may be missing from searches: " + e);
+            }
+        }, "Article indexer");
+        indexer.setDaemon(true);
+        indexer.start();
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -197,11 +270,16 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting README " + MainApp.VERSION);
         ui.start(primaryStage);
+        feedPollingScheduler.start();
+        idleArticleDownloader.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping README ] =============================");
+        feedPollingScheduler.stop();
+        idleArticleDownloader.stop();
+        model.flushPendingSaves();
         try {
             Network.stop();
         } catch (IOException e) {
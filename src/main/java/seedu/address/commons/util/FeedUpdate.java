@@ -0,0 +1,51 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import seedu.address.model.EntryBook;
+import seedu.address.util.FeedState;
+
+/**
+ * The entries of the items of a feed which are new since it was last refreshed,
+ * and the state of the feed to remember for the next refresh.
+ * Also tells how often the feed is updated, as far as can be told from the items read and the feed itself.
+ */
+public class FeedUpdate {
+
+    private final EntryBook newEntries;
+    private final FeedState feedState;
+    private final Duration publishInterval;
+    private final Duration updateHint;
+
+    /**
+     * @param publishInterval average interval between the dates of the items read, or null if unknown.
+     * @param updateHint shortest interval the feed says it should be fetched at, or null if it does not say.
+     */
+    public FeedUpdate(EntryBook newEntries, FeedState feedState, Duration publishInterval, Duration updateHint) {
+        requireNonNull(newEntries);
+        requireNonNull(feedState);
+        this.newEntries = newEntries;
+        this.feedState = feedState;
+        this.publishInterval = publishInterval;
+        this.updateHint = updateHint;
+    }
+
+    public EntryBook getNewEntries() {
+        return newEntries;
+    }
+
+    public FeedState getFeedState() {
+        return feedState;
+    }
+
+    public Optional<Duration> getPublishInterval() {
+        return Optional.ofNullable(publishInterval);
+    }
+
+    public Optional<Duration> getUpdateHint() {
+        return Optional.ofNullable(updateHint);
+    }
+}
@@ -1,18 +1,24 @@
 package seedu.address.commons.util;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
-import java.util.List;
+import java.util.Date;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
-import org.jsoup.Jsoup;
+import javax.xml.stream.XMLStreamException;
 
+import com.rometools.rome.feed.module.SyModule;
+import com.rometools.rome.feed.synd.SyndContent;
 import com.rometools.rome.feed.synd.SyndEntry;
 import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.FeedException;
@@ -27,6 +33,7 @@ import seedu.address.model.entry.Link;
 import seedu.address.model.entry.Title;
 import seedu.address.model.entry.exceptions.DuplicateEntryException;
 import seedu.address.model.tag.Tag;
+import seedu.address.util.FeedState;
 import seedu.address.util.Network;
 
 /**
@@ -37,12 +44,124 @@ public class FeedUtil {
 
     private static final Logger logger = LogsCenter.getLogger(FeedUtil.class);
 
+    /** Extractor of the text of descriptions for each thread, which reuses its buffer between descriptions. */
+    private static final ThreadLocal<HtmlTextExtractor> TEXT_EXTRACTORS =
+            ThreadLocal.withInitial(HtmlTextExtractor::new);
+
     /** Fetches URL as ROME SyndFeed. */
     public static SyndFeed fetchAsFeed(URL feedUrl) throws IOException, FeedException {
         InputStream inputStream = Network.fetchAsStream(feedUrl);
         return new SyndFeedInput().build(new XmlReader(inputStream));
     }
 
+    /**
+     * Parses the already fetched {@code feedContent} of the feed at {@code feedUrl},
+     * and returns an {@code EntryBook} with the given tags.
+     *
+     * RSS, RDF and Atom feeds are parsed by the {@link StreamingFeedParser}.
+     * Feeds it does not support or cannot parse are parsed by Rome instead.
+     */
+    public static EntryBook fromFeedContent(byte[] feedContent, URL feedUrl, Set<Tag> tags)
+            throws IOException, FeedException {
+        return parseFeedContent(feedContent, feedUrl, tags, Optional.empty(), FeedState.hashContent(feedContent))
+                .getNewEntries();
+    }
+
+    /**
+     * Parses the already fetched {@code feedContent} of the feed at {@code feedUrl} into the entries, with the
+     * given tags, of the items which are new since {@code lastState} was saved, and the state to save for the next
+     * refresh.
+     * Returns an empty Optional without parsing the feed if its content has not changed since {@code lastState}.
+     *
+     * @see #fromFeedContent(byte[], URL, Set)
+     */
+    public static Optional<FeedUpdate> updateFromFeedContent(byte[] feedContent, URL feedUrl, Set<Tag> tags,
+            Optional<FeedState> lastState) throws IOException, FeedException {
+        String contentHash = FeedState.hashContent(feedContent);
+        if (lastState.isPresent() && lastState.get().getContentHash().equals(contentHash)) {
+            return Optional.empty();
+        }
+        return Optional.of(parseFeedContent(feedContent, feedUrl, tags, lastState, contentHash));
+    }
+
+    /**
+     * Asynchronously fetches the feed at {@code feedUrl} and returns the result of
+     * {@link #updateFromFeedContent} on its content.
+     * The returned future fails with a {@code CompletionException} caused by either an {@code IOException}
+     * or a {@code FeedException}.
+     */
+    public static CompletableFuture<Optional<FeedUpdate>> updateFromFeedUrlAsync(URL feedUrl, Set<Tag> tags,
+            Optional<FeedState> lastState) {
+        return Network.fetchAsStreamAsync(feedUrl)
+                .thenApplyAsync(inputStream -> {
+                    try (InputStream feedContent = inputStream) {
+                        return updateFromFeedContent(feedContent.readAllBytes(), feedUrl, tags, lastState);
+                    } catch (IOException | FeedException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+
+    /**
+     * Parses the items of {@code feedContent} which are new since {@code lastState} was saved,
+     * with the {@link StreamingFeedParser} if it can, or with Rome otherwise.
+     */
+    private static FeedUpdate parseFeedContent(byte[] feedContent, URL feedUrl, Set<Tag> tags,
+            Optional<FeedState> lastState, String contentHash) throws IOException, FeedException {
+        try {
+            SeenItemFilter seenItemFilter = new SeenItemFilter(lastState);
+            Optional<StreamingFeedParser.ParsedFeed> parsedFeed = StreamingFeedParser.parse(
+                    new ByteArrayInputStream(feedContent), feedUrl.toString(), tags, seenItemFilter);
+            if (parsedFeed.isPresent()) {
+                return new FeedUpdate(parsedFeed.get().getEntryBook(), seenItemFilter.toFeedState(contentHash),
+                        seenItemFilter.getPublishInterval().orElse(null), parsedFeed.get().getUpdateHint());
+            }
+            logger.fine("Format of feed " + feedUrl + " not supported by streaming parser, parsing with Rome");
+        } catch (XMLStreamException xse) {
+            logger.fine("Streaming parser failed on feed " + feedUrl + ", parsing with Rome: " + xse);
+        }
+        SyndFeed syndFeed = new SyndFeedInput().build(new XmlReader(new ByteArrayInputStream(feedContent)));
+        SeenItemFilter seenItemFilter = new SeenItemFilter(lastState);
+        EntryBook entryBook = serializeToEntryBook(syndFeed, feedUrl.toString(), tags, seenItemFilter);
+        SyModule syModule = (SyModule) syndFeed.getModule(SyModule.URI);
+        Optional<Duration> updateHint = syModule == null ? Optional.empty()
+                : toUpdateInterval(syModule.getUpdatePeriod(), syModule.getUpdateFrequency());
+        return new FeedUpdate(entryBook, seenItemFilter.toFeedState(contentHash),
+                seenItemFilter.getPublishInterval().orElse(null), updateHint.orElse(null));
+    }
+
+    /**
+     * Returns the interval between updates of a feed which is updated {@code updateFrequency} times every
+     * {@code updatePeriod}, as given by the syndication module, or an empty Optional if the period is invalid.
+     * A frequency which is not positive is taken to be the default of once every period.
+     */
+    static Optional<Duration> toUpdateInterval(String updatePeriod, int updateFrequency) {
+        if (updatePeriod == null) {
+            return Optional.empty();
+        }
+        Duration period;
+        switch (updatePeriod) {
+        case "hourly":
+            period = Duration.ofHours(1);
+            break;
+        case "daily":
+            period = Duration.ofDays(1);
+            break;
+        case "weekly":
+            period = Duration.ofDays(7);
+            break;
+        case "monthly":
+            period = Duration.ofDays(30);
+            break;
+        case "yearly":
+            period = Duration.ofDays(365);
+            break;
+        default:
+            return Optional.empty();
+        }
+        return Optional.of(period.dividedBy(Math.max(updateFrequency, 1)));
+    }
+
     /** Takes in URL of a feed and returns an {@code EntryBook}. */
     public static EntryBook fromFeedUrl(URL feedUrl) throws IOException, FeedException {
         return fromFeedUrl(feedUrl, Collections.emptySet());
@@ -50,63 +169,105 @@ public class FeedUtil {
 
     /** Takes in URL of a feed and returns an {@code EntryBook} with the given tags. */
     public static EntryBook fromFeedUrl(URL feedUrl, Set<Tag> tags) throws IOException, FeedException {
-        SyndFeed syndFeed = fetchAsFeed(feedUrl);
-        return serializeToEntryBook(syndFeed, feedUrl.toString(), tags);
+        try (InputStream feedContent = Network.fetchAsStream(feedUrl)) {
+            return fromFeedContent(feedContent.readAllBytes(), feedUrl, tags);
+        }
     }
 
     /** Serializes {@code SyndFeed} to {@code EntryBook} where all the entries are tagged. */
     public static EntryBook serializeToEntryBook(SyndFeed syndFeed, String feedUrl, Set<Tag> tags) {
-        List<Entry> importedEntries = syndFeed.getEntries().stream()
-                .flatMap(syndEntry -> syndEntryToEntryBookEntry(syndEntry, feedUrl, tags).stream())
-                .collect(Collectors.toList());
+        return serializeToEntryBook(syndFeed, feedUrl, tags, new SeenItemFilter(Optional.empty()));
+    }
+
+    /**
+     * Serializes the entries of {@code SyndFeed} which {@code seenItemFilter} tells are new to {@code EntryBook}.
+     * Every entry of the feed up to the first whose following entries were all seen is offered to
+     * {@code seenItemFilter}.
+     */
+    private static EntryBook serializeToEntryBook(SyndFeed syndFeed, String feedUrl, Set<Tag> tags,
+            SeenItemFilter seenItemFilter) {
         EntryBook entryBook = new EntryBook();
-        for (Entry entry : importedEntries) {
-            try {
-                entryBook.addEntry(entry);
-            } catch (DuplicateEntryException dee) {
-                logger.warning("Entry " + entry
-                        + " duplicates earlier entry and has been discarded while importing entries from " + feedUrl);
+        for (SyndEntry syndEntry : syndFeed.getEntries()) {
+            SeenItemFilter.Verdict verdict = seenItemFilter.offer(getId(syndEntry), getPublished(syndEntry));
+            if (verdict == SeenItemFilter.Verdict.SEEN_WITH_ALL_FOLLOWING) {
+                break;
+            } else if (verdict == SeenItemFilter.Verdict.NEW) {
+                syndEntryToEntryBookEntry(syndEntry, feedUrl, tags)
+                        .ifPresent(entry -> addEntry(entryBook, entry, feedUrl));
             }
         }
         return entryBook;
     }
 
+    /** Returns the guid of a SyndEntry, or its link if it has none. */
+    private static String getId(SyndEntry syndEntry) {
+        String uri = syndEntry.getUri();
+        return uri != null && !uri.isEmpty() ? uri : syndEntry.getLink();
+    }
+
+    /** Returns the date a SyndEntry was published, or updated if it has no publication date. */
+    private static Instant getPublished(SyndEntry syndEntry) {
+        Date published = syndEntry.getPublishedDate() != null
+                ? syndEntry.getPublishedDate() : syndEntry.getUpdatedDate();
+        return published == null ? null : published.toInstant();
+    }
+
+    /** Adds an entry imported from the feed at {@code feedUrl}, discarding it if it duplicates an earlier one. */
+    static void addEntry(EntryBook entryBook, Entry entry, String feedUrl) {
+        try {
+            entryBook.addEntry(entry);
+        } catch (DuplicateEntryException dee) {
+            logger.warning("Entry " + entry
+                    + " duplicates earlier entry and has been discarded while importing entries from " + feedUrl);
+        }
+    }
+
     /** Converts a single SyndEntry into an EntryBook Entry. */
     private static Optional<Entry> syndEntryToEntryBookEntry(SyndEntry syndEntry, String feedUrl, Set<Tag> tags) {
-        Optional<String> syndEntryLink = Optional.ofNullable(syndEntry.getLink());
-        if (!syndEntryLink.isPresent()) {
+        // note that both SyndEntry#getDescription and SyndContent#getValue might null
+        String description = Optional.ofNullable(syndEntry.getDescription())
+                .map(SyndContent::getValue)
+                .orElse(null);
+        return toEntry(syndEntry.getLink(), syndEntry.getTitle(), description, feedUrl, tags);
+    }
+
+    /**
+     * Converts the fields of a feed item into an EntryBook Entry, or returns an empty Optional
+     * if the item has no valid link. Any of the fields may be null.
+     *
+     * @param htmlDescription description of the item, as html
+     */
+    static Optional<Entry> toEntry(String link, String title, String htmlDescription, String feedUrl,
+                                   Set<Tag> tags) {
+        if (link == null) {
             logger.warning("Entry without link found when processing " + feedUrl + ", discarding.");
             return Optional.empty();
         }
-        Link link;
+        Link entryLink;
         try {
-            link = new Link(syndEntryLink.get());
+            entryLink = new Link(link);
         } catch (MalformedURLException mue) {
             logger.warning("Entry with invalid link found when processing " + feedUrl + ", discarding.");
             return Optional.empty();
         }
         return Optional.of(new Entry(
-                extractTitle(syndEntry),
-                extractDescription(syndEntry, feedUrl),
-                link,
+                extractTitle(title),
+                extractDescription(htmlDescription, feedUrl),
+                entryLink,
                 tags
         ));
     }
 
-    /** Extracts title from syndication entry. */
-    private static Title extractTitle(SyndEntry syndEntry) {
+    /** Extracts title from the title of a feed item. */
+    private static Title extractTitle(String title) {
         // defend against nulls from library
-        Optional<String> title = Optional.ofNullable(syndEntry.getTitle())
-                .map(String::trim);
-        return new Title(title.orElse(""));
+        return new Title(Optional.ofNullable(title).map(String::trim).orElse(""));
     }
 
-    /** Extracts a useful description from a SyndEntry. */
-    private static Description extractDescription(SyndEntry syndEntry, String feedUrl) {
-        // note that both SyndEntry#getDescription and SyndContent#getValue might null
-        Optional<String> description = Optional.ofNullable(syndEntry.getDescription())
-                .flatMap(syndContent -> Optional.ofNullable(syndContent.getValue()))
-                .map(desc -> Jsoup.parseBodyFragment(desc).body().text().replace('\n', ' ').trim())
+    /** Extracts a useful description from the html description of a feed item. */
+    private static Description extractDescription(String htmlDescription, String feedUrl) {
+        Optional<String> description = Optional.ofNullable(htmlDescription)
+                .map(desc -> TEXT_EXTRACTORS.get().extractText(desc).replace('\n', ' ').trim())
                 .filter(s -> !s.isEmpty());
 
         return new Description(description.orElse(String.format(DEFAULT_DESCRIPTION_TEXT, feedUrl)));
@@ -0,0 +1,472 @@
+package seedu.address.commons.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.jsoup.nodes.Entities;
+
+/**
+ * Extracts the text of html fragments, like {@code Jsoup.parseBodyFragment(html).body().text()},
+ * in one linear pass over the html without building a DOM.
+ *
+ * Tags and comments are stripped, character references are decoded, and whitespace is normalized,
+ * except inside {@code pre} elements. Spaces are added around block elements as Jsoup does.
+ * Only the structure of the html is not recovered, so text which Jsoup moves while fixing up
+ * misnested markup, such as stray text in tables, may come out in a different order.
+ *
+ * An extractor reuses its buffer between fragments, so it is not thread-safe.
+ */
+public class HtmlTextExtractor {
+
+    /** Elements which are separated from the text around them by spaces. */
+    private static final Set<String> BLOCK_TAGS = Set.of(
+            "script", "noscript", "style", "meta", "link", "title", "frame", "noframes", "section", "nav", "aside",
+            "hgroup", "header", "footer", "p", "h1", "h2", "h3", "h4", "h5", "h6", "ul", "ol", "pre", "div",
+            "blockquote", "hr", "address", "figure", "figcaption", "form", "fieldset", "ins", "del", "dl", "dt",
+            "dd", "li", "table", "caption", "thead", "tfoot", "tbody", "colgroup", "col", "tr", "th", "td", "video",
+            "audio", "canvas", "details", "menu", "plaintext", "template", "article", "main", "svg", "math");
+    /** Elements without contents or an end tag. */
+    private static final Set<String> VOID_TAGS = Set.of(
+            "area", "base", "br", "col", "embed", "hr", "img", "input", "keygen", "link", "meta", "param", "source",
+            "track", "wbr");
+    /** Start tags which are ignored in a fragment, as it is already inside the body. */
+    private static final Set<String> IGNORED_TAGS = Set.of("html", "head", "body", "frameset");
+    /** Elements whose contents are not text, such as scripts. */
+    private static final Set<String> DATA_TAGS = Set.of("script", "style");
+    /** Elements whose contents are text, but not parsed as html. */
+    private static final Set<String> RAW_TEXT_TAGS = Set.of("xmp", "iframe", "noembed", "noframes");
+    /** Elements whose contents are text with character references, but not parsed as html. */
+    private static final Set<String> ESCAPABLE_RAW_TEXT_TAGS = Set.of("title", "textarea");
+    private static final char REPLACEMENT_CHARACTER = '\ufffd';
+
+    private final StringBuilder text = new StringBuilder();
+    /** Tag names of the elements open, innermost last, so that end tags without a start tag can be ignored. */
+    private final List<String> openElements = new ArrayList<>();
+
+    private String html;
+    /** Index in {@code html} of the next character to read. */
+    private int position;
+    /** Number of open {@code pre} elements, whose contents keep their whitespace. */
+    private int openPreformattedCount;
+    /** Whether a block element has just ended, so that text following it is separated by a space. */
+    private boolean isAfterBlock;
+
+    /**
+     * Returns the text of the html fragment {@code html}, with whitespace normalized and trimmed.
+     */
+    public String extractText(String html) {
+        this.html = html;
+        position = 0;
+        openPreformattedCount = 0;
+        isAfterBlock = false;
+        text.setLength(0);
+        openElements.clear();
+
+        int length = html.length();
+        while (position < length) {
+            int markupStart = html.indexOf('<', position);
+            int textEnd = markupStart < 0 ? length : markupStart;
+            if (textEnd > position) {
+                startTextNode();
+                appendText(position, textEnd, true, openPreformattedCount > 0);
+            }
+            if (markupStart < 0) {
+                break;
+            }
+            position = markupStart;
+            readMarkup();
+        }
+
+        this.html = null;
+        return text.toString().trim();
+    }
+
+    /**
+     * Reads the markup starting at {@code position}, which is a '<'.
+     */
+    private void readMarkup() {
+        int start = position;
+        if (html.startsWith("<!--", start)) {
+            readComment(start + 4);
+        } else if (html.startsWith("<![CDATA[", start)) {
+            int end = html.indexOf("]]>", start);
+            int contentEnd = end < 0 ? html.length() : end;
+            startTextNode();
+            text.append(html, start + 9, contentEnd);
+            position = end < 0 ? html.length() : end + 3;
+        } else if (html.regionMatches(true, start, "<!doctype", 0, 9)) {
+            // Ignored inside the body
+            position = indexAfter('>', start);
+        } else if (start + 1 < html.length() && (html.charAt(start + 1) == '!' || html.charAt(start + 1) == '?')) {
+            readBogusComment(start + 1);
+        } else if (html.startsWith("</", start)) {
+            readEndTag(start + 2);
+        } else if (start + 1 < html.length() && isAsciiLetter(html.charAt(start + 1))) {
+            readStartTag(start + 1);
+        } else {
+            // A '<' in text
+            startTextNode();
+            text.append('<');
+            position = start + 1;
+        }
+    }
+
+    private void readComment(int contentStart) {
+        isAfterBlock = false;
+        if (html.startsWith(">", contentStart)) {
+            position = contentStart + 1;
+            return;
+        }
+        if (html.startsWith("->", contentStart)) {
+            position = contentStart + 2;
+            return;
+        }
+        int end = contentStart;
+        while (end < html.length()) {
+            if (html.startsWith("-->", end)) {
+                position = end + 3;
+                return;
+            }
+            if (html.startsWith("--!>", end)) {
+                position = end + 4;
+                return;
+            }
+            end++;
+        }
+        position = html.length();
+    }
+
+    private void readBogusComment(int contentStart) {
+        isAfterBlock = false;
+        position = indexAfter('>', contentStart);
+    }
+
+    private void readEndTag(int nameStart) {
+        if (nameStart >= html.length()) {
+            // A "</" at the end is text
+            startTextNode();
+            text.append("</");
+            position = html.length();
+            return;
+        }
+        char first = html.charAt(nameStart);
+        if (first == '>') {
+            // "</>" is ignored
+            position = nameStart + 1;
+            return;
+        }
+        if (!isAsciiLetter(first)) {
+            readBogusComment(nameStart);
+            return;
+        }
+
+        int nameEnd = indexOfTagNameEnd(nameStart);
+        int tagEnd = indexOfTagEnd(nameEnd);
+        if (tagEnd < 0) {
+            // An unterminated tag is dropped
+            position = html.length();
+            return;
+        }
+        position = tagEnd + 1;
+
+        String tagName = html.substring(nameStart, nameEnd).toLowerCase(Locale.ENGLISH);
+        if (tagName.equals("br")) {
+            // Treated as a <br>
+            startElement(tagName);
+            return;
+        }
+        int openIndex = openElements.lastIndexOf(tagName);
+        if (openIndex < 0 && tagName.equals("p")) {
+            // Treated as an empty paragraph
+            startElement(tagName);
+            isAfterBlock = true;
+            return;
+        }
+        if (openIndex < 0) {
+            // End tags without a start tag are ignored
+            return;
+        }
+        // Elements left open inside the element are closed with it
+        while (openElements.size() > openIndex) {
+            if (openElements.remove(openElements.size() - 1).equals("pre")) {
+                openPreformattedCount--;
+            }
+        }
+        isAfterBlock = BLOCK_TAGS.contains(tagName);
+    }
+
+    private void readStartTag(int nameStart) {
+        int nameEnd = indexOfTagNameEnd(nameStart);
+        int tagEnd = indexOfTagEnd(nameEnd);
+        if (tagEnd < 0) {
+            // An unterminated tag is dropped
+            position = html.length();
+            return;
+        }
+        position = tagEnd + 1;
+
+        String tagName = html.substring(nameStart, nameEnd).toLowerCase(Locale.ENGLISH);
+        if (IGNORED_TAGS.contains(tagName)) {
+            return;
+        }
+        startElement(tagName);
+
+        if (DATA_TAGS.contains(tagName)) {
+            skipContents(tagName);
+        } else if (RAW_TEXT_TAGS.contains(tagName)) {
+            appendContents(tagName, false, false);
+        } else if (ESCAPABLE_RAW_TEXT_TAGS.contains(tagName)) {
+            appendContents(tagName, true, true);
+        } else if (tagName.equals("plaintext")) {
+            // Everything after is text
+            startTextNode();
+            text.append(html, position, html.length());
+            position = html.length();
+        } else if (VOID_TAGS.contains(tagName)) {
+            // Ends where it starts
+            isAfterBlock = BLOCK_TAGS.contains(tagName);
+        } else {
+            openElements.add(tagName);
+            if (tagName.equals("pre")) {
+                openPreformattedCount++;
+                // A line break right after the start tag is not part of the contents
+                if (html.startsWith("\n", position)) {
+                    position++;
+                }
+            }
+        }
+    }
+
+    private void startElement(String tagName) {
+        isAfterBlock = false;
+        if ((BLOCK_TAGS.contains(tagName) || tagName.equals("br")) && text.length() > 0 && !isAfterSpace()) {
+            text.append(' ');
+        }
+    }
+
+    /**
+     * Marks the start of a run of text, which is separated from a block element just before it.
+     */
+    private void startTextNode() {
+        if (isAfterBlock && !isAfterSpace()) {
+            text.append(' ');
+        }
+        isAfterBlock = false;
+    }
+
+    /**
+     * Skips the contents of the {@code tagName} element, which starts at {@code position}, and its end tag.
+     */
+    private void skipContents(String tagName) {
+        int end = indexOfEndTag(tagName, position);
+        position = end < 0 ? html.length() : indexAfter('>', end);
+        isAfterBlock = BLOCK_TAGS.contains(tagName);
+    }
+
+    /**
+     * Appends the contents of the {@code tagName} element, which starts at {@code position}, as text,
+     * and skips its end tag.
+     */
+    private void appendContents(String tagName, boolean isDecoded, boolean isPreformatted) {
+        int end = indexOfEndTag(tagName, position);
+        int contentEnd = end < 0 ? html.length() : end;
+        if (contentEnd > position) {
+            startTextNode();
+            appendText(position, contentEnd, isDecoded, isPreformatted);
+        }
+        position = end < 0 ? html.length() : indexAfter('>', end);
+        isAfterBlock = BLOCK_TAGS.contains(tagName);
+    }
+
+    /**
+     * Appends the text in {@code html} from {@code start} to {@code end}, decoding character references
+     * if {@code isDecoded}, and normalizing whitespace unless {@code isPreformatted}.
+     */
+    private void appendText(int start, int end, boolean isDecoded, boolean isPreformatted) {
+        int i = start;
+        while (i < end) {
+            char c = html.charAt(i);
+            if (c == '&' && isDecoded) {
+                i = appendCharacterReference(i, end, isPreformatted);
+                continue;
+            }
+            appendCharacter(c, isPreformatted);
+            i++;
+        }
+    }
+
+    private void appendCharacter(char c, boolean isPreformatted) {
+        if (isPreformatted) {
+            text.append(c);
+        } else if (isWhitespace(c)) {
+            if (!isAfterSpace()) {
+                text.append(' ');
+            }
+        } else if (!isInvisible(c)) {
+            text.append(c);
+        }
+    }
+
+    private void appendString(String string, boolean isPreformatted) {
+        for (int i = 0; i < string.length(); i++) {
+            appendCharacter(string.charAt(i), isPreformatted);
+        }
+    }
+
+    /**
+     * Appends the character reference starting at {@code ampersand}, or the '&' itself if it does not start one,
+     * and returns the index after what was appended.
+     */
+    private int appendCharacterReference(int ampersand, int end, boolean isPreformatted) {
+        int i = ampersand + 1;
+        if (i < end && html.charAt(i) == '#') {
+            return appendNumericCharacterReference(ampersand, end, isPreformatted);
+        }
+
+        int nameEnd = i;
+        while (nameEnd < end && Character.isLetter(html.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        while (nameEnd < end && isAsciiDigit(html.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        String name = html.substring(i, nameEnd);
+        boolean hasSemicolon = nameEnd < end && html.charAt(nameEnd) == ';';
+        // Only the entities of HTML 4 may omit their semicolon
+        if (!Entities.isBaseNamedEntity(name) && !(hasSemicolon && Entities.isNamedEntity(name))) {
+            appendCharacter('&', isPreformatted);
+            return ampersand + 1;
+        }
+        appendString(Entities.getByName(name), isPreformatted);
+        return hasSemicolon ? nameEnd + 1 : nameEnd;
+    }
+
+    private int appendNumericCharacterReference(int ampersand, int end, boolean isPreformatted) {
+        int digitsStart = ampersand + 2;
+        boolean isHex = digitsStart < end && (html.charAt(digitsStart) == 'x' || html.charAt(digitsStart) == 'X');
+        if (isHex) {
+            digitsStart++;
+        }
+        int digitsEnd = digitsStart;
+        while (digitsEnd < end && (isHex ? isHexDigit(html.charAt(digitsEnd)) : isAsciiDigit(html.charAt(digitsEnd)))) {
+            digitsEnd++;
+        }
+        if (digitsEnd == digitsStart) {
+            appendCharacter('&', isPreformatted);
+            return ampersand + 1;
+        }
+
+        int codePoint;
+        try {
+            codePoint = Integer.parseInt(html.substring(digitsStart, digitsEnd), isHex ? 16 : 10);
+        } catch (NumberFormatException nfe) {
+            codePoint = -1;
+        }
+        if (codePoint < 0 || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)
+                || codePoint > Character.MAX_CODE_POINT) {
+            appendCharacter(REPLACEMENT_CHARACTER, isPreformatted);
+        } else if (Character.isBmpCodePoint(codePoint)) {
+            appendCharacter((char) codePoint, isPreformatted);
+        } else {
+            text.appendCodePoint(codePoint);
+        }
+        return digitsEnd < end && html.charAt(digitsEnd) == ';' ? digitsEnd + 1 : digitsEnd;
+    }
+
+    /**
+     * Returns the index of the end tag of the {@code tagName} element whose contents start at {@code from},
+     * or -1 if it has none.
+     */
+    private int indexOfEndTag(String tagName, int from) {
+        int candidate = html.indexOf("</", from);
+        while (candidate >= 0) {
+            int nameEnd = candidate + 2 + tagName.length();
+            if (html.regionMatches(true, candidate + 2, tagName, 0, tagName.length())
+                    && (nameEnd >= html.length() || isTagNameEnd(html.charAt(nameEnd)))) {
+                return candidate;
+            }
+            candidate = html.indexOf("</", candidate + 2);
+        }
+        return -1;
+    }
+
+    private int indexOfTagNameEnd(int nameStart) {
+        int nameEnd = nameStart;
+        while (nameEnd < html.length() && !isTagNameEnd(html.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        return nameEnd;
+    }
+
+    /**
+     * Returns the index of the '>' ending the tag whose attributes start at {@code from}, or -1 if it has none.
+     */
+    private int indexOfTagEnd(int from) {
+        int i = from;
+        int length = html.length();
+        while (i < length) {
+            char c = html.charAt(i);
+            if (c == '>') {
+                return i;
+            }
+            if (c != '=') {
+                i++;
+                continue;
+            }
+            // An attribute value, which may be quoted
+            i++;
+            while (i < length && isWhitespace(html.charAt(i))) {
+                i++;
+            }
+            if (i < length && (html.charAt(i) == '"' || html.charAt(i) == '\'')) {
+                int closingQuote = html.indexOf(html.charAt(i), i + 1);
+                if (closingQuote < 0) {
+                    return -1;
+                }
+                i = closingQuote + 1;
+            }
+        }
+        return -1;
+    }
+
+    private int indexAfter(char c, int from) {
+        int index = html.indexOf(c, from);
+        return index < 0 ? html.length() : index + 1;
+    }
+
+    private boolean isAfterSpace() {
+        return text.length() > 0 && text.charAt(text.length() - 1) == ' ';
+    }
+
+    private static boolean isTagNameEnd(char c) {
+        return c == '>' || c == '/' || isWhitespace(c);
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace in html, or a no-break space, which is normalized like whitespace.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r' || c == '\u00a0';
+    }
+
+    /**
+     * Returns true if {@code c} is a zero-width character or soft hyphen, which are dropped from normalized text.
+     */
+    private static boolean isInvisible(char c) {
+        return c == '\u200b' || c == '\u200c' || c == '\u200d' || c == '\u00ad';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.foldCase;
+
+/**
+ * Finds a phrase in case-folded texts, ignoring case, using the Boyer-Moore-Horspool algorithm.
+ *
+ * The phrase is folded and its shift table built once, so that matching a text allocates nothing.
+ * Texts must be folded with {@link StringUtil#foldCase(String)}, typically once and cached with the text.
+ */
+public class PhraseMatcher {
+
+    /**
+     * Number of buckets in the shift table. Characters are hashed into buckets by their low bits,
+     * and a bucket holds the smallest shift of its characters, which is always safe to skip by.
+     */
+    private static final int SHIFT_TABLE_SIZE = 256;
+
+    private final String phrase;
+    private final char[] foldedPhrase;
+    private final int[] shifts = new int[SHIFT_TABLE_SIZE];
+
+    /**
+     * Creates a matcher for {@code phrase}, ignoring leading and trailing whitespace.
+     * @param phrase cannot be null, cannot be blank
+     */
+    public PhraseMatcher(String phrase) {
+        requireNonNull(phrase);
+        this.phrase = phrase.trim();
+        checkArgument(!this.phrase.isEmpty(), "Phrase parameter cannot be empty");
+
+        foldedPhrase = foldCase(this.phrase).toCharArray();
+        int length = foldedPhrase.length;
+        for (int i = 0; i < SHIFT_TABLE_SIZE; i++) {
+            shifts[i] = length;
+        }
+        // Later characters have smaller shifts, so each bucket ends with the smallest shift of its characters
+        for (int i = 0; i < length - 1; i++) {
+            shifts[bucketOf(foldedPhrase[i])] = length - 1 - i;
+        }
+    }
+
+    public String getPhrase() {
+        return phrase;
+    }
+
+    /**
+     * Returns true if {@code foldedText} contains the phrase.
+     * @param foldedText text already folded with {@link StringUtil#foldCase(String)}
+     */
+    public boolean isFoundIn(String foldedText) {
+        int phraseLength = foldedPhrase.length;
+        int lastStart = foldedText.length() - phraseLength;
+        int start = 0;
+        while (start <= lastStart) {
+            int i = phraseLength - 1;
+            while (i >= 0 && foldedText.charAt(start + i) == foldedPhrase[i]) {
+                i--;
+            }
+            if (i < 0) {
+                return true;
+            }
+            start += shifts[bucketOf(foldedText.charAt(start + phraseLength - 1))];
+        }
+        return false;
+    }
+
+    private static int bucketOf(char c) {
+        return c & (SHIFT_TABLE_SIZE - 1);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PhraseMatcher // instanceof handles nulls
+                && phrase.equals(((PhraseMatcher) other).phrase)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return phrase.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return phrase;
+    }
+}
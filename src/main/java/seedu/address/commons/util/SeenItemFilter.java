@@ -0,0 +1,134 @@
+package seedu.address.commons.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.util.FeedState;
+
+/**
+ * Tells which items of a feed were already seen when the feed was last refreshed,
+ * and works out the {@code FeedState} to remember for the next refresh from the items offered to it.
+ * Items must be offered in the order they appear in the feed.
+ *
+ * Items are told apart by their ids, which are remembered from the last refresh, so items published at the same
+ * time as, or backdated to before, the newest item seen then are still new if their ids were not seen.
+ * Dates are only used to stop reading early: feeds usually list their newest item first, so once an item that was
+ * already seen is reached, and it was the newest item then or is older than that, all the items after it are
+ * older and need not be read at all.
+ * Feeds whose dates show that they list their oldest item first are never cut short.
+ * Items without ids, and feeds whose state was saved before ids were remembered, are told apart by date alone.
+ */
+class SeenItemFilter {
+
+    /** The most item ids remembered for a feed, which is far more than feeds usually list. */
+    static final int MAX_SEEN_ITEM_IDS = 1000;
+
+    /**
+     * What should be done with an item offered to the filter.
+     */
+    enum Verdict {
+        /** The item is new since the feed was last refreshed. */
+        NEW,
+        /** The item was already seen, but new items may follow it. */
+        SEEN,
+        /** The item was already seen, and so were all the items which follow it. */
+        SEEN_WITH_ALL_FOLLOWING
+    }
+
+    private final String lastItemId;
+    private final Instant lastPublished;
+    private final Set<String> lastSeenItemIds;
+    private final Set<String> seenItemIds = new LinkedHashSet<>();
+
+    private boolean hasOfferedItem = false;
+    private String firstItemId;
+    private Instant previousPublished;
+    private Instant latestPublished;
+    private boolean isOldestFirst = false;
+    private Instant earliestOffered;
+    private Instant latestOffered;
+    private int numDatedItemsOffered = 0;
+
+    SeenItemFilter(Optional<FeedState> lastState) {
+        lastItemId = lastState.flatMap(FeedState::getLastItemId).orElse(null);
+        lastPublished = lastState.flatMap(FeedState::getLastPublished).orElse(null);
+        lastSeenItemIds = lastState.map(FeedState::getSeenItemIds).orElse(Collections.emptySet());
+        latestPublished = lastPublished;
+    }
+
+    /**
+     * Returns what should be done with the next item of the feed.
+     *
+     * @param itemId guid of the item, or its link if it has none; null if it has neither.
+     * @param published date the item was published or updated; null if it has none.
+     */
+    Verdict offer(String itemId, Instant published) {
+        if (!hasOfferedItem) {
+            hasOfferedItem = true;
+            firstItemId = itemId;
+        }
+        if (published != null) {
+            if (previousPublished != null && published.isAfter(previousPublished)) {
+                isOldestFirst = true;
+            }
+            previousPublished = published;
+            numDatedItemsOffered++;
+            if (earliestOffered == null || published.isBefore(earliestOffered)) {
+                earliestOffered = published;
+            }
+            if (latestOffered == null || published.isAfter(latestOffered)) {
+                latestOffered = published;
+            }
+            if (latestPublished == null || published.isAfter(latestPublished)) {
+                latestPublished = published;
+            }
+        }
+
+        if (itemId != null && seenItemIds.size() < MAX_SEEN_ITEM_IDS) {
+            seenItemIds.add(itemId);
+        }
+
+        if (!isSeen(itemId, published)) {
+            return Verdict.NEW;
+        }
+        boolean isNotNewerThanLastRefresh = (itemId != null && itemId.equals(lastItemId))
+                || (published != null && lastPublished != null && published.isBefore(lastPublished));
+        return !isOldestFirst && isNotNewerThanLastRefresh ? Verdict.SEEN_WITH_ALL_FOLLOWING : Verdict.SEEN;
+    }
+
+    /**
+     * Returns true if the item with the given id and date was already seen when the feed was last refreshed.
+     */
+    private boolean isSeen(String itemId, Instant published) {
+        if (itemId != null && !lastSeenItemIds.isEmpty()) {
+            return lastSeenItemIds.contains(itemId);
+        }
+        if (itemId != null && itemId.equals(lastItemId)) {
+            return true;
+        }
+        return published != null && lastPublished != null && !published.isAfter(lastPublished);
+    }
+
+    /**
+     * Returns the average interval between the dates of the items offered, or an empty Optional
+     * if fewer than two of them had dates.
+     */
+    Optional<Duration> getPublishInterval() {
+        if (numDatedItemsOffered < 2) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.between(earliestOffered, latestOffered).dividedBy(numDatedItemsOffered - 1));
+    }
+
+    /**
+     * Returns the state of the feed, with the given content hash, once all items to be read have been offered.
+     */
+    FeedState toFeedState(String contentHash) {
+        // The first item is only known to be the newest if the feed lists its newest item first
+        return new FeedState(contentHash, isOldestFirst ? null : firstItemId, latestPublished, seenItemIds);
+    }
+}
@@ -0,0 +1,404 @@
+package seedu.address.commons.util;
+
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.model.EntryBook;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses RSS 0.9x/2.0, RDF (RSS 0.90/1.0) and Atom 1.0 feeds into an {@code EntryBook} with a StAX reader.
+ *
+ * Unlike Rome, which builds a DOM of the whole feed first, items are converted into entries as they are read,
+ * so only the fields of one item are held at a time.
+ * This also lets a refresh stop reading the feed once it reaches the items seen when it was last refreshed.
+ * Items are converted the same way as by {@link FeedUtil#serializeToEntryBook}.
+ */
+public class StreamingFeedParser {
+
+    private static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
+    private static final String RDF_NAMESPACE = "http://www.w3.org/1999/02/22-rdf-syntax-ns#";
+    private static final String DUBLIN_CORE_NAMESPACE = "http://purl.org/dc/elements/1.1/";
+    private static final String SYNDICATION_NAMESPACE = "http://purl.org/rss/1.0/modules/syndication/";
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    /**
+     * Formats of feed supported, identified by their root element.
+     */
+    private enum Format {
+        RSS, RDF, ATOM;
+
+        /**
+         * Returns the format of the feed whose root element {@code reader} is at, or null if it is not supported.
+         */
+        static Format of(XMLStreamReader reader) {
+            String namespace = nullSafeNamespace(reader);
+            switch (reader.getLocalName()) {
+            case "rss":
+                return namespace.isEmpty() ? RSS : null;
+            case "RDF":
+                return namespace.equals(RDF_NAMESPACE) ? RDF : null;
+            case "feed":
+                return namespace.equals(ATOM_NAMESPACE) ? ATOM : null;
+            default:
+                return null;
+            }
+        }
+    }
+
+    /**
+     * The entries parsed from a feed, and the shortest interval the feed says it should be fetched at, if any.
+     */
+    static class ParsedFeed {
+        private final EntryBook entryBook;
+        private final Duration updateHint;
+
+        ParsedFeed(EntryBook entryBook, Duration updateHint) {
+            this.entryBook = entryBook;
+            this.updateHint = updateHint;
+        }
+
+        EntryBook getEntryBook() {
+            return entryBook;
+        }
+
+        Duration getUpdateHint() {
+            return updateHint;
+        }
+    }
+
+    /**
+     * The hints a feed gives, outside of its items, on how often it should be fetched:
+     * the RSS {@code ttl} and the {@code updatePeriod} and {@code updateFrequency} of the syndication module.
+     */
+    private static class UpdateHints {
+        private Duration timeToLive;
+        private String updatePeriod;
+        private int updateFrequency = 1;
+
+        /**
+         * Reads the element whose start tag {@code reader} is at if it is a hint,
+         * leaving {@code reader} at its end tag. Leaves {@code reader} where it is otherwise.
+         */
+        void read(Format format, XMLStreamReader reader) throws XMLStreamException {
+            String name = reader.getLocalName();
+            String namespace = nullSafeNamespace(reader);
+            try {
+                if (format == Format.RSS && namespace.isEmpty() && name.equals("ttl")) {
+                    timeToLive = Duration.ofMinutes(Long.parseLong(readText(reader).trim()));
+                } else if (namespace.equals(SYNDICATION_NAMESPACE) && name.equals("updatePeriod")) {
+                    updatePeriod = readText(reader).trim();
+                } else if (namespace.equals(SYNDICATION_NAMESPACE) && name.equals("updateFrequency")) {
+                    updateFrequency = Integer.parseInt(readText(reader).trim());
+                }
+            } catch (NumberFormatException nfe) {
+                // Invalid hints are ignored
+            }
+        }
+
+        /** Returns the longest interval given by the hints, or null if there are no valid hints. */
+        Duration getUpdateHint() {
+            Duration syndicationInterval = FeedUtil.toUpdateInterval(updatePeriod, updateFrequency).orElse(null);
+            if (timeToLive == null || timeToLive.isNegative()) {
+                return syndicationInterval;
+            }
+            return syndicationInterval == null || timeToLive.compareTo(syndicationInterval) > 0
+                    ? timeToLive : syndicationInterval;
+        }
+    }
+
+    /**
+     * The fields of a feed item, any of which may be null.
+     */
+    private static class Item {
+        private String guid;
+        private String link;
+        private String title;
+        private String description;
+        private Instant published;
+
+        /** Returns the guid of the item, or its link if it has none. */
+        String getId() {
+            return guid != null && !guid.isEmpty() ? guid : link;
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+        // Feeds come from untrusted sources, so external resources are never loaded.
+        // Feeds relying on a DTD fail to parse here, and are left to Rome.
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return inputFactory;
+    }
+
+    /**
+     * Parses the feed in {@code feedContent}, fetched from {@code feedUrl}, into an {@code EntryBook}
+     * where all the entries are tagged with {@code tags}.
+     * Returns an empty Optional if the feed is not in a supported format.
+     *
+     * @throws XMLStreamException if the feed is not well-formed xml.
+     */
+    public static Optional<EntryBook> parse(InputStream feedContent, String feedUrl, Set<Tag> tags)
+            throws XMLStreamException {
+        return parse(feedContent, feedUrl, tags, new SeenItemFilter(Optional.empty()))
+                .map(ParsedFeed::getEntryBook);
+    }
+
+    /**
+     * Parses the items of the feed in {@code feedContent} which {@code seenItemFilter} tells are new
+     * into an {@code EntryBook}, stopping as soon as the rest of the items are known to have been seen.
+     * Every item read is offered to {@code seenItemFilter}.
+     *
+     * @see #parse(InputStream, String, Set)
+     */
+    static Optional<ParsedFeed> parse(InputStream feedContent, String feedUrl, Set<Tag> tags,
+            SeenItemFilter seenItemFilter) throws XMLStreamException {
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(feedContent);
+        try {
+            if (!nextStartElement(reader, 0)) {
+                return Optional.empty();
+            }
+            Format format = Format.of(reader);
+            if (format == null) {
+                return Optional.empty();
+            }
+            String feedBaseUrl = resolve(feedUrl, getXmlBase(reader));
+            EntryBook entryBook = new EntryBook();
+            UpdateHints updateHints = new UpdateHints();
+            while (nextStartElement(reader, 0)) {
+                if (!isItem(format, reader)) {
+                    updateHints.read(format, reader);
+                    continue;
+                }
+                Item item = parseItem(format, reader, feedBaseUrl);
+                SeenItemFilter.Verdict verdict = seenItemFilter.offer(item.getId(), item.published);
+                if (verdict == SeenItemFilter.Verdict.SEEN_WITH_ALL_FOLLOWING) {
+                    break;
+                } else if (verdict == SeenItemFilter.Verdict.NEW) {
+                    FeedUtil.toEntry(item.link, item.title, item.description, feedUrl, tags)
+                            .ifPresent(entry -> FeedUtil.addEntry(entryBook, entry, feedUrl));
+                }
+            }
+            return Optional.of(new ParsedFeed(entryBook, updateHints.getUpdateHint()));
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static boolean isItem(Format format, XMLStreamReader reader) {
+        switch (format) {
+        case RSS:
+            return reader.getLocalName().equals("item") && nullSafeNamespace(reader).isEmpty();
+        case RDF:
+            // RSS 0.90 and 1.0 items differ only in namespace
+            return reader.getLocalName().equals("item") && !nullSafeNamespace(reader).equals(RDF_NAMESPACE);
+        case ATOM:
+            return reader.getLocalName().equals("entry") && nullSafeNamespace(reader).equals(ATOM_NAMESPACE);
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Reads the item whose start tag {@code reader} is at, up to its end tag.
+     */
+    private static Item parseItem(Format format, XMLStreamReader reader, String feedBaseUrl)
+            throws XMLStreamException {
+        String itemNamespace = nullSafeNamespace(reader);
+        String itemBaseUrl = resolve(feedBaseUrl, getXmlBase(reader));
+        Item item = new Item();
+        if (format == Format.RDF) {
+            item.guid = reader.getAttributeValue(RDF_NAMESPACE, "about");
+        }
+        String permaLinkGuid = null;
+        String alternateLink = null;
+        String htmlAlternateLink = null;
+        Instant updated = null;
+        Instant dublinCoreDate = null;
+
+        String descriptionName = format == Format.ATOM ? "summary" : "description";
+
+        while (nextStartElement(reader, 1)) {
+            String name = reader.getLocalName();
+            String namespace = nullSafeNamespace(reader);
+            // Only the fields of the item itself are read, not those of extension namespaces
+            if (namespace.equals(DUBLIN_CORE_NAMESPACE) && name.equals("date")) {
+                dublinCoreDate = parseIsoDate(readText(reader));
+            } else if (!namespace.equals(itemNamespace)) {
+                skipElement(reader);
+            } else if (name.equals("title")) {
+                item.title = readText(reader);
+            } else if (name.equals(descriptionName)) {
+                item.description = readText(reader);
+            } else if (name.equals("guid") && format == Format.RSS) {
+                boolean isPermaLink = !"false".equalsIgnoreCase(reader.getAttributeValue(null, "isPermaLink"));
+                item.guid = readText(reader).trim();
+                permaLinkGuid = isPermaLink ? item.guid : null;
+            } else if (name.equals("pubDate") && format == Format.RSS) {
+                item.published = parseRfc822Date(readText(reader));
+            } else if (name.equals("id") && format == Format.ATOM) {
+                item.guid = readText(reader).trim();
+            } else if (name.equals("published") && format == Format.ATOM) {
+                item.published = parseIsoDate(readText(reader));
+            } else if (name.equals("updated") && format == Format.ATOM) {
+                updated = parseIsoDate(readText(reader));
+            } else if (name.equals("link") && format != Format.ATOM) {
+                item.link = readText(reader);
+            } else if (name.equals("link")) {
+                String rel = reader.getAttributeValue(null, "rel");
+                String href = reader.getAttributeValue(null, "href");
+                boolean isHtml = "text/html".equals(reader.getAttributeValue(null, "type"));
+                String linkBaseUrl = resolve(itemBaseUrl, getXmlBase(reader));
+                skipElement(reader);
+                // Links without a relation are alternate links
+                if (href == null || (rel != null && !rel.equals("alternate"))) {
+                    continue;
+                }
+                String resolvedHref = resolve(linkBaseUrl, href);
+                if (alternateLink == null) {
+                    alternateLink = resolvedHref;
+                }
+                if (isHtml && htmlAlternateLink == null) {
+                    htmlAlternateLink = resolvedHref;
+                }
+            } else {
+                skipElement(reader);
+            }
+        }
+
+        if (format == Format.ATOM) {
+            item.link = htmlAlternateLink != null ? htmlAlternateLink : alternateLink;
+        } else if (item.link == null) {
+            item.link = permaLinkGuid;
+        }
+        if (item.published == null) {
+            item.published = updated != null ? updated : dublinCoreDate;
+        }
+        return item;
+    }
+
+    /**
+     * Returns the instant in {@code date}, an RFC 822 date as used in RSS, or null if it is not such a date.
+     */
+    private static Instant parseRfc822Date(String date) {
+        try {
+            return ZonedDateTime.parse(date.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        } catch (DateTimeParseException dtpe) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the instant in {@code date}, an ISO 8601 date and time with offset as used in Atom and Dublin Core,
+     * or null if it is not such a date.
+     */
+    private static Instant parseIsoDate(String date) {
+        try {
+            return OffsetDateTime.parse(date.trim()).toInstant();
+        } catch (DateTimeParseException dtpe) {
+            return null;
+        }
+    }
+
+    /**
+     * Advances {@code reader} to the next start tag, and returns true,
+     * unless it first reaches the end tag of the element {@code depth} levels up, or the end of the document.
+     * A depth of 0 only stops at the end of the document.
+     */
+    private static boolean nextStartElement(XMLStreamReader reader, int depth) throws XMLStreamException {
+        int levelsUp = 0;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.END_ELEMENT && ++levelsUp == depth) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the text in the element whose start tag {@code reader} is at, including the text of
+     * any child elements, and leaves {@code reader} at its end tag.
+     */
+    private static String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0) {
+            switch (reader.next()) {
+            case XMLStreamConstants.START_ELEMENT:
+                depth++;
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                depth--;
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+            case XMLStreamConstants.SPACE:
+                text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                break;
+            default:
+                break;
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Skips the element whose start tag {@code reader} is at, leaving {@code reader} at its end tag.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static String getXmlBase(XMLStreamReader reader) {
+        return reader.getAttributeValue(XMLConstants.XML_NS_URI, "base");
+    }
+
+    private static String nullSafeNamespace(XMLStreamReader reader) {
+        String namespace = reader.getNamespaceURI();
+        return namespace == null ? "" : namespace;
+    }
+
+    /**
+     * Returns {@code url} resolved against {@code baseUrl}, or {@code url} itself if it cannot be resolved.
+     * Returns {@code baseUrl} if {@code url} is null.
+     */
+    private static String resolve(String baseUrl, String url) {
+        if (url == null) {
+            return baseUrl;
+        }
+        try {
+            return new URL(new URL(baseUrl), url.trim()).toExternalForm();
+        } catch (MalformedURLException mue) {
+            return url;
+        }
+    }
+}
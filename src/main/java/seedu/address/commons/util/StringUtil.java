@@ -5,9 +5,12 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -55,12 +58,57 @@ public class StringUtil {
      */
     public static boolean containsPhraseIgnoreCase(String sentence, String phrase) {
         requireNonNull(sentence);
-        requireNonNull(phrase);
+        return new PhraseMatcher(phrase).isFoundIn(foldCase(sentence));
+    }
 
-        String preppedPhrase = phrase.trim();
-        checkArgument(!preppedPhrase.isEmpty(), "Phrase parameter cannot be empty");
+    /**
+     * Returns {@code text} with every character case-folded on its own.
+     * Unlike {@link String#toLowerCase()}, folding never changes the length of the text,
+     * so a phrase contained in a text, ignoring case, is also contained in it after both are folded.
+     */
+    public static String foldCase(String text) {
+        requireNonNull(text);
+        char[] folded = new char[text.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Returns the distinct words in {@code text}, where a word is a maximal run of letters and digits.
+     *   <br>examples:<pre>
+     *       getWords("ab-c d ab") == {"ab", "c", "d"}
+     *       </pre>
+     */
+    public static Set<String> getWords(String text) {
+        return new HashSet<>(getWordList(text));
+    }
 
-        return Pattern.compile(Pattern.quote(preppedPhrase), Pattern.CASE_INSENSITIVE).matcher(sentence).find();
+    /**
+     * Returns the words in {@code text} in order, including repeated words.
+     *   <br>examples:<pre>
+     *       getWordList("ab-c d ab") == ["ab", "c", "d", "ab"]
+     *       </pre>
+     */
+    public static List<String> getWordList(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        int length = text.length();
+        int start = 0;
+        while (start < length) {
+            if (!Character.isLetterOrDigit(text.charAt(start))) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < length && Character.isLetterOrDigit(text.charAt(end))) {
+                end++;
+            }
+            words.add(text.substring(start, end));
+            start = end;
+        }
+        return words;
     }
 
     /**
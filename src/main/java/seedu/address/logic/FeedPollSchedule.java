@@ -0,0 +1,88 @@
+package seedu.address.logic;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Decides how long to wait before polling a feed again, from what earlier polls of it found.
+ *
+ * The interval follows the average interval between the items of the feed whenever a poll finds new items,
+ * and grows every time a poll finds nothing new, so that feeds which are rarely updated are rarely polled.
+ * It is never shorter than the interval the feed itself says it should be fetched at.
+ * While polls fail, the delay doubles with every consecutive failure.
+ */
+class FeedPollSchedule {
+
+    static final Duration MIN_INTERVAL = Duration.ofMinutes(15);
+    static final Duration MAX_INTERVAL = Duration.ofDays(1);
+    static final Duration DEFAULT_INTERVAL = Duration.ofHours(1);
+
+    private Duration interval = DEFAULT_INTERVAL;
+    private Duration updateHint = MIN_INTERVAL;
+    private int numConsecutiveFailures = 0;
+
+    Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * Returns how long to wait before the next poll.
+     */
+    Duration getNextDelay() {
+        Duration delay = interval;
+        for (int i = 0; i < numConsecutiveFailures && delay.compareTo(MAX_INTERVAL) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return min(delay, MAX_INTERVAL);
+    }
+
+    /**
+     * Records a poll which parsed the feed.
+     *
+     * @param hasNewItems whether the poll found any new items.
+     * @param publishInterval average interval between the items of the feed read by the poll, if known.
+     * @param updateHint shortest interval the feed says it should be fetched at, if it says.
+     */
+    void recordParsed(boolean hasNewItems, Optional<Duration> publishInterval, Optional<Duration> updateHint) {
+        numConsecutiveFailures = 0;
+        updateHint.ifPresent(hint -> this.updateHint = hint);
+        if (!hasNewItems) {
+            setInterval(grow(interval));
+        } else {
+            setInterval(publishInterval.orElse(interval));
+        }
+    }
+
+    /**
+     * Records a poll which found the feed had not changed since it was last polled.
+     */
+    void recordUnchanged() {
+        numConsecutiveFailures = 0;
+        setInterval(grow(interval));
+    }
+
+    /**
+     * Records a poll which failed to fetch or parse the feed.
+     */
+    void recordFailure() {
+        numConsecutiveFailures++;
+    }
+
+    private void setInterval(Duration newInterval) {
+        Duration atLeastHint = newInterval.compareTo(updateHint) < 0 ? updateHint : newInterval;
+        interval = min(max(atLeastHint, MIN_INTERVAL), MAX_INTERVAL);
+    }
+
+    /** Returns the interval to use after a poll found nothing new at {@code interval}. */
+    private static Duration grow(Duration interval) {
+        return interval.multipliedBy(3).dividedBy(2);
+    }
+
+    private static Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+
+    private static Duration max(Duration first, Duration second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+}
@@ -0,0 +1,391 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.rometools.rome.io.FeedException;
+
+import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FeedUpdate;
+import seedu.address.commons.util.FeedUtil;
+import seedu.address.logic.commands.AsyncCommand;
+import seedu.address.model.ArticleDownloadPolicy;
+import seedu.address.model.Model;
+import seedu.address.model.PollingMode;
+import seedu.address.model.entry.Entry;
+import seedu.address.model.tag.Tag;
+import seedu.address.util.ConditionalResponse;
+import seedu.address.util.FeedState;
+import seedu.address.util.HttpValidators;
+import seedu.address.util.Network;
+
+/**
+ * Polls every subscribed feed in the background, each on its own {@link FeedPollSchedule},
+ * and adds the new entries of each feed to the reading list as they are found, as {@code refresh} would.
+ * Polling is paused and resumed with the polling mode of the model.
+ *
+ * Feeds, and the articles of their new entries, are fetched within the limits of the request limiter shared by
+ * the whole app, and parsed on a fixed pool of background threads.
+ * The model is only ever read and modified on the model thread, which is given as an {@code Executor},
+ * and all the fields of the scheduler other than the pool are only accessed there too.
+ * The one exception is reading and saving the validators and state of a feed, which only touch storage,
+ * and so are done on the pool, before fetching the feed and after applying the poll to the model,
+ * to keep the disk reads and writes off the model thread.
+ */
+public class FeedPollingScheduler {
+
+    /** Number of background threads feeds are parsed on. */
+    public static final int NUM_POLLING_THREADS = 2;
+    /** Delay between the first polls of consecutive feeds, so that they are not all polled at once. */
+    public static final Duration FIRST_POLL_STAGGER = Duration.ofSeconds(10);
+
+    private static final Logger logger = LogsCenter.getLogger(FeedPollingScheduler.class);
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final ScheduledExecutorService pollExecutor;
+    private final FeedFetcher feedFetcher;
+
+    private final Map<URL, PolledFeed> polledFeeds = new HashMap<>();
+    private final ListChangeListener<Entry> feedsListener = change -> updatePolledFeeds();
+    private final ChangeListener<PollingMode> pollingModeListener = (observable, oldMode, newMode) -> {
+        if (newMode == PollingMode.RUNNING) {
+            resume();
+        } else {
+            pause();
+        }
+    };
+    private boolean isStopped = false;
+
+    /**
+     * Constructs a {@code FeedPollingScheduler} which polls the feeds in the feeds entry book of {@code model}.
+     * @param modelExecutor Runs tasks on the thread which modifies the model.
+     */
+    public FeedPollingScheduler(Model model, Executor modelExecutor) {
+        this(model, modelExecutor, Executors.newScheduledThreadPool(NUM_POLLING_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "Feed poller");
+            thread.setDaemon(true);
+            return thread;
+        }), (feedUrl, validators) -> Network.getRequestLimiter().submit(feedUrl, () ->
+                Network.fetchIfModifiedAsync(feedUrl, validators)));
+    }
+
+    /**
+     * Constructs a {@code FeedPollingScheduler} which schedules polls on, and parses feeds on, {@code pollExecutor},
+     * and fetches feeds with {@code feedFetcher}.
+     */
+    FeedPollingScheduler(Model model, Executor modelExecutor, ScheduledExecutorService pollExecutor,
+            FeedFetcher feedFetcher) {
+        requireAllNonNull(model, modelExecutor, pollExecutor, feedFetcher);
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.pollExecutor = pollExecutor;
+        this.feedFetcher = feedFetcher;
+    }
+
+    /**
+     * Starts polling the subscribed feeds, and any feeds subscribed to later.
+     * Must be called on the model thread.
+     */
+    public void start() {
+        model.getFeedsEntryBook().getEntryList().addListener(feedsListener);
+        model.getPollingModeProperty().addListener(pollingModeListener);
+        updatePolledFeeds();
+    }
+
+    /**
+     * Stops polling feeds for good, abandoning any polls in progress.
+     * Must be called on the model thread.
+     */
+    public void stop() {
+        isStopped = true;
+        model.getFeedsEntryBook().getEntryList().removeListener(feedsListener);
+        model.getPollingModeProperty().removeListener(pollingModeListener);
+        pollExecutor.shutdownNow();
+    }
+
+    private boolean isRunning() {
+        return !isStopped && model.getPollingModeProperty().getValue() == PollingMode.RUNNING;
+    }
+
+    /**
+     * Starts polling feeds which were subscribed to, and stops polling feeds which were unsubscribed from,
+     * since the feeds were last updated.
+     */
+    private void updatePolledFeeds() {
+        List<Entry> feeds = model.getFeedsEntryBook().getEntryList();
+        Set<URL> feedUrls = feeds.stream().map(feed -> feed.getLink().value).collect(Collectors.toSet());
+        for (URL removedUrl : new HashSet<>(polledFeeds.keySet())) {
+            if (!feedUrls.contains(removedUrl)) {
+                polledFeeds.remove(removedUrl).cancelNextPoll();
+            }
+        }
+        Duration firstPollDelay = Duration.ZERO;
+        for (Entry feed : feeds) {
+            PolledFeed polledFeed = polledFeeds.get(feed.getLink().value);
+            if (polledFeed != null) {
+                // The feed may have been edited, such as to change the tags of its entries
+                polledFeed.feed = feed;
+                continue;
+            }
+            polledFeed = new PolledFeed(feed);
+            polledFeeds.put(polledFeed.getUrl(), polledFeed);
+            schedulePoll(polledFeed, firstPollDelay);
+            firstPollDelay = firstPollDelay.plus(FIRST_POLL_STAGGER);
+        }
+    }
+
+    private void pause() {
+        logger.info("Pausing polling of feeds");
+        polledFeeds.values().forEach(PolledFeed::cancelNextPoll);
+    }
+
+    /**
+     * Resumes polling every feed at the time its next poll was due, or now if that time has passed.
+     */
+    private void resume() {
+        logger.info("Resuming polling of feeds");
+        Instant now = Instant.now();
+        for (PolledFeed polledFeed : polledFeeds.values()) {
+            if (!polledFeed.isPolling) {
+                Duration remainingDelay = Duration.between(now, polledFeed.nextPollTime);
+                schedulePoll(polledFeed, remainingDelay.isNegative() ? Duration.ZERO : remainingDelay);
+            }
+        }
+    }
+
+    /**
+     * Schedules the next poll of {@code polledFeed} after {@code delay}, unless polling is paused or stopped.
+     */
+    private void schedulePoll(PolledFeed polledFeed, Duration delay) {
+        polledFeed.nextPollTime = Instant.now().plus(delay);
+        if (!isRunning()) {
+            return;
+        }
+        polledFeed.cancelNextPoll();
+        try {
+            polledFeed.nextPoll = pollExecutor.schedule(() -> modelExecutor.execute(() -> poll(polledFeed)),
+                    delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ree) {
+            // The scheduler has been stopped
+        }
+    }
+
+    /**
+     * Returns true if {@code polledFeed} is still being polled.
+     */
+    private boolean isCurrent(PolledFeed polledFeed) {
+        return !isStopped && polledFeeds.get(polledFeed.getUrl()) == polledFeed;
+    }
+
+    /**
+     * Polls {@code polledFeed}, adding its new entries to the model once its articles are fetched,
+     * and schedules its next poll.
+     */
+    private void poll(PolledFeed polledFeed) {
+        if (!isCurrent(polledFeed) || !isRunning() || polledFeed.isPolling) {
+            return;
+        }
+        Poll poll = new Poll(polledFeed.getUrl(), polledFeed.feed.getTags(),
+                model.getUserPrefs().getArticleDownloadPolicy() == ArticleDownloadPolicy.EAGER);
+        polledFeed.isPolling = true;
+        try {
+            // The state saved by the previous poll is only read back once it is written
+            polledFeed.stateSaved.handleAsync((unused, throwable) -> readSavedState(poll), pollExecutor)
+                    .thenCompose(unused -> feedFetcher.fetchIfModified(poll.feedUrl, poll.validators))
+                    .thenApplyAsync(response -> parseFeed(poll, response), pollExecutor)
+                    .thenApplyAsync(this::selectNewEntries, modelExecutor)
+                    .thenCompose(FeedPollingScheduler::fetchArticles)
+                    .whenCompleteAsync((unused, throwable) -> finishPoll(polledFeed, poll, throwable),
+                            modelExecutor);
+        } catch (RejectedExecutionException ree) {
+            // The scheduler has been stopped
+        }
+    }
+
+    /**
+     * Reads the validators and state saved when the feed was last polled.
+     * Runs on a polling thread.
+     */
+    private Poll readSavedState(Poll poll) {
+        poll.validators = model.getHttpValidators(poll.feedUrl);
+        poll.lastState = model.getFeedState(poll.feedUrl);
+        return poll;
+    }
+
+    /**
+     * Parses the fetched feed, unless it has not changed since it was last polled.
+     * Runs on a polling thread.
+     */
+    private static Poll parseFeed(Poll poll, ConditionalResponse response) {
+        try {
+            poll.response = response;
+            if (!poll.response.isNotModified()) {
+                poll.feedUpdate = FeedUtil.updateFromFeedContent(poll.response.getContent(), poll.feedUrl,
+                        poll.tags, poll.lastState);
+            }
+            return poll;
+        } catch (IOException | FeedException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Selects the entries of the feed which are not in the model yet.
+     * Runs on the model thread.
+     */
+    private Poll selectNewEntries(Poll poll) {
+        poll.feedUpdate.ifPresent(feedUpdate -> feedUpdate.getNewEntries().getEntryList().stream()
+                .filter(entry -> !model.hasEntry(entry))
+                .forEach(entry -> poll.entriesToAdd.put(entry, Optional.empty())));
+        return poll;
+    }
+
+    /**
+     * Fetches the articles of the new entries of the feed concurrently, unless the model is to download them later.
+     */
+    private static CompletableFuture<Poll> fetchArticles(Poll poll) {
+        if (!poll.isFetchingArticles) {
+            return CompletableFuture.completedFuture(poll);
+        }
+        Map<Entry, CompletableFuture<Optional<byte[]>>> articleFutures = new LinkedHashMap<>();
+        poll.entriesToAdd.keySet().forEach(entry -> articleFutures.put(entry,
+                AsyncCommand.fetchArticleOptionalAsync(Network.getRequestLimiter(), entry.getLink().value)));
+        return CompletableFuture.allOf(articleFutures.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(unused -> {
+                    articleFutures.forEach((entry, articleFuture) ->
+                            poll.entriesToAdd.put(entry, articleFuture.join()));
+                    return poll;
+                });
+    }
+
+    /**
+     * Applies the result of the poll to the model, and schedules the next poll of the feed.
+     * Runs on the model thread.
+     */
+    private void finishPoll(PolledFeed polledFeed, Poll poll, Throwable throwable) {
+        polledFeed.isPolling = false;
+        if (!isCurrent(polledFeed)) {
+            // The feed was unsubscribed from while it was being polled
+            return;
+        }
+        FeedPollSchedule schedule = polledFeed.schedule;
+        if (throwable != null) {
+            schedule.recordFailure();
+            logger.warning("Failed to poll feed " + poll.feedUrl + ": " + throwable);
+        } else if (poll.response.isNotModified() || !poll.feedUpdate.isPresent()) {
+            polledFeed.stateSaved = saveStateAsync(poll);
+            schedule.recordUnchanged();
+        } else {
+            FeedUpdate feedUpdate = poll.feedUpdate.get();
+            // Entries may have been added by a refresh while the articles were being fetched
+            poll.entriesToAdd.keySet().removeIf(model::hasEntry);
+            if (!poll.entriesToAdd.isEmpty()) {
+                logger.info("Adding " + poll.entriesToAdd.size() + " new entries from feed " + poll.feedUrl);
+                model.addListEntries(poll.entriesToAdd);
+            }
+            polledFeed.stateSaved = saveStateAsync(poll);
+            schedule.recordParsed(!poll.entriesToAdd.isEmpty(), feedUpdate.getPublishInterval(),
+                    feedUpdate.getUpdateHint());
+        }
+        schedulePoll(polledFeed, schedule.getNextDelay());
+    }
+
+    /**
+     * Saves the validators and state found by the poll on a polling thread, as the states of all the feeds
+     * are written together, which takes a while with many feeds.
+     * Runs on the model thread.
+     */
+    private CompletableFuture<Void> saveStateAsync(Poll poll) {
+        try {
+            return CompletableFuture.runAsync(() -> {
+                model.setHttpValidators(poll.feedUrl, poll.response.getValidators());
+                poll.feedUpdate.ifPresent(feedUpdate ->
+                        model.setFeedState(poll.feedUrl, Optional.of(feedUpdate.getFeedState())));
+            }, pollExecutor);
+        } catch (RejectedExecutionException ree) {
+            // The scheduler has been stopped
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Fetches a feed only if it has been modified since it was fetched with the given validators.
+     */
+    @FunctionalInterface
+    interface FeedFetcher {
+        CompletableFuture<ConditionalResponse> fetchIfModified(URL feedUrl, Optional<HttpValidators> validators);
+    }
+
+    /**
+     * A feed being polled.
+     */
+    private static class PolledFeed {
+        private final FeedPollSchedule schedule = new FeedPollSchedule();
+        private Entry feed;
+        private ScheduledFuture<?> nextPoll;
+        private Instant nextPollTime = Instant.now();
+        private boolean isPolling = false;
+        /** Completes once the validators and state found by the last poll are saved. */
+        private CompletableFuture<Void> stateSaved = CompletableFuture.completedFuture(null);
+
+        PolledFeed(Entry feed) {
+            this.feed = feed;
+        }
+
+        URL getUrl() {
+            return feed.getLink().value;
+        }
+
+        void cancelNextPoll() {
+            if (nextPoll != null) {
+                nextPoll.cancel(false);
+                nextPoll = null;
+            }
+        }
+    }
+
+    /**
+     * What is read from the model for, and found by, a single poll of a feed.
+     * Each field is only accessed by one stage of the poll at a time.
+     */
+    private static class Poll {
+        private final URL feedUrl;
+        private final Set<Tag> tags;
+        private final boolean isFetchingArticles;
+        private final Map<Entry, Optional<byte[]>> entriesToAdd = new LinkedHashMap<>();
+        private Optional<HttpValidators> validators = Optional.empty();
+        private Optional<FeedState> lastState = Optional.empty();
+        private ConditionalResponse response;
+        private Optional<FeedUpdate> feedUpdate = Optional.empty();
+
+        Poll(URL feedUrl, Set<Tag> tags, boolean isFetchingArticles) {
+            this.feedUrl = feedUrl;
+            this.tags = tags;
+            this.isFetchingArticles = isFetchingArticles;
+        }
+    }
+}
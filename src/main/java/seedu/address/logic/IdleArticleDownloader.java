@@ -0,0 +1,172 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.SetChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ArticleDownloadPolicy;
+import seedu.address.model.Model;
+import seedu.address.model.OfflineMode;
+
+/**
+ * Downloads the articles queued for download in the model one at a time while the app is idle,
+ * so that the articles of entries imported under the {@link ArticleDownloadPolicy#LAZY lazy} download policy
+ * become available offline without slowing down imports.
+ * The app is idle once no command has been running, and no article has been queued, for {@link #IDLE_DELAY}.
+ * Queued articles are downloaded in the order given by {@link Model#getNextQueuedDownload()}, so the articles of
+ * the selected entry and its neighbours in the displayed list come first.
+ * After an article fails to download, the downloader backs off for {@link #FAILED_DOWNLOAD_DELAY}, and the model
+ * keeps the article queued to be tried again a bounded number of times.
+ *
+ * The model is only ever read and modified on the model thread, which is given as an {@code Executor},
+ * and all the fields of the downloader other than the timer are only accessed there too.
+ */
+public class IdleArticleDownloader {
+
+    /** How long the app must be idle for before queued articles are downloaded. */
+    public static final Duration IDLE_DELAY = Duration.ofSeconds(3);
+    /** How long to wait after an article fails to download before downloading the next one. */
+    public static final Duration FAILED_DOWNLOAD_DELAY = Duration.ofSeconds(30);
+
+    private static final Logger logger = LogsCenter.getLogger(IdleArticleDownloader.class);
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final ObservableList<String> runningCommands;
+    private final ScheduledExecutorService idleTimer;
+
+    private final SetChangeListener<URL> queueListener = change -> scheduleDownload(IDLE_DELAY);
+    private final ListChangeListener<String> runningCommandsListener = change -> scheduleDownload(IDLE_DELAY);
+    private final ChangeListener<OfflineMode> offlineModeListener = (observable, oldMode, newMode) ->
+            scheduleDownload(IDLE_DELAY);
+    private ScheduledFuture<?> nextDownload;
+    private boolean isDownloading = false;
+    private boolean isStopped = false;
+
+    /**
+     * Constructs an {@code IdleArticleDownloader} which downloads the articles queued in {@code model}.
+     * @param modelExecutor Runs tasks on the thread which modifies the model.
+     * @param runningCommands Descriptions of the commands which are running, which the app is idle without.
+     */
+    public IdleArticleDownloader(Model model, Executor modelExecutor, ObservableList<String> runningCommands) {
+        this(model, modelExecutor, runningCommands, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Idle article downloader");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Constructs an {@code IdleArticleDownloader} which times how long the app has been idle for on {@code idleTimer}.
+     */
+    IdleArticleDownloader(Model model, Executor modelExecutor, ObservableList<String> runningCommands,
+            ScheduledExecutorService idleTimer) {
+        requireAllNonNull(model, modelExecutor, runningCommands, idleTimer);
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.runningCommands = runningCommands;
+        this.idleTimer = idleTimer;
+    }
+
+    /**
+     * Starts downloading queued articles whenever the app is idle, after queueing the articles of the entries in
+     * the reading list which have no offline copy yet under the lazy download policy.
+     * Must be called on the model thread.
+     */
+    public void start() {
+        if (isLazy()) {
+            List<URL> missingArticles = model.getListEntryBook().getEntryList().stream()
+                    .map(entry -> entry.getLink().value)
+                    .filter(url -> !model.hasOfflineCopy(url))
+                    .collect(Collectors.toList());
+            model.queueDownloads(missingArticles);
+        }
+        model.getQueuedDownloads().addListener(queueListener);
+        runningCommands.addListener(runningCommandsListener);
+        model.getOfflineModeProperty().addListener(offlineModeListener);
+        scheduleDownload(IDLE_DELAY);
+    }
+
+    /**
+     * Stops downloading queued articles for good.
+     * Must be called on the model thread.
+     */
+    public void stop() {
+        isStopped = true;
+        model.getQueuedDownloads().removeListener(queueListener);
+        runningCommands.removeListener(runningCommandsListener);
+        model.getOfflineModeProperty().removeListener(offlineModeListener);
+        idleTimer.shutdownNow();
+    }
+
+    private boolean isLazy() {
+        return model.getUserPrefs().getArticleDownloadPolicy() == ArticleDownloadPolicy.LAZY;
+    }
+
+    /**
+     * Returns true if a queued article can be downloaded now.
+     */
+    private boolean canDownload() {
+        return !isStopped && !isDownloading && isLazy() && runningCommands.isEmpty()
+                && model.getOfflineModeProperty().getValue() == OfflineMode.ENABLED
+                && !model.getQueuedDownloads().isEmpty();
+    }
+
+    /**
+     * Schedules the download of the next queued article after {@code delay}, in place of any download scheduled
+     * before, unless no article can be downloaded now.
+     */
+    private void scheduleDownload(Duration delay) {
+        if (nextDownload != null) {
+            nextDownload.cancel(false);
+            nextDownload = null;
+        }
+        if (!canDownload()) {
+            return;
+        }
+        try {
+            nextDownload = idleTimer.schedule(() -> modelExecutor.execute(this::downloadNext),
+                    delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ree) {
+            // The downloader has been stopped
+        }
+    }
+
+    /**
+     * Downloads the next queued article, and schedules the download of the one after it once done.
+     */
+    private void downloadNext() {
+        nextDownload = null;
+        if (!canDownload()) {
+            return;
+        }
+        Optional<URL> url = model.getNextQueuedDownload();
+        if (!url.isPresent()) {
+            return;
+        }
+        logger.fine("Downloading queued article: " + url.get());
+        isDownloading = true;
+        model.ensureDownloaded(url.get()).whenCompleteAsync((isDownloaded, throwable) -> {
+            isDownloading = false;
+            // Carry on with the next article at once, unless the app stopped being idle in the meantime,
+            // or after a while if the network or the host seems to be having trouble
+            scheduleDownload(Boolean.TRUE.equals(isDownloaded) ? Duration.ZERO : FAILED_DOWNLOAD_DELAY);
+        }, modelExecutor);
+    }
+}
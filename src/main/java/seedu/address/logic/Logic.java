@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.net.URL;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
@@ -29,6 +30,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command, and returns the result once the command has finished executing.
+     * Commands which wait on the network are executed in the background, during which the command is listed
+     * among the running commands. Must be called on the model thread.
+     * @param commandText The command as entered by the user.
+     * @return the future result of the command execution, which completes on the model thread, or fails with
+     *         a {@code CommandException} if an error occurs during command execution, or a {@code ParseException}
+     *         if an error occurs during parsing.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
     /**
      * Executes the command.
      * @param command the command to execute.
@@ -58,17 +70,46 @@ public interface Logic {
      */
     Optional<URL> getOfflineLink(URL url);
 
+    /**
+     * Downloads the article at {@code url} as an offline copy unless there already is one.
+     *
+     * @see seedu.address.model.Model#ensureDownloaded(URL url)
+     */
+    CompletableFuture<Boolean> ensureDownloaded(URL url);
+
     /**
      * Returns an unmodifiable view of the list of commands entered by the user.
      * The list is ordered from the least recent command to the most recent command.
      */
     ObservableList<String> getHistory();
 
+    /**
+     * Returns an unmodifiable view of the list of commands which are being executed in the background.
+     * The list is ordered from the least recently entered command to the most recently entered command.
+     */
+    ObservableList<String> getRunningCommands();
+
     /**
      * Returns the user prefs' list entry book file path.
      */
     Path getListEntryBookFilePath();
 
+    /**
+     * Returns the user prefs' number of entries on each side of the selected entry which are prefetched.
+     */
+    int getPrefetchWindowSize();
+
+    /**
+     * Returns the user prefs' number of reader views which are cached in memory.
+     */
+    int getReaderViewCacheSize();
+
+    /**
+     * Returns the user prefs' directory which cached reader views are spilled to once evicted from memory,
+     * or an empty Optional if they should not be spilled to disk.
+     */
+    Optional<Path> getReaderViewCacheDirectoryPath();
+
     /**
      * Returns the user prefs' GUI settings.
      */
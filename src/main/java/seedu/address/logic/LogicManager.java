@@ -4,13 +4,18 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.ArchivesCommand;
+import seedu.address.logic.commands.AsyncCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.FeedsCommand;
@@ -21,20 +26,57 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelContext;
 import seedu.address.model.ReadOnlyEntryBook;
+import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.entry.Entry;
 import seedu.address.ui.ViewMode;
 
 /**
  * The main LogicManager of the app.
+ *
+ * Commands which wait on the network are executed on a fixed pool of background threads, and read and modify
+ * the model only on the model thread, which is given as an {@code Executor}.
  */
 public class LogicManager implements Logic {
+    /** Number of background threads commands are executed on, which bounds the number of commands waiting. */
+    public static final int NUM_COMMAND_THREADS = 4;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final CommandHistory history;
+    private final Executor backgroundExecutor;
+    private final Executor modelExecutor;
+    private final ObservableList<String> runningCommands = FXCollections.observableArrayList();
+    private final ObservableList<String> unmodifiableRunningCommands =
+            FXCollections.unmodifiableObservableList(runningCommands);
 
+    /**
+     * Constructs a {@code LogicManager} which executes every command entirely on the calling thread.
+     */
     public LogicManager(Model model) {
+        this(model, Runnable::run, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} which executes commands which wait on the network in the background.
+     * @param modelExecutor Runs tasks on the thread which modifies the model.
+     */
+    public LogicManager(Model model, Executor modelExecutor) {
+        this(model, Executors.newFixedThreadPool(NUM_COMMAND_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "Command executor");
+            thread.setDaemon(true);
+            return thread;
+        }), modelExecutor);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} which executes the stages of commands which wait on the network on
+     * {@code backgroundExecutor}, and the stages which read or modify the model on {@code modelExecutor}.
+     */
+    public LogicManager(Model model, Executor backgroundExecutor, Executor modelExecutor) {
         this.model = model;
+        this.backgroundExecutor = backgroundExecutor;
+        this.modelExecutor = modelExecutor;
         history = new CommandHistory();
     }
 
@@ -54,15 +96,85 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+
+        CompletableFuture<CommandResult> commandResult;
+
+        try {
+            Command command = model.getContext().getParser().parseCommand(commandText);
+            commandResult = executeAsync(command, commandText);
+        } catch (ParseException pe) {
+            commandResult = CompletableFuture.failedFuture(pe);
+        } finally {
+            history.add(commandText);
+        }
+
+        return commandResult;
+    }
+
     @Override
     public void executeCommand(Command command) {
+        executeCommand(command, command.getClass().getSimpleName());
+    }
+
+    /**
+     * Executes the command, showing it as {@code description} while it is running.
+     */
+    private void executeCommand(Command command, String description) {
         logger.info("----------------[COMMAND][" + command + "]");
 
-        try {
-            CommandResult commandResult = command.execute(model, history);
-            setCommandResult(commandResult);
-        } catch (CommandException ce) {
-            setException(ce);
+        executeAsync(command, description).whenComplete((commandResult, throwable) -> {
+            if (throwable == null) {
+                setCommandResult(commandResult);
+            } else if (throwable instanceof CommandException) {
+                setException((CommandException) throwable);
+            } else {
+                logger.warning("Command " + description + " failed unexpectedly: " + throwable);
+            }
+        });
+    }
+
+    /**
+     * Executes the command in the background if it waits on the network, or right away otherwise,
+     * listing it as {@code description} among the running commands until it has finished executing.
+     * The returned future fails with the {@code CommandException} the command fails with, and completes on the
+     * model thread if it does not complete right away.
+     */
+    private CompletableFuture<CommandResult> executeAsync(Command command, String description) {
+        if (!(command instanceof AsyncCommand)) {
+            try {
+                return CompletableFuture.completedFuture(command.execute(model, history));
+            } catch (CommandException ce) {
+                return CompletableFuture.failedFuture(ce);
+            }
+        }
+
+        CompletableFuture<CommandResult> execution = ((AsyncCommand) command)
+                .executeAsync(model, history, backgroundExecutor, modelExecutor);
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        if (execution.isDone()) {
+            execution.whenComplete((commandResult, throwable) -> complete(result, commandResult, throwable));
+        } else {
+            runningCommands.add(description);
+            execution.whenCompleteAsync((commandResult, throwable) -> {
+                runningCommands.remove(description);
+                complete(result, commandResult, throwable);
+            }, modelExecutor);
+        }
+        return result;
+    }
+
+    /**
+     * Completes {@code result} with the result of an execution of a command, or with what the execution failed with.
+     */
+    private static void complete(CompletableFuture<CommandResult> result, CommandResult commandResult,
+            Throwable throwable) {
+        if (throwable == null) {
+            result.complete(commandResult);
+        } else {
+            result.completeExceptionally(AsyncCommand.getFailure(throwable));
         }
     }
 
@@ -71,7 +183,7 @@ public class LogicManager implements Logic {
         switch (context) {
         case CONTEXT_SEARCH:
             try {
-                executeCommand(new GoogleNewsCommand());
+                executeCommand(new GoogleNewsCommand(), GoogleNewsCommand.COMMAND_WORD);
             } catch (MalformedURLException mue) {
                 setException(new CommandException("Sorry, Google News is unavailable."));
                 executeCommand(new ListCommand());
@@ -101,6 +213,11 @@ public class LogicManager implements Logic {
         return model.getOfflineLink(url);
     }
 
+    @Override
+    public CompletableFuture<Boolean> ensureDownloaded(URL url) {
+        return model.ensureDownloaded(url);
+    }
+
     @Override
     public ObservableList<Entry> getFilteredEntryList() {
         return model.getFilteredEntryList();
@@ -111,11 +228,34 @@ public class LogicManager implements Logic {
         return history.getHistory();
     }
 
+    @Override
+    public ObservableList<String> getRunningCommands() {
+        return unmodifiableRunningCommands;
+    }
+
     @Override
     public Path getListEntryBookFilePath() {
         return model.getListEntryBookFilePath();
     }
 
+    @Override
+    public int getPrefetchWindowSize() {
+        return model.getUserPrefs().getPrefetchWindowSize();
+    }
+
+    @Override
+    public int getReaderViewCacheSize() {
+        return model.getUserPrefs().getReaderViewCacheSize();
+    }
+
+    @Override
+    public Optional<Path> getReaderViewCacheDirectoryPath() {
+        ReadOnlyUserPrefs userPrefs = model.getUserPrefs();
+        return userPrefs.isReaderViewCacheSpilledToDisk()
+                ? Optional.of(userPrefs.getReaderViewCacheDirectoryPath())
+                : Optional.empty();
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
@@ -2,21 +2,25 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.CommandHistory;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.commands.exceptions.DuplicateEntryCommandException;
 import seedu.address.model.Model;
 import seedu.address.model.entry.Entry;
+import seedu.address.util.Network;
 
 /**
- * Adds an entry identified using its displayed index to the List context EntryBook.
+ * Adds all entries in the displayed entry list to the List context EntryBook.
  * This usage only makes sense in search context.
+ * The articles of the entries are fetched, and the entries filled in from them, concurrently,
+ * within the request limits in the user prefs.
  */
-public class AddAllCommand extends Command {
+public class AddAllCommand extends AsyncCommand {
 
     public static final String COMMAND_WORD = "addall";
 
@@ -30,24 +34,29 @@ public class AddAllCommand extends Command {
     private static final Logger logger = LogsCenter.getLogger(UnarchiveAllCommand.class);
 
     @Override
-    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+    public CompletableFuture<CommandResult> executeAsync(Model model, CommandHistory history,
+            Executor backgroundExecutor, Executor modelExecutor) {
         requireNonNull(model);
         List<Entry> lastShownList = model.getFilteredEntryList();
 
-        int numAdded = 0;
+        List<Entry> entriesToFetch = new ArrayList<>();
         for (Entry entryToAdd : lastShownList) {
-            Command addCommand = new AddCommand(entryToAdd);
-            try {
-                addCommand.execute(model, history);
-                numAdded++;
-            } catch (DuplicateEntryCommandException dece) {
+            if (model.hasListEntry(entryToAdd)) {
                 logger.warning("Skipping entry which is already in reading list:\n"
                     + entryToAdd);
-                // Ignore duplicate entry errors
-                // Rethrow other errors
+                continue;
             }
+            entriesToFetch.add(entryToAdd);
         }
-        return new CommandResult(String.format(MESSAGE_SUCCESS, numAdded));
+
+        return fetchArticlesAndAutofillAsync(entriesToFetch, Network.getRequestLimiter(), backgroundExecutor)
+                .thenApplyAsync(entriesToAdd -> {
+                    // entries may have been added while their articles were being fetched
+                    entriesToAdd.keySet().removeIf(model::hasListEntry);
+                    model.addListEntries(entriesToAdd);
+                    int numAdded = entriesToAdd.size();
+                    return new CommandResult(String.format(MESSAGE_SUCCESS, numAdded));
+                }, modelExecutor);
     }
 
     @Override
@@ -6,11 +6,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_LINK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
 
-import java.net.URL;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import seedu.address.logic.CommandHistory;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.exceptions.DuplicateEntryCommandException;
 import seedu.address.model.Model;
 import seedu.address.model.entry.Entry;
@@ -21,7 +22,7 @@ import seedu.address.util.Network;
 /**
  * Adds a entry to the address book.
  */
-public class AddCommand extends Command {
+public class AddCommand extends AsyncCommand {
 
     public static final String COMMAND_WORD = "add";
     public static final String COMMAND_ALIAS = "a";
@@ -52,25 +53,32 @@ public class AddCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+    public CompletableFuture<CommandResult> executeAsync(Model model, CommandHistory history,
+            Executor backgroundExecutor, Executor modelExecutor) {
         requireNonNull(model);
 
-        URL url = toAdd.getLink().value;
-
-        EntryAutofill autofill = new EntryAutofill(toAdd);
-        autofill.extractFromUrl(url);
+        return CompletableFuture.supplyAsync(() -> {
+            Optional<byte[]> articleContent = Network.fetchArticleOptional(toAdd.getLink().value);
+            return Map.entry(autofillEntry(toAdd, articleContent), articleContent);
+        }, backgroundExecutor).thenApplyAsync(stage(filledEntry -> {
+            Entry updatedEntry = filledEntry.getKey();
+            try {
+                model.addListEntry(updatedEntry, filledEntry.getValue());
+            } catch (DuplicateEntryException dee) {
+                throw new DuplicateEntryCommandException();
+            }
+            return new CommandResult(String.format(MESSAGE_SUCCESS, updatedEntry));
+        }), modelExecutor);
+    }
 
-        Optional<byte[]> articleContent = Network.fetchArticleOptional(url);
+    /**
+     * Returns {@code entry} with its missing fields filled in from its link and its {@code articleContent}, if any.
+     */
+    static Entry autofillEntry(Entry entry, Optional<byte[]> articleContent) {
+        EntryAutofill autofill = new EntryAutofill(entry);
+        autofill.extractFromUrl(entry.getLink().value);
         articleContent.ifPresent(bytes -> autofill.extractFromHtml(new String(bytes)));
-
-        Entry updatedEntry = autofill.getFilledEntry();
-
-        try {
-            model.addListEntry(updatedEntry, articleContent);
-        } catch (DuplicateEntryException dee) {
-            throw new DuplicateEntryCommandException();
-        }
-        return new CommandResult(String.format(MESSAGE_SUCCESS, updatedEntry));
+        return autofill.getFilledEntry();
     }
 
     @Override
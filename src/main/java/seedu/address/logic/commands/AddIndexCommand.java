@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -15,7 +17,7 @@ import seedu.address.model.entry.Entry;
  * Adds an entry identified using its displayed index to the List context EntryBook.
  * This usage only makes sense in search context.
  */
-public class AddIndexCommand extends Command {
+public class AddIndexCommand extends AsyncCommand {
 
     public static final String COMMAND_WORD = "addindex";
     public static final String COMMAND_ALIAS = "addi";
@@ -33,17 +35,18 @@ public class AddIndexCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+    public CompletableFuture<CommandResult> executeAsync(Model model, CommandHistory history,
+            Executor backgroundExecutor, Executor modelExecutor) {
         requireNonNull(model);
         List<Entry> lastShownList = model.getFilteredEntryList();
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_ENTRY_DISPLAYED_INDEX);
+            return CompletableFuture.failedFuture(new CommandException(Messages.MESSAGE_INVALID_ENTRY_DISPLAYED_INDEX));
         }
 
         Entry entryToAdd = lastShownList.get(targetIndex.getZeroBased());
-        Command addCommand = new AddCommand(entryToAdd);
-        return addCommand.execute(model, history);
+        AsyncCommand addCommand = new AddCommand(entryToAdd);
+        return addCommand.executeAsync(model, history, backgroundExecutor, modelExecutor);
     }
 
     @Override
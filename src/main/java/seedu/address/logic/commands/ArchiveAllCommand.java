@@ -2,14 +2,13 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.commands.exceptions.DuplicateEntryCommandException;
 import seedu.address.model.Model;
 import seedu.address.model.entry.Entry;
 
@@ -36,22 +35,23 @@ public class ArchiveAllCommand extends Command {
         List<Entry> lastShownList = model.getFilteredEntryList();
         logger.info(String.format("%d", lastShownList.size()));
 
-        int numArchived = 0;
-        for (int i = lastShownList.size(); i > 0; i--) {
-            Index index = Index.fromOneBased(i);
-            Entry entryToArchive = lastShownList.get(index.getZeroBased());
-            Command archiveCommand = new ArchiveCommand(index);
-            try {
-                archiveCommand.execute(model, history);
-                numArchived++;
-            } catch (DuplicateEntryCommandException dece) {
-                logger.warning("Removing duplicate entry at index " + index.getOneBased()
-                    + " which is already in archives list:\n"
+        List<Entry> entriesToArchive = new ArrayList<>();
+        List<Entry> duplicateEntries = new ArrayList<>();
+        // Archive from the bottom of the list up, as archiving one entry at a time used to
+        for (int i = lastShownList.size() - 1; i >= 0; i--) {
+            Entry entryToArchive = lastShownList.get(i);
+            if (model.hasArchivesEntry(entryToArchive)) {
+                logger.warning("Removing duplicate entry which is already in archives list:\n"
                     + entryToArchive);
-                // Ignore duplicate entry errors
-                // Rethrow other errors
+                duplicateEntries.add(entryToArchive);
+            } else {
+                entriesToArchive.add(entryToArchive);
             }
         }
+
+        model.archiveEntries(entriesToArchive);
+        model.deleteListEntries(duplicateEntries);
+        int numArchived = entriesToArchive.size();
         return new CommandResult(String.format(MESSAGE_SUCCESS, numArchived));
     }
 
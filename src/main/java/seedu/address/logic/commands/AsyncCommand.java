@@ -0,0 +1,204 @@
+package seedu.address.logic.commands;
+
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ArticleDownloadPolicy;
+import seedu.address.model.Model;
+import seedu.address.model.entry.Entry;
+import seedu.address.util.Network;
+import seedu.address.util.RequestLimiter;
+
+/**
+ * Represents a command which waits on the network, and so is executed in stages which wait on the network
+ * in the background, and stages which read or modify the model on the model thread.
+ * This keeps the model thread, which is also the thread the UI runs on, free while the command waits.
+ */
+public abstract class AsyncCommand extends Command {
+
+    /**
+     * Executes the command with every stage run directly instead of being handed to an executor, and returns
+     * the result message once the command has finished executing. Must be called on the model thread,
+     * which waits until then.
+     */
+    @Override
+    public final CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        try {
+            return executeAsync(model, history, Runnable::run, Runnable::run).join();
+        } catch (CompletionException ce) {
+            Throwable failure = getFailure(ce);
+            if (failure instanceof CommandException) {
+                throw (CommandException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw ce;
+        }
+    }
+
+    /**
+     * Executes the command, and returns the result message once the command has finished executing.
+     * Must be called on the model thread.
+     *
+     * @param model {@code Model} which the command should operate on, only on {@code modelExecutor}.
+     * @param history {@code CommandHistory} which the command should operate on, only on {@code modelExecutor}.
+     * @param backgroundExecutor runs the stages of the command which wait on the network.
+     * @param modelExecutor runs the stages of the command which read or modify the model.
+     * @return future feedback message of the operation result for display, which fails with a
+     *         {@code CompletionException} caused by a {@code CommandException} if an error occurs during execution.
+     */
+    public abstract CompletableFuture<CommandResult> executeAsync(Model model, CommandHistory history,
+            Executor backgroundExecutor, Executor modelExecutor);
+
+    /**
+     * Returns what a future failed with, unwrapped from the {@code CompletionException} it was wrapped in
+     * when it was passed on to a later stage.
+     */
+    public static Throwable getFailure(Throwable throwable) {
+        Throwable failure = throwable;
+        while (failure instanceof CompletionException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        return failure;
+    }
+
+    /**
+     * Asynchronously fetches the article at {@code url} within the limits of {@code requestLimiter},
+     * completing with an empty Optional if it could not be fetched.
+     */
+    public static CompletableFuture<Optional<byte[]>> fetchArticleOptionalAsync(
+            RequestLimiter requestLimiter, URL url) {
+        return requestLimiter.submit(url, () -> Network.fetchArticleAsync(url))
+                .handle((articleContent, throwable) ->
+                        throwable == null ? Optional.of(articleContent) : Optional.empty());
+    }
+
+    /**
+     * Asynchronously fetches the articles of {@code entries} concurrently, within the limits of
+     * {@code requestLimiter}, and returns them in the order of {@code entries},
+     * each as an empty Optional if it could not be fetched.
+     */
+    protected static CompletableFuture<Map<Entry, Optional<byte[]>>> fetchArticlesAsync(List<Entry> entries,
+            RequestLimiter requestLimiter) {
+        return fetchArticlesAsync(entries, requestLimiter, (entry, articleContent) -> entry, Runnable::run);
+    }
+
+    /**
+     * Returns true if the articles of entries imported from feeds should be fetched as they are imported,
+     * according to the download policy in the user prefs of {@code model}.
+     * Otherwise, the model downloads them later, once they are added without their articles.
+     */
+    protected static boolean isFetchedOnImport(Model model) {
+        return model.getUserPrefs().getArticleDownloadPolicy() == ArticleDownloadPolicy.EAGER;
+    }
+
+    /**
+     * Asynchronously fetches the articles of {@code entries} imported from a feed as
+     * {@link #fetchArticlesAsync(List, RequestLimiter)} does, within the limits of the request limiter shared by
+     * the whole app, if they should be fetched on import.
+     * Otherwise, returns every entry without its article at once.
+     *
+     * @see #isFetchedOnImport(Model)
+     */
+    protected static CompletableFuture<Map<Entry, Optional<byte[]>>> fetchImportedArticlesAsync(Model model,
+            List<Entry> entries) {
+        if (isFetchedOnImport(model)) {
+            return fetchArticlesAsync(entries, Network.getRequestLimiter());
+        }
+        Map<Entry, Optional<byte[]>> articles = new LinkedHashMap<>();
+        entries.forEach(entry -> articles.put(entry, Optional.empty()));
+        return CompletableFuture.completedFuture(articles);
+    }
+
+    /**
+     * Asynchronously fetches the articles of {@code entries} as {@link #fetchArticlesAsync(List, RequestLimiter)}
+     * does, and returns them with the missing fields of each entry filled in from its link and its article.
+     * Each entry is filled in on {@code backgroundExecutor} as soon as its article has been fetched.
+     */
+    protected static CompletableFuture<Map<Entry, Optional<byte[]>>> fetchArticlesAndAutofillAsync(
+            List<Entry> entries, RequestLimiter requestLimiter, Executor backgroundExecutor) {
+        return fetchArticlesAsync(entries, requestLimiter, AddCommand::autofillEntry, backgroundExecutor);
+    }
+
+    /**
+     * Asynchronously fetches the articles of {@code entries}, and returns them with each entry replaced by
+     * the result of {@code completeEntry} on it and its article, which is called on {@code completeExecutor}.
+     */
+    private static CompletableFuture<Map<Entry, Optional<byte[]>>> fetchArticlesAsync(List<Entry> entries,
+            RequestLimiter requestLimiter, BiFunction<Entry, Optional<byte[]>, Entry> completeEntry,
+            Executor completeExecutor) {
+        List<CompletableFuture<Map.Entry<Entry, Optional<byte[]>>>> entryFutures = entries.stream()
+                .map(entry -> fetchArticleOptionalAsync(requestLimiter, entry.getLink().value)
+                        .thenApplyAsync(articleContent ->
+                                Map.entry(completeEntry.apply(entry, articleContent), articleContent),
+                                completeExecutor))
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(entryFutures.toArray(new CompletableFuture<?>[0])).thenApply(unused -> {
+            Map<Entry, Optional<byte[]>> articles = new LinkedHashMap<>();
+            entryFutures.forEach(entryFuture -> {
+                Map.Entry<Entry, Optional<byte[]>> completedEntry = entryFuture.join();
+                articles.put(completedEntry.getKey(), completedEntry.getValue());
+            });
+            return articles;
+        });
+    }
+
+    /**
+     * Returns {@code stage} as a {@code Supplier} which can be a stage of a {@code CompletableFuture},
+     * which fails with a {@code CompletionException} caused by the {@code CommandException} {@code stage} throws.
+     */
+    protected static <R> Supplier<R> stage(SupplierStage<R> stage) {
+        return () -> {
+            try {
+                return stage.get();
+            } catch (CommandException ce) {
+                throw new CompletionException(ce);
+            }
+        };
+    }
+
+    /**
+     * Returns {@code stage} as a {@code Function} which can be a stage of a {@code CompletableFuture},
+     * which fails with a {@code CompletionException} caused by the {@code CommandException} {@code stage} throws.
+     */
+    protected static <T, R> Function<T, R> stage(FunctionStage<T, R> stage) {
+        return input -> {
+            try {
+                return stage.apply(input);
+            } catch (CommandException ce) {
+                throw new CompletionException(ce);
+            }
+        };
+    }
+
+    /**
+     * A stage of a command which takes no input, and may fail with a {@code CommandException}.
+     */
+    @FunctionalInterface
+    protected interface SupplierStage<R> {
+        R get() throws CommandException;
+    }
+
+    /**
+     * A stage of a command which takes the result of the previous stage, and may fail with a
+     * {@code CommandException}.
+     */
+    @FunctionalInterface
+    protected interface FunctionStage<T, R> {
+        R apply(T input) throws CommandException;
+    }
+}
@@ -2,11 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -34,23 +34,18 @@ public class DeleteAllCommand extends Command {
         List<Entry> lastShownList = model.getFilteredEntryList();
         logger.info(String.format("%d", lastShownList.size()));
 
-        int numDeleted = 0;
-        for (int i = lastShownList.size(); i > 0; i--) {
-            Index index = Index.fromOneBased(i);
-            Command deleteCommand;
-            switch (model.getContext()) {
-            case CONTEXT_LIST:
-                deleteCommand = new DeleteCommand(index);
-                break;
-            case CONTEXT_ARCHIVES:
-                deleteCommand = new DeleteArchiveEntryCommand(index);
-                break;
-            default:
-                throw new CommandException(MESSAGE_FAILURE_INCORRECT_CONTEXT);
-            }
-            deleteCommand.execute(model, history);
-            numDeleted++;
+        List<Entry> entriesToDelete = new ArrayList<>(lastShownList);
+        switch (model.getContext()) {
+        case CONTEXT_LIST:
+            model.deleteListEntries(entriesToDelete);
+            break;
+        case CONTEXT_ARCHIVES:
+            model.deleteArchivesEntries(entriesToDelete);
+            break;
+        default:
+            throw new CommandException(MESSAGE_FAILURE_INCORRECT_CONTEXT);
         }
+        int numDeleted = entriesToDelete.size();
         return new CommandResult(String.format(MESSAGE_SUCCESS, numDeleted));
     }
 
@@ -5,20 +5,21 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ENTRIES;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import com.rometools.rome.io.FeedException;
 
 import seedu.address.commons.util.FeedUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.EntryBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelContext;
 
 /**
  * Shows a feed given an URL.
  */
-public class FeedCommand extends Command {
+public class FeedCommand extends AsyncCommand {
 
     public static final String COMMAND_WORD = "feed";
 
@@ -38,26 +39,25 @@ public class FeedCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+    public CompletableFuture<CommandResult> executeAsync(Model model, CommandHistory history,
+            Executor backgroundExecutor, Executor modelExecutor) {
         requireNonNull(model);
 
-        EntryBook toBeDisplayed;
+        return CompletableFuture.supplyAsync(stage(() -> {
+            try {
+                return FeedUtil.fromFeedUrl(feedUrl);
+            } catch (IOException e) {
+                throw new CommandException(String.format(MESSAGE_FAILURE_NET, e), e);
+            } catch (FeedException e) {
+                throw new CommandException(String.format(MESSAGE_FAILURE_XML, feedUrl), e);
+            }
+        }), backgroundExecutor).thenApplyAsync(toBeDisplayed -> {
+            model.setSearchEntryBook(toBeDisplayed);
+            model.setContext(ModelContext.CONTEXT_SEARCH);
+            model.updateFilteredEntryList(PREDICATE_SHOW_ALL_ENTRIES);
 
-        try {
-            toBeDisplayed = FeedUtil.fromFeedUrl(feedUrl);
-        } catch (IOException e) {
-            throw new CommandException(String.format(MESSAGE_FAILURE_NET, e), e);
-        } catch (FeedException e) {
-            throw new CommandException(String.format(MESSAGE_FAILURE_XML, feedUrl), e);
-        } /*catch (Exception e) {
-            throw new CommandException("Some other problem: " + StringUtil.getDetails(e), e);
-        }*/
-
-        model.setSearchEntryBook(toBeDisplayed);
-        model.setContext(ModelContext.CONTEXT_SEARCH);
-        model.updateFilteredEntryList(PREDICATE_SHOW_ALL_ENTRIES);
-
-        return new CommandResult(String.format(MESSAGE_SUCCESS, feedUrl));
+            return new CommandResult(String.format(MESSAGE_SUCCESS, feedUrl));
+        }, modelExecutor);
     }
 
     @Override
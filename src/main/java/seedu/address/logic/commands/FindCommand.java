@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LINK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
@@ -32,10 +33,12 @@ public class FindCommand extends Command {
             + "the specified keyphrases and displays them as a list with index numbers.\n"
             + "Search is case-insensitive for all fields except tags.\n"
             + "Search is exact for tags.\n"
+            + "Content matches entries whose offline article contains all of the specified words.\n"
             + "Parameters: INDEX (must be a positive integer) "
             + "[" + PREFIX_TITLE + "TITLE] "
             + "[" + PREFIX_DESCRIPTION + "DESCRIPTION] "
             + "[" + PREFIX_LINK + "LINK:] "
+            + "[" + PREFIX_CONTENT + "CONTENT] "
             + "[" + PREFIX_TAG + "TAG]...\n"
             + "Example: " + COMMAND_WORD
             + PREFIX_TITLE + "Search this phrase in title"
@@ -51,7 +54,7 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredEntryList(predicate);
+        model.findEntries(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_ENTRIES_LISTED_OVERVIEW, model.getFilteredEntryList().size()));
     }
@@ -72,6 +75,7 @@ public class FindCommand extends Command {
         private String description;
         private String link;
         private String all;
+        private String content;
         private Set<Tag> tags;
 
         public FindEntryDescriptor() {}
@@ -85,6 +89,7 @@ public class FindCommand extends Command {
             setDescription(toCopy.description);
             setLink(toCopy.link);
             setAll(toCopy.all);
+            setContent(toCopy.content);
             setTags(toCopy.tags);
         }
 
@@ -92,7 +97,7 @@ public class FindCommand extends Command {
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(title, link, description, all, tags);
+            return CollectionUtil.isAnyNonNull(title, link, description, all, content, tags);
         }
 
         public void setTitle(String title) {
@@ -127,6 +132,14 @@ public class FindCommand extends Command {
             return Optional.ofNullable(all);
         }
 
+        public void setContent(String content) {
+            this.content = content;
+        }
+
+        public Optional<String> getContent() {
+            return Optional.ofNullable(content);
+        }
+
         /**
          * Sets {@code tags} to this object's {@code tags}.
          * A defensive copy of {@code tags} is used internally.
@@ -163,6 +176,7 @@ public class FindCommand extends Command {
                 && getDescription().equals(e.getDescription())
                 && getLink().equals(e.getLink())
                 && getAll().equals(e.getAll())
+                && getContent().equals(e.getContent())
                 && getTags().equals(e.getTags());
         }
     }
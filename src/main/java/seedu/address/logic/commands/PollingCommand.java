@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.PollingMode;
+
+/**
+ * Pauses or resumes the background polling of feeds.
+ */
+public class PollingCommand extends Command {
+
+    public static final String COMMAND_WORD = "polling";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Pause or resume polling feeds for new entries in the background for this session.\n"
+            + "Parameters: MODE (pause, resume)\n"
+            + "Example: " + COMMAND_WORD + " pause";
+
+    public static final String MESSAGE_POLLING_PAUSED = "Polling of feeds paused for this session";
+    public static final String MESSAGE_POLLING_RESUMED = "Polling of feeds resumed";
+
+    private final PollingMode pollingMode;
+
+    public PollingCommand(PollingMode pollingMode) {
+        this.pollingMode = pollingMode;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        model.setPollingMode(pollingMode);
+        if (pollingMode == PollingMode.PAUSED) {
+            return new CommandResult(MESSAGE_POLLING_PAUSED);
+        } else {
+            return new CommandResult(MESSAGE_POLLING_RESUMED);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PollingCommand // instanceof handles nulls
+                && pollingMode == ((PollingCommand) other).pollingMode); // state check
+    }
+}
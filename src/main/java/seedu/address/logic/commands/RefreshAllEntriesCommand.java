@@ -2,7 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
@@ -13,7 +17,7 @@ import seedu.address.model.entry.Entry;
 /**
  * Refreshes all entries in the displayed entry list.
  */
-public class RefreshAllEntriesCommand extends Command {
+public class RefreshAllEntriesCommand extends AsyncCommand {
 
     public static final String COMMAND_WORD = "refreshall";
 
@@ -32,38 +36,49 @@ public class RefreshAllEntriesCommand extends Command {
             + "Please check that the links point to valid websites and that you are connected to the internet.";
 
     @Override
-    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+    public CompletableFuture<CommandResult> executeAsync(Model model, CommandHistory history,
+            Executor backgroundExecutor, Executor modelExecutor) {
         requireNonNull(model);
 
-        List<Entry> filteredEntryList = model.getFilteredEntryList();
+        List<Entry> entriesToRefresh = new ArrayList<>(model.getFilteredEntryList());
 
-        int numEntries = filteredEntryList.size();
-
-        if (numEntries == 0) {
-            return new CommandResult(MESSAGE_TRIVIAL_SUCCESS);
+        if (entriesToRefresh.isEmpty()) {
+            return CompletableFuture.completedFuture(new CommandResult(MESSAGE_TRIVIAL_SUCCESS));
         }
 
-        int numRefreshed = 0;
-        for (int i = 0; i < numEntries; i++) {
-            Command refreshCommand = new RefreshEntryCommand(Index.fromZeroBased(i));
-            try {
-                refreshCommand.execute(model, history);
-                numRefreshed++;
-            } catch (CommandException ce) {
-                if (i == 0) {
-                    throw new CommandException(MESSAGE_FAILURE);
-                } else {
-                    Entry entryThatCouldNotBeRefreshed = filteredEntryList.get(i);
-                    return new CommandResult(String.format(
-                        MESSAGE_PARTIAL_SUCCESS,
-                        i,
-                        i + 1,
-                        entryThatCouldNotBeRefreshed.getLink()));
-                }
-            }
+        return refreshFrom(0, entriesToRefresh, model, history, backgroundExecutor, modelExecutor);
+    }
+
+    /**
+     * Refreshes {@code entriesToRefresh} from index {@code i} onwards one at a time,
+     * stopping at the first which could not be refreshed.
+     * Entries are refreshed by themselves rather than by their position in the displayed list,
+     * as the list may be filtered or changed while the command runs.
+     * Runs on the model thread.
+     */
+    private CompletableFuture<CommandResult> refreshFrom(int i, List<Entry> entriesToRefresh, Model model,
+            CommandHistory history, Executor backgroundExecutor, Executor modelExecutor) {
+        if (i == entriesToRefresh.size()) {
+            return CompletableFuture.completedFuture(new CommandResult(String.format(MESSAGE_SUCCESS, i)));
         }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, numRefreshed));
+        return RefreshEntryCommand.refreshAsync(entriesToRefresh.get(i), Index.fromZeroBased(i), model,
+                backgroundExecutor, modelExecutor)
+                .handleAsync((result, throwable) -> {
+                    if (throwable == null) {
+                        return refreshFrom(i + 1, entriesToRefresh, model, history, backgroundExecutor, modelExecutor);
+                    } else if (i == 0) {
+                        return CompletableFuture.<CommandResult>failedFuture(new CommandException(MESSAGE_FAILURE));
+                    } else {
+                        Entry entryThatCouldNotBeRefreshed = entriesToRefresh.get(i);
+                        return CompletableFuture.completedFuture(new CommandResult(String.format(
+                            MESSAGE_PARTIAL_SUCCESS,
+                            i,
+                            i + 1,
+                            entryThatCouldNotBeRefreshed.getLink())));
+                    }
+                }, modelExecutor)
+                .thenCompose(Function.identity());
     }
 
     @Override
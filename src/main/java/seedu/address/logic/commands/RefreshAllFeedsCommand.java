@@ -2,18 +2,37 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
-import seedu.address.commons.core.index.Index;
+import com.rometools.rome.io.FeedException;
+
+import seedu.address.commons.util.FeedUpdate;
+import seedu.address.commons.util.FeedUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.EntryBook;
 import seedu.address.model.Model;
 import seedu.address.model.entry.Entry;
+import seedu.address.util.FeedState;
+import seedu.address.util.Network;
+import seedu.address.util.RequestLimiter;
 
 /**
- * Refreshes all entries in the displayed entry list.
+ * Refreshes all feeds in the displayed entry list.
+ * Feeds and the articles of their new entries are fetched concurrently, within the request limits in the user prefs.
+ * A feed that fails to refresh does not stop the other feeds from being refreshed.
  */
-public class RefreshAllFeedsCommand extends Command {
+public class RefreshAllFeedsCommand extends AsyncCommand {
 
     public static final String COMMAND_WORD = "refreshall";
 
@@ -23,47 +42,127 @@ public class RefreshAllFeedsCommand extends Command {
             + "Example: " + COMMAND_WORD;
 
     public static final String MESSAGE_TRIVIAL_SUCCESS = "No feeds to refresh";
-    public static final String MESSAGE_SUCCESS = "Refreshed %d feeds";
+    public static final String MESSAGE_SUCCESS = "Refreshed %d feeds, adding %d new entries:\n%s";
     public static final String MESSAGE_PARTIAL_SUCCESS =
-        "Refreshed %d feeds, but stopping at feed %d (%s) as it could not be refreshed.\n"
+        "Refreshed %d of %d feeds, adding %d new entries:\n%s\n"
             + "Please check that the links point to valid feeds and that you are connected to the internet.";
     public static final String MESSAGE_FAILURE =
-        "Stopping as the first feed could not be refreshed.\n"
+        "None of the feeds could be refreshed:\n%s\n"
             + "Please check that the links point to valid feeds and that you are connected to the internet.";
+    public static final String MESSAGE_FEED_SUCCESS = "%d. %s: %d new entries";
+    public static final String MESSAGE_FEED_FAILURE = "%d. %s: failed (%s)";
+    public static final String MESSAGE_REASON_NOT_A_FEED = "not a valid RSS/Atom feed";
 
     @Override
-    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+    public CompletableFuture<CommandResult> executeAsync(Model model, CommandHistory history,
+            Executor backgroundExecutor, Executor modelExecutor) {
         requireNonNull(model);
 
-        List<Entry> filteredEntryList = model.getFilteredEntryList();
+        List<Entry> feedsToRefresh = new ArrayList<>(model.getFilteredEntryList());
 
-        int numEntries = filteredEntryList.size();
+        int numFeeds = feedsToRefresh.size();
 
-        if (numEntries == 0) {
-            return new CommandResult(MESSAGE_TRIVIAL_SUCCESS);
+        if (numFeeds == 0) {
+            return CompletableFuture.completedFuture(new CommandResult(MESSAGE_TRIVIAL_SUCCESS));
         }
 
-        int numRefreshed = 0;
-        for (int i = 0; i < numEntries; i++) {
-            Command refreshCommand = new RefreshFeedCommand(Index.fromZeroBased(i));
-            try {
-                refreshCommand.execute(model, history);
-                numRefreshed++;
-            } catch (CommandException ce) {
-                if (i == 0) {
-                    throw new CommandException(MESSAGE_FAILURE);
+        RequestLimiter requestLimiter = Network.getRequestLimiter();
+
+        // Fetch and parse all feeds concurrently, only reading the items that are new since each was last refreshed.
+        List<CompletableFuture<Optional<FeedUpdate>>> feedFutures = new ArrayList<>();
+        for (Entry feed : feedsToRefresh) {
+            URL feedUrl = feed.getLink().value;
+            Optional<FeedState> lastState = model.getFeedState(feedUrl);
+            feedFutures.add(requestLimiter.submit(feedUrl, () ->
+                    FeedUtil.updateFromFeedUrlAsync(feedUrl, feed.getTags(), lastState)));
+        }
+
+        // Collect the new entries of each feed once every feed has settled.
+        // This is done on the model thread, as it reads from the model.
+        return settled(feedFutures).thenComposeAsync(stage(unused -> {
+            EntryBook newEntries = new EntryBook();
+            Map<URL, FeedState> feedStates = new LinkedHashMap<>();
+            List<String> feedSummaries = new ArrayList<>();
+            int numRefreshed = 0;
+            for (int i = 0; i < numFeeds; i++) {
+                Entry feed = feedsToRefresh.get(i);
+                try {
+                    Optional<FeedUpdate> feedUpdate = feedFutures.get(i).join();
+                    int numNewEntries = 0;
+                    // A feed which has not changed since it was last refreshed has no new entries.
+                    if (feedUpdate.isPresent()) {
+                        for (Entry entry : feedUpdate.get().getNewEntries().getEntryList()) {
+                            if (!model.hasEntry(entry) && !newEntries.hasEntry(entry)) {
+                                newEntries.addEntry(entry);
+                                numNewEntries++;
+                            }
+                        }
+                        feedStates.put(feed.getLink().value, feedUpdate.get().getFeedState());
+                    }
+                    numRefreshed++;
+                    feedSummaries.add(String.format(MESSAGE_FEED_SUCCESS, i + 1, feed.getLink(), numNewEntries));
+                } catch (CompletionException | CancellationException e) {
+                    feedSummaries.add(String.format(MESSAGE_FEED_FAILURE, i + 1, feed.getLink(), describeFailure(e)));
+                }
+            }
+
+            String summary = String.join("\n", feedSummaries);
+            if (numRefreshed == 0) {
+                throw new CommandException(String.format(MESSAGE_FAILURE, summary));
+            }
+
+            // Download the articles of all new entries concurrently, unless they are to be downloaded later.
+            boolean isFetchedOnImport = isFetchedOnImport(model);
+            List<CompletableFuture<Optional<byte[]>>> articleFutures = newEntries.getEntryList().stream()
+                    .map(entry -> isFetchedOnImport
+                            ? fetchArticleOptionalAsync(requestLimiter, entry.getLink().value)
+                            : CompletableFuture.completedFuture(Optional.<byte[]>empty()))
+                    .collect(Collectors.toList());
+
+            // Apply all new entries to the model together, once every download has settled.
+            int numFeedsRefreshed = numRefreshed;
+            return settled(articleFutures).thenApplyAsync(unusedArticles -> {
+                List<Entry> newEntryList = newEntries.getEntryList();
+                Map<Entry, Optional<byte[]>> entriesToAdd = new LinkedHashMap<>();
+                for (int i = 0; i < newEntryList.size(); i++) {
+                    entriesToAdd.put(newEntryList.get(i), articleFutures.get(i).join());
+                }
+                // Entries may have been added while their articles were being fetched.
+                entriesToAdd.keySet().removeIf(model::hasEntry);
+                model.addListEntries(entriesToAdd);
+                // Only remember what was seen of the feeds once their new entries have been added.
+                model.setFeedStates(feedStates);
+
+                if (numFeedsRefreshed == numFeeds) {
+                    return new CommandResult(String.format(
+                        MESSAGE_SUCCESS, numFeedsRefreshed, entriesToAdd.size(), summary));
                 } else {
-                    Entry entryThatCouldNotBeRefreshed = filteredEntryList.get(i);
                     return new CommandResult(String.format(
-                        MESSAGE_PARTIAL_SUCCESS,
-                        i,
-                        i + 1,
-                        entryThatCouldNotBeRefreshed.getLink()));
+                        MESSAGE_PARTIAL_SUCCESS, numFeedsRefreshed, numFeeds, entriesToAdd.size(), summary));
                 }
-            }
-        }
+            }, modelExecutor);
+        }), modelExecutor);
+    }
+
+    /**
+     * Returns a future which completes once every one of {@code futures} has completed, whether or not it failed.
+     */
+    private static CompletableFuture<Void> settled(List<? extends CompletableFuture<?>> futures) {
+        return CompletableFuture.allOf(futures.stream()
+                .map(future -> future.handle((result, throwable) -> null))
+                .toArray(CompletableFuture[]::new));
+    }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, numRefreshed));
+    /**
+     * Returns a short description of why a feed could not be refreshed.
+     */
+    private static String describeFailure(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof CancellationException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof FeedException ? MESSAGE_REASON_NOT_A_FEED : String.valueOf(cause);
     }
 
     @Override
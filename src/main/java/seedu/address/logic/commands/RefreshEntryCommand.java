@@ -2,8 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.net.URL;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -11,12 +14,13 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.entry.Entry;
+import seedu.address.util.HttpValidators;
 import seedu.address.util.Network;
 
 /**
  * Refreshes an entry identified using its displayed index from the entry book.
  */
-public class RefreshEntryCommand extends Command {
+public class RefreshEntryCommand extends AsyncCommand {
 
     public static final String COMMAND_WORD = "refresh";
     public static final String COMMAND_ALIAS = "r";
@@ -27,6 +31,7 @@ public class RefreshEntryCommand extends Command {
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_REFRESH_ENTRY_SUCCESS = "Refreshed Entry: %1$s";
+    public static final String MESSAGE_REFRESH_ENTRY_UNCHANGED = "Entry is already up to date: %1$s";
     public static final String MESSAGE_COULD_NOT_FETCH_ARTICLE =
         "Could not fetch article. Are you connected to the internet?";
 
@@ -37,26 +42,48 @@ public class RefreshEntryCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+    public CompletableFuture<CommandResult> executeAsync(Model model, CommandHistory history,
+            Executor backgroundExecutor, Executor modelExecutor) {
         requireNonNull(model);
 
         List<Entry> filteredEntryList = model.getFilteredEntryList();
 
         if (targetIndex.getZeroBased() >= filteredEntryList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_ENTRY_DISPLAYED_INDEX);
+            return CompletableFuture.failedFuture(new CommandException(Messages.MESSAGE_INVALID_ENTRY_DISPLAYED_INDEX));
         }
 
         Entry targetEntry = filteredEntryList.get(targetIndex.getZeroBased());
+        return refreshAsync(targetEntry, targetIndex, model, backgroundExecutor, modelExecutor);
+    }
 
-        Optional<byte[]> articleContent = Network.fetchArticleOptional(targetEntry.getLink().value);
-        if (articleContent.isPresent()) {
-            model.refreshEntry(filteredEntryList.get(targetIndex.getZeroBased()), articleContent.get());
-        } else {
-            throw new CommandException(MESSAGE_COULD_NOT_FETCH_ARTICLE);
-        }
-
-        return new CommandResult(String.format(MESSAGE_REFRESH_ENTRY_SUCCESS, targetIndex.getOneBased()));
-
+    /**
+     * Refreshes {@code targetEntry}, which is referred to by {@code targetIndex} in the result message.
+     * Must be called on the model thread.
+     */
+    static CompletableFuture<CommandResult> refreshAsync(Entry targetEntry, Index targetIndex, Model model,
+            Executor backgroundExecutor, Executor modelExecutor) {
+        URL url = targetEntry.getLink().value;
+
+        // Only ask for the article if it changed when we still have the copy it would be unchanged from.
+        Optional<HttpValidators> validators = model.hasOfflineCopy(url)
+                ? model.getHttpValidators(url)
+                : Optional.empty();
+        return CompletableFuture.supplyAsync(stage(() -> {
+            try {
+                return Network.fetchArticleIfModified(url, validators);
+            } catch (Exception e) {
+                throw new CommandException(MESSAGE_COULD_NOT_FETCH_ARTICLE);
+            }
+        }), backgroundExecutor).thenApplyAsync(response -> {
+            if (response.isNotModified()) {
+                return new CommandResult(String.format(MESSAGE_REFRESH_ENTRY_UNCHANGED, targetIndex.getOneBased()));
+            }
+
+            model.refreshEntry(targetEntry, response.getContent());
+            model.setHttpValidators(url, response.getValidators());
+
+            return new CommandResult(String.format(MESSAGE_REFRESH_ENTRY_SUCCESS, targetIndex.getOneBased()));
+        }, modelExecutor);
     }
 
     @Override
@@ -3,24 +3,32 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.net.URL;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import com.rometools.rome.io.FeedException;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FeedUpdate;
 import seedu.address.commons.util.FeedUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.EntryBook;
 import seedu.address.model.Model;
 import seedu.address.model.entry.Entry;
+import seedu.address.util.ConditionalResponse;
+import seedu.address.util.FeedState;
+import seedu.address.util.HttpValidators;
 import seedu.address.util.Network;
 
 /**
  * Refreshes from a feed identified using its displayed index.
  */
-public class RefreshFeedCommand extends Command {
+public class RefreshFeedCommand extends AsyncCommand {
     public static final String COMMAND_WORD = "refresh";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
@@ -29,6 +37,7 @@ public class RefreshFeedCommand extends Command {
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_REFRESH_FEED_SUCCESS = "Refreshed feed: %1$s";
+    public static final String MESSAGE_REFRESH_FEED_UNCHANGED = "Feed has not changed since last refreshed: %1$s";
     public static final String MESSAGE_FAILURE_NET = "Refresh failed:\n%s";
     public static final String MESSAGE_FAILURE_XML = "Failed to parse resource at %s. Is resource outdated?";
 
@@ -39,34 +48,64 @@ public class RefreshFeedCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+    public CompletableFuture<CommandResult> executeAsync(Model model, CommandHistory history,
+            Executor backgroundExecutor, Executor modelExecutor) {
         requireNonNull(model);
         List<Entry> lastShownList = model.getFilteredEntryList();
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_ENTRY_DISPLAYED_INDEX);
+            return CompletableFuture.failedFuture(new CommandException(Messages.MESSAGE_INVALID_ENTRY_DISPLAYED_INDEX));
         }
 
         Entry feedToRefresh = lastShownList.get(targetIndex.getZeroBased());
 
-        // can't dedup this
-        EntryBook feedEntries;
-        try {
-            // we ensure the link is a feed here
-            feedEntries = FeedUtil.fromFeedUrl(feedToRefresh.getLink().value, feedToRefresh.getTags());
-        } catch (IOException e) {
-            throw new CommandException(String.format(MESSAGE_FAILURE_NET, e));
-        } catch (FeedException e) {
-            throw new CommandException(String.format(MESSAGE_FAILURE_XML, feedToRefresh.getLink().value));
-        }
-
-
-        feedEntries.getEntryList().stream()
-                .filter(entry -> !model.hasEntry(entry))
-                .forEach(entry -> model.addListEntry(entry, Network.fetchArticleOptional(entry.getLink().value)));
-
+        URL feedUrl = feedToRefresh.getLink().value;
+        Optional<HttpValidators> validators = model.getHttpValidators(feedUrl);
+        Optional<FeedState> lastState = model.getFeedState(feedUrl);
 
-        return new CommandResult(String.format(MESSAGE_REFRESH_FEED_SUCCESS, feedToRefresh));
+        // can't dedup this
+        return CompletableFuture.supplyAsync(stage(() -> {
+            try {
+                ConditionalResponse response = Network.fetchIfModified(feedUrl, validators);
+                if (response.isNotModified()) {
+                    return new FetchedFeed(response, Optional.empty());
+                }
+                // we ensure the link is a feed here
+                return new FetchedFeed(response, FeedUtil.updateFromFeedContent(response.getContent(), feedUrl,
+                        feedToRefresh.getTags(), lastState));
+            } catch (IOException e) {
+                throw new CommandException(String.format(MESSAGE_FAILURE_NET, e));
+            } catch (FeedException e) {
+                throw new CommandException(String.format(MESSAGE_FAILURE_XML, feedUrl));
+            }
+        }), backgroundExecutor).thenComposeAsync(fetchedFeed -> {
+            ConditionalResponse response = fetchedFeed.response;
+            if (response.isNotModified()) {
+                // Every entry of an unchanged feed was already imported when it was last fetched.
+                return CompletableFuture.completedFuture(
+                        new CommandResult(String.format(MESSAGE_REFRESH_FEED_UNCHANGED, feedToRefresh)));
+            }
+            if (!fetchedFeed.feedUpdate.isPresent()) {
+                // The server sent the feed in full, but it is the same as when it was last refreshed.
+                model.setHttpValidators(feedUrl, response.getValidators());
+                return CompletableFuture.completedFuture(
+                        new CommandResult(String.format(MESSAGE_REFRESH_FEED_UNCHANGED, feedToRefresh)));
+            }
+
+            FeedUpdate feedUpdate = fetchedFeed.feedUpdate.get();
+            List<Entry> newEntries = feedUpdate.getNewEntries().getEntryList().stream()
+                    .filter(entry -> !model.hasEntry(entry))
+                    .collect(Collectors.toList());
+            return fetchImportedArticlesAsync(model, newEntries).thenApplyAsync(entriesToAdd -> {
+                // entries may have been added while their articles were being fetched
+                entriesToAdd.keySet().removeIf(model::hasEntry);
+                model.addListEntries(entriesToAdd);
+                model.setHttpValidators(feedUrl, response.getValidators());
+                model.setFeedState(feedUrl, Optional.of(feedUpdate.getFeedState()));
+
+                return new CommandResult(String.format(MESSAGE_REFRESH_FEED_SUCCESS, feedToRefresh));
+            }, modelExecutor);
+        }, modelExecutor);
     }
 
     @Override
@@ -75,4 +114,17 @@ public class RefreshFeedCommand extends Command {
                 || (other instanceof RefreshFeedCommand // instanceof handles nulls
                 && targetIndex.equals(((RefreshFeedCommand) other).targetIndex)); // state check
     }
+
+    /**
+     * The response to a request for a feed, and the update parsed from it if the feed was sent.
+     */
+    private static class FetchedFeed {
+        private final ConditionalResponse response;
+        private final Optional<FeedUpdate> feedUpdate;
+
+        FetchedFeed(ConditionalResponse response, Optional<FeedUpdate> feedUpdate) {
+            this.response = response;
+            this.feedUpdate = feedUpdate;
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ENTRIES;
+
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.EntryBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelContext;
+import seedu.address.model.entry.Entry;
+
+/**
+ * Ranks the displayed entries by how well their title, description and tags match the given keywords,
+ * and shows the best matches in order of relevance.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    /** Maximum number of entries shown, so that ranking a large entry book stays cheap. */
+    public static final int MAX_RESULTS = 50;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Ranks the displayed entries by relevance to the keywords and shows the "
+            + MAX_RESULTS + " best matches, most relevant first.\n"
+            + "Matches in titles count the most, then tags, then descriptions.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " garbage collection tuning";
+    public static final String MESSAGE_SUCCESS = "%1$d entries ranked by relevance to: %2$s";
+
+    private final String keywords;
+
+    public SearchCommand(String keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+
+        List<Entry> rankedEntries = model.getTopRankedEntries(keywords, MAX_RESULTS);
+        EntryBook toBeDisplayed = new EntryBook();
+        toBeDisplayed.setEntries(rankedEntries);
+
+        model.setSearchEntryBook(toBeDisplayed);
+        model.setContext(ModelContext.CONTEXT_SEARCH);
+        model.updateFilteredEntryList(PREDICATE_SHOW_ALL_ENTRIES);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, rankedEntries.size(), keywords));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchCommand // instanceof handles nulls
+                && keywords.equals(((SearchCommand) other).keywords)); // state check
+    }
+}
@@ -7,8 +7,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
-import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.FeedException;
 
 import seedu.address.commons.util.FeedUtil;
@@ -18,10 +21,9 @@ import seedu.address.model.EntryBook;
 import seedu.address.model.Model;
 import seedu.address.model.entry.Entry;
 import seedu.address.model.entry.util.EntryAutofill;
-import seedu.address.util.Network;
 
 /** Subscribes to a feed and adds the feed to the feedEntryBook. */
-public class SubscribeCommand extends Command {
+public class SubscribeCommand extends AsyncCommand {
     public static final String COMMAND_WORD = "subscribe";
     public static final String COMMAND_ALIAS = "sub";
 
@@ -51,36 +53,48 @@ public class SubscribeCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+    public CompletableFuture<CommandResult> executeAsync(Model model, CommandHistory history,
+            Executor backgroundExecutor, Executor modelExecutor) {
         if (model.hasFeedsEntry(toSubscribe)) {
-            throw new CommandException(MESSAGE_DUPLICATE_FEED);
+            return CompletableFuture.failedFuture(new CommandException(MESSAGE_DUPLICATE_FEED));
         }
 
         URL feedUrl = toSubscribe.getLink().value;
-        SyndFeed feed;
-        try {
-            // we ensure the link is a feed here
-            feed = FeedUtil.fetchAsFeed(feedUrl);
-        } catch (IOException e) {
-            throw new CommandException(String.format(MESSAGE_FAILURE_NET, e));
-        } catch (FeedException e) {
-            throw new CommandException(String.format(MESSAGE_FAILURE_XML, toSubscribe.getLink().value));
-        }
-
-        EntryAutofill autofill = new EntryAutofill(toSubscribe);
-        autofill.extractFromFeedUrl(feedUrl);
-        autofill.extractFromFeed(feed);
-        Entry updatedToSubscribe = autofill.getFilledEntry();
-
-        model.addFeedsEntry(updatedToSubscribe);
-
-        // initial import into reading list
-        EntryBook feedEntries = FeedUtil.serializeToEntryBook(feed, feedUrl.toString(), updatedToSubscribe.getTags());
-        feedEntries.getEntryList().stream()
-                .filter(entry -> !model.hasEntry(entry))
-                .forEach(entry -> model.addListEntry(entry, Network.fetchArticleOptional(entry.getLink().value)));
-
-        return new CommandResult(String.format(MESSAGE_SUCCESS, updatedToSubscribe));
+        return CompletableFuture.supplyAsync(stage(() -> {
+            try {
+                // we ensure the link is a feed here
+                return FeedUtil.fetchAsFeed(feedUrl);
+            } catch (IOException e) {
+                throw new CommandException(String.format(MESSAGE_FAILURE_NET, e));
+            } catch (FeedException e) {
+                throw new CommandException(String.format(MESSAGE_FAILURE_XML, toSubscribe.getLink().value));
+            }
+        }), backgroundExecutor).thenComposeAsync(stage(feed -> {
+            // the feed may have been subscribed to while it was being fetched
+            if (model.hasFeedsEntry(toSubscribe)) {
+                throw new CommandException(MESSAGE_DUPLICATE_FEED);
+            }
+
+            EntryAutofill autofill = new EntryAutofill(toSubscribe);
+            autofill.extractFromFeedUrl(feedUrl);
+            autofill.extractFromFeed(feed);
+            Entry updatedToSubscribe = autofill.getFilledEntry();
+
+            model.addFeedsEntry(updatedToSubscribe);
+
+            // initial import into reading list
+            EntryBook feedEntries = FeedUtil.serializeToEntryBook(feed, feedUrl.toString(),
+                    updatedToSubscribe.getTags());
+            List<Entry> newEntries = feedEntries.getEntryList().stream()
+                    .filter(entry -> !model.hasEntry(entry))
+                    .collect(Collectors.toList());
+            return fetchImportedArticlesAsync(model, newEntries).thenApplyAsync(entriesToAdd -> {
+                // entries may have been added while their articles were being fetched
+                entriesToAdd.keySet().removeIf(model::hasEntry);
+                model.addListEntries(entriesToAdd);
+                return new CommandResult(String.format(MESSAGE_SUCCESS, updatedToSubscribe));
+            }, modelExecutor);
+        }), modelExecutor);
     }
 
     @Override
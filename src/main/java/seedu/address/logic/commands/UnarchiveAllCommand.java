@@ -2,16 +2,19 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.commands.exceptions.DuplicateEntryCommandException;
 import seedu.address.model.Model;
 import seedu.address.model.entry.Entry;
+import seedu.address.util.Network;
 
 /**
  * Archives all entries in the displayed entry list.
@@ -36,22 +39,24 @@ public class UnarchiveAllCommand extends Command {
         List<Entry> lastShownList = model.getFilteredEntryList();
         logger.info(String.format("%d", lastShownList.size()));
 
-        int numUnarchived = 0;
-        for (int i = lastShownList.size(); i > 0; i--) {
-            Index index = Index.fromOneBased(i);
-            Entry entryToUnarchive = lastShownList.get(index.getZeroBased());
-            Command unarchiveCommand = new UnarchiveCommand(index);
-            try {
-                unarchiveCommand.execute(model, history);
-                numUnarchived++;
-            } catch (DuplicateEntryCommandException dece) {
-                logger.warning("Removing duplicate entry at index " + index.getOneBased()
-                    + " which is already in reading list:\n"
+        Map<Entry, Optional<byte[]>> entriesToUnarchive = new LinkedHashMap<>();
+        List<Entry> duplicateEntries = new ArrayList<>();
+        // Unarchive from the bottom of the list up, as unarchiving one entry at a time used to
+        for (int i = lastShownList.size() - 1; i >= 0; i--) {
+            Entry entryToUnarchive = lastShownList.get(i);
+            if (model.hasListEntry(entryToUnarchive)) {
+                logger.warning("Removing duplicate entry which is already in reading list:\n"
                     + entryToUnarchive);
-                // Ignore duplicate entry errors
-                // Rethrow other errors
+                duplicateEntries.add(entryToUnarchive);
+            } else {
+                entriesToUnarchive.put(entryToUnarchive,
+                    Network.fetchArticleOptional(entryToUnarchive.getLink().value));
             }
         }
+
+        model.unarchiveEntries(entriesToUnarchive);
+        model.deleteArchivesEntries(duplicateEntries);
+        int numUnarchived = entriesToUnarchive.size();
         return new CommandResult(String.format(MESSAGE_SUCCESS, numUnarchived));
     }
 
@@ -19,6 +19,8 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.OfflineModeCommand;
+import seedu.address.logic.commands.PollingCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SubscribeCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ModelContext;
@@ -82,6 +84,9 @@ public abstract class EntryBookParser {
         case FindCommand.COMMAND_ALIAS:
             return new FindCommandParser().parse(arguments);
 
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
         case GoogleNewsCommand.COMMAND_WORD:
         case GoogleNewsCommand.COMMAND_ALIAS:
             return new GoogleNewsCommandParser().parse(arguments);
@@ -101,6 +106,9 @@ public abstract class EntryBookParser {
         case OfflineModeCommand.COMMAND_WORD:
             return new OfflineModeCommandParser().parse(arguments);
 
+        case PollingCommand.COMMAND_WORD:
+            return new PollingCommandParser().parse(arguments);
+
         // the following commands are actually context specific but accessible everywhere for convenience
 
         case AddCommand.COMMAND_WORD:
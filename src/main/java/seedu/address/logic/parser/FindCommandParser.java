@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ALL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LINK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
@@ -36,6 +37,7 @@ public class FindCommandParser implements Parser<FindCommand> {
                 PREFIX_DESCRIPTION,
                 PREFIX_LINK,
                 PREFIX_ALL,
+                PREFIX_CONTENT,
                 PREFIX_TAG);
 
         FindEntryDescriptor findEntryDescriptor = new FindEntryDescriptor();
@@ -52,6 +54,9 @@ public class FindCommandParser implements Parser<FindCommand> {
         if (argMultimap.getValue(PREFIX_ALL).isPresent()) {
             findEntryDescriptor.setAll(ParserUtil.parseKeyphrase(argMultimap.getValue(PREFIX_ALL).get()));
         }
+        if (argMultimap.getValue(PREFIX_CONTENT).isPresent()) {
+            findEntryDescriptor.setContent(ParserUtil.parseKeyphrase(argMultimap.getValue(PREFIX_CONTENT).get()));
+        }
         parseTagsForFind(argMultimap.getAllValues(PREFIX_TAG)).ifPresent(findEntryDescriptor::setTags);
 
         if (!findEntryDescriptor.isAnyFieldEdited()) {
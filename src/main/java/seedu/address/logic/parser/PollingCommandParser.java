@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.PollingCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.PollingMode;
+
+/**
+ * Parses input arguments and creates a new PollingCommand object
+ */
+public class PollingCommandParser implements Parser<PollingCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PollingCommand
+     * and returns a PollingCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PollingCommand parse(String args) throws ParseException {
+
+        requireNonNull(args);
+
+        String trimmedArgs = args.trim();
+        if ("pause".equals(trimmedArgs)) {
+            return new PollingCommand(PollingMode.PAUSED);
+        } else if ("resume".equals(trimmedArgs)) {
+            return new PollingCommand(PollingMode.RUNNING);
+        } else {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, PollingCommand.MESSAGE_USAGE));
+        }
+
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.model;
+
+/**
+ * Enum for the setting of when the articles of entries imported from feeds are downloaded
+ */
+public enum ArticleDownloadPolicy {
+    /** Articles are downloaded as their entries are imported. */
+    EAGER,
+    /** Articles are queued for download as their entries are imported, and downloaded while the app is idle. */
+    LAZY,
+    /** Articles are only downloaded once their entries, or the entries around them, are selected. */
+    ON_SELECT
+}
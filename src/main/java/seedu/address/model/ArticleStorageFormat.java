@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * Enum for the setting of how offline copies of articles are stored on disk
+ */
+public enum ArticleStorageFormat {
+    /** Each article is saved as a plain html file. */
+    PLAIN,
+    /** Each distinct article is saved once, gzip-compressed. Plain articles are migrated on first use. */
+    COMPRESSED
+}
@@ -3,11 +3,13 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.InvalidationListenerManager;
 import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.EntrySearchIndex;
 import seedu.address.model.entry.UniqueEntryList;
 
 /**
@@ -17,6 +19,7 @@ import seedu.address.model.entry.UniqueEntryList;
 public class EntryBook implements ReadOnlyEntryBook {
 
     private final UniqueEntryList entries;
+    private EntrySearchIndex searchIndex; // built on first use, as most entry books are never searched
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
 
     /*
@@ -100,6 +103,20 @@ public class EntryBook implements ReadOnlyEntryBook {
         indicateModified();
     }
 
+    /**
+     * Applies all modifications made by {@code modifications} through the given {@code EntryBookEditor} together.
+     * Observers of the entry list see a single change, and listeners are notified once, after the batch.
+     * If {@code modifications} throws, the entry book is left unchanged and the exception is rethrown.
+     */
+    public void batch(Consumer<EntryBookEditor> modifications) {
+        requireNonNull(modifications);
+        BatchEditor editor = new BatchEditor();
+        entries.batch(() -> modifications.accept(editor));
+        if (editor.isModified) {
+            indicateModified();
+        }
+    }
+
     /**
      * Adds a entry to the address book.
      * The entry must not already exist in the address book.
@@ -126,6 +143,48 @@ public class EntryBook implements ReadOnlyEntryBook {
         invalidationListenerManager.callListeners(this);
     }
 
+    /**
+     * Modifies the entries of this {@code EntryBook} without notifying listeners.
+     */
+    private class BatchEditor implements EntryBookEditor {
+        private boolean isModified = false;
+
+        @Override
+        public boolean hasEntry(Entry entry) {
+            return EntryBook.this.hasEntry(entry);
+        }
+
+        @Override
+        public void addEntry(Entry entry) {
+            entries.add(entry);
+            isModified = true;
+        }
+
+        @Override
+        public void setEntry(Entry target, Entry editedEntry) {
+            requireNonNull(editedEntry);
+            entries.setEntry(target, editedEntry);
+            isModified = true;
+        }
+
+        @Override
+        public void removeEntry(Entry key) {
+            entries.remove(key);
+            isModified = true;
+        }
+    }
+
+    /**
+     * Returns the index of the entries in this {@code EntryBook}, which is kept up to date as they are modified.
+     * The index is built the first time this is called.
+     */
+    public EntrySearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new EntrySearchIndex(entries.asUnmodifiableObservableList());
+        }
+        return searchIndex;
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,36 @@
+package seedu.address.model;
+
+import seedu.address.model.entry.Entry;
+
+/**
+ * Modifies an entry book as part of a batch.
+ * The modifications made through an editor are only reported once the batch is complete.
+ *
+ * @see EntryBook#batch(java.util.function.Consumer)
+ */
+public interface EntryBookEditor {
+
+    /**
+     * Returns true if an entry with the same identity as {@code entry} exists in the entry book.
+     */
+    boolean hasEntry(Entry entry);
+
+    /**
+     * Adds an entry to the entry book.
+     * The entry must not already exist in the entry book.
+     */
+    void addEntry(Entry entry);
+
+    /**
+     * Replaces the given entry {@code target} in the entry book with {@code editedEntry}.
+     * {@code target} must exist in the entry book.
+     * The entry identity of {@code editedEntry} must not be the same as another existing entry in the entry book.
+     */
+    void setEntry(Entry target, Entry editedEntry);
+
+    /**
+     * Removes {@code key} from the entry book.
+     * {@code key} must exist in the entry book.
+     */
+    void removeEntry(Entry key);
+}
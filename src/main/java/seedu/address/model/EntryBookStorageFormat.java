@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * Enum for the setting of how entry books are stored on disk
+ */
+public enum EntryBookStorageFormat {
+    /** The whole entry book is rewritten as a json file on every save. */
+    JSON,
+    /** Modifications are appended to a journal, which is compacted into the json file in the background. */
+    JOURNAL
+}
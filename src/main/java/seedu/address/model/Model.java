@@ -3,16 +3,24 @@ package seedu.address.model;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.EntryContainsSearchTermsPredicate;
 import seedu.address.storage.Storage;
 import seedu.address.ui.ViewMode;
+import seedu.address.util.FeedState;
+import seedu.address.util.HttpValidators;
 
 /**
  * The API of the Model component.
@@ -82,6 +90,37 @@ public interface Model {
      */
     Optional<URL> getOfflineLink(URL url);
 
+    /**
+     * Returns an unmodifiable view of the links of the articles queued for download, in the order they were queued.
+     * Under the {@link ArticleDownloadPolicy#LAZY lazy} download policy, the article of every entry added
+     * to the list entry book without its article content is queued for download.
+     */
+    ObservableSet<URL> getQueuedDownloads();
+
+    /**
+     * Queues the articles at {@code urls} for download, after those already queued.
+     */
+    void queueDownloads(Collection<URL> urls);
+
+    /**
+     * Returns the link of the queued article which should be downloaded next, if any are queued.
+     * The article of the selected entry comes first, then those of the entries nearest to it
+     * in the filtered entry list, within the prefetch window size in the user prefs,
+     * then the rest in the order they were queued.
+     */
+    Optional<URL> getNextQueuedDownload();
+
+    /**
+     * Downloads the article at {@code url} as an offline copy unless there already is one,
+     * and removes it from the queued downloads once done. An article which could not be downloaded
+     * is moved to the back of the queue instead, until it has been tried too many times.
+     * Nothing is done while offline mode is disabled.
+     * Only one download of the same article is made at a time.
+     *
+     * @return future which completes on the model thread with whether there is an offline copy of the article.
+     */
+    CompletableFuture<Boolean> ensureDownloaded(URL url);
+
     /**
      * Sets the user prefs' article data directory path.
      */
@@ -117,6 +156,18 @@ public interface Model {
      */
     void addListEntry(Entry entry, Optional<byte[]> articleContent);
 
+    /**
+     * Adds the given entries, in iteration order, each with its article content, as a single modification.
+     * None of the entries may already exist in the list entry book.
+     */
+    void addListEntries(Map<Entry, Optional<byte[]>> entries);
+
+    /**
+     * Deletes the given entries as a single modification.
+     * The entries must exist in the list entry book.
+     */
+    void deleteListEntries(List<Entry> targets);
+
     /**
      * Replaces the given entry {@code target} with {@code editedEntry}.
      * {@code target} must exist in the list entry book.
@@ -156,6 +207,12 @@ public interface Model {
      */
     void addArchivesEntry(Entry entry);
 
+    /**
+     * Deletes the given entries as a single modification.
+     * The entries must exist in the archives entry book.
+     */
+    void deleteArchivesEntries(List<Entry> targets);
+
     /**
      * Clears the entire archives entry book.
      */
@@ -190,9 +247,37 @@ public interface Model {
     /** Sets the search context entry book. */
     void setSearchEntryBook(ReadOnlyEntryBook searchEntryBook);
 
+    /**
+     * Saves all entry books with modifications which have not been saved yet, and waits for the saves to complete.
+     */
+    void flushPendingSaves();
+
     /** Adds article with {@code articleContent} associated with {@code url}. */
     Optional<Path> addArticle(URL url, byte[] articleContent) throws IOException;
 
+    /** Returns the validators last sent with the resource at {@code url}, if any. */
+    Optional<HttpValidators> getHttpValidators(URL url);
+
+    /**
+     * Sets the validators last sent with the resource at {@code url}.
+     * Clears the validators saved earlier if {@code validators} is empty.
+     */
+    void setHttpValidators(URL url, Optional<HttpValidators> validators);
+
+    /** Returns what was seen of the feed at {@code feedUrl} when it was last refreshed, if anything. */
+    Optional<FeedState> getFeedState(URL feedUrl);
+
+    /**
+     * Sets what was seen of the feed at {@code feedUrl} when it was last refreshed.
+     * Clears the state saved earlier if {@code feedState} is empty.
+     */
+    void setFeedState(URL feedUrl, Optional<FeedState> feedState);
+
+    /**
+     * Sets what was seen of each feed in {@code feedStates} when it was last refreshed, all at once.
+     */
+    void setFeedStates(Map<URL, FeedState> feedStates);
+
     /** Returns an unmodifiable view of the filtered entry list */
     ObservableList<Entry> getFilteredEntryList();
 
@@ -202,6 +287,20 @@ public interface Model {
      */
     void updateFilteredEntryList(Predicate<Entry> predicate);
 
+    /**
+     * Updates the filter of the filtered entry list to the entries matching the given {@code predicate},
+     * looking them up in the search index of the displayed entry book instead of testing every entry.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findEntries(EntryContainsSearchTermsPredicate predicate);
+
+    /**
+     * Returns at most {@code limit} entries of the filtered entry list which contain any word of {@code query},
+     * ranked by relevance to {@code query}, most relevant first.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    List<Entry> getTopRankedEntries(String query, int limit);
+
     /**
      * Selected entry in the filtered entry list.
      * null if no entry is selected.
@@ -298,12 +397,24 @@ public interface Model {
      */
     void archiveEntry(Entry target);
 
+    /**
+     * Archives the given entries, modifying each entry book once.
+     * The entries must exist in the entry book.
+     */
+    void archiveEntries(List<Entry> targets);
+
     /**
      * Un-archives the given entry.
      * The entry must exist in the entry book archives.
      */
     void unarchiveEntry(Entry entry, Optional<byte[]> articleContent);
 
+    /**
+     * Un-archives the given entries, each with its article content, modifying each entry book once.
+     * The entries must exist in the entry book archives.
+     */
+    void unarchiveEntries(Map<Entry, Optional<byte[]>> entries);
+
     /**
      * Refreshes the given entry (re-downloads its saved content).
      * The entry must exist in the entry book list.
@@ -319,4 +430,14 @@ public interface Model {
      * Enables or disables offline mode.
      */
     void setOfflineMode(OfflineMode isEnabled);
+
+    /**
+     * Current setting of whether feeds are polled in the background.
+     */
+    ReadOnlyProperty<PollingMode> getPollingModeProperty();
+
+    /**
+     * Runs or pauses the background polling of feeds.
+     */
+    void setPollingMode(PollingMode pollingMode);
 }
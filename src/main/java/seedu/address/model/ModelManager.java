@@ -7,26 +7,40 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.application.Platform;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.property.SimpleListProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ListChangeListener;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.EntryContainsSearchTermsPredicate;
 import seedu.address.model.entry.exceptions.EntryNotFoundException;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindEntryBookSaver;
 import seedu.address.ui.ViewMode;
+import seedu.address.util.FeedState;
+import seedu.address.util.HttpValidators;
 import seedu.address.util.Network;
 
 /**
@@ -34,6 +48,8 @@ import seedu.address.util.Network;
  */
 public class ModelManager implements Model {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    /** How many times a queued article is tried before it is removed from the queued downloads. */
+    public static final int MAX_DOWNLOAD_ATTEMPTS = 3;
 
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
@@ -43,6 +59,7 @@ public class ModelManager implements Model {
     private final EntryBook feedsEntryBook;
     private final UserPrefs userPrefs;
 
+    private EntryBook displayedEntryBook;
     private final SimpleListProperty<Entry> displayedEntryList;
     private final FilteredList<Entry> filteredEntries;
     private final SimpleObjectProperty<Entry> selectedEntry = new SimpleObjectProperty<>();
@@ -51,7 +68,15 @@ public class ModelManager implements Model {
     private final SimpleObjectProperty<CommandResult> commandResult = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<ModelContext> context = new SimpleObjectProperty<>(ModelContext.CONTEXT_LIST);
     private final SimpleObjectProperty<OfflineMode> offlineMode = new SimpleObjectProperty<>(OfflineMode.ENABLED);
+    private final SimpleObjectProperty<PollingMode> pollingMode = new SimpleObjectProperty<>(PollingMode.RUNNING);
+    private final ObservableSet<URL> queuedDownloads = FXCollections.observableSet(new LinkedHashSet<>());
+    // One view for all callers, as listeners added to a view are lost once the view is garbage collected
+    private final ObservableSet<URL> unmodifiableQueuedDownloads =
+            FXCollections.unmodifiableObservableSet(queuedDownloads);
+    private final Map<URL, CompletableFuture<Boolean>> downloadsInProgress = new HashMap<>();
+    private final Map<URL, Integer> numFailedDownloads = new HashMap<>();
     private final Storage storage;
+    private final WriteBehindEntryBookSaver entryBookSaver;
 
     /**
      * Initializes a ModelManager with the given listEntryBook, userPrefs, and storage
@@ -71,7 +96,10 @@ public class ModelManager implements Model {
         this.feedsEntryBook = new EntryBook(feedEntryBook);
         this.userPrefs = new UserPrefs(userPrefs);
         this.storage = storage;
+        this.entryBookSaver = new WriteBehindEntryBookSaver(this.userPrefs.getEntryBookSaveDelayMillis(),
+                Platform::runLater, this::handleSaveFailure);
 
+        displayedEntryBook = this.listEntryBook;
         displayedEntryList = new SimpleListProperty<>(this.listEntryBook.getEntryList());
         filteredEntries = new FilteredList<>(this.displayedEntryList);
 
@@ -168,7 +196,7 @@ public class ModelManager implements Model {
 
     @Override
     public boolean hasOfflineCopy(URL url) {
-        return getOfflineLink(url).isPresent();
+        return isOfflineModeEnabled() && storage.hasArticle(url);
     }
 
     @Override
@@ -186,6 +214,109 @@ public class ModelManager implements Model {
         }
     }
 
+    @Override
+    public ObservableSet<URL> getQueuedDownloads() {
+        return unmodifiableQueuedDownloads;
+    }
+
+    @Override
+    public void queueDownloads(Collection<URL> urls) {
+        requireNonNull(urls);
+        queuedDownloads.addAll(urls);
+    }
+
+    @Override
+    public Optional<URL> getNextQueuedDownload() {
+        Entry selected = selectedEntry.getValue();
+        int selectedIndex = selected == null ? -1 : filteredEntries.indexOf(selected);
+        if (selectedIndex >= 0) {
+            for (int distance = 0; distance <= userPrefs.getPrefetchWindowSize(); distance++) {
+                for (int index : new int[] {selectedIndex + distance, selectedIndex - distance}) {
+                    if (index >= 0 && index < filteredEntries.size()
+                            && queuedDownloads.contains(filteredEntries.get(index).getLink().value)) {
+                        return Optional.of(filteredEntries.get(index).getLink().value);
+                    }
+                }
+            }
+        }
+        return queuedDownloads.stream().findFirst();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> ensureDownloaded(URL url) {
+        requireNonNull(url);
+        CompletableFuture<Boolean> downloadInProgress = downloadsInProgress.get(url);
+        if (downloadInProgress != null) {
+            return downloadInProgress;
+        }
+        if (!isOfflineModeEnabled()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        if (hasOfflineCopy(url)) {
+            queuedDownloads.remove(url);
+            return CompletableFuture.completedFuture(true);
+        }
+
+        CompletableFuture<Boolean> download = new CompletableFuture<>();
+        downloadsInProgress.put(url, download);
+        Network.getRequestLimiter().submit(url, () -> Network.fetchArticleAsync(url))
+            // Ensure model updates are run on JavaFX thread
+            .whenComplete((articleContent, throwable) -> Platform.runLater(() -> {
+                downloadsInProgress.remove(url);
+                if (throwable != null) {
+                    logger.info("Failed to auto-download article " + url + ": " + throwable);
+                    requeueFailedDownload(url);
+                    download.complete(false);
+                    return;
+                }
+                try {
+                    logger.info("Auto-downloaded article successfully: " + url);
+                    boolean isDownloaded = addArticle(url, articleContent).isPresent();
+                    queuedDownloads.remove(url);
+                    numFailedDownloads.remove(url);
+                    download.complete(isDownloaded);
+                } catch (IOException ioe) {
+                    // If couldn't save article, try again later
+                    requeueFailedDownload(url);
+                    download.complete(false);
+                }
+            }));
+        return download;
+    }
+
+    /**
+     * Moves the article at {@code url}, which failed to download, to the back of the queued downloads
+     * so that the other queued articles are tried first, unless it has now failed to download
+     * {@link #MAX_DOWNLOAD_ATTEMPTS} times, in which case it is removed from the queue for good.
+     * Does nothing if the article is not queued.
+     */
+    void requeueFailedDownload(URL url) {
+        if (!queuedDownloads.remove(url)) {
+            numFailedDownloads.remove(url);
+            return;
+        }
+        int numFailures = numFailedDownloads.merge(url, 1, Integer::sum);
+        if (numFailures < MAX_DOWNLOAD_ATTEMPTS) {
+            queuedDownloads.add(url);
+        } else {
+            logger.info("Giving up on auto-downloading article " + url + " after " + numFailures + " attempts");
+            numFailedDownloads.remove(url);
+        }
+    }
+
+    /**
+     * Queues the article of {@code entry} for download if it was added without {@code articleContent}
+     * under the lazy download policy, or removes it from the queue if it was added with its article content.
+     */
+    private void queueDownloadOf(Entry entry, Optional<byte[]> articleContent) {
+        URL url = entry.getLink().value;
+        if (articleContent.isPresent()) {
+            queuedDownloads.remove(url);
+        } else if (userPrefs.getArticleDownloadPolicy() == ArticleDownloadPolicy.LAZY) {
+            queuedDownloads.add(url);
+        }
+    }
+
     //=========== EntryBook ================================================================================
 
     @Override
@@ -199,6 +330,10 @@ public class ModelManager implements Model {
     @Override
     public void setListEntryBook(ReadOnlyEntryBook listEntryBook) {
         this.listEntryBook.resetData(listEntryBook);
+        Set<URL> listLinks = this.listEntryBook.getEntryList().stream()
+                .map(entry -> entry.getLink().value)
+                .collect(Collectors.toSet());
+        queuedDownloads.retainAll(listLinks);
     }
 
     @Override
@@ -214,19 +349,38 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteListEntry(Entry target) {
-        try {
-            this.deleteArticle(target.getLink().value);
-        } catch (IOException ioe) {
-            // If there was a problem deleting the file,
-            // do nothing because that either means
-            // the file didn't exist to begin with
-            // or we are in some really deep OS-related system error.
-        }
+        deleteArticleOf(target);
         listEntryBook.removeEntry(target);
     }
 
     @Override
     public void addListEntry(Entry entry, Optional<byte[]> articleContent) {
+        addArticleOf(entry, articleContent);
+        listEntryBook.addEntry(entry);
+        queueDownloadOf(entry, articleContent);
+    }
+
+    @Override
+    public void addListEntries(Map<Entry, Optional<byte[]>> entries) {
+        requireNonNull(entries);
+        // Save the articles only once the entries are added, so a failed batch does not leave them orphaned
+        listEntryBook.batch(editor -> entries.keySet().forEach(editor::addEntry));
+        entries.forEach(this::addArticleOf);
+        entries.forEach(this::queueDownloadOf);
+    }
+
+    @Override
+    public void deleteListEntries(List<Entry> targets) {
+        requireNonNull(targets);
+        // Delete the articles only once the entries are removed, so a failed batch does not lose them
+        listEntryBook.batch(editor -> targets.forEach(editor::removeEntry));
+        targets.forEach(this::deleteArticleOf);
+    }
+
+    /**
+     * Saves {@code articleContent}, if any, as the offline copy of {@code entry}.
+     */
+    private void addArticleOf(Entry entry, Optional<byte[]> articleContent) {
         if (articleContent.isPresent()) {
             try {
                 this.addArticle(entry.getLink().value, articleContent.get());
@@ -234,7 +388,21 @@ public class ModelManager implements Model {
                 // Do nothing if failed to save content to disk
             }
         }
-        listEntryBook.addEntry(entry);
+    }
+
+    /**
+     * Deletes the offline copy of {@code entry}, if any.
+     */
+    private void deleteArticleOf(Entry entry) {
+        queuedDownloads.remove(entry.getLink().value);
+        try {
+            this.deleteArticle(entry.getLink().value);
+        } catch (IOException ioe) {
+            // If there was a problem deleting the file,
+            // do nothing because that either means
+            // the file didn't exist to begin with
+            // or we are in some really deep OS-related system error.
+        }
     }
 
     @Override
@@ -242,15 +410,20 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedEntry);
 
         listEntryBook.setEntry(target, editedEntry);
+        if (queuedDownloads.remove(target.getLink().value)) {
+            queuedDownloads.add(editedEntry.getLink().value);
+        }
     }
 
     @Override
     public void clearListEntryBook() {
         listEntryBook.clear();
+        queuedDownloads.clear();
     }
 
     @Override
     public void refreshEntry(Entry entry, byte[] articleContent) {
+        queuedDownloads.remove(entry.getLink().value);
         try {
             this.addArticle(entry.getLink().value, articleContent);
         } catch (IOException ioe) {
@@ -272,6 +445,16 @@ public class ModelManager implements Model {
         return this.offlineMode.get() == OfflineMode.ENABLED;
     }
 
+    @Override
+    public ReadOnlyProperty<PollingMode> getPollingModeProperty() {
+        return this.pollingMode;
+    }
+
+    @Override
+    public void setPollingMode(PollingMode pollingMode) {
+        this.pollingMode.set(pollingMode);
+    }
+
     //=========== Archives EntryBook ================================================================================
 
     @Override
@@ -300,6 +483,12 @@ public class ModelManager implements Model {
         archivesEntryBook.addEntry(entry);
     }
 
+    @Override
+    public void deleteArchivesEntries(List<Entry> targets) {
+        requireNonNull(targets);
+        archivesEntryBook.batch(editor -> targets.forEach(editor::removeEntry));
+    }
+
     @Override
     public void clearArchivesEntryBook() {
         archivesEntryBook.clear();
@@ -326,6 +515,8 @@ public class ModelManager implements Model {
     @Override
     public void deleteFeedsEntry(Entry target) {
         feedsEntryBook.removeEntry(target);
+        // Resubscribing to the feed later should process all its items again
+        setFeedState(target.getLink().value, Optional.empty());
     }
 
     @Override
@@ -357,6 +548,11 @@ public class ModelManager implements Model {
         storage.deleteArticle(url);
     }
 
+    @Override
+    public void flushPendingSaves() {
+        entryBookSaver.flush();
+    }
+
     @Override
     public Optional<Path> addArticle(URL url, byte[] articleContent) throws IOException {
         if (isOfflineModeEnabled()) {
@@ -366,9 +562,55 @@ public class ModelManager implements Model {
         }
     }
 
+    @Override
+    public Optional<HttpValidators> getHttpValidators(URL url) {
+        return storage.getHttpValidators(url);
+    }
+
+    @Override
+    public void setHttpValidators(URL url, Optional<HttpValidators> validators) {
+        try {
+            if (validators.isPresent()) {
+                storage.saveHttpValidators(url, validators.get());
+            } else {
+                storage.deleteHttpValidators(url);
+            }
+        } catch (IOException ioe) {
+            // Do nothing if failed to save validators, as the resource will just be fetched in full next time
+        }
+    }
+
+    @Override
+    public Optional<FeedState> getFeedState(URL feedUrl) {
+        return storage.getFeedState(feedUrl);
+    }
+
+    @Override
+    public void setFeedState(URL feedUrl, Optional<FeedState> feedState) {
+        try {
+            if (feedState.isPresent()) {
+                storage.saveFeedState(feedUrl, feedState.get());
+            } else {
+                storage.deleteFeedState(feedUrl);
+            }
+        } catch (IOException ioe) {
+            // Do nothing if failed to save the state, as every item of the feed will just be processed next time
+        }
+    }
+
+    @Override
+    public void setFeedStates(Map<URL, FeedState> feedStates) {
+        try {
+            storage.saveFeedStates(feedStates);
+        } catch (IOException ioe) {
+            // Do nothing if failed to save the states, as every item of the feeds will just be processed next time
+        }
+    }
+
     //=========== Displayed Entry List ================================================================================
 
-    private void displayEntryBook(ReadOnlyEntryBook entryBook) {
+    private void displayEntryBook(EntryBook entryBook) {
+        displayedEntryBook = entryBook;
         displayedEntryList.set(entryBook.getEntryList());
     }
 
@@ -389,6 +631,69 @@ public class ModelManager implements Model {
         filteredEntries.setPredicate(predicate);
     }
 
+    @Override
+    public void findEntries(EntryContainsSearchTermsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Entry> matchingEntries = displayedEntryBook.getSearchIndex()
+                .getCandidates(predicate.getFindEntryDescriptor())
+                .stream()
+                .filter(predicate)
+                .collect(Collectors.toSet());
+
+        // Article content is searched in the article text index, which the entry search index knows nothing about.
+        Predicate<Entry> searchPredicate = predicate;
+        Optional<String> content = predicate.getFindEntryDescriptor().getContent();
+        if (content.isPresent()) {
+            Predicate<URL> contentPredicate = storage.getArticleContentPredicate(content.get());
+            Predicate<Entry> entryContentPredicate = entry -> contentPredicate.test(entry.getLink().value);
+            displayedEntryBook.getEntryList().stream()
+                    .filter(entryContentPredicate)
+                    .forEach(matchingEntries::add);
+            searchPredicate = searchPredicate.or(entryContentPredicate);
+        }
+
+        MatchingEntriesPredicate matchingEntriesPredicate =
+                new MatchingEntriesPredicate(matchingEntries, searchPredicate);
+        filteredEntries.setPredicate(matchingEntriesPredicate);
+        matchingEntriesPredicate.setAllEntriesSearched();
+    }
+
+    @Override
+    public List<Entry> getTopRankedEntries(String query, int limit) {
+        requireNonNull(query);
+        Predicate<? super Entry> filter = filteredEntries.getPredicate();
+        return displayedEntryBook.getSearchIndex().getTopRanked(query, limit, filter == null ? entry -> true : filter);
+    }
+
+    /**
+     * Tests entries by membership in a precomputed set of the entries matching {@code predicate}.
+     * Entries are immutable, so an entry that was searched never needs testing again.
+     * Once every entry in the list has been searched, entries later added to the list are tested with
+     * {@code predicate} directly.
+     */
+    private static class MatchingEntriesPredicate implements Predicate<Entry> {
+        private final Set<Entry> matchingEntries;
+        private final Predicate<Entry> predicate;
+        private boolean isAllEntriesSearched = false;
+
+        MatchingEntriesPredicate(Set<Entry> matchingEntries, Predicate<Entry> predicate) {
+            this.matchingEntries = matchingEntries;
+            this.predicate = predicate;
+        }
+
+        void setAllEntriesSearched() {
+            isAllEntriesSearched = true;
+        }
+
+        @Override
+        public boolean test(Entry entry) {
+            if (matchingEntries.contains(entry)) {
+                return true;
+            }
+            return isAllEntriesSearched && predicate.test(entry);
+        }
+    }
+
     //=========== Selected entry ===========================================================================
 
     @Override
@@ -413,24 +718,6 @@ public class ModelManager implements Model {
         }
     }
 
-    /**
-     * Ensures that we have a local copy of the article at the specified url.
-     */
-    private void ensureDownloaded(URL url) {
-        if (isOfflineModeEnabled() && !hasOfflineCopy(url)) {
-            Network.fetchArticleAsync(url)
-                // Ensure model updates are run on JavaFX thread
-                .thenAccept(articleContent -> Platform.runLater(() -> {
-                    try {
-                        logger.info("Auto-downloaded article successfully: " + url);
-                        addArticle(url, articleContent);
-                    } catch (IOException ioe) {
-                        // If couldn't save article, just ignore
-                    }
-                }));
-        }
-    }
-
     //=========== View mode ===========================================================================
 
     @Override
@@ -532,36 +819,32 @@ public class ModelManager implements Model {
      * Ensures that storage is updated whenever list entry book is modified.
      */
     private void saveListEntryBookToStorageListener() {
-        logger.info("Entry book modified, saving to file.");
-        try {
-            storage.saveListEntryBook(listEntryBook);
-        } catch (IOException ioe) {
-            setException(new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe));
-        }
+        logger.fine("Entry book modified, scheduling save to file.");
+        entryBookSaver.markModified(listEntryBook, storage::saveListEntryBook);
     }
 
     /**
      * Ensures that storage is updated whenever archives entry book is modified.
      */
     private void saveArchivesEntryBookToStorageListener() {
-        logger.info("Archives modified, saving to file.");
-        try {
-            storage.saveArchivesEntryBook(archivesEntryBook);
-        } catch (IOException ioe) {
-            setException(new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe));
-        }
+        logger.fine("Archives modified, scheduling save to file.");
+        entryBookSaver.markModified(archivesEntryBook, storage::saveArchivesEntryBook);
     }
 
     /**
-     * Ensures that storage is updated whenever archives entry book is modified.
+     * Ensures that storage is updated whenever feeds entry book is modified.
      */
     private void saveFeedsEntryBookToStorageListener() {
-        logger.info("Feed list modified, saving to file.");
-        try {
-            storage.saveFeedsEntryBook(feedsEntryBook);
-        } catch (IOException ioe) {
-            setException(new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe));
-        }
+        logger.fine("Feed list modified, scheduling save to file.");
+        entryBookSaver.markModified(feedsEntryBook, storage::saveFeedsEntryBook);
+    }
+
+    /**
+     * Propagates an exception thrown while saving an entry book to storage.
+     */
+    private void handleSaveFailure(IOException ioe) {
+        logger.warning("Failed to save entry book: " + ioe);
+        setException(new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe));
     }
 
     @Override
@@ -616,9 +899,29 @@ public class ModelManager implements Model {
         addArchivesEntry(target);
     }
 
+    @Override
+    public void archiveEntries(List<Entry> targets) {
+        requireNonNull(targets);
+        // Nested, so that the archives are rolled back if the entries cannot be deleted from the reading list
+        archivesEntryBook.batch(editor -> {
+            targets.forEach(editor::addEntry);
+            deleteListEntries(targets);
+        });
+    }
+
     @Override
     public void unarchiveEntry(Entry entry, Optional<byte[]> articleContent) {
         deleteArchivesEntry(entry);
         addListEntry(entry, articleContent);
     }
+
+    @Override
+    public void unarchiveEntries(Map<Entry, Optional<byte[]>> entries) {
+        requireNonNull(entries);
+        // Nested, so that the archives are rolled back if the entries cannot be added to the reading list
+        archivesEntryBook.batch(editor -> {
+            entries.keySet().forEach(editor::removeEntry);
+            addListEntries(entries);
+        });
+    }
 }
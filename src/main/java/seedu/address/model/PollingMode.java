@@ -0,0 +1,8 @@
+package seedu.address.model;
+
+/**
+ * Enum for the setting to run/pause the background polling of feeds
+ */
+public enum PollingMode {
+    RUNNING, PAUSED
+}
@@ -15,4 +15,26 @@ public interface ReadOnlyUserPrefs {
 
     Path getArticleDataDirectoryPath();
 
+    int getMaxConcurrentRequests();
+
+    int getMaxConcurrentRequestsPerHost();
+
+    long getEntryBookSaveDelayMillis();
+
+    EntryBookStorageFormat getEntryBookStorageFormat();
+
+    int getEntryBookJournalCompactionThreshold();
+
+    ArticleStorageFormat getArticleStorageFormat();
+
+    ArticleDownloadPolicy getArticleDownloadPolicy();
+
+    int getPrefetchWindowSize();
+
+    int getReaderViewCacheSize();
+
+    Path getReaderViewCacheDirectoryPath();
+
+    boolean isReaderViewCacheSpilledToDisk();
+
 }
@@ -7,17 +7,34 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.util.RequestLimiter;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final long DEFAULT_ENTRY_BOOK_SAVE_DELAY_MILLIS = 500;
+    public static final int DEFAULT_ENTRY_BOOK_JOURNAL_COMPACTION_THRESHOLD = 1000;
+    public static final int DEFAULT_PREFETCH_WINDOW_SIZE = 3;
+    public static final int DEFAULT_READER_VIEW_CACHE_SIZE = 32;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path listEntryBookFilePath = Paths.get("data" , "entrybook.json");
     private Path archivesEntryBookFilePath = Paths.get("data" , "archives.json");
     private Path feedsEntryBookFilePath = Paths.get("data" , "feeds.json");
     private Path articleDataDirectoryPath = Paths.get("data", "articles");
+    private int maxConcurrentRequests = RequestLimiter.DEFAULT_MAX_CONCURRENT_REQUESTS;
+    private int maxConcurrentRequestsPerHost = RequestLimiter.DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST;
+    private long entryBookSaveDelayMillis = DEFAULT_ENTRY_BOOK_SAVE_DELAY_MILLIS;
+    private EntryBookStorageFormat entryBookStorageFormat = EntryBookStorageFormat.JSON;
+    private int entryBookJournalCompactionThreshold = DEFAULT_ENTRY_BOOK_JOURNAL_COMPACTION_THRESHOLD;
+    private ArticleStorageFormat articleStorageFormat = ArticleStorageFormat.PLAIN;
+    private ArticleDownloadPolicy articleDownloadPolicy = ArticleDownloadPolicy.EAGER;
+    private int prefetchWindowSize = DEFAULT_PREFETCH_WINDOW_SIZE;
+    private int readerViewCacheSize = DEFAULT_READER_VIEW_CACHE_SIZE;
+    private Path readerViewCacheDirectoryPath = Paths.get("data", "readerviews");
+    private boolean readerViewCacheSpilledToDisk = true;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,6 +57,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setListEntryBookFilePath(newUserPrefs.getListEntryBookFilePath());
         setArticleDataDirectoryPath(newUserPrefs.getArticleDataDirectoryPath());
+        setMaxConcurrentRequests(newUserPrefs.getMaxConcurrentRequests());
+        setMaxConcurrentRequestsPerHost(newUserPrefs.getMaxConcurrentRequestsPerHost());
+        setEntryBookSaveDelayMillis(newUserPrefs.getEntryBookSaveDelayMillis());
+        setEntryBookStorageFormat(newUserPrefs.getEntryBookStorageFormat());
+        setEntryBookJournalCompactionThreshold(newUserPrefs.getEntryBookJournalCompactionThreshold());
+        setArticleStorageFormat(newUserPrefs.getArticleStorageFormat());
+        setArticleDownloadPolicy(newUserPrefs.getArticleDownloadPolicy());
+        setPrefetchWindowSize(newUserPrefs.getPrefetchWindowSize());
+        setReaderViewCacheSize(newUserPrefs.getReaderViewCacheSize());
+        setReaderViewCacheDirectoryPath(newUserPrefs.getReaderViewCacheDirectoryPath());
+        setReaderViewCacheSpilledToDisk(newUserPrefs.isReaderViewCacheSpilledToDisk());
     }
 
     public GuiSettings getGuiSettings() {
@@ -87,6 +115,98 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.feedsEntryBookFilePath = feedsEntryBookFilePath;
     }
 
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    public int getMaxConcurrentRequestsPerHost() {
+        return maxConcurrentRequestsPerHost;
+    }
+
+    public void setMaxConcurrentRequestsPerHost(int maxConcurrentRequestsPerHost) {
+        this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+    }
+
+    public long getEntryBookSaveDelayMillis() {
+        return entryBookSaveDelayMillis;
+    }
+
+    public void setEntryBookSaveDelayMillis(long entryBookSaveDelayMillis) {
+        this.entryBookSaveDelayMillis = entryBookSaveDelayMillis;
+    }
+
+    public EntryBookStorageFormat getEntryBookStorageFormat() {
+        return entryBookStorageFormat;
+    }
+
+    public void setEntryBookStorageFormat(EntryBookStorageFormat entryBookStorageFormat) {
+        requireNonNull(entryBookStorageFormat);
+        this.entryBookStorageFormat = entryBookStorageFormat;
+    }
+
+    public int getEntryBookJournalCompactionThreshold() {
+        return entryBookJournalCompactionThreshold;
+    }
+
+    public void setEntryBookJournalCompactionThreshold(int entryBookJournalCompactionThreshold) {
+        this.entryBookJournalCompactionThreshold = entryBookJournalCompactionThreshold;
+    }
+
+    public ArticleStorageFormat getArticleStorageFormat() {
+        return articleStorageFormat;
+    }
+
+    public void setArticleStorageFormat(ArticleStorageFormat articleStorageFormat) {
+        requireNonNull(articleStorageFormat);
+        this.articleStorageFormat = articleStorageFormat;
+    }
+
+    public ArticleDownloadPolicy getArticleDownloadPolicy() {
+        return articleDownloadPolicy;
+    }
+
+    public void setArticleDownloadPolicy(ArticleDownloadPolicy articleDownloadPolicy) {
+        requireNonNull(articleDownloadPolicy);
+        this.articleDownloadPolicy = articleDownloadPolicy;
+    }
+
+    public int getPrefetchWindowSize() {
+        return prefetchWindowSize;
+    }
+
+    public void setPrefetchWindowSize(int prefetchWindowSize) {
+        this.prefetchWindowSize = prefetchWindowSize;
+    }
+
+    public int getReaderViewCacheSize() {
+        return readerViewCacheSize;
+    }
+
+    public void setReaderViewCacheSize(int readerViewCacheSize) {
+        this.readerViewCacheSize = readerViewCacheSize;
+    }
+
+    public Path getReaderViewCacheDirectoryPath() {
+        return readerViewCacheDirectoryPath;
+    }
+
+    public void setReaderViewCacheDirectoryPath(Path readerViewCacheDirectoryPath) {
+        requireNonNull(readerViewCacheDirectoryPath);
+        this.readerViewCacheDirectoryPath = readerViewCacheDirectoryPath;
+    }
+
+    public boolean isReaderViewCacheSpilledToDisk() {
+        return readerViewCacheSpilledToDisk;
+    }
+
+    public void setReaderViewCacheSpilledToDisk(boolean readerViewCacheSpilledToDisk) {
+        this.readerViewCacheSpilledToDisk = readerViewCacheSpilledToDisk;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -102,13 +222,27 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 && listEntryBookFilePath.equals(o.listEntryBookFilePath)
                 && articleDataDirectoryPath.equals(o.articleDataDirectoryPath)
                 && archivesEntryBookFilePath.equals(o.archivesEntryBookFilePath)
-                && feedsEntryBookFilePath.equals(o.feedsEntryBookFilePath);
+                && feedsEntryBookFilePath.equals(o.feedsEntryBookFilePath)
+                && maxConcurrentRequests == o.maxConcurrentRequests
+                && maxConcurrentRequestsPerHost == o.maxConcurrentRequestsPerHost
+                && entryBookSaveDelayMillis == o.entryBookSaveDelayMillis
+                && entryBookStorageFormat == o.entryBookStorageFormat
+                && entryBookJournalCompactionThreshold == o.entryBookJournalCompactionThreshold
+                && articleStorageFormat == o.articleStorageFormat
+                && articleDownloadPolicy == o.articleDownloadPolicy
+                && prefetchWindowSize == o.prefetchWindowSize
+                && readerViewCacheSize == o.readerViewCacheSize
+                && readerViewCacheDirectoryPath.equals(o.readerViewCacheDirectoryPath)
+                && readerViewCacheSpilledToDisk == o.readerViewCacheSpilledToDisk;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(guiSettings, listEntryBookFilePath, articleDataDirectoryPath, archivesEntryBookFilePath,
-                feedsEntryBookFilePath);
+                feedsEntryBookFilePath, maxConcurrentRequests, maxConcurrentRequestsPerHost, entryBookSaveDelayMillis,
+                entryBookStorageFormat, entryBookJournalCompactionThreshold, articleStorageFormat,
+                articleDownloadPolicy, prefetchWindowSize, readerViewCacheSize, readerViewCacheDirectoryPath,
+                readerViewCacheSpilledToDisk);
     }
 
     @Override
@@ -116,7 +250,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return "Gui Settings : " + guiSettings
                 + "\nEntrybook data file location : " + listEntryBookFilePath
                 + "\nArchives data file location : " + archivesEntryBookFilePath
-                + "\nFeeds data file location : " + feedsEntryBookFilePath;
+                + "\nFeeds data file location : " + feedsEntryBookFilePath
+                + "\nMax concurrent requests : " + maxConcurrentRequests
+                + "\nMax concurrent requests per host : " + maxConcurrentRequestsPerHost
+                + "\nEntry book save delay (ms) : " + entryBookSaveDelayMillis
+                + "\nEntry book storage format : " + entryBookStorageFormat
+                + "\nEntry book journal compaction threshold : " + entryBookJournalCompactionThreshold
+                + "\nArticle storage format : " + articleStorageFormat
+                + "\nArticle download policy : " + articleDownloadPolicy
+                + "\nPrefetch window size : " + prefetchWindowSize
+                + "\nReader view cache size : " + readerViewCacheSize
+                + "\nReader view cache location : " + readerViewCacheDirectoryPath
+                + "\nReader view cache spilled to disk : " + readerViewCacheSpilledToDisk;
     }
 
 }
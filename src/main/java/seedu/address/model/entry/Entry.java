@@ -1,6 +1,7 @@
 package seedu.address.model.entry;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.StringUtil.foldCase;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -23,6 +24,12 @@ public class Entry {
     private final Description description;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Case-folded fields for searching, computed when first searched.
+    // Racy initialisation is benign: the fields are immutable, and a race only folds a field twice.
+    private String foldedTitle;
+    private String foldedDescription;
+    private String foldedLink;
+
     /**
      * Every field must be present and not null.
      */
@@ -46,6 +53,49 @@ public class Entry {
         return link;
     }
 
+    /**
+     * Returns the title case-folded with {@link seedu.address.commons.util.StringUtil#foldCase(String)}.
+     */
+    public String getFoldedTitle() {
+        String folded = foldedTitle;
+        if (folded == null) {
+            folded = foldCase(title.fullTitle);
+            foldedTitle = folded;
+        }
+        return folded;
+    }
+
+    /**
+     * Returns the description case-folded with {@link seedu.address.commons.util.StringUtil#foldCase(String)}.
+     */
+    public String getFoldedDescription() {
+        String folded = foldedDescription;
+        if (folded == null) {
+            folded = foldCase(description.value);
+            foldedDescription = folded;
+        }
+        return folded;
+    }
+
+    /**
+     * Returns the link case-folded with {@link seedu.address.commons.util.StringUtil#foldCase(String)}.
+     */
+    public String getFoldedLink() {
+        String folded = foldedLink;
+        if (folded == null) {
+            folded = foldCase(link.value.toString());
+            foldedLink = folded;
+        }
+        return folded;
+    }
+
+    /**
+     * Returns true if the entry has {@code tag}.
+     */
+    public boolean hasTag(Tag tag) {
+        return tags.contains(tag);
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
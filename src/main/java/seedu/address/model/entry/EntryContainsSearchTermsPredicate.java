@@ -2,57 +2,79 @@ package seedu.address.model.entry;
 
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.PhraseMatcher;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindCommand.FindEntryDescriptor;
 import seedu.address.model.tag.Tag;
 
 /**
- * Tests that a {@code Entry}'s {@code Title} matches any of the keywords given.
+ * Tests that a {@code Entry}'s fields match any of the search terms given.
+ *
+ * The search terms are compiled when the predicate is created, so testing an entry allocates nothing:
+ * phrases are matched against the case-folded fields cached by each entry.
  */
 public class EntryContainsSearchTermsPredicate implements Predicate<Entry> {
+    private static final Tag[] NO_TAGS = new Tag[0];
+
     private final FindCommand.FindEntryDescriptor findEntryDescriptor;
 
+    // Compiled search terms. A null matcher matches nothing.
+    private final Tag[] tags;
+    private final PhraseMatcher title;
+    private final PhraseMatcher link;
+    private final PhraseMatcher description;
+    private final PhraseMatcher all;
+    private final Tag allTag;
+
     public EntryContainsSearchTermsPredicate(FindEntryDescriptor findEntryDescriptor) {
-        this.findEntryDescriptor = findEntryDescriptor;
+        // Copied, so that the compiled search terms cannot go out of date
+        this.findEntryDescriptor = new FindEntryDescriptor(findEntryDescriptor);
+
+        tags = findEntryDescriptor.getTags().map(tagSet -> tagSet.toArray(NO_TAGS)).orElse(NO_TAGS);
+        title = compile(findEntryDescriptor.getTitle().orElse(null));
+        link = compile(findEntryDescriptor.getLink().orElse(null));
+        description = compile(findEntryDescriptor.getDescription().orElse(null));
+        all = compile(findEntryDescriptor.getAll().orElse(null));
+        allTag = findEntryDescriptor.getAll().filter(Tag::isValidTagName).map(Tag::new).orElse(null);
+    }
+
+    public FindEntryDescriptor getFindEntryDescriptor() {
+        return findEntryDescriptor;
+    }
+
+    /**
+     * Returns a matcher for {@code phrase}, or null if there is no phrase to match.
+     */
+    private static PhraseMatcher compile(String phrase) {
+        if (phrase == null || phrase.trim().isEmpty()) {
+            return null;
+        }
+        return new PhraseMatcher(phrase);
     }
 
     @Override
     public boolean test(Entry entry) {
-        boolean result = false;
-
-        if (findEntryDescriptor.getTags().isPresent()) {
-            result = findEntryDescriptor.getTags().get()
-                .stream()
-                .anyMatch((tag) -> entry.getTags().contains(tag));
+        for (Tag tag : tags) {
+            if (entry.hasTag(tag)) {
+                return true;
+            }
         }
-        if (!result && findEntryDescriptor.getTitle().isPresent()) {
-            result = StringUtil.containsPhraseIgnoreCase(
-                entry.getTitle().fullTitle,
-                findEntryDescriptor.getTitle().get());
+        if (title != null && title.isFoundIn(entry.getFoldedTitle())) {
+            return true;
         }
-        if (!result && findEntryDescriptor.getLink().isPresent()) {
-            result = StringUtil.containsPhraseIgnoreCase(
-                entry.getLink().value.toString(),
-                findEntryDescriptor.getLink().get());
+        if (link != null && link.isFoundIn(entry.getFoldedLink())) {
+            return true;
         }
-        if (!result && findEntryDescriptor.getDescription().isPresent()) {
-            result = StringUtil.containsPhraseIgnoreCase(
-                entry.getDescription().value,
-                findEntryDescriptor.getDescription().get());
+        if (description != null && description.isFoundIn(entry.getFoldedDescription())) {
+            return true;
         }
-        if (!result && findEntryDescriptor.getAll().isPresent()) {
-            result = result
-                || entry.getTags().contains(new Tag(findEntryDescriptor.getAll().get()))
-                || StringUtil.containsPhraseIgnoreCase(
-                        entry.getTitle().fullTitle, findEntryDescriptor.getAll().get())
-                || StringUtil.containsPhraseIgnoreCase(
-                        entry.getDescription().value, findEntryDescriptor.getAll().get())
-                || StringUtil.containsPhraseIgnoreCase(
-                        entry.getLink().value.toString(), findEntryDescriptor.getAll().get());
+        if (allTag != null && entry.hasTag(allTag)) {
+            return true;
         }
-
-        return result;
+        return all != null
+                && (all.isFoundIn(entry.getFoldedTitle())
+                || all.isFoundIn(entry.getFoldedDescription())
+                || all.isFoundIn(entry.getFoldedLink()));
     }
 
     @Override
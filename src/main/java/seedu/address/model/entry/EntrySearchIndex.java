@@ -0,0 +1,360 @@
+package seedu.address.model.entry;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.foldCase;
+import static seedu.address.commons.util.StringUtil.getWordList;
+import static seedu.address.commons.util.StringUtil.getWords;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.logic.commands.FindCommand.FindEntryDescriptor;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index over the title, description, link and tags of the entries in an observable list,
+ * kept up to date as the list changes.
+ *
+ * Text fields are case-folded and split into words, each of which has a posting list of the entries containing it.
+ * A phrase can only occur in a field containing each of its words (its first and last words possibly truncated),
+ * so the posting lists of its words narrow the entries down to a few candidates,
+ * which are then checked against the phrase in full.
+ *
+ * The same posting lists are used to rank entries against a query with BM25,
+ * summing the scores of the title, description and tag words of an entry weighted by per-field boosts.
+ */
+public class EntrySearchIndex {
+
+    /** Controls how quickly repeated occurrences of a word stop adding to the score. */
+    private static final double BM25_K1 = 1.2;
+    /** Controls how much longer fields are penalised for containing a word. */
+    private static final double BM25_B = 0.75;
+    private static final double TITLE_BOOST = 3.0;
+    private static final double TAG_BOOST = 2.0;
+    private static final double DESCRIPTION_BOOST = 1.0;
+
+    /** Higher scores first, with ties broken by title so that rankings are stable. */
+    private static final Comparator<ScoredEntry> RANKING_ORDER =
+            Comparator.comparingDouble((ScoredEntry scoredEntry) -> scoredEntry.score).reversed()
+                    .thenComparing(scoredEntry -> scoredEntry.entry.getTitle().fullTitle);
+
+    private final Set<Entry> entries = new HashSet<>();
+    private final Map<String, Set<Entry>> titleWords = new HashMap<>();
+    private final Map<String, Set<Entry>> descriptionWords = new HashMap<>();
+    private final Map<String, Set<Entry>> linkWords = new HashMap<>();
+    private final Map<String, Set<Entry>> tagWords = new HashMap<>();
+    private final Map<Tag, Set<Entry>> tagPostings = new HashMap<>();
+
+    /** Total number of words in each ranked field over all entries, for the average field lengths. */
+    private long totalTitleLength = 0;
+    private long totalDescriptionLength = 0;
+    private long totalTagLength = 0;
+
+    /**
+     * Creates an index of the entries in {@code entryList}, which is updated whenever {@code entryList} changes.
+     */
+    public EntrySearchIndex(ObservableList<Entry> entryList) {
+        requireNonNull(entryList);
+        entryList.forEach(this::add);
+        entryList.addListener(this::onChanged);
+    }
+
+    /**
+     * Applies the change to the index.
+     * All removals are applied before any additions, so that an entry which is removed and added back
+     * within the same change stays indexed.
+     */
+    private void onChanged(ListChangeListener.Change<? extends Entry> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::remove);
+        }
+        change.reset();
+        while (change.next()) {
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Entry entry) {
+        entries.add(entry);
+        EntryWords words = new EntryWords(entry);
+        addPostings(titleWords, words.title, entry);
+        addPostings(descriptionWords, words.description, entry);
+        addPostings(linkWords, getWords(foldCase(entry.getLink().value.toString())), entry);
+        addPostings(tagWords, words.tags, entry);
+        addPostings(tagPostings, entry.getTags(), entry);
+        totalTitleLength += words.title.size();
+        totalDescriptionLength += words.description.size();
+        totalTagLength += words.tags.size();
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry);
+        EntryWords words = new EntryWords(entry);
+        removePostings(titleWords, words.title, entry);
+        removePostings(descriptionWords, words.description, entry);
+        removePostings(linkWords, getWords(foldCase(entry.getLink().value.toString())), entry);
+        removePostings(tagWords, words.tags, entry);
+        removePostings(tagPostings, entry.getTags(), entry);
+        totalTitleLength -= words.title.size();
+        totalDescriptionLength -= words.description.size();
+        totalTagLength -= words.tags.size();
+    }
+
+    private static <K> void addPostings(Map<K, Set<Entry>> postings, Collection<K> keys, Entry entry) {
+        for (K key : keys) {
+            postings.computeIfAbsent(key, unused -> new HashSet<>()).add(entry);
+        }
+    }
+
+    private static <K> void removePostings(Map<K, Set<Entry>> postings, Collection<K> keys, Entry entry) {
+        for (K key : keys) {
+            Set<Entry> posting = postings.get(key);
+            if (posting != null) {
+                posting.remove(entry);
+                if (posting.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed entries which may match {@code findEntryDescriptor}.
+     * Every matching entry is returned, but some returned entries may not match.
+     */
+    public Set<Entry> getCandidates(FindEntryDescriptor findEntryDescriptor) {
+        requireNonNull(findEntryDescriptor);
+        Set<Entry> candidates = new HashSet<>();
+
+        findEntryDescriptor.getTags().ifPresent(tags ->
+            tags.forEach(tag -> candidates.addAll(tagPostings.getOrDefault(tag, Collections.emptySet()))));
+        findEntryDescriptor.getTitle().ifPresent(phrase -> candidates.addAll(getCandidates(titleWords, phrase)));
+        findEntryDescriptor.getLink().ifPresent(phrase -> candidates.addAll(getCandidates(linkWords, phrase)));
+        findEntryDescriptor.getDescription().ifPresent(phrase ->
+            candidates.addAll(getCandidates(descriptionWords, phrase)));
+        findEntryDescriptor.getAll().ifPresent(phrase -> {
+            if (Tag.isValidTagName(phrase)) {
+                candidates.addAll(tagPostings.getOrDefault(new Tag(phrase), Collections.emptySet()));
+            }
+            candidates.addAll(getCandidates(titleWords, phrase));
+            candidates.addAll(getCandidates(descriptionWords, phrase));
+            candidates.addAll(getCandidates(linkWords, phrase));
+        });
+
+        return candidates;
+    }
+
+    /**
+     * Returns the entries whose field indexed by {@code words} may contain {@code phrase}.
+     */
+    private Set<Entry> getCandidates(Map<String, Set<Entry>> words, String phrase) {
+        String foldedPhrase = foldCase(phrase.trim());
+        List<WordConstraint> constraints = getWordConstraints(foldedPhrase);
+        if (constraints.isEmpty()) {
+            // A phrase without any letters or digits cannot be narrowed down by words
+            return entries;
+        }
+
+        Set<Entry> candidates = null;
+        for (WordConstraint constraint : constraints) {
+            Set<Entry> constraintCandidates = constraint.getMatchingEntries(words);
+            if (candidates == null) {
+                candidates = new HashSet<>(constraintCandidates);
+            } else {
+                candidates.retainAll(constraintCandidates);
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns at most {@code limit} indexed entries containing any word of {@code query}
+     * in their title, description or tags, most relevant first.
+     * Only the entries containing a query word are scored, and only the best {@code limit} of them are kept
+     * while scoring, so ranking a few matches in a large index stays cheap.
+     */
+    public List<Entry> getTopRanked(String query, int limit) {
+        return getTopRanked(query, limit, entry -> true);
+    }
+
+    /**
+     * Returns at most {@code limit} indexed entries accepted by {@code filter} containing any word of {@code query}
+     * in their title, description or tags, most relevant first.
+     * The relevance of words is still weighed over all the indexed entries, so filtering does not change the order.
+     */
+    public List<Entry> getTopRanked(String query, int limit, Predicate<? super Entry> filter) {
+        requireNonNull(query);
+        requireNonNull(filter);
+        checkArgument(limit > 0);
+
+        Map<String, Double> inverseDocumentFrequencies = new HashMap<>();
+        Set<Entry> candidates = new HashSet<>();
+        for (String queryWord : getWords(foldCase(query))) {
+            Set<Entry> containingEntries = new HashSet<>();
+            containingEntries.addAll(titleWords.getOrDefault(queryWord, Collections.emptySet()));
+            containingEntries.addAll(descriptionWords.getOrDefault(queryWord, Collections.emptySet()));
+            containingEntries.addAll(tagWords.getOrDefault(queryWord, Collections.emptySet()));
+            if (containingEntries.isEmpty()) {
+                continue;
+            }
+            double documentFrequency = containingEntries.size();
+            inverseDocumentFrequencies.put(queryWord,
+                    Math.log(1 + (entries.size() - documentFrequency + 0.5) / (documentFrequency + 0.5)));
+            candidates.addAll(containingEntries);
+        }
+
+        // The head of the queue is the lowest ranked of the best entries so far, and is evicted by better ones
+        PriorityQueue<ScoredEntry> topRanked = new PriorityQueue<>(limit + 1, RANKING_ORDER.reversed());
+        for (Entry candidate : candidates) {
+            if (!filter.test(candidate)) {
+                continue;
+            }
+            topRanked.add(new ScoredEntry(candidate, score(candidate, inverseDocumentFrequencies)));
+            if (topRanked.size() > limit) {
+                topRanked.poll();
+            }
+        }
+
+        return topRanked.stream()
+                .sorted(RANKING_ORDER)
+                .map(scoredEntry -> scoredEntry.entry)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the BM25 score of {@code entry} for the query words with the given inverse document frequencies.
+     */
+    private double score(Entry entry, Map<String, Double> inverseDocumentFrequencies) {
+        EntryWords words = new EntryWords(entry);
+        double score = 0;
+        for (Map.Entry<String, Double> queryWord : inverseDocumentFrequencies.entrySet()) {
+            double fieldScore = TITLE_BOOST * scoreField(words.title, queryWord.getKey(), totalTitleLength)
+                    + DESCRIPTION_BOOST * scoreField(words.description, queryWord.getKey(), totalDescriptionLength)
+                    + TAG_BOOST * scoreField(words.tags, queryWord.getKey(), totalTagLength);
+            score += queryWord.getValue() * fieldScore;
+        }
+        return score;
+    }
+
+    /**
+     * Returns the BM25 term frequency component for {@code queryWord} in a field with the given words,
+     * where {@code totalFieldLength} is the number of words in that field over all entries.
+     */
+    private double scoreField(List<String> fieldWords, String queryWord, long totalFieldLength) {
+        int termFrequency = Collections.frequency(fieldWords, queryWord);
+        if (termFrequency == 0) {
+            return 0;
+        }
+        double averageFieldLength = (double) totalFieldLength / entries.size();
+        double lengthNormalisation = 1 - BM25_B + BM25_B * fieldWords.size() / averageFieldLength;
+        return termFrequency * (BM25_K1 + 1) / (termFrequency + BM25_K1 * lengthNormalisation);
+    }
+
+    /**
+     * Returns the constraints that the words of a text must satisfy for the text to contain {@code foldedPhrase}.
+     * Words of the phrase bounded by other characters in the phrase must be whole words of the text,
+     * while a word at an edge of the phrase may be part of a longer word of the text.
+     */
+    private static List<WordConstraint> getWordConstraints(String foldedPhrase) {
+        List<WordConstraint> constraints = new ArrayList<>();
+        int length = foldedPhrase.length();
+        int start = 0;
+        while (start < length) {
+            if (!Character.isLetterOrDigit(foldedPhrase.charAt(start))) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < length && Character.isLetterOrDigit(foldedPhrase.charAt(end))) {
+                end++;
+            }
+            constraints.add(new WordConstraint(foldedPhrase.substring(start, end), start > 0, end < length));
+            start = end;
+        }
+        return constraints;
+    }
+
+    /**
+     * The case-folded words of the ranked fields of an entry, including repeated words.
+     */
+    private static class EntryWords {
+        private final List<String> title;
+        private final List<String> description;
+        private final List<String> tags;
+
+        EntryWords(Entry entry) {
+            title = getWordList(foldCase(entry.getTitle().fullTitle));
+            description = getWordList(foldCase(entry.getDescription().value));
+            tags = new ArrayList<>();
+            entry.getTags().forEach(tag -> tags.addAll(getWordList(foldCase(tag.tagName))));
+        }
+    }
+
+    /**
+     * An entry with its score for a query.
+     */
+    private static class ScoredEntry {
+        private final Entry entry;
+        private final double score;
+
+        ScoredEntry(Entry entry, double score) {
+            this.entry = entry;
+            this.score = score;
+        }
+    }
+
+    /**
+     * A constraint on a word of a text which contains a phrase.
+     */
+    private static class WordConstraint {
+        private final String word;
+        private final boolean isStartBounded;
+        private final boolean isEndBounded;
+
+        WordConstraint(String word, boolean isStartBounded, boolean isEndBounded) {
+            this.word = word;
+            this.isStartBounded = isStartBounded;
+            this.isEndBounded = isEndBounded;
+        }
+
+        /**
+         * Returns the entries having a word which satisfies this constraint, given the posting lists of all words.
+         */
+        Set<Entry> getMatchingEntries(Map<String, Set<Entry>> words) {
+            if (isStartBounded && isEndBounded) {
+                return words.getOrDefault(word, Collections.emptySet());
+            }
+            Predicate<String> matches;
+            if (isStartBounded) {
+                matches = indexedWord -> indexedWord.startsWith(word);
+            } else if (isEndBounded) {
+                matches = indexedWord -> indexedWord.endsWith(word);
+            } else {
+                matches = indexedWord -> indexedWord.contains(word);
+            }
+            Set<Entry> matchingEntries = new HashSet<>();
+            words.forEach((indexedWord, posting) -> {
+                if (matches.test(indexedWord)) {
+                    matchingEntries.addAll(posting);
+                }
+            });
+            return matchingEntries;
+        }
+    }
+}
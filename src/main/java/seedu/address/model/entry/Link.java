@@ -15,6 +15,9 @@ public class Link {
 
     public final URL value;
 
+    /** Case-folded form of {@code value}, used as the identity of this link. */
+    private final String normalizedValue;
+
     /**
      * Constructs an {@code Link}.
      *
@@ -23,6 +26,7 @@ public class Link {
     public Link(String link) throws MalformedURLException {
         requireNonNull(link);
         value = new URL(link);
+        normalizedValue = normalize(value);
     }
 
     /**
@@ -33,6 +37,19 @@ public class Link {
     public Link(URL link) {
         requireNonNull(link);
         value = link;
+        normalizedValue = normalize(value);
+    }
+
+    private static String normalize(URL url) {
+        return url.toString().toLowerCase();
+    }
+
+    /**
+     * Returns the normalized form of this link.
+     * Two links are equal if and only if their normalized forms are equal.
+     */
+    public String getNormalizedValue() {
+        return normalizedValue;
     }
 
     public static String formExceptionMessage() {
@@ -52,12 +69,13 @@ public class Link {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Link // instanceof handles nulls
-                && value.toString().toLowerCase().equals(((Link) other).value.toString().toLowerCase())); // state check
+                && normalizedValue.equals(((Link) other).normalizedValue)); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // URL#hashCode resolves the host name, and is not consistent with equals
+        return normalizedValue.hashCode();
     }
 
 }
@@ -3,10 +3,14 @@ package seedu.address.model.entry;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.entry.exceptions.DuplicateEntryException;
 import seedu.address.model.entry.exceptions.EntryNotFoundException;
@@ -18,22 +22,32 @@ import seedu.address.model.entry.exceptions.EntryNotFoundException;
  * unique in terms of identity in the UniqueEntryList. However, the removal of a entry uses Entry#equals(Object) so
  * as to ensure that the entry with exactly the same fields will be removed.
  *
+ * Entries are additionally indexed by their {@code Link}, so that identity lookups do not need to scan the list,
+ * and so are their positions in the list, so that an entry can be replaced in constant time.
+ * Removing an entry still shifts the entries after it in the backing list, and their recorded positions are only
+ * corrected when they are next looked up, by renumbering the entries up to the one looked up.
+ * Several modifications can be grouped with {@link #batch(Runnable)}, so that observers see them as a single change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Entry#isSameEntry(Entry)
  */
 public class UniqueEntryList implements Iterable<Entry> {
 
-    private final ObservableList<Entry> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList internalList = new BatchableObservableList();
     private final ObservableList<Entry> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Link, Entry> entriesByLink = new HashMap<>();
+    private final Map<Link, Integer> positionsByLink = new HashMap<>();
+    // Recorded positions from here onwards may have shifted since they were recorded, if it is within the list
+    private int firstStalePosition = Integer.MAX_VALUE;
 
     /**
      * Returns true if the list contains an equivalent entry as the given argument.
      */
     public boolean contains(Entry toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEntry);
+        return entriesByLink.containsKey(toCheck.getLink());
     }
 
     /**
@@ -45,6 +59,8 @@ public class UniqueEntryList implements Iterable<Entry> {
         if (contains(toAdd)) {
             throw new DuplicateEntryException();
         }
+        entriesByLink.put(toAdd.getLink(), toAdd);
+        positionsByLink.put(toAdd.getLink(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -56,8 +72,7 @@ public class UniqueEntryList implements Iterable<Entry> {
     public void setEntry(Entry target, Entry editedEntry) {
         requireAllNonNull(target, editedEntry);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(entriesByLink.get(target.getLink()))) {
             throw new EntryNotFoundException();
         }
 
@@ -65,7 +80,12 @@ public class UniqueEntryList implements Iterable<Entry> {
             throw new DuplicateEntryException();
         }
 
-        internalList.set(index, editedEntry);
+        int position = positionOf(target.getLink());
+        entriesByLink.remove(target.getLink());
+        positionsByLink.remove(target.getLink());
+        entriesByLink.put(editedEntry.getLink(), editedEntry);
+        positionsByLink.put(editedEntry.getLink(), position);
+        internalList.set(position, editedEntry);
     }
 
     /**
@@ -74,14 +94,22 @@ public class UniqueEntryList implements Iterable<Entry> {
      */
     public void remove(Entry toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(entriesByLink.get(toRemove.getLink()))) {
             throw new EntryNotFoundException();
         }
+        int position = positionOf(toRemove.getLink());
+        entriesByLink.remove(toRemove.getLink());
+        positionsByLink.remove(toRemove.getLink());
+        internalList.remove(position);
+        firstStalePosition = Math.min(firstStalePosition, position);
     }
 
     public void setEntries(UniqueEntryList replacement) {
         requireNonNull(replacement);
+        entriesByLink.clear();
+        entriesByLink.putAll(replacement.entriesByLink);
         internalList.setAll(replacement.internalList);
+        recordAllPositions();
     }
 
     /**
@@ -90,11 +118,36 @@ public class UniqueEntryList implements Iterable<Entry> {
      */
     public void setEntries(List<Entry> entries) {
         requireAllNonNull(entries);
-        if (!entriesAreUnique(entries)) {
-            throw new DuplicateEntryException();
-        }
+        Map<Link, Entry> replacementIndex = indexByLink(entries);
 
+        entriesByLink.clear();
+        entriesByLink.putAll(replacementIndex);
         internalList.setAll(entries);
+        recordAllPositions();
+    }
+
+    /**
+     * Runs {@code modifications} against this list, reporting all of them to observers of the list as a single change.
+     * If {@code modifications} throws, the list is restored to its contents before the batch and the exception is
+     * rethrown.
+     */
+    public void batch(Runnable modifications) {
+        requireNonNull(modifications);
+        List<Entry> entriesBeforeBatch = new ArrayList<>(internalList);
+        Map<Link, Entry> indexBeforeBatch = new HashMap<>(entriesByLink);
+
+        internalList.beginBatch();
+        try {
+            modifications.run();
+        } catch (RuntimeException e) {
+            entriesByLink.clear();
+            entriesByLink.putAll(indexBeforeBatch);
+            internalList.setAll(entriesBeforeBatch);
+            recordAllPositions();
+            throw e;
+        } finally {
+            internalList.endBatch();
+        }
     }
 
     /**
@@ -122,16 +175,95 @@ public class UniqueEntryList implements Iterable<Entry> {
     }
 
     /**
-     * Returns true if {@code entries} contains only unique entries.
+     * Returns the position in the backing list of the entry with {@code link}, which must be in the list.
+     * If its recorded position may have shifted, the entries from the first stale position up to it are renumbered.
+     */
+    private int positionOf(Link link) {
+        int recordedPosition = positionsByLink.get(link);
+        if (recordedPosition < firstStalePosition || (recordedPosition < internalList.size()
+                && internalList.get(recordedPosition).getLink().equals(link))) {
+            return recordedPosition;
+        }
+
+        for (int position = firstStalePosition; position < internalList.size(); position++) {
+            Link linkAtPosition = internalList.get(position).getLink();
+            positionsByLink.put(linkAtPosition, position);
+            if (linkAtPosition.equals(link)) {
+                firstStalePosition = position + 1;
+                return position;
+            }
+        }
+        throw new EntryNotFoundException();
+    }
+
+    /**
+     * Records the positions of all the entries in the backing list afresh.
+     */
+    private void recordAllPositions() {
+        positionsByLink.clear();
+        for (int position = 0; position < internalList.size(); position++) {
+            positionsByLink.put(internalList.get(position).getLink(), position);
+        }
+        firstStalePosition = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns {@code entries} indexed by their links.
+     * @throws DuplicateEntryException if {@code entries} contains duplicate entries.
      */
-    private boolean entriesAreUnique(List<Entry> entries) {
-        for (int i = 0; i < entries.size() - 1; i++) {
-            for (int j = i + 1; j < entries.size(); j++) {
-                if (entries.get(i).isSameEntry(entries.get(j))) {
-                    return false;
-                }
+    private static Map<Link, Entry> indexByLink(List<Entry> entries) {
+        Map<Link, Entry> index = new HashMap<>(entries.size() * 2);
+        for (Entry entry : entries) {
+            if (index.putIfAbsent(entry.getLink(), entry) != null) {
+                throw new DuplicateEntryException();
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * An {@code ObservableList} backed by an {@code ArrayList}, whose modifications can be grouped into one change.
+     */
+    private static class BatchableObservableList extends ModifiableObservableListBase<Entry> {
+        private final List<Entry> backingList = new ArrayList<>();
+
+        /**
+         * Starts grouping modifications, until the matching {@link #endBatch()}.
+         */
+        void beginBatch() {
+            beginChange();
+        }
+
+        /**
+         * Stops grouping modifications, and notifies observers of the grouped change if this ends the outermost batch.
+         */
+        void endBatch() {
+            endChange();
+        }
+
+        @Override
+        public Entry get(int index) {
+            return backingList.get(index);
+        }
+
+        @Override
+        public int size() {
+            return backingList.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Entry element) {
+            backingList.add(index, element);
+        }
+
+        @Override
+        protected Entry doSet(int index, Entry element) {
+            return backingList.set(index, element);
+        }
+
+        @Override
+        protected Entry doRemove(int index) {
+            return backingList.remove(index);
+        }
     }
 }
@@ -4,6 +4,9 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.util.HttpValidators;
 
 /**
  * Represents a storage for articles.
@@ -15,6 +18,23 @@ public interface ArticleStorage {
      */
     Path getArticleDataDirectoryPath();
 
+    /**
+     * Scans the articles saved in the data directory, moving any saved in an older layout into the current one,
+     * so that looking up articles later does not touch the disk.
+     * Should be called once at startup, off the UI thread, as otherwise the first lookup has to do it.
+     * @throws IOException if there was any problem reading or moving the saved articles.
+     */
+    void loadArticles() throws IOException;
+
+    /**
+     * Indexes the text of saved articles which are not yet in the text index, such as those saved before it existed.
+     * Articles are indexed in the background as they are saved, so this only needs to be called once at startup,
+     * off the UI thread.
+     * Articles can still be saved and searched while this runs.
+     * @throws IOException if there was any problem reading the saved articles or writing the index.
+     */
+    void indexArticles() throws IOException;
+
     /**
      * Deletes the given article from the storage if it exists.
      * @param url cannot be null.
@@ -35,9 +55,42 @@ public interface ArticleStorage {
      */
     Path getArticlePath(URL url);
 
+    /**
+     * Returns true if an article is saved for the given url.
+     * This is answered from memory, so it is cheap enough to call for every entry.
+     */
+    boolean hasArticle(URL url);
+
     /**
      * Converts a given url to a Path where the article is stored if it exists.
+     * This may have to prepare the file first, so it should only be called when the article is about to be loaded.
      */
     Optional<Path> getOfflineLink(URL url);
 
+    /**
+     * Returns a predicate which tests if the article saved for a url contains every word in {@code words},
+     * ignoring case. The articles are looked up in an index of their text, and are not read.
+     */
+    Predicate<URL> getArticleContentPredicate(String words);
+
+    /**
+     * Returns the validators last saved for the resource at {@code url}, if any.
+     */
+    Optional<HttpValidators> getHttpValidators(URL url);
+
+    /**
+     * Saves the validators sent with the resource at {@code url}, replacing any saved earlier.
+     * @param url cannot be null.
+     * @param validators cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveHttpValidators(URL url, HttpValidators validators) throws IOException;
+
+    /**
+     * Deletes the validators saved for the resource at {@code url} if they exist.
+     * @param url cannot be null.
+     * @throws IOException if there was any problem deleting the file.
+     */
+    void deleteHttpValidators(URL url) throws IOException;
+
 }
@@ -0,0 +1,294 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.StringUtil.foldCase;
+import static seedu.address.commons.util.StringUtil.getWords;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.jsoup.Jsoup;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A persistent inverted index of the words in the text of saved articles, keyed by the hash of their URL.
+ *
+ * The distinct words of each article are saved in a small file in the index directory when the article is added,
+ * and the posting lists of all words are rebuilt in memory from these files when the index is first queried,
+ * so queries never read the articles themselves.
+ * Like the articles, the files are fanned out into subdirectories named by the first characters of the hash.
+ * The index is guarded by its own lock, so it can be loaded and queried without holding up the article storage.
+ */
+public class ArticleTextIndex {
+
+    private static final String WORDS_FILE_EXTENSION = ".words";
+    private static final String WORD_SEPARATOR = " ";
+    /** Removed documents are only compacted away once there are at least this many, and they are the majority. */
+    private static final int MIN_REMOVED_DOCUMENTS_TO_COMPACT = 64;
+
+    private final Logger logger = LogsCenter.getLogger(ArticleTextIndex.class);
+    private final Path indexDirectoryPath;
+
+    /** Id of the document of each indexed article. Null until loaded from disk. */
+    private Map<String, Integer> documentIds;
+    /** Hash of the URL of the article of each document id, or null if the article was removed. */
+    private List<String> documentUrlHashes;
+    private Map<String, PostingList> postings;
+    /** Number of null entries in {@code documentUrlHashes}. */
+    private int removedDocumentCount;
+
+    public ArticleTextIndex(Path indexDirectoryPath) {
+        this.indexDirectoryPath = indexDirectoryPath;
+    }
+
+    public Path getIndexDirectoryPath() {
+        return indexDirectoryPath;
+    }
+
+    /**
+     * Returns true if an article is indexed for the URL with hash {@code urlHash}.
+     */
+    public synchronized boolean hasArticle(String urlHash) throws IOException {
+        ensureLoaded();
+        return documentIds.containsKey(urlHash);
+    }
+
+    /**
+     * Indexes {@code words}, as returned by {@link #extractWords}, as the words of the article of the URL
+     * with hash {@code urlHash}, replacing any article indexed for it before.
+     */
+    public synchronized void addWords(String urlHash, Set<String> words) throws IOException {
+        ensureLoaded();
+        removeFromPostings(urlHash);
+
+        FileUtil.createParentDirsOfFile(getWordsPath(urlHash));
+        FileUtil.writeToFile(getWordsPath(urlHash), String.join(WORD_SEPARATOR, words));
+        addToPostings(urlHash, words);
+        compactIfMostlyRemoved();
+    }
+
+    /**
+     * Removes the article of the URL with hash {@code urlHash} from the index if it is indexed.
+     */
+    public synchronized void deleteArticle(String urlHash) throws IOException {
+        ensureLoaded();
+        removeFromPostings(urlHash);
+        FileUtil.deleteFile(getWordsPath(urlHash));
+        compactIfMostlyRemoved();
+    }
+
+    /**
+     * Returns the hashes of the URLs of the articles containing every word in {@code query}, ignoring case.
+     */
+    public synchronized Set<String> getArticlesContainingWords(String query) throws IOException {
+        ensureLoaded();
+        Set<String> queryWords = getWords(foldCase(query));
+        if (queryWords.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        BitSet matchingDocuments = null;
+        for (String queryWord : queryWords) {
+            PostingList posting = postings.get(queryWord);
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            if (matchingDocuments == null) {
+                matchingDocuments = posting.toBitSet();
+            } else {
+                matchingDocuments.and(posting.toBitSet());
+            }
+        }
+
+        Set<String> matchingUrlHashes = new HashSet<>();
+        matchingDocuments.stream().forEach(documentId -> matchingUrlHashes.add(documentUrlHashes.get(documentId)));
+        return matchingUrlHashes;
+    }
+
+    /**
+     * Returns the distinct words of the visible text of the html {@code content}, ignoring case.
+     * This does not touch the index, so it can be called without holding any lock.
+     */
+    public static Set<String> extractWords(byte[] content) throws IOException {
+        // Let Jsoup detect the charset from the document, as browsers do
+        return getWords(foldCase(Jsoup.parse(new ByteArrayInputStream(content), null, "").text()));
+    }
+
+    /**
+     * Rebuilds the posting lists from the saved words of each article if not yet loaded,
+     * moving any words files saved directly in the index directory into their subdirectories.
+     */
+    private void ensureLoaded() throws IOException {
+        if (documentIds != null) {
+            return;
+        }
+        documentIds = new HashMap<>();
+        documentUrlHashes = new ArrayList<>();
+        postings = new HashMap<>();
+        removedDocumentCount = 0;
+        if (!Files.isDirectory(indexDirectoryPath)) {
+            return;
+        }
+        List<Path> wordsPaths = new ArrayList<>();
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(indexDirectoryPath)) {
+            for (Path path : paths) {
+                if (Files.isDirectory(path)) {
+                    try (DirectoryStream<Path> shardPaths =
+                                 Files.newDirectoryStream(path, "*" + WORDS_FILE_EXTENSION)) {
+                        shardPaths.forEach(wordsPaths::add);
+                    }
+                } else if (path.getFileName().toString().endsWith(WORDS_FILE_EXTENSION)) {
+                    wordsPaths.add(path);
+                }
+            }
+        }
+        for (Path wordsPath : wordsPaths) {
+            String fileName = wordsPath.getFileName().toString();
+            String urlHash = fileName.substring(0, fileName.length() - WORDS_FILE_EXTENSION.length());
+            if (!wordsPath.equals(getWordsPath(urlHash))) {
+                FileUtil.createParentDirsOfFile(getWordsPath(urlHash));
+                Files.move(wordsPath, getWordsPath(urlHash), StandardCopyOption.REPLACE_EXISTING);
+            }
+            String savedWords = FileUtil.readFromFile(getWordsPath(urlHash));
+            Set<String> words = savedWords.isEmpty()
+                    ? Collections.emptySet()
+                    : new HashSet<>(Arrays.asList(savedWords.split(WORD_SEPARATOR)));
+            addToPostings(urlHash, words);
+        }
+        logger.info("Loaded text index of " + documentIds.size() + " articles");
+    }
+
+    private void addToPostings(String urlHash, Set<String> words) {
+        int documentId = documentUrlHashes.size();
+        documentUrlHashes.add(urlHash);
+        documentIds.put(urlHash, documentId);
+        for (String word : words) {
+            postings.computeIfAbsent(word, unused -> new PostingList()).add(documentId);
+        }
+    }
+
+    /**
+     * Removes the article of the URL with hash {@code urlHash} from the posting lists, using its saved words.
+     */
+    private void removeFromPostings(String urlHash) throws IOException {
+        Integer documentId = documentIds.remove(urlHash);
+        if (documentId == null) {
+            return;
+        }
+        documentUrlHashes.set(documentId, null);
+        removedDocumentCount++;
+        Path wordsPath = getWordsPath(urlHash);
+        if (!FileUtil.isFileExists(wordsPath)) {
+            return;
+        }
+        for (String word : FileUtil.readFromFile(wordsPath).split(WORD_SEPARATOR)) {
+            PostingList posting = postings.get(word);
+            if (posting != null) {
+                posting.remove(documentId);
+                if (posting.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Renumbers the documents so that the ids of removed articles are reused, once most of the ids are unused.
+     * Otherwise the ids, and with them the bit sets built by queries, would keep growing as articles are replaced.
+     */
+    private void compactIfMostlyRemoved() {
+        if (removedDocumentCount < MIN_REMOVED_DOCUMENTS_TO_COMPACT
+                || removedDocumentCount * 2 < documentUrlHashes.size()) {
+            return;
+        }
+        int[] newDocumentIds = new int[documentUrlHashes.size()];
+        List<String> compactedUrlHashes = new ArrayList<>(documentUrlHashes.size() - removedDocumentCount);
+        for (int documentId = 0; documentId < documentUrlHashes.size(); documentId++) {
+            String urlHash = documentUrlHashes.get(documentId);
+            if (urlHash == null) {
+                newDocumentIds[documentId] = PostingList.REMOVED;
+                continue;
+            }
+            newDocumentIds[documentId] = compactedUrlHashes.size();
+            documentIds.put(urlHash, compactedUrlHashes.size());
+            compactedUrlHashes.add(urlHash);
+        }
+        postings.values().forEach(posting -> posting.renumber(newDocumentIds));
+        postings.values().removeIf(PostingList::isEmpty);
+        documentUrlHashes = compactedUrlHashes;
+        removedDocumentCount = 0;
+    }
+
+    private Path getWordsPath(String urlHash) {
+        return indexDirectoryPath.resolve(urlHash.substring(0, DataDirectoryArticleStorage.SHARD_PREFIX_LENGTH))
+                .resolve(urlHash + WORDS_FILE_EXTENSION);
+    }
+
+    /**
+     * An unordered list of document ids, stored compactly as an array of primitives.
+     */
+    private static class PostingList {
+        /** Marks a document id which has no new id when renumbering. */
+        static final int REMOVED = -1;
+
+        private int[] documentIds = new int[2];
+        private int size = 0;
+
+        void add(int documentId) {
+            if (size == documentIds.length) {
+                documentIds = Arrays.copyOf(documentIds, size * 2);
+            }
+            documentIds[size++] = documentId;
+        }
+
+        void remove(int documentId) {
+            for (int i = 0; i < size; i++) {
+                if (documentIds[i] == documentId) {
+                    documentIds[i] = documentIds[--size];
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Replaces each document id with {@code newDocumentIds[documentId]}, dropping those which are removed.
+         */
+        void renumber(int[] newDocumentIds) {
+            int newSize = 0;
+            for (int i = 0; i < size; i++) {
+                int newDocumentId = newDocumentIds[documentIds[i]];
+                if (newDocumentId != REMOVED) {
+                    documentIds[newSize++] = newDocumentId;
+                }
+            }
+            size = newSize;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        BitSet toBitSet() {
+            BitSet bitSet = new BitSet();
+            for (int i = 0; i < size; i++) {
+                bitSet.set(documentIds[i]);
+            }
+            return bitSet;
+        }
+    }
+}
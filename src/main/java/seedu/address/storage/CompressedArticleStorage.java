@@ -0,0 +1,366 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A class to access articles stored in the data directory gzip-compressed, and deduplicated by their content.
+ *
+ * Each distinct article body is stored once in the objects directory, named by the hash of its content.
+ * Each URL has a small ref file in the refs directory, named by the hash of the URL, which holds the content hash.
+ * Articles are decompressed into the view directory the first time an offline link to them is requested,
+ * while whether an article is saved at all is answered from the refs held in memory.
+ * As in {@link DataDirectoryArticleStorage}, the files in all three directories are fanned out into subdirectories
+ * named by the first characters of their hash.
+ *
+ * Articles saved in the plain layout of {@link DataDirectoryArticleStorage} are migrated by {@link #loadArticles()}
+ * at startup, or on first access if that was skipped.
+ */
+public class CompressedArticleStorage extends DataDirectoryArticleStorage {
+
+    public static final String OBJECTS_DIRECTORY_NAME = "objects";
+    public static final String REFS_DIRECTORY_NAME = "refs";
+    public static final String VIEW_DIRECTORY_NAME = "view";
+
+    private static final String OBJECT_FILE_EXTENSION = ".html.gz";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private final Logger logger = LogsCenter.getLogger(CompressedArticleStorage.class);
+
+    /** Hash of the content of the article saved for each URL hash. Null until loaded from disk. */
+    private Map<String, String> contentHashes;
+    /** Number of URLs whose article is each stored content hash. */
+    private Map<String, Integer> referenceCounts;
+    /** Hashes of the URLs whose article has been decompressed into the view directory. */
+    private final Set<String> decompressedUrlHashes = new HashSet<>();
+
+    public CompressedArticleStorage(Path directoryPath) {
+        super(directoryPath);
+    }
+
+    @Override
+    public synchronized void loadArticles() throws IOException {
+        ensureLoaded();
+    }
+
+    @Override
+    public synchronized void deleteArticle(URL url) throws IOException {
+        logger.info("Deleting article from disk: " + url);
+        ensureLoaded();
+        String urlHash = hashUrlOrThrow(url);
+
+        FileUtil.deleteFile(getRefPath(urlHash));
+        FileUtil.deleteFile(getViewPath(urlHash));
+        decompressedUrlHashes.remove(urlHash);
+        String contentHash = contentHashes.remove(urlHash);
+        if (contentHash != null) {
+            release(contentHash);
+        }
+        unindexInBackground(urlHash);
+        deleteHttpValidators(url);
+    }
+
+    @Override
+    public synchronized Optional<Path> addArticle(URL url, byte[] articleContent) throws IOException {
+        logger.info("Adding article to disk: " + url + " (" + articleContent.length + " bytes)");
+        ensureLoaded();
+        String urlHash = hashUrlOrThrow(url);
+
+        store(urlHash, articleContent);
+        indexInBackground(urlHash, articleContent);
+        // The decompressed copy, if any, is of the previous content.
+        FileUtil.deleteFile(getViewPath(urlHash));
+        decompressedUrlHashes.remove(urlHash);
+        // Validators saved earlier may not match the new content.
+        deleteHttpValidators(url);
+
+        return Optional.of(getArticlePath(url));
+    }
+
+    /**
+     * Converts a given url to a Path where the decompressed article is served from.
+     */
+    @Override
+    public Path getArticlePath(URL url) {
+        return getViewPath(hashUrlOrThrow(url));
+    }
+
+    @Override
+    public synchronized boolean hasArticle(URL url) {
+        try {
+            ensureLoaded();
+        } catch (IOException ioe) {
+            logger.warning("Could not load saved articles: " + ioe);
+            return false;
+        }
+        return contentHashes.containsKey(hashUrlOrThrow(url));
+    }
+
+    @Override
+    public synchronized Optional<Path> getOfflineLink(URL url) {
+        try {
+            ensureLoaded();
+            String urlHash = hashUrlOrThrow(url);
+            String contentHash = contentHashes.get(urlHash);
+            if (contentHash == null) {
+                return Optional.empty();
+            }
+            Path viewPath = getViewPath(urlHash);
+            if (!decompressedUrlHashes.contains(urlHash)) {
+                writeAtomically(viewPath, readDecompressed(contentHash));
+                decompressedUrlHashes.add(urlHash);
+            }
+            return Optional.of(viewPath);
+        } catch (IOException ioe) {
+            logger.warning("Could not decompress article for " + url + ": " + ioe);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    protected Set<String> getSavedUrlHashes() throws IOException {
+        ensureLoaded();
+        return contentHashes.keySet();
+    }
+
+    @Override
+    protected byte[] readSavedArticle(String urlHash) throws IOException {
+        return readDecompressed(contentHashes.get(urlHash));
+    }
+
+    /**
+     * Returns the number of distinct article bodies stored.
+     */
+    public synchronized int getStoredContentCount() throws IOException {
+        ensureLoaded();
+        return referenceCounts.size();
+    }
+
+    /**
+     * Loads the refs from disk if not yet loaded, migrating any articles saved in the plain layout,
+     * and moving any objects and refs saved directly in their directories into their subdirectories.
+     * Decompressed copies left over from earlier sessions are discarded, so they do not accumulate.
+     */
+    private void ensureLoaded() throws IOException {
+        if (contentHashes != null) {
+            return;
+        }
+        Path objectsDirectory = getArticleDataDirectoryPath().resolve(OBJECTS_DIRECTORY_NAME);
+        Path refsDirectory = getArticleDataDirectoryPath().resolve(REFS_DIRECTORY_NAME);
+        int movedCount = moveIntoShards(objectsDirectory) + moveIntoShards(refsDirectory);
+        if (movedCount > 0) {
+            logger.info("Moved " + movedCount + " compressed articles and refs into subdirectories");
+        }
+
+        Map<String, String> loadedContentHashes = new HashMap<>();
+        Map<String, Integer> loadedReferenceCounts = new HashMap<>();
+        for (Path refPath : listShardedFiles(refsDirectory)) {
+            String contentHash = FileUtil.readFromFile(refPath).trim();
+            if (!FileUtil.isFileExists(getObjectPath(contentHash))) {
+                logger.warning("Ignoring ref to missing article content: " + refPath);
+                continue;
+            }
+            loadedContentHashes.put(refPath.getFileName().toString(), contentHash);
+            loadedReferenceCounts.merge(contentHash, 1, Integer::sum);
+        }
+        contentHashes = loadedContentHashes;
+        referenceCounts = loadedReferenceCounts;
+
+        deleteRecursively(getArticleDataDirectoryPath().resolve(VIEW_DIRECTORY_NAME));
+        decompressedUrlHashes.clear();
+        migrateLegacyArticles();
+    }
+
+    /**
+     * Moves the files saved directly in {@code directory} into their subdirectories.
+     * @return the number of files moved.
+     */
+    private static int moveIntoShards(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        List<Path> flatPaths = new ArrayList<>();
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory)) {
+            for (Path path : paths) {
+                if (Files.isRegularFile(path) && !isTempFile(path)) {
+                    flatPaths.add(path);
+                }
+            }
+        }
+        for (Path flatPath : flatPaths) {
+            Path shardedPath = getShardedPath(directory, flatPath.getFileName().toString());
+            FileUtil.createParentDirsOfFile(shardedPath);
+            Files.move(flatPath, shardedPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return flatPaths.size();
+    }
+
+    /**
+     * Returns the paths of the files saved in the subdirectories of {@code directory},
+     * other than those left over from an interrupted write.
+     */
+    private static List<Path> listShardedFiles(Path directory) throws IOException {
+        List<Path> shardedPaths = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return shardedPaths;
+        }
+        try (DirectoryStream<Path> shards = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path shard : shards) {
+                try (DirectoryStream<Path> paths = Files.newDirectoryStream(shard)) {
+                    for (Path path : paths) {
+                        if (!isTempFile(path)) {
+                            shardedPaths.add(path);
+                        }
+                    }
+                }
+            }
+        }
+        return shardedPaths;
+    }
+
+    /**
+     * Moves articles saved as plain html files by {@link DataDirectoryArticleStorage} into this layout.
+     */
+    private void migrateLegacyArticles() throws IOException {
+        int migratedCount = 0;
+        for (Path legacyPath : listArticleFiles()) {
+            store(getUrlHashOf(legacyPath), Files.readAllBytes(legacyPath));
+            FileUtil.deleteFile(legacyPath);
+            migratedCount++;
+        }
+        if (migratedCount > 0) {
+            logger.info("Migrated " + migratedCount + " articles to compressed storage");
+        }
+    }
+
+    /**
+     * Saves {@code articleContent} as the article of the URL with hash {@code urlHash},
+     * storing the content only if no other URL already has the same content.
+     */
+    private void store(String urlHash, byte[] articleContent) throws IOException {
+        String contentHash;
+        try {
+            contentHash = hash(articleContent);
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new IOException(nsae);
+        }
+
+        Path objectPath = getObjectPath(contentHash);
+        if (!FileUtil.isFileExists(objectPath)) {
+            writeCompressed(objectPath, articleContent);
+        }
+        writeAtomically(getRefPath(urlHash), contentHash.getBytes(StandardCharsets.UTF_8));
+
+        String previousContentHash = contentHashes.put(urlHash, contentHash);
+        if (!contentHash.equals(previousContentHash)) {
+            referenceCounts.merge(contentHash, 1, Integer::sum);
+            if (previousContentHash != null) {
+                release(previousContentHash);
+            }
+        }
+    }
+
+    /**
+     * Drops one reference to the stored content, deleting it once no URL refers to it.
+     */
+    private void release(String contentHash) throws IOException {
+        int remainingReferences = referenceCounts.merge(contentHash, -1, Integer::sum);
+        if (remainingReferences <= 0) {
+            referenceCounts.remove(contentHash);
+            FileUtil.deleteFile(getObjectPath(contentHash));
+        }
+    }
+
+    private Path getObjectPath(String contentHash) {
+        return getShardedPath(getArticleDataDirectoryPath().resolve(OBJECTS_DIRECTORY_NAME),
+                contentHash + OBJECT_FILE_EXTENSION);
+    }
+
+    private Path getRefPath(String urlHash) {
+        return getShardedPath(getArticleDataDirectoryPath().resolve(REFS_DIRECTORY_NAME), urlHash);
+    }
+
+    private Path getViewPath(String urlHash) {
+        return getShardedPath(getArticleDataDirectoryPath().resolve(VIEW_DIRECTORY_NAME), urlHash + ".html");
+    }
+
+    /**
+     * Returns the stored content with the given hash, decompressed.
+     */
+    private byte[] readDecompressed(String contentHash) throws IOException {
+        try (InputStream decompressed = new GZIPInputStream(Files.newInputStream(getObjectPath(contentHash)))) {
+            return decompressed.readAllBytes();
+        }
+    }
+
+    /**
+     * Writes {@code content} gzip-compressed to {@code targetPath}.
+     */
+    private static void writeCompressed(Path targetPath, byte[] content) throws IOException {
+        Path tempPath = getTempPath(targetPath);
+        FileUtil.createParentDirsOfFile(tempPath);
+        try (OutputStream compressed = new GZIPOutputStream(Files.newOutputStream(tempPath))) {
+            compressed.write(content);
+        }
+        Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes {@code content} to {@code targetPath}, so that a crash never leaves it partially written.
+     */
+    private static void writeAtomically(Path targetPath, byte[] content) throws IOException {
+        Path tempPath = getTempPath(targetPath);
+        FileUtil.createParentDirsOfFile(tempPath);
+        FileUtil.writeToFile(tempPath, content);
+        Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Path getTempPath(Path targetPath) {
+        return targetPath.resolveSibling(targetPath.getFileName() + TEMP_FILE_EXTENSION);
+    }
+
+    private static boolean isTempFile(Path path) {
+        return path.getFileName().toString().endsWith(TEMP_FILE_EXTENSION);
+    }
+
+    /**
+     * Deletes {@code directory} and everything in it, if it exists.
+     */
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Path> paths;
+        try (Stream<Path> walkedPaths = Files.walk(directory)) {
+            paths = walkedPaths.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path path : paths) {
+            FileUtil.deleteFile(path);
+        }
+    }
+
+}
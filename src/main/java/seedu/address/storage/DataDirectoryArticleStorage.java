@@ -1,29 +1,83 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import org.apache.commons.codec.binary.Base32;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.util.HttpValidators;
 
 /**
- * A class to access UserPrefs stored in the hard disk as a json file
+ * A class to access articles stored in the data directory as html files, named by the hash of their URL.
+ * Files are fanned out into subdirectories named by the first characters of the hash,
+ * so that no single directory grows too large.
+ *
+ * The text of articles is indexed on a background thread as they are saved and deleted, so that neither the caller
+ * nor the lock of the storage is held up by parsing articles or reading the index.
+ * The index has its own lock, and is never used while holding the lock of the storage.
  */
 public class DataDirectoryArticleStorage implements ArticleStorage {
 
+    /** Name of the directory within the data directory where the validators of fetched resources are saved. */
+    public static final String HTTP_CACHE_DIRECTORY_NAME = "http-cache";
+    /** Number of leading characters of the hash used to name the subdirectory an article is saved in. */
+    public static final int SHARD_PREFIX_LENGTH = 2;
+    /** Name of the directory within the data directory where the index of the text of articles is saved. */
+    public static final String TEXT_INDEX_DIRECTORY_NAME = "text-index";
+
+    private static final String ARTICLE_FILE_EXTENSION = ".html";
+    private static final String ARTICLE_FILE_GLOB = "*" + ARTICLE_FILE_EXTENSION;
+    // Subdirectories are named by a prefix of the base32-encoded hash
+    private static final Pattern SHARD_NAME_PATTERN = Pattern.compile("[A-Z2-7]{" + SHARD_PREFIX_LENGTH + "}");
+    private static final long TEXT_INDEXER_KEEP_ALIVE_SECONDS = 10;
+
     private Path directoryPath;
     private Logger logger = LogsCenter.getLogger(DataDirectoryArticleStorage.class);
 
+    /** Hashes of the URLs which have an article saved. Null until the data directory is scanned. */
+    private Set<String> savedUrlHashes;
+    private final ArticleTextIndex textIndex;
+    /** Runs every change to, and query of, the text index, one at a time in the order they are made. */
+    private final ThreadPoolExecutor textIndexer;
+
     public DataDirectoryArticleStorage(Path directoryPath) {
         this.directoryPath = directoryPath;
+        this.textIndex = new ArticleTextIndex(directoryPath.resolve(TEXT_INDEX_DIRECTORY_NAME));
+        this.textIndexer = new ThreadPoolExecutor(1, 1, TEXT_INDEXER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "Article text indexer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // Let the thread go while there is nothing to index
+        textIndexer.allowCoreThreadTimeOut(true);
     }
 
     @Override
@@ -32,61 +86,351 @@ public class DataDirectoryArticleStorage implements ArticleStorage {
     }
 
     @Override
-    public void deleteArticle(URL url) throws IOException {
+    public synchronized void loadArticles() throws IOException {
+        ensureIndexed();
+    }
+
+    @Override
+    public synchronized void deleteArticle(URL url) throws IOException {
         logger.info("Deleting article from disk: " + url);
+        ensureIndexed();
         Path targetPath = getArticlePath(url);
 
         FileUtil.deleteFile(targetPath);
+        savedUrlHashes.remove(hashUrlOrThrow(url));
+        unindexInBackground(hashUrlOrThrow(url));
+        deleteHttpValidators(url);
     }
 
     @Override
-    public Optional<Path> addArticle(URL url, byte[] articleContent) throws IOException {
+    public synchronized Optional<Path> addArticle(URL url, byte[] articleContent) throws IOException {
         logger.info("Adding article to disk: " + url + " (" + articleContent.length + " bytes)");
+        ensureIndexed();
         Path targetPath = getArticlePath(url);
 
-        // Ensure data directory exists
-        FileUtil.createDirectory(directoryPath);
+        // Ensure shard directory exists
+        FileUtil.createParentDirsOfFile(targetPath);
 
         FileUtil.writeToFile(targetPath, articleContent);
+        savedUrlHashes.add(hashUrlOrThrow(url));
+        indexInBackground(hashUrlOrThrow(url), articleContent);
+        // Validators saved earlier may not match the new content.
+        deleteHttpValidators(url);
 
         return Optional.of(targetPath);
     }
 
     /**
-     * Converts the given url to a filename that will be used to write to.
+     * Scans the data directory for saved articles if not yet scanned,
+     * moving any articles saved directly in the data directory into their subdirectories.
+     * This is done by {@link #loadArticles()} at startup, so it only happens on first access if that was skipped.
+     */
+    private void ensureIndexed() throws IOException {
+        if (savedUrlHashes != null) {
+            return;
+        }
+        Set<String> scannedUrlHashes = new HashSet<>();
+        int movedCount = 0;
+        for (Path articlePath : listArticleFiles()) {
+            String urlHash = getUrlHashOf(articlePath);
+            Path shardedPath = getArticlePath(urlHash);
+            if (!articlePath.equals(shardedPath)) {
+                FileUtil.createParentDirsOfFile(shardedPath);
+                Files.move(articlePath, shardedPath, StandardCopyOption.REPLACE_EXISTING);
+                movedCount++;
+            }
+            scannedUrlHashes.add(urlHash);
+        }
+        if (movedCount > 0) {
+            logger.info("Moved " + movedCount + " articles into subdirectories of " + directoryPath);
+        }
+        savedUrlHashes = scannedUrlHashes;
+    }
+
+    /**
+     * Indexes the text of {@code articleContent}, just saved as the article of the URL with hash {@code urlHash},
+     * in the background. As changes to the index are made in order, the latest content saved is what is indexed.
+     */
+    protected void indexInBackground(String urlHash, byte[] articleContent) {
+        textIndexer.execute(() -> {
+            try {
+                Set<String> words = ArticleTextIndex.extractWords(articleContent);
+                if (isSaved(urlHash)) {
+                    textIndex.addWords(urlHash, words);
+                }
+            } catch (IOException ioe) {
+                logger.warning("Could not index the text of a saved article: " + ioe);
+            }
+        });
+    }
+
+    /**
+     * Removes the article of the URL with hash {@code urlHash}, just deleted, from the text index in the background,
+     * unless it has been saved again by then.
+     */
+    protected void unindexInBackground(String urlHash) {
+        textIndexer.execute(() -> {
+            try {
+                if (!isSaved(urlHash)) {
+                    textIndex.deleteArticle(urlHash);
+                }
+            } catch (IOException ioe) {
+                logger.warning("Could not remove a deleted article from the text index: " + ioe);
+            }
+        });
+    }
+
+    /**
+     * Waits until the articles saved and deleted so far have been indexed.
+     */
+    void awaitTextIndexing() throws IOException {
+        runOnTextIndexer(() -> null);
+    }
+
+    /**
+     * Runs {@code task} on the text indexing thread once the changes to the index made before it are done,
+     * and returns its result.
+     */
+    private <T> T runOnTextIndexer(Callable<T> task) throws IOException {
+        try {
+            return textIndexer.submit(task).get();
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new IOException(ee.getCause());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the text index");
+        }
+    }
+
+    @Override
+    public Predicate<URL> getArticleContentPredicate(String words) {
+        Set<String> matchingUrlHashes;
+        try {
+            // Queried on the indexing thread, so that articles saved just before are found too
+            matchingUrlHashes = runOnTextIndexer(() -> textIndex.getArticlesContainingWords(words));
+        } catch (IOException ioe) {
+            logger.warning("Could not search the text of saved articles: " + ioe);
+            matchingUrlHashes = Collections.emptySet();
+        }
+        Set<String> finalMatchingUrlHashes = matchingUrlHashes;
+        return url -> finalMatchingUrlHashes.contains(hashUrlOrThrow(url));
+    }
+
+    @Override
+    public void indexArticles() throws IOException {
+        int indexedCount = 0;
+        // The index is only read outside the lock, so that saving and looking up articles is not held up
+        for (String urlHash : copySavedUrlHashes()) {
+            if (textIndex.hasArticle(urlHash)) {
+                continue;
+            }
+            Optional<byte[]> articleContent = readArticleIfSaved(urlHash);
+            if (!articleContent.isPresent()) {
+                continue;
+            }
+            Set<String> words = ArticleTextIndex.extractWords(articleContent.get());
+            // Added after any indexing of the article saved again since it was read, so that is not overwritten
+            boolean isIndexed = runOnTextIndexer(() -> {
+                if (!isSaved(urlHash) || textIndex.hasArticle(urlHash)) {
+                    return false;
+                }
+                textIndex.addWords(urlHash, words);
+                return true;
+            });
+            if (isIndexed) {
+                indexedCount++;
+            }
+        }
+        if (indexedCount > 0) {
+            logger.info("Indexed the text of " + indexedCount + " saved articles");
+        }
+    }
+
+    private synchronized List<String> copySavedUrlHashes() throws IOException {
+        return new ArrayList<>(getSavedUrlHashes());
+    }
+
+    private synchronized boolean isSaved(String urlHash) throws IOException {
+        return getSavedUrlHashes().contains(urlHash);
+    }
+
+    /**
+     * Returns the content of the article saved for the URL with hash {@code urlHash},
+     * or empty if it has since been deleted.
+     */
+    private synchronized Optional<byte[]> readArticleIfSaved(String urlHash) throws IOException {
+        if (!getSavedUrlHashes().contains(urlHash)) {
+            return Optional.empty();
+        }
+        return Optional.of(readSavedArticle(urlHash));
+    }
+
+    /**
+     * Returns the hashes of the URLs which have an article saved. Must be called while holding the lock.
      */
-    private String urlToFilename(URL url) throws NoSuchAlgorithmException {
+    protected Set<String> getSavedUrlHashes() throws IOException {
+        ensureIndexed();
+        return savedUrlHashes;
+    }
+
+    /**
+     * Returns the content of the article saved for the URL with hash {@code urlHash}.
+     * Must be called while holding the lock.
+     */
+    protected byte[] readSavedArticle(String urlHash) throws IOException {
+        return Files.readAllBytes(getArticlePath(urlHash));
+    }
+
+    /**
+     * Returns the paths of all article files saved in the data directory,
+     * both in their subdirectories and directly in the data directory.
+     */
+    protected List<Path> listArticleFiles() throws IOException {
+        List<Path> articlePaths = new ArrayList<>();
+        if (!Files.isDirectory(directoryPath)) {
+            return articlePaths;
+        }
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directoryPath)) {
+            for (Path path : paths) {
+                if (Files.isDirectory(path) && SHARD_NAME_PATTERN.matcher(path.getFileName().toString()).matches()) {
+                    try (DirectoryStream<Path> shardPaths = Files.newDirectoryStream(path, ARTICLE_FILE_GLOB)) {
+                        shardPaths.forEach(articlePaths::add);
+                    }
+                } else if (path.getFileName().toString().endsWith(ARTICLE_FILE_EXTENSION)
+                        && Files.isRegularFile(path)) {
+                    articlePaths.add(path);
+                }
+            }
+        }
+        return articlePaths;
+    }
+
+    /**
+     * Returns the hash of the URL whose article is saved at {@code articlePath}.
+     */
+    protected static String getUrlHashOf(Path articlePath) {
+        String fileName = articlePath.getFileName().toString();
+        return fileName.substring(0, fileName.length() - ARTICLE_FILE_EXTENSION.length());
+    }
+
+    /**
+     * Converts the given url to a short name which is unique to it, ignoring case.
+     */
+    protected String hashUrl(URL url) throws NoSuchAlgorithmException {
         String lowercaseUrl = url.toString().toLowerCase();
+        return hash(lowercaseUrl.getBytes(StandardCharsets.UTF_8));
+    }
 
+    /**
+     * Converts the given bytes to a short name which is unique to them.
+     */
+    protected String hash(byte[] bytes) throws NoSuchAlgorithmException {
         try {
-            // We hash the URL with sha-256, truncate it to 128 bits so it's shorter, then encode it in base32
+            // We hash the bytes with sha-256, truncate it to 128 bits so it's shorter, then encode it in base32
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] encodedHash = digest.digest(lowercaseUrl.getBytes(StandardCharsets.UTF_8));
+            byte[] encodedHash = digest.digest(bytes);
             byte[] truncatedHash = new byte[16];
             System.arraycopy(encodedHash, 0, truncatedHash, 0, 16);
             byte[] hashInBase32 = new Base32().encode(truncatedHash);
-            return new String(hashInBase32, StandardCharsets.UTF_8) + ".html";
+            return new String(hashInBase32, StandardCharsets.UTF_8);
         } catch (NoSuchAlgorithmException nsae) {
             logger.severe("SHA-256 hash not supported on this system. Saving links cannot be done");
             throw nsae;
         }
     }
 
-    public Path getArticlePath(URL url) {
+    /**
+     * Converts the given url to a short name which is unique to it, rethrowing a missing hash algorithm unchecked.
+     */
+    protected String hashUrlOrThrow(URL url) {
         try {
-            return directoryPath.resolve(urlToFilename(url));
+            return hashUrl(url);
         } catch (NoSuchAlgorithmException nsae) {
             throw new RuntimeException(nsae);
         }
     }
 
-    public Optional<Path> getOfflineLink(URL url) {
-        Path offlineLink = getArticlePath(url);
-        if (FileUtil.isFileExists(offlineLink)) {
-            return Optional.of(offlineLink);
+    public Path getArticlePath(URL url) {
+        return getArticlePath(hashUrlOrThrow(url));
+    }
+
+    private Path getArticlePath(String urlHash) {
+        return getShardedPath(directoryPath, urlHash + ARTICLE_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the file named {@code fileName}, which starts with a hash,
+     * in the subdirectory of {@code directory} named by the first characters of the hash.
+     */
+    protected static Path getShardedPath(Path directory, String fileName) {
+        return directory.resolve(fileName.substring(0, SHARD_PREFIX_LENGTH)).resolve(fileName);
+    }
+
+    @Override
+    public synchronized boolean hasArticle(URL url) {
+        return getOfflineLink(url).isPresent();
+    }
+
+    /**
+     * Converts a given url to a Path where the article is stored if it exists,
+     * answering from the scanned set of saved articles without touching the disk.
+     */
+    public synchronized Optional<Path> getOfflineLink(URL url) {
+        try {
+            ensureIndexed();
+        } catch (IOException ioe) {
+            // Fall back to checking the disk directly
+            logger.warning("Could not scan saved articles in " + directoryPath + ": " + ioe);
+        }
+        if (savedUrlHashes == null ? FileUtil.isFileExists(getArticlePath(url))
+                : savedUrlHashes.contains(hashUrlOrThrow(url))) {
+            return Optional.of(getArticlePath(url));
         } else {
             return Optional.empty();
         }
     }
 
+    /**
+     * Converts a given url to a Path where the validators of the resource would be stored.
+     */
+    public Path getHttpValidatorsPath(URL url) {
+        try {
+            return directoryPath.resolve(HTTP_CACHE_DIRECTORY_NAME).resolve(hashUrl(url) + ".json");
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new RuntimeException(nsae);
+        }
+    }
+
+    @Override
+    public Optional<HttpValidators> getHttpValidators(URL url) {
+        Path validatorsPath = getHttpValidatorsPath(url);
+        try {
+            Optional<JsonAdaptedHttpValidators> jsonValidators =
+                    JsonUtil.readJsonFile(validatorsPath, JsonAdaptedHttpValidators.class);
+            if (!jsonValidators.isPresent()) {
+                return Optional.empty();
+            }
+            return Optional.of(jsonValidators.get().toModelType());
+        } catch (DataConversionException | IllegalValueException e) {
+            // Fetching the resource in full is always safe, so unreadable validators are ignored.
+            logger.warning("Ignoring unreadable http validators in " + validatorsPath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveHttpValidators(URL url, HttpValidators validators) throws IOException {
+        Path validatorsPath = getHttpValidatorsPath(url);
+        FileUtil.createIfMissing(validatorsPath);
+        JsonUtil.saveJsonFile(new JsonAdaptedHttpValidators(validators), validatorsPath);
+    }
+
+    @Override
+    public void deleteHttpValidators(URL url) throws IOException {
+        FileUtil.deleteFile(getHttpValidatorsPath(url));
+    }
+
 }
@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.util.FeedState;
+
+/**
+ * Represents a storage for the {@link FeedState} of each feed.
+ */
+public interface FeedStateStorage {
+
+    /**
+     * Returns the file path of the feed state data file.
+     */
+    Path getFeedStateFilePath();
+
+    /**
+     * Returns the state last saved for the feed at {@code feedUrl}, if any.
+     */
+    Optional<FeedState> getFeedState(URL feedUrl);
+
+    /**
+     * Saves the state of the feed at {@code feedUrl}, replacing any saved earlier.
+     * @param feedUrl cannot be null.
+     * @param feedState cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveFeedState(URL feedUrl, FeedState feedState) throws IOException;
+
+    /**
+     * Saves the states of all the feeds in {@code feedStates}, replacing any saved earlier,
+     * with a single write rather than one per feed.
+     * @param feedStates cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveFeedStates(Map<URL, FeedState> feedStates) throws IOException;
+
+    /**
+     * Deletes the state saved for the feed at {@code feedUrl} if it exists.
+     * @param feedUrl cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void deleteFeedState(URL feedUrl) throws IOException;
+
+}
@@ -0,0 +1,12 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * Basically a consumer which throws the exception thrown by Storage#save__EntryBook.
+ * Defining this allows us to have method references to Storage::save__EntryBook.
+ */
+@FunctionalInterface
+public interface IoExceptionThrowingConsumer<T> {
+    void accept(T t) throws IOException;
+}
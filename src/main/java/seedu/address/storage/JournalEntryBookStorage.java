@@ -0,0 +1,372 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.EntryBook;
+import seedu.address.model.ReadOnlyEntryBook;
+import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.Link;
+
+/**
+ * A class to access EntryBook data stored as a json snapshot file, in the same format as
+ * {@link JsonEntryBookStorage}, together with a journal of the modifications made since the snapshot.
+ *
+ * Saving an entry book only appends the entries which were added, changed or removed since the last save
+ * to the journal. Once the journal holds enough operations, it is compacted into a fresh snapshot in the background.
+ * Modifications that cannot be expressed as journal operations, such as reordering entries, are saved as a snapshot.
+ */
+public class JournalEntryBookStorage implements EntryBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalEntryBookStorage.class);
+
+    private static final String COMPACTION_FILE_SUFFIX = ".compacting";
+    private static final String LINE_SEPARATOR = "\n";
+
+    /** Shared by all journal storages, so that compactions do not compete with each other for the disk. */
+    private static final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "EntryBook journal compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final StreamingJsonEntryBookStorage snapshotStorage;
+
+    // The fields below are guarded by this.
+    // The entry book as last read or saved, keyed by link in entry book order.
+    private Path savedFilePath;
+    private final Map<Link, Entry> savedEntries = new LinkedHashMap<>();
+    private int numJournalOperations = 0;
+    // Incremented whenever a snapshot replaces the journal, so that compactions started earlier can be discarded.
+    private long snapshotGeneration = 0;
+    private boolean isCompacting = false;
+
+    /**
+     * Constructs a {@code JournalEntryBookStorage}.
+     * @param filePath Location of the snapshot. The journal is kept next to it.
+     * @param compactionThreshold Number of journal operations after which the journal is compacted.
+     */
+    public JournalEntryBookStorage(Path filePath, int compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = new StreamingJsonEntryBookStorage(filePath);
+    }
+
+    public Path getEntryBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal of the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyEntryBook> readEntryBook() throws DataConversionException, IOException {
+        return readEntryBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readEntryBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyEntryBook> readEntryBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyEntryBook> snapshot = snapshotStorage.readEntryBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!snapshot.isPresent() && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        Map<Link, Entry> entries = new LinkedHashMap<>();
+        snapshot.ifPresent(entryBook ->
+                entryBook.getEntryList().forEach(entry -> entries.put(entry.getLink(), entry)));
+        int numOperations = replayJournal(journalFilePath, entries);
+
+        setSaved(filePath, entries.values());
+        numJournalOperations = numOperations;
+
+        EntryBook entryBook = new EntryBook();
+        entryBook.setEntries(new ArrayList<>(entries.values()));
+        return Optional.of(entryBook);
+    }
+
+    /**
+     * Applies the operations in the journal at {@code journalFilePath}, if any, to {@code entries}.
+     * An incomplete operation at the end of the journal, left by an interrupted save, is discarded.
+     *
+     * @return the number of operations applied.
+     */
+    private static int replayJournal(Path journalFilePath, Map<Link, Entry> entries)
+            throws DataConversionException, IOException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+
+        String journal = FileUtil.readFromFile(journalFilePath);
+        int endOfLastOperation = journal.lastIndexOf(LINE_SEPARATOR) + 1;
+        if (endOfLastOperation < journal.length()) {
+            logger.warning("Discarding incomplete operation at the end of journal " + journalFilePath);
+            try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE)) {
+                channel.truncate(journal.substring(0, endOfLastOperation).getBytes(StandardCharsets.UTF_8).length);
+            }
+        }
+
+        int numOperations = 0;
+        for (String line : journal.substring(0, endOfLastOperation).split(LINE_SEPARATOR)) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            try {
+                JsonUtil.fromJsonString(line, JsonAdaptedJournalOperation.class).applyTo(entries);
+            } catch (IOException ioe) {
+                logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+                throw new DataConversionException(ioe);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+            numOperations++;
+        }
+        return numOperations;
+    }
+
+    @Override
+    public void saveEntryBook(ReadOnlyEntryBook entryBook) throws IOException {
+        saveEntryBook(entryBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveEntryBook(ReadOnlyEntryBook)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public synchronized void saveEntryBook(ReadOnlyEntryBook entryBook, Path filePath) throws IOException {
+        requireNonNull(entryBook);
+        requireNonNull(filePath);
+
+        List<Entry> entries = new ArrayList<>(entryBook.getEntryList());
+        Optional<List<JsonAdaptedJournalOperation>> operations = filePath.equals(savedFilePath)
+                ? diff(savedEntries, entries)
+                : Optional.empty();
+        if (!operations.isPresent()) {
+            saveSnapshot(entries, filePath);
+            return;
+        }
+        if (operations.get().isEmpty()) {
+            return;
+        }
+
+        try {
+            appendToJournal(operations.get(), getJournalFilePath(filePath));
+        } catch (IOException ioe) {
+            // The journal may now end with an incomplete operation, so the next save must replace it.
+            savedFilePath = null;
+            throw ioe;
+        }
+        setSaved(filePath, entries);
+        numJournalOperations += operations.get().size();
+
+        if (numJournalOperations >= compactionThreshold && !isCompacting) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Returns the journal operations which turn {@code savedEntries} into {@code entries},
+     * or {@code Optional.empty()} if journal operations cannot reproduce the order of {@code entries}.
+     */
+    private static Optional<List<JsonAdaptedJournalOperation>> diff(Map<Link, Entry> savedEntries,
+                                                                    List<Entry> entries) {
+        List<JsonAdaptedJournalOperation> operations = new ArrayList<>();
+        Map<Link, Entry> entriesByLink = new LinkedHashMap<>();
+        List<Link> addedLinks = new ArrayList<>();
+        for (Entry entry : entries) {
+            Entry savedEntry = savedEntries.get(entry.getLink());
+            if (savedEntry == null) {
+                addedLinks.add(entry.getLink());
+            }
+            if (!entry.equals(savedEntry)) {
+                operations.add(JsonAdaptedJournalOperation.put(entry));
+            }
+            entriesByLink.put(entry.getLink(), entry);
+        }
+
+        // Entries which are kept stay in place, and added entries go to the end.
+        List<Link> expectedOrder = new ArrayList<>(entries.size());
+        for (Link savedLink : savedEntries.keySet()) {
+            if (entriesByLink.containsKey(savedLink)) {
+                expectedOrder.add(savedLink);
+            } else {
+                operations.add(JsonAdaptedJournalOperation.remove(savedLink));
+            }
+        }
+        expectedOrder.addAll(addedLinks);
+
+        Iterator<Link> actualOrder = entriesByLink.keySet().iterator();
+        for (Link expectedLink : expectedOrder) {
+            if (!expectedLink.equals(actualOrder.next())) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(operations);
+    }
+
+    /**
+     * Appends {@code operations} to the journal at {@code journalFilePath}, one operation per line.
+     */
+    private static void appendToJournal(List<JsonAdaptedJournalOperation> operations, Path journalFilePath)
+            throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalOperation operation : operations) {
+            lines.append(JsonUtil.toCompactJsonString(operation)).append(LINE_SEPARATOR);
+        }
+
+        FileUtil.createIfMissing(journalFilePath);
+        try (Writer writer = Files.newBufferedWriter(journalFilePath, StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND)) {
+            writer.write(lines.toString());
+        }
+    }
+
+    /**
+     * Saves {@code entries} as the snapshot at {@code filePath}, and deletes its journal.
+     */
+    private void saveSnapshot(List<Entry> entries, Path filePath) throws IOException {
+        snapshotStorage.saveEntryBook(toEntryBook(entries), filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+
+        setSaved(filePath, entries);
+        numJournalOperations = 0;
+        snapshotGeneration++;
+    }
+
+    /**
+     * Compacts the journal into a fresh snapshot in the background.
+     * Saves can continue while the snapshot is written, and are kept in the journal afterwards.
+     */
+    private void startCompaction() throws IOException {
+        Path compactedFilePath = savedFilePath;
+        List<Entry> compactedEntries = new ArrayList<>(savedEntries.values());
+        long compactedJournalSize = Files.size(getJournalFilePath(compactedFilePath));
+        int numCompactedOperations = numJournalOperations;
+        long generation = snapshotGeneration;
+        isCompacting = true;
+
+        logger.fine("Compacting journal of " + compactedFilePath);
+        compactor.execute(() -> {
+            try {
+                compact(compactedFilePath, compactedEntries, compactedJournalSize, numCompactedOperations,
+                        generation);
+            } catch (IOException ioe) {
+                logger.warning("Failed to compact journal of " + compactedFilePath + ": " + ioe);
+            } finally {
+                synchronized (this) {
+                    isCompacting = false;
+                }
+            }
+        });
+    }
+
+    /**
+     * Writes {@code compactedEntries} as the new snapshot at {@code compactedFilePath}, and drops the first
+     * {@code compactedJournalSize} bytes of its journal, which hold the operations already in the snapshot.
+     * Nothing is changed if another snapshot has been saved since the compaction started.
+     */
+    private void compact(Path compactedFilePath, List<Entry> compactedEntries, long compactedJournalSize,
+                         int numCompactedOperations, long generation) throws IOException {
+        Path temporaryFilePath = compactedFilePath.resolveSibling(
+                compactedFilePath.getFileName() + COMPACTION_FILE_SUFFIX);
+        snapshotStorage.saveEntryBook(toEntryBook(compactedEntries), temporaryFilePath);
+
+        synchronized (this) {
+            if (generation != snapshotGeneration) {
+                Files.deleteIfExists(temporaryFilePath);
+                return;
+            }
+
+            // Replaying operations which are already in the snapshot has no further effect,
+            // so the journal stays valid even if this is interrupted between the two steps below.
+            Files.move(temporaryFilePath, compactedFilePath, StandardCopyOption.REPLACE_EXISTING);
+            dropJournalPrefix(getJournalFilePath(compactedFilePath), compactedJournalSize);
+            numJournalOperations -= numCompactedOperations;
+        }
+    }
+
+    /**
+     * Removes the first {@code length} bytes of the journal at {@code journalFilePath}.
+     */
+    private static void dropJournalPrefix(Path journalFilePath, long length) throws IOException {
+        Path temporaryFilePath =
+                journalFilePath.resolveSibling(journalFilePath.getFileName() + COMPACTION_FILE_SUFFIX);
+        try (InputStream in = Files.newInputStream(journalFilePath);
+             OutputStream out = Files.newOutputStream(temporaryFilePath)) {
+            long skipped = 0;
+            while (skipped < length) {
+                long numSkipped = in.skip(length - skipped);
+                if (numSkipped <= 0) {
+                    break;
+                }
+                skipped += numSkipped;
+            }
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        Files.move(temporaryFilePath, journalFilePath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Remembers {@code entries} as the contents of the entry book last read from or saved to {@code filePath}.
+     */
+    private void setSaved(Path filePath, Iterable<Entry> entries) {
+        Map<Link, Entry> entriesByLink = new LinkedHashMap<>();
+        entries.forEach(entry -> entriesByLink.put(entry.getLink(), entry));
+        savedFilePath = filePath;
+        savedEntries.clear();
+        savedEntries.putAll(entriesByLink);
+    }
+
+    private static EntryBook toEntryBook(List<Entry> entries) {
+        EntryBook entryBook = new EntryBook();
+        entryBook.setEntries(entries);
+        return entryBook;
+    }
+
+}
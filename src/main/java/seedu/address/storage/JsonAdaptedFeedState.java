@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.util.FeedState;
+
+/**
+ * Jackson-friendly version of {@link FeedState}.
+ */
+class JsonAdaptedFeedState {
+
+    public static final String MISSING_CONTENT_HASH_MESSAGE = "Feed state's content hash is missing!";
+    public static final String INVALID_LAST_PUBLISHED_MESSAGE = "Feed state's last published date is invalid!";
+
+    private final String contentHash;
+    private final String lastItemId;
+    private final String lastPublished;
+    private final List<String> seenItemIds;
+
+    /**
+     * Constructs a {@code JsonAdaptedFeedState} with the given state details.
+     */
+    @JsonCreator
+    public JsonAdaptedFeedState(@JsonProperty("contentHash") String contentHash,
+                                @JsonProperty("lastItemId") String lastItemId,
+                                @JsonProperty("lastPublished") String lastPublished,
+                                @JsonProperty("seenItemIds") List<String> seenItemIds) {
+        this.contentHash = contentHash;
+        this.lastItemId = lastItemId;
+        this.lastPublished = lastPublished;
+        this.seenItemIds = seenItemIds;
+    }
+
+    /**
+     * Converts the given {@code FeedState} into this class for Jackson use.
+     */
+    public JsonAdaptedFeedState(FeedState source) {
+        contentHash = source.getContentHash();
+        lastItemId = source.getLastItemId().orElse(null);
+        lastPublished = source.getLastPublished().map(Instant::toString).orElse(null);
+        seenItemIds = new ArrayList<>(source.getSeenItemIds());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted feed state object into {@code FeedState}.
+     *
+     * @throws IllegalValueException if the content hash is missing or the last published date is invalid.
+     */
+    public FeedState toModelType() throws IllegalValueException {
+        if (contentHash == null) {
+            throw new IllegalValueException(MISSING_CONTENT_HASH_MESSAGE);
+        }
+        try {
+            // States saved before item ids were remembered have none
+            return new FeedState(contentHash, lastItemId, lastPublished == null ? null : Instant.parse(lastPublished),
+                    seenItemIds == null ? Collections.emptyList() : seenItemIds);
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(INVALID_LAST_PUBLISHED_MESSAGE);
+        }
+    }
+
+}
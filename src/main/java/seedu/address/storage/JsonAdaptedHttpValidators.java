@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.util.HttpValidators;
+
+/**
+ * Jackson-friendly version of {@link HttpValidators}.
+ */
+class JsonAdaptedHttpValidators {
+
+    public static final String MISSING_VALIDATORS_MESSAGE = "Http validators are missing!";
+
+    private final String entityTag;
+    private final String lastModified;
+
+    /**
+     * Constructs a {@code JsonAdaptedHttpValidators} with the given validators.
+     */
+    @JsonCreator
+    public JsonAdaptedHttpValidators(@JsonProperty("entityTag") String entityTag,
+                                     @JsonProperty("lastModified") String lastModified) {
+        this.entityTag = entityTag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Converts the given {@code HttpValidators} into this class for Jackson use.
+     */
+    public JsonAdaptedHttpValidators(HttpValidators source) {
+        entityTag = source.getEntityTag().orElse(null);
+        lastModified = source.getLastModified().orElse(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted validators object into {@code HttpValidators}.
+     *
+     * @throws IllegalValueException if neither validator is present.
+     */
+    public HttpValidators toModelType() throws IllegalValueException {
+        return HttpValidators.of(entityTag, lastModified)
+                .orElseThrow(() -> new IllegalValueException(MISSING_VALIDATORS_MESSAGE));
+    }
+
+}
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import java.net.MalformedURLException;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.Link;
+
+/**
+ * Jackson-friendly version of a modification of an entry book, as recorded in a journal.
+ * An operation either puts an entry, replacing the entry with the same link in place or adding it to the end,
+ * or removes the entry with a link.
+ */
+class JsonAdaptedJournalOperation {
+
+    public static final String OPERATION_PUT = "put";
+    public static final String OPERATION_REMOVE = "remove";
+    public static final String INVALID_OPERATION_MESSAGE = "Unknown journal operation: %s";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal operation's %s field is missing!";
+
+    private final String operation;
+    private final String link;
+    private final JsonAdaptedEntry entry;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalOperation} with the given operation details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalOperation(@JsonProperty("operation") String operation,
+                                       @JsonProperty("link") String link,
+                                       @JsonProperty("entry") JsonAdaptedEntry entry) {
+        this.operation = operation;
+        this.link = link;
+        this.entry = entry;
+    }
+
+    /**
+     * Returns an operation which puts {@code entry}.
+     */
+    public static JsonAdaptedJournalOperation put(Entry entry) {
+        return new JsonAdaptedJournalOperation(OPERATION_PUT, null, new JsonAdaptedEntry(entry));
+    }
+
+    /**
+     * Returns an operation which removes the entry with {@code link}.
+     */
+    public static JsonAdaptedJournalOperation remove(Link link) {
+        return new JsonAdaptedJournalOperation(OPERATION_REMOVE, link.value.toString(), null);
+    }
+
+    /**
+     * Applies this operation to {@code entries}, which are keyed by their links in entry book order.
+     * Applying an operation again has no further effect.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted operation.
+     */
+    public void applyTo(Map<Link, Entry> entries) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+
+        switch (operation) {
+        case OPERATION_PUT:
+            if (entry == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "entry"));
+            }
+            Entry modelEntry = entry.toModelType();
+            entries.put(modelEntry.getLink(), modelEntry);
+            break;
+        case OPERATION_REMOVE:
+            if (link == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "link"));
+            }
+            try {
+                entries.remove(new Link(link));
+            } catch (MalformedURLException mue) {
+                throw new IllegalValueException(Link.formExceptionMessage(link));
+            }
+            break;
+        default:
+            throw new IllegalValueException(String.format(INVALID_OPERATION_MESSAGE, operation));
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.util.FeedState;
+
+/**
+ * A class to access the states of all feeds, stored together in the hard disk as a json file.
+ * The file is read once, when a state is first needed, and written in full whenever a state changes.
+ */
+public class JsonFeedStateStorage implements FeedStateStorage {
+
+    /** Name of the file the feed states are saved in, next to the file the feeds are saved in. */
+    public static final String FEED_STATE_FILE_NAME = "feedstates.json";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonFeedStateStorage.class);
+
+    private final Path filePath;
+
+    /** States of the feeds, keyed by the URL of the feed. Null until the file is read. */
+    private Map<String, FeedState> feedStates;
+
+    public JsonFeedStateStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getFeedStateFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized Optional<FeedState> getFeedState(URL feedUrl) {
+        return Optional.ofNullable(getFeedStates().get(feedUrl.toString()));
+    }
+
+    @Override
+    public synchronized void saveFeedState(URL feedUrl, FeedState feedState) throws IOException {
+        if (feedState.equals(getFeedStates().put(feedUrl.toString(), feedState))) {
+            return;
+        }
+        writeFeedStates();
+    }
+
+    @Override
+    public synchronized void saveFeedStates(Map<URL, FeedState> changedFeedStates) throws IOException {
+        boolean isChanged = false;
+        for (Map.Entry<URL, FeedState> feedUrlAndState : changedFeedStates.entrySet()) {
+            isChanged |= !feedUrlAndState.getValue()
+                    .equals(getFeedStates().put(feedUrlAndState.getKey().toString(), feedUrlAndState.getValue()));
+        }
+        if (isChanged) {
+            writeFeedStates();
+        }
+    }
+
+    @Override
+    public synchronized void deleteFeedState(URL feedUrl) throws IOException {
+        if (getFeedStates().remove(feedUrl.toString()) == null) {
+            return;
+        }
+        writeFeedStates();
+    }
+
+    /**
+     * Returns the states of the feeds, reading them from the file if not yet read.
+     */
+    private Map<String, FeedState> getFeedStates() {
+        if (feedStates != null) {
+            return feedStates;
+        }
+        feedStates = new LinkedHashMap<>();
+        try {
+            Optional<JsonSerializableFeedStates> jsonFeedStates =
+                    JsonUtil.readJsonFile(filePath, JsonSerializableFeedStates.class);
+            if (jsonFeedStates.isPresent()) {
+                feedStates.putAll(jsonFeedStates.get().toModelType());
+            }
+        } catch (DataConversionException | IllegalValueException e) {
+            // Processing every item of a feed is always safe, so unreadable states are ignored.
+            logger.warning("Ignoring unreadable feed states in " + filePath + ": " + e);
+        }
+        return feedStates;
+    }
+
+    private void writeFeedStates() throws IOException {
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(JsonSerializableFeedStates.fromModelType(feedStates), filePath);
+    }
+
+}
@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.util.FeedState;
+
+/**
+ * The states of all feeds, keyed by the URL of the feed, that is serializable to JSON format.
+ */
+class JsonSerializableFeedStates {
+
+    private final Map<String, JsonAdaptedFeedState> feedStates = new LinkedHashMap<>();
+
+    /**
+     * Constructs a {@code JsonSerializableFeedStates} with the given feed states.
+     */
+    @JsonCreator
+    public JsonSerializableFeedStates(@JsonProperty("feedStates") Map<String, JsonAdaptedFeedState> feedStates) {
+        if (feedStates != null) {
+            this.feedStates.putAll(feedStates);
+        }
+    }
+
+    /**
+     * Converts the given feed states into this class for Jackson use.
+     */
+    public static JsonSerializableFeedStates fromModelType(Map<String, FeedState> source) {
+        Map<String, JsonAdaptedFeedState> adaptedFeedStates = new LinkedHashMap<>();
+        source.forEach((feedUrl, feedState) -> adaptedFeedStates.put(feedUrl, new JsonAdaptedFeedState(feedState)));
+        return new JsonSerializableFeedStates(adaptedFeedStates);
+    }
+
+    /**
+     * Converts these feed states into the model's {@code FeedState} objects, keyed by the URL of the feed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public Map<String, FeedState> toModelType() throws IllegalValueException {
+        Map<String, FeedState> modelFeedStates = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonAdaptedFeedState> feedState : feedStates.entrySet()) {
+            modelFeedStates.put(feedState.getKey(), feedState.getValue().toModelType());
+        }
+        return modelFeedStates;
+    }
+
+}
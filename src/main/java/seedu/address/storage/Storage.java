@@ -13,7 +13,7 @@ import seedu.address.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends UserPrefsStorage, ArticleStorage {
+public interface Storage extends UserPrefsStorage, ArticleStorage, FeedStateStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -27,6 +27,9 @@ public interface Storage extends UserPrefsStorage, ArticleStorage {
     @Override
     Optional<Path> addArticle(URL url, byte[] articleContent) throws IOException;
 
+    @Override
+    boolean hasArticle(URL url);
+
     @Override
     Optional<Path> getOfflineLink(URL url);
 
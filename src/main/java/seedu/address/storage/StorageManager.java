@@ -3,7 +3,9 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -11,6 +13,8 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyEntryBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.util.FeedState;
+import seedu.address.util.HttpValidators;
 
 /**
  * Manages storage of EntryBook data in local storage.
@@ -23,6 +27,7 @@ public class StorageManager implements Storage {
     private EntryBookStorage feedsEntryBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private ArticleStorage articleStorage;
+    private FeedStateStorage feedStateStorage;
 
 
     public StorageManager(
@@ -30,13 +35,15 @@ public class StorageManager implements Storage {
             EntryBookStorage archivesEntryBookStorage,
             EntryBookStorage feedsEntryBookStorage,
             UserPrefsStorage userPrefsStorage,
-            ArticleStorage articleStorage) {
+            ArticleStorage articleStorage,
+            FeedStateStorage feedStateStorage) {
         super();
         this.listEntryBookStorage = listEntryBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.articleStorage = articleStorage;
         this.archivesEntryBookStorage = archivesEntryBookStorage;
         this.feedsEntryBookStorage = feedsEntryBookStorage;
+        this.feedStateStorage = feedStateStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -139,6 +146,16 @@ public class StorageManager implements Storage {
         return articleStorage.getArticleDataDirectoryPath();
     }
 
+    @Override
+    public void loadArticles() throws IOException {
+        articleStorage.loadArticles();
+    }
+
+    @Override
+    public void indexArticles() throws IOException {
+        articleStorage.indexArticles();
+    }
+
     @Override
     public void deleteArticle(URL url) throws IOException {
         articleStorage.deleteArticle(url);
@@ -154,9 +171,61 @@ public class StorageManager implements Storage {
         return articleStorage.getArticlePath(url);
     }
 
+    @Override
+    public boolean hasArticle(URL url) {
+        return articleStorage.hasArticle(url);
+    }
+
     @Override
     public Optional<Path> getOfflineLink(URL url) {
         return articleStorage.getOfflineLink(url);
     }
 
+    @Override
+    public Predicate<URL> getArticleContentPredicate(String words) {
+        return articleStorage.getArticleContentPredicate(words);
+    }
+
+    @Override
+    public Optional<HttpValidators> getHttpValidators(URL url) {
+        return articleStorage.getHttpValidators(url);
+    }
+
+    @Override
+    public void saveHttpValidators(URL url, HttpValidators validators) throws IOException {
+        articleStorage.saveHttpValidators(url, validators);
+    }
+
+    @Override
+    public void deleteHttpValidators(URL url) throws IOException {
+        articleStorage.deleteHttpValidators(url);
+    }
+
+    // ================ Feed state methods ================================
+
+    @Override
+    public Path getFeedStateFilePath() {
+        return feedStateStorage.getFeedStateFilePath();
+    }
+
+    @Override
+    public Optional<FeedState> getFeedState(URL feedUrl) {
+        return feedStateStorage.getFeedState(feedUrl);
+    }
+
+    @Override
+    public void saveFeedState(URL feedUrl, FeedState feedState) throws IOException {
+        feedStateStorage.saveFeedState(feedUrl, feedState);
+    }
+
+    @Override
+    public void saveFeedStates(Map<URL, FeedState> feedStates) throws IOException {
+        feedStateStorage.saveFeedStates(feedStates);
+    }
+
+    @Override
+    public void deleteFeedState(URL feedUrl) throws IOException {
+        feedStateStorage.deleteFeedState(feedUrl);
+    }
+
 }
@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.EntryBook;
+import seedu.address.model.ReadOnlyEntryBook;
+import seedu.address.model.entry.Entry;
+
+/**
+ * A class to access EntryBook data stored as a json file on the hard disk, in the same format as
+ * {@link JsonEntryBookStorage}.
+ * Entries are read from and written to the file one at a time, instead of holding the whole file in memory.
+ */
+public class StreamingJsonEntryBookStorage implements EntryBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(StreamingJsonEntryBookStorage.class);
+
+    private static final String ENTRIES_FIELD_NAME = "entries";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private Path filePath;
+
+    public StreamingJsonEntryBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getEntryBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyEntryBook> readEntryBook() throws DataConversionException {
+        return readEntryBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readEntryBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyEntryBook> readEntryBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(filePath))) {
+            return Optional.of(readEntryBook(parser));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads an entry book from {@code parser}, converting each entry to the model's {@code Entry} as it is read.
+     * Fields other than the entries are skipped.
+     */
+    private static EntryBook readEntryBook(JsonParser parser) throws IOException, IllegalValueException {
+        EntryBook entryBook = new EntryBook();
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!ENTRIES_FIELD_NAME.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            expectToken(parser, valueToken, JsonToken.START_ARRAY);
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                expectToken(parser, token, JsonToken.START_OBJECT);
+                Entry entry = parser.readValueAs(JsonAdaptedEntry.class).toModelType();
+                if (entryBook.hasEntry(entry)) {
+                    throw new IllegalValueException(JsonSerializableEntryBook.MESSAGE_DUPLICATE_ENTRY);
+                }
+                entryBook.addEntry(entry);
+            }
+        }
+        expectToken(parser, token, JsonToken.END_OBJECT);
+
+        return entryBook;
+    }
+
+    /**
+     * Throws a {@code JsonParseException} if {@code actual} is not the {@code expected} token.
+     */
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    @Override
+    public void saveEntryBook(ReadOnlyEntryBook entryBook) throws IOException {
+        saveEntryBook(entryBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveEntryBook(ReadOnlyEntryBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveEntryBook(ReadOnlyEntryBook entryBook, Path filePath) throws IOException {
+        requireNonNull(entryBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+
+        // Write to a temporary file first, so that a failure part way through does not truncate the existing data.
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try (JsonGenerator generator = JsonUtil.createGenerator(Files.newOutputStream(temporaryFilePath))) {
+            writeEntryBook(entryBook, generator);
+        }
+        Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Writes {@code entryBook} to {@code generator}, converting each entry to its Jackson-friendly form as it is
+     * written.
+     */
+    private static void writeEntryBook(ReadOnlyEntryBook entryBook, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(ENTRIES_FIELD_NAME);
+        for (Entry entry : entryBook.getEntryList()) {
+            generator.writeObject(new JsonAdaptedEntry(entry));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+}
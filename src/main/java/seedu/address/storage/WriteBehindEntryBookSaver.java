@@ -0,0 +1,198 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyEntryBook;
+import seedu.address.model.entry.Entry;
+
+/**
+ * Saves modified entry books to storage on a background thread.
+ * All modifications made to an entry book within the save delay of it first being marked as modified
+ * are coalesced into a single save.
+ *
+ * Entry books are only ever read on the model thread, which is given as an {@code Executor}:
+ * a snapshot of each modified entry book is taken there, and the snapshot is what gets written in the background.
+ * Failed saves are also reported on the model thread.
+ */
+public class WriteBehindEntryBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindEntryBookSaver.class);
+
+    /** Shared by all savers, so that writes to the same file never happen concurrently or out of order. */
+    private static final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "EntryBook writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long saveDelayMillis;
+    private final Executor modelExecutor;
+    private final Consumer<IOException> saveFailureHandler;
+
+    // The fields below are guarded by this.
+    private final Map<ReadOnlyEntryBook, IoExceptionThrowingConsumer<ReadOnlyEntryBook>> modifiedEntryBooks =
+            new IdentityHashMap<>();
+    private boolean isSaveScheduled = false;
+
+    /**
+     * Constructs a {@code WriteBehindEntryBookSaver}.
+     * @param saveDelayMillis How long to wait for further modifications before saving.
+     *                        If not positive, entry books are saved on the calling thread as soon as they are modified.
+     * @param modelExecutor Runs tasks on the thread which modifies the entry books.
+     * @param saveFailureHandler Called on the model thread with the exception of each failed save.
+     */
+    public WriteBehindEntryBookSaver(long saveDelayMillis, Executor modelExecutor,
+                                     Consumer<IOException> saveFailureHandler) {
+        requireAllNonNull(modelExecutor, saveFailureHandler);
+        this.saveDelayMillis = saveDelayMillis;
+        this.modelExecutor = modelExecutor;
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Marks {@code entryBook} as modified, so that it is saved with {@code saveFunction} once the save delay is up.
+     * Must be called on the model thread.
+     */
+    public void markModified(ReadOnlyEntryBook entryBook, IoExceptionThrowingConsumer<ReadOnlyEntryBook> saveFunction) {
+        requireAllNonNull(entryBook, saveFunction);
+
+        if (saveDelayMillis <= 0) {
+            save(new PendingSave(entryBook, saveFunction)).ifPresent(saveFailureHandler);
+            return;
+        }
+
+        synchronized (this) {
+            modifiedEntryBooks.put(entryBook, saveFunction);
+            if (isSaveScheduled) {
+                return;
+            }
+            isSaveScheduled = true;
+        }
+        writer.schedule(this::saveModifiedEntryBooksLater, saveDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Saves all modified entry books immediately, and waits for all saves to complete.
+     * Failed saves are reported to the save failure handler on the calling thread.
+     * Must be called on the model thread.
+     */
+    public void flush() {
+        List<PendingSave> pendingSaves = takeSnapshots();
+        try {
+            writer.submit(() -> saveAll(pendingSaves)).get().forEach(saveFailureHandler);
+        } catch (ExecutionException e) {
+            logger.severe("Failed to save modified entry books: " + e);
+        } catch (InterruptedException e) {
+            logger.severe("Interrupted while saving modified entry books: " + e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs on the writer thread once the save delay is up.
+     * Takes snapshots of the modified entry books on the model thread, then saves them on the writer thread.
+     */
+    private void saveModifiedEntryBooksLater() {
+        try {
+            modelExecutor.execute(() -> {
+                List<PendingSave> pendingSaves = takeSnapshots();
+                writer.execute(() -> saveAll(pendingSaves)
+                        .forEach(ioe -> modelExecutor.execute(() -> saveFailureHandler.accept(ioe))));
+            });
+        } catch (RuntimeException e) {
+            // The model thread is unavailable, so leave the entry books marked as modified for the next flush.
+            logger.warning("Could not schedule saving of modified entry books: " + e);
+            synchronized (this) {
+                isSaveScheduled = false;
+            }
+        }
+    }
+
+    /**
+     * Returns snapshots of all modified entry books, and clears their modified status.
+     */
+    private synchronized List<PendingSave> takeSnapshots() {
+        List<PendingSave> pendingSaves = new ArrayList<>();
+        modifiedEntryBooks.forEach((entryBook, saveFunction) ->
+                pendingSaves.add(new PendingSave(new EntryBookSnapshot(entryBook), saveFunction)));
+        modifiedEntryBooks.clear();
+        isSaveScheduled = false;
+        return pendingSaves;
+    }
+
+    /**
+     * Saves all of {@code pendingSaves}, returning the exceptions of those which failed.
+     */
+    private static List<IOException> saveAll(List<PendingSave> pendingSaves) {
+        List<IOException> failures = new ArrayList<>();
+        pendingSaves.forEach(pendingSave -> save(pendingSave).ifPresent(failures::add));
+        return failures;
+    }
+
+    private static Optional<IOException> save(PendingSave pendingSave) {
+        try {
+            pendingSave.saveFunction.accept(pendingSave.entryBook);
+            return Optional.empty();
+        } catch (IOException ioe) {
+            return Optional.of(ioe);
+        }
+    }
+
+    /**
+     * A copy of the entries of an entry book as they were when the snapshot was taken.
+     * Unlike a copied {@code EntryBook}, it is only a plain list, so taking it does not index the entries.
+     */
+    private static class EntryBookSnapshot implements ReadOnlyEntryBook {
+        private final ObservableList<Entry> entries;
+
+        private EntryBookSnapshot(ReadOnlyEntryBook entryBook) {
+            entries = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(entryBook.getEntryList()));
+        }
+
+        @Override
+        public ObservableList<Entry> getEntryList() {
+            return entries;
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            // A snapshot never changes, so there is nothing to listen to.
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {}
+    }
+
+    /**
+     * An entry book together with the function to save it with.
+     */
+    private static class PendingSave {
+        private final ReadOnlyEntryBook entryBook;
+        private final IoExceptionThrowingConsumer<ReadOnlyEntryBook> saveFunction;
+
+        private PendingSave(ReadOnlyEntryBook entryBook, IoExceptionThrowingConsumer<ReadOnlyEntryBook> saveFunction) {
+            this.entryBook = requireNonNull(entryBook);
+            this.saveFunction = requireNonNull(saveFunction);
+        }
+    }
+}
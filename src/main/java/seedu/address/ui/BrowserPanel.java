@@ -23,7 +23,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.UrlUtil;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.entry.Entry;
-import seedu.address.ui.util.ReaderViewUtil;
+import seedu.address.ui.util.ReaderViewCache;
 
 /**
  * The Browser Panel of the App.
@@ -57,11 +57,13 @@ public class BrowserPanel extends UiPart<Region> {
     private ViewMode viewMode; // current view mode
     private final Function<URL, Optional<URL>> getOfflineUrl; // gets the offline URL for the given URL
     private final Function<URL, Optional<String>> getHtmlFromUrl; // gets the HTML content for a given URL
+    private final ReaderViewCache readerViewCache; // generates reader views, or gets them if generated before
 
     public BrowserPanel(ObservableValue<Entry> selectedEntry,
                         ObservableValue<ViewMode> viewMode,
                         Function<URL, Optional<URL>> getOfflineUrl,
-                        Function<URL, Optional<String>> getHtmlFromUrl) {
+                        Function<URL, Optional<String>> getHtmlFromUrl,
+                        ReaderViewCache readerViewCache) {
         super(FXML);
 
         // Initialization
@@ -70,6 +72,7 @@ public class BrowserPanel extends UiPart<Region> {
         this.viewMode = viewMode.getValue();
         this.getOfflineUrl = getOfflineUrl;
         this.getHtmlFromUrl = getHtmlFromUrl;
+        this.readerViewCache = readerViewCache;
 
         // To prevent triggering events for typing inside the loaded Web page.
         getRoot().setOnKeyPressed(Event::consume);
@@ -305,7 +308,7 @@ public class BrowserPanel extends UiPart<Region> {
         // Next actions
         setStyleSheet(viewMode.getReaderViewStyle().getStylesheetLocation());
         try {
-            String readerViewHtml = ReaderViewUtil.generateReaderViewStringFrom(rawHtml, baseUrl);
+            String readerViewHtml = readerViewCache.getReaderViewOf(rawHtml, baseUrl);
             loadContent(readerViewHtml);
         } catch (IllegalArgumentException e) {
             handleReaderViewFailure();
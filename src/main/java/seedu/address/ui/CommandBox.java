@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -8,8 +9,6 @@ import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -94,15 +93,23 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * Other commands can be entered while the command is executing. The text field is only cleared, or styled
+     * to indicate a failed command, if it still holds the command once the command has finished executing.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            commandExecutor.execute(commandTextField.getText());
-            processCommandSuccess();
-        } catch (CommandException | ParseException e) {
-            processCommandFailure();
-        }
+        String commandText = commandTextField.getText();
+        commandExecutor.execute(commandText).whenComplete((commandResult, throwable) -> {
+            if (!commandTextField.getText().equals(commandText)) {
+                // the text typed in since the command was entered is left as it is
+                initHistory();
+                historySnapshot.next();
+            } else if (throwable == null) {
+                processCommandSuccess();
+            } else {
+                processCommandFailure();
+            }
+        });
     }
 
     /**
@@ -158,11 +165,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command and returns the future result, which completes on the JavaFX application thread.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -14,9 +15,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ModelContext;
+import seedu.address.ui.util.ReaderViewCache;
 import seedu.address.util.Network;
 
 /**
@@ -31,6 +31,8 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private ReaderViewCache readerViewCache;
+    private NeighbourPrefetcher neighbourPrefetcher;
 
     // Independent Ui parts residing in this Ui container
     private BrowserPanel browserPanel;
@@ -119,8 +121,15 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
+        readerViewCache = new ReaderViewCache(logic.getReaderViewCacheSize(), logic.getReaderViewCacheDirectoryPath());
+
+        // Created before the browser panel, so that it reacts to a new selection before the browser panel loads it
+        neighbourPrefetcher = new NeighbourPrefetcher(logic.getFilteredEntryList(), logic.selectedEntryProperty(),
+                logic.viewModeProperty(), logic.contextProperty(), logic.getPrefetchWindowSize(),
+                logic::ensureDownloaded, logic::getOfflineLink, Network::fetchAsStringOptional, readerViewCache);
+
         browserPanel = new BrowserPanel(logic.selectedEntryProperty(), logic.viewModeProperty(),
-                logic::getOfflineLink, Network::fetchAsStringOptional);
+                logic::getOfflineLink, Network::fetchAsStringOptional, readerViewCache);
         browserPlaceholder.getChildren().add(browserPanel.getRoot());
 
         entryListPanel = new EntryListPanel(logic.getFilteredEntryList(), logic.selectedEntryProperty(),
@@ -131,7 +140,7 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
         statusBarFooter = new StatusBarFooter(logic.getListEntryBookFilePath(), logic.getListEntryBook(),
-                logic.getFilteredEntryList(), logic.contextProperty());
+                logic.getFilteredEntryList(), logic.contextProperty(), logic.getRunningCommands());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         commandBox = new CommandBox(this::executeCommand, logic.getHistory());
@@ -203,19 +212,18 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command and returns the future result.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            processCommandSuccess(commandResult);
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            processCommandFailure(e, commandText);
-            throw e;
-        }
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.executeAsync(commandText).whenComplete((commandResult, throwable) -> {
+            if (throwable == null) {
+                processCommandSuccess(commandResult);
+            } else {
+                processCommandFailure(throwable, commandText);
+            }
+        });
     }
 
     /**
@@ -245,7 +253,7 @@ public class MainWindow extends UiPart<Stage> {
     /**
      * Processes a failed command entered into the command box.
      */
-    private void processCommandFailure(Exception e, String commandText) {
+    private void processCommandFailure(Throwable e, String commandText) {
         logger.info("Invalid command: " + commandText);
         resultDisplay.setFeedbackErrorToUser(e.getMessage());
     }
@@ -0,0 +1,165 @@
+package seedu.address.ui;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ModelContext;
+import seedu.address.model.entry.Entry;
+import seedu.address.ui.util.ReaderViewCache;
+
+/**
+ * Prefetches the entries around the selected entry in the displayed entry list, so that moving the selection
+ * to one of them does not wait on the network, or on the generation of its reader view.
+ *
+ * Whenever the selection in the Reading List changes, the articles of the entries within the window size on either
+ * side of the selected entry are downloaded one at a time, nearest first, and the reader view of each is generated
+ * into the reader view cache in the background while reader view is in use.
+ * Prefetches for an earlier selection which have not started yet are dropped when the selection changes.
+ *
+ * All the fields of the prefetcher are only accessed on the UI thread, which is given as an {@code Executor}.
+ */
+public class NeighbourPrefetcher {
+
+    private final Logger logger = LogsCenter.getLogger(getClass());
+
+    private final ObservableList<Entry> entryList;
+    private final ObservableValue<Entry> selectedEntry;
+    private final ObservableValue<ViewMode> viewMode;
+    private final ObservableValue<ModelContext> context;
+    private final int windowSize;
+    private final Function<URL, CompletableFuture<Boolean>> ensureDownloaded; // downloads the article at the URL
+    private final Function<URL, Optional<URL>> getOfflineUrl; // gets the offline URL for the given URL
+    private final Function<URL, Optional<String>> getHtmlFromUrl; // gets the HTML content for a given URL
+    private final ReaderViewCache readerViewCache;
+    private final Executor uiExecutor;
+    private final Executor renderExecutor;
+
+    private int generation = 0; // incremented whenever the prefetches in progress become stale
+
+    public NeighbourPrefetcher(ObservableList<Entry> entryList,
+                               ObservableValue<Entry> selectedEntry,
+                               ObservableValue<ViewMode> viewMode,
+                               ObservableValue<ModelContext> context,
+                               int windowSize,
+                               Function<URL, CompletableFuture<Boolean>> ensureDownloaded,
+                               Function<URL, Optional<URL>> getOfflineUrl,
+                               Function<URL, Optional<String>> getHtmlFromUrl,
+                               ReaderViewCache readerViewCache) {
+        this(entryList, selectedEntry, viewMode, context, windowSize, ensureDownloaded, getOfflineUrl, getHtmlFromUrl,
+                readerViewCache, Platform::runLater, Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "Reader view prefetcher");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    /**
+     * Constructs a {@code NeighbourPrefetcher} which generates reader views on {@code renderExecutor},
+     * and runs every other task on {@code uiExecutor}.
+     */
+    NeighbourPrefetcher(ObservableList<Entry> entryList,
+                        ObservableValue<Entry> selectedEntry,
+                        ObservableValue<ViewMode> viewMode,
+                        ObservableValue<ModelContext> context,
+                        int windowSize,
+                        Function<URL, CompletableFuture<Boolean>> ensureDownloaded,
+                        Function<URL, Optional<URL>> getOfflineUrl,
+                        Function<URL, Optional<String>> getHtmlFromUrl,
+                        ReaderViewCache readerViewCache,
+                        Executor uiExecutor,
+                        Executor renderExecutor) {
+        this.entryList = entryList;
+        this.selectedEntry = selectedEntry;
+        this.viewMode = viewMode;
+        this.context = context;
+        this.windowSize = windowSize;
+        this.ensureDownloaded = ensureDownloaded;
+        this.getOfflineUrl = getOfflineUrl;
+        this.getHtmlFromUrl = getHtmlFromUrl;
+        this.readerViewCache = readerViewCache;
+        this.uiExecutor = uiExecutor;
+        this.renderExecutor = renderExecutor;
+
+        // Prefetch around the new selection, and generate the reader views of the window when changing to reader view.
+        selectedEntry.addListener((observable, oldEntry, newEntry) -> prefetch());
+        viewMode.addListener((observable, oldViewMode, newViewMode) -> prefetch());
+    }
+
+    /**
+     * Drops the prefetches in progress, and starts prefetching the entries around the selected entry.
+     */
+    private void prefetch() {
+        generation++;
+        Entry selected = selectedEntry.getValue();
+        int selectedIndex = selected == null ? -1 : entryList.indexOf(selected);
+        if (selectedIndex < 0 || context.getValue() != ModelContext.CONTEXT_LIST) {
+            return;
+        }
+
+        List<URL> neighbourUrls = getNeighbourUrls(selectedIndex);
+        logger.fine("Prefetching " + neighbourUrls.size() + " entries around " + selected.getLink().value);
+        prefetchFrom(neighbourUrls, 0, generation);
+    }
+
+    /**
+     * Returns the links of the entries within the window size of the entry at {@code selectedIndex},
+     * nearest first, with the next entry before the previous entry at the same distance.
+     */
+    private List<URL> getNeighbourUrls(int selectedIndex) {
+        List<URL> neighbourUrls = new ArrayList<>();
+        for (int distance = 1; distance <= windowSize; distance++) {
+            for (int index : new int[] {selectedIndex + distance, selectedIndex - distance}) {
+                if (index >= 0 && index < entryList.size()) {
+                    neighbourUrls.add(entryList.get(index).getLink().value);
+                }
+            }
+        }
+        return neighbourUrls;
+    }
+
+    /**
+     * Prefetches the entries at {@code neighbourUrls} one at a time from {@code index} onwards,
+     * until the prefetches of {@code prefetchGeneration} become stale.
+     */
+    private void prefetchFrom(List<URL> neighbourUrls, int index, int prefetchGeneration) {
+        if (prefetchGeneration != generation || index >= neighbourUrls.size()) {
+            return;
+        }
+        URL url = neighbourUrls.get(index);
+        ensureDownloaded.apply(url)
+                .thenComposeAsync(isDownloaded -> isDownloaded && prefetchGeneration == generation
+                        ? generateReaderView(url)
+                        : CompletableFuture.completedFuture(null), uiExecutor)
+                .whenCompleteAsync((unused, throwable) ->
+                        prefetchFrom(neighbourUrls, index + 1, prefetchGeneration), uiExecutor);
+    }
+
+    /**
+     * Generates the reader view of the downloaded article of the entry at {@code entryUrl} into the reader view cache
+     * in the background, unless reader view is not in use.
+     */
+    private CompletableFuture<Void> generateReaderView(URL entryUrl) {
+        Optional<URL> offlineUrl = getOfflineUrl.apply(entryUrl);
+        if (!viewMode.getValue().hasReaderViewType() || !offlineUrl.isPresent()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> offlineUrl.flatMap(getHtmlFromUrl).ifPresent(rawHtml -> {
+            try {
+                readerViewCache.getReaderViewOf(rawHtml, entryUrl.toExternalForm());
+            } catch (IllegalArgumentException iae) {
+                logger.fine("No reader view can be generated for " + entryUrl);
+            }
+        }), renderExecutor);
+    }
+}
@@ -4,6 +4,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
 import java.util.Date;
+import java.util.List;
 
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ListChangeListener;
@@ -23,6 +24,9 @@ public class StatusBarFooter extends UiPart<Region> {
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last updated: %s";
     public static final String CONTEXT_ENTRY_COUNT_STATUS = "Displaying %d entries in %s context";
+    public static final String COMMAND_STATUS_IDLE = "";
+    public static final String COMMAND_STATUS_RUNNING = "Running: %s";
+    public static final String COMMAND_STATUS_RUNNING_MANY = "Running: %s (and %d more)";
 
     /**
      * Used to generate time stamps.
@@ -42,11 +46,14 @@ public class StatusBarFooter extends UiPart<Region> {
     private Label saveLocationStatus;
     @FXML
     private Label contextEntryCountStatus;
+    @FXML
+    private Label commandStatus;
 
     public StatusBarFooter(Path saveLocation,
                            ReadOnlyEntryBook entryBook,
                            ObservableList<Entry> entryList,
-                           ObservableValue<ModelContext> context) {
+                           ObservableValue<ModelContext> context,
+                           ObservableList<String> runningCommands) {
         super(FXML);
 
         entryBook.addListener(observable -> updateSyncStatus());
@@ -61,6 +68,26 @@ public class StatusBarFooter extends UiPart<Region> {
             updateContextEntryCountStatus(entryList.size(), newContext.toString())
         );
         updateContextEntryCountStatus(entryList.size(), context.getValue().toString());
+
+        runningCommands.addListener((ListChangeListener.Change<? extends String> change) ->
+            updateCommandStatus(change.getList())
+        );
+        updateCommandStatus(runningCommands);
+    }
+
+    /**
+     * Updates the status of the commands executing in the background.
+     * @param runningCommands commands being executed, from the least recently entered
+     */
+    private void updateCommandStatus(List<? extends String> runningCommands) {
+        if (runningCommands.isEmpty()) {
+            commandStatus.setText(COMMAND_STATUS_IDLE);
+        } else if (runningCommands.size() == 1) {
+            commandStatus.setText(String.format(COMMAND_STATUS_RUNNING, runningCommands.get(0)));
+        } else {
+            commandStatus.setText(String.format(COMMAND_STATUS_RUNNING_MANY, runningCommands.get(0),
+                    runningCommands.size() - 1));
+        }
     }
 
     /**
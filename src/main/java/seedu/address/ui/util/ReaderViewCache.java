@@ -0,0 +1,181 @@
+package seedu.address.ui.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A bounded cache of the reader views generated by {@link ReaderViewUtil#generateReaderViewStringFrom},
+ * so that the reader view of an article which has been seen recently is not generated all over again.
+ *
+ * Reader views are keyed by a hash of the HTML and the base URL they were generated from, so a changed article
+ * never gets a stale reader view. The most recently used reader views are kept in memory, and the least recently
+ * used ones are spilled to files in the spill directory, if there is one, from where they are read back when needed.
+ * The reader view style is not part of the key, as it is applied through a stylesheet and not the HTML.
+ *
+ * The cache may be used from any thread.
+ */
+public class ReaderViewCache {
+
+    /** The most reader views which are kept in the spill directory, where the least recently spilled go first. */
+    public static final int MAX_SPILLED_READER_VIEWS = 256;
+
+    private static final String SPILLED_READER_VIEW_SUFFIX = ".html";
+
+    private static final Logger logger = LogsCenter.getLogger(ReaderViewCache.class);
+
+    private final int capacity;
+    private final Optional<Path> spillDirectoryPath;
+    private final Map<String, String> readerViews = new LinkedHashMap<>(16, 0.75f, true); // in access order
+
+    /**
+     * Constructs a {@code ReaderViewCache} which keeps up to {@code capacity} reader views in memory.
+     * @param spillDirectoryPath Directory which reader views are spilled to once they are evicted from memory,
+     *                           or empty if they should just be dropped.
+     */
+    public ReaderViewCache(int capacity, Optional<Path> spillDirectoryPath) {
+        requireNonNull(spillDirectoryPath);
+        this.capacity = capacity;
+        this.spillDirectoryPath = spillDirectoryPath;
+    }
+
+    /**
+     * Gets HTML representing the reader view of the given HTML, from the cache if it has been generated before.
+     * @param rawHtml raw HTML string to process
+     * @param baseUrl base URL used to resolve relative URLs to absolute URLs
+     * @return HTML string representing the reader view of rawHtml string
+     * @throws IllegalArgumentException if a reader view cannot be generated from rawHtml
+     */
+    public String getReaderViewOf(String rawHtml, String baseUrl) throws IllegalArgumentException {
+        String key = hashKey(rawHtml, baseUrl);
+        Optional<String> cachedReaderView = get(key);
+        if (cachedReaderView.isPresent()) {
+            return cachedReaderView.get();
+        }
+
+        // Generate outside the lock, so a slow generation does not hold up other threads
+        String readerView = ReaderViewUtil.generateReaderViewStringFrom(rawHtml, baseUrl);
+        put(key, readerView);
+        return readerView;
+    }
+
+    /**
+     * Returns the cached reader view with the given key, reading it back into memory if it has been spilled.
+     */
+    private synchronized Optional<String> get(String key) {
+        String readerView = readerViews.get(key);
+        if (readerView != null) {
+            return Optional.of(readerView);
+        }
+
+        Optional<String> spilledReaderView = readSpilled(key);
+        spilledReaderView.ifPresent(spilled -> put(key, spilled));
+        return spilledReaderView;
+    }
+
+    /**
+     * Caches the reader view with the given key in memory, spilling the least recently used reader views
+     * if there are too many.
+     */
+    private synchronized void put(String key, String readerView) {
+        readerViews.put(key, readerView);
+        Iterator<Map.Entry<String, String>> leastRecentlyUsed = readerViews.entrySet().iterator();
+        while (readerViews.size() > capacity) {
+            Map.Entry<String, String> evicted = leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+            spill(evicted.getKey(), evicted.getValue());
+        }
+    }
+
+    /**
+     * Writes the reader view with the given key to the spill directory, if there is one,
+     * and deletes the least recently spilled reader views if there are too many.
+     */
+    private void spill(String key, String readerView) {
+        if (!spillDirectoryPath.isPresent()) {
+            return;
+        }
+        try {
+            FileUtil.createDirectory(spillDirectoryPath.get());
+            FileUtil.writeToFile(getSpillPath(key), readerView);
+            pruneSpilled();
+        } catch (IOException ioe) {
+            logger.warning("Failed to spill reader view to disk: " + ioe);
+        }
+    }
+
+    /**
+     * Reads the reader view with the given key back from the spill directory, and deletes it there
+     * as it is about to be kept in memory again.
+     */
+    private Optional<String> readSpilled(String key) {
+        if (!spillDirectoryPath.isPresent() || !FileUtil.isFileExists(getSpillPath(key))) {
+            return Optional.empty();
+        }
+        try {
+            String readerView = FileUtil.readFromFile(getSpillPath(key));
+            FileUtil.deleteFile(getSpillPath(key));
+            return Optional.of(readerView);
+        } catch (IOException ioe) {
+            logger.warning("Failed to read spilled reader view from disk: " + ioe);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Deletes the least recently spilled reader views until at most {@link #MAX_SPILLED_READER_VIEWS} are left.
+     */
+    private void pruneSpilled() throws IOException {
+        List<Path> spilledPaths;
+        try (Stream<Path> paths = Files.list(spillDirectoryPath.get())) {
+            spilledPaths = paths.filter(path -> path.toString().endsWith(SPILLED_READER_VIEW_SUFFIX))
+                    .collect(Collectors.toList());
+        }
+        if (spilledPaths.size() <= MAX_SPILLED_READER_VIEWS) {
+            return;
+        }
+
+        spilledPaths.sort(Comparator.comparing(path -> path.toFile().lastModified()));
+        for (Path path : spilledPaths.subList(0, spilledPaths.size() - MAX_SPILLED_READER_VIEWS)) {
+            FileUtil.deleteFile(path);
+        }
+    }
+
+    private Path getSpillPath(String key) {
+        return spillDirectoryPath.get().resolve(key + SPILLED_READER_VIEW_SUFFIX);
+    }
+
+    /**
+     * Returns a key which is unique to the given HTML and base URL, and can be used as a file name.
+     */
+    private static String hashKey(String rawHtml, String baseUrl) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(baseUrl.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0); // separates the base URL from the HTML
+            digest.update(rawHtml.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException nsae) {
+            // Every Java platform is required to support SHA-256
+            throw new AssertionError(nsae);
+        }
+    }
+}
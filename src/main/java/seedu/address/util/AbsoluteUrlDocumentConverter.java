@@ -1,119 +1,497 @@
 package seedu.address.util;
 
-import java.io.IOException;
-import java.io.StringReader;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.w3c.css.sac.CSSException;
-import org.w3c.css.sac.InputSource;
-import org.w3c.dom.css.CSSStyleDeclaration;
-import org.w3c.dom.css.CSSValue;
-
-import com.steadystate.css.parser.CSSOMParser;
-import com.steadystate.css.parser.SACParserCSS3;
-import com.steadystate.css.util.ThrowCssExceptionErrorHandler;
-
 /**
  * Converts all the urls in a document to its absolute equivalent,
  * so it can be saved on disk and used again later.
+ *
+ * The document is rewritten in a single pass over its html, without building a DOM:
+ * the urls in {@code href}, {@code src} and {@code srcset} attributes, and in the css {@code url()} references
+ * of {@code style} attributes and elements, are resolved against the document's url,
+ * and everything else is copied as is. The result is encoded in the document's own charset.
  */
 public abstract class AbsoluteUrlDocumentConverter {
 
+    /** Number of leading bytes searched for a charset declaration, as browsers do. */
+    private static final int CHARSET_PRESCAN_LENGTH = 1024;
+    private static final Pattern META_CHARSET_PATTERN =
+            Pattern.compile("<meta[^>]+charset\\s*=\\s*[\"']?\\s*([\\w.:\\-]+)", Pattern.CASE_INSENSITIVE);
+    private static final byte[] UTF_8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final byte[] UTF_16BE_BOM = {(byte) 0xFE, (byte) 0xFF};
+    private static final byte[] UTF_16LE_BOM = {(byte) 0xFF, (byte) 0xFE};
+
+    private static final String CSS_URL_FUNCTION = "url(";
+
     /**
      * Converts all the urls in a document to its absolute equivalent,
      * so it can be saved on disk and used again later.
      */
     public static byte[] convert(URL baseUrl, byte[] articleContent) {
-        Document document = Jsoup.parse(new String(articleContent));
-        return convert(baseUrl, document).normalise().toString().getBytes();
+        Charset charset = detectCharset(articleContent);
+        String html = new String(articleContent, charset);
+        return new Rewriter(baseUrl, html).rewrite().getBytes(charset);
     }
 
     /**
-     * Converts all the urls in a document to its absolute equivalent,
-     * so it can be saved on disk and used again later.
+     * Returns the charset of the html {@code content}, from its byte order mark or its meta charset declaration,
+     * or UTF-8 if it declares none.
      */
-    private static Document convert(URL baseUrl, Document document) {
-        // Convert all href and src attributes
-        for (Element e : document.getAllElements()) {
+    static Charset detectCharset(byte[] content) {
+        if (startsWith(content, UTF_8_BOM)) {
+            return StandardCharsets.UTF_8;
+        } else if (startsWith(content, UTF_16BE_BOM)) {
+            return StandardCharsets.UTF_16BE;
+        } else if (startsWith(content, UTF_16LE_BOM)) {
+            return StandardCharsets.UTF_16LE;
+        }
 
-            if (e.hasAttr("href")) {
-                String link = e.attr("href");
-                e.attr("href", convertUrl(baseUrl, link));
+        // Charset declarations are ascii, which every charset for html encodes alike
+        String prescan = new String(content, 0, Math.min(content.length, CHARSET_PRESCAN_LENGTH),
+                StandardCharsets.ISO_8859_1);
+        Matcher matcher = META_CHARSET_PATTERN.matcher(prescan);
+        if (matcher.find()) {
+            try {
+                return Charset.forName(matcher.group(1));
+            } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+                return StandardCharsets.UTF_8;
             }
+        }
+        return StandardCharsets.UTF_8;
+    }
 
-            if (e.hasAttr("src")) {
-                String link = e.attr("src");
-                e.attr("src", convertUrl(baseUrl, link));
+    private static boolean startsWith(byte[] content, byte[] prefix) {
+        if (content.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (content[i] != prefix[i]) {
+                return false;
             }
+        }
+        return true;
+    }
+
+    /**
+     * Rewrites the urls in one html document, copying the html between them in bulk.
+     */
+    private static class Rewriter {
+        private final String html;
+        private final StringBuilder output;
+        private URL baseUrl;
+        /** Index in {@code html} up to which the html has been written to {@code output}. */
+        private int copiedUpTo = 0;
+
+        Rewriter(URL baseUrl, String html) {
+            this.baseUrl = baseUrl;
+            this.html = html;
+            this.output = new StringBuilder(html.length() + html.length() / 8);
+        }
 
-            if (e.hasAttr("style")) {
-                String cssAttr = e.attr("style");
-                e.attr("style", convertCssUrls(baseUrl, cssAttr));
+        String rewrite() {
+            int length = html.length();
+            int position = 0;
+            while (position < length) {
+                int tagStart = html.indexOf('<', position);
+                if (tagStart < 0) {
+                    break;
+                }
+                position = rewriteMarkup(tagStart);
             }
+            output.append(html, copiedUpTo, length);
+            return output.toString();
+        }
 
+        /**
+         * Rewrites the markup starting at {@code start}, which is a '<', and returns the index after it.
+         */
+        private int rewriteMarkup(int start) {
+            if (html.startsWith("<!--", start)) {
+                return indexAfter("-->", start + 4);
+            }
+            if (start + 1 >= html.length()) {
+                return html.length();
+            }
+            char next = html.charAt(start + 1);
+            if (next == '!' || next == '?' || next == '/') {
+                return indexAfter(">", start + 1);
+            }
+            if (!Character.isLetter(next)) {
+                // A lone '<' in text
+                return start + 1;
+            }
+            return rewriteStartTag(start);
         }
 
-        return document;
-    }
+        /**
+         * Rewrites the start tag at {@code start}, and the contents of the element if they are raw text,
+         * and returns the index after them.
+         */
+        private int rewriteStartTag(int start) {
+            int length = html.length();
+            int nameEnd = start + 1;
+            while (nameEnd < length && !isTagNameEnd(html.charAt(nameEnd))) {
+                nameEnd++;
+            }
+            String tagName = html.substring(start + 1, nameEnd).toLowerCase();
 
-    /**
-     * Converts urls in a CSS style declaration to absolute form.
-     */
-    private static String convertCssUrls(URL baseUrl, String cssAttribute) {
-        CSSOMParser cssParser = new CSSOMParser(new SACParserCSS3());
-        cssParser.setErrorHandler(new ThrowCssExceptionErrorHandler());
-        Pattern urlPattern = Pattern.compile("url\\((.*)\\)");
-        try {
-            // Parse style
-            CSSStyleDeclaration cssStyleDecl = cssParser.parseStyleDeclaration(
-                new InputSource(new StringReader(cssAttribute)));
-
-            // Loop through each attribute in decl
-            for (int i = 0; i < cssStyleDecl.getLength(); i++) {
-
-                // Check if it matches url(...) pattern
-                String property = cssStyleDecl.item(i);
-                CSSValue propertyValue = cssStyleDecl.getPropertyCSSValue(property);
-                String propertyPriority = cssStyleDecl.getPropertyPriority(property);
-                Matcher urlPropMatch = urlPattern.matcher(propertyValue.toString());
-                if (!urlPropMatch.matches()) {
+            int position = nameEnd;
+            boolean isSelfClosing = false;
+            while (position < length) {
+                char c = html.charAt(position);
+                if (c == '>') {
+                    position++;
+                    break;
+                }
+                if (c == '/' || Character.isWhitespace(c)) {
+                    isSelfClosing = c == '/';
+                    position++;
                     continue;
                 }
+                isSelfClosing = false;
+                position = rewriteAttribute(tagName, position);
+            }
 
-                // If it does, convert link
-                String url = urlPropMatch.toMatchResult().group(1);
-                String convertedUrl = convertUrl(baseUrl, url);
-                String newPropertyValue = "url(" + convertedUrl + ")";
+            if (isSelfClosing) {
+                return position;
+            }
+            switch (tagName) {
+            case "style":
+                return rewriteRawText(tagName, position, true);
+            case "script":
+            case "textarea":
+            case "title":
+            case "xmp":
+                return rewriteRawText(tagName, position, false);
+            default:
+                return position;
+            }
+        }
 
-                // And set it back in the style decl
-                cssStyleDecl.setProperty(property, newPropertyValue, propertyPriority);
+        /**
+         * Rewrites the attribute at {@code start} of a {@code tagName} start tag, and returns the index after it.
+         */
+        private int rewriteAttribute(String tagName, int start) {
+            int length = html.length();
+            int nameEnd = start + 1;
+            while (nameEnd < length && !isAttributeNameEnd(html.charAt(nameEnd))) {
+                nameEnd++;
+            }
+            int position = skipWhitespace(nameEnd);
+            if (position >= length || html.charAt(position) != '=') {
+                // An attribute without a value
+                return nameEnd;
+            }
+            position = skipWhitespace(position + 1);
+            if (position >= length) {
+                return position;
+            }
+
+            int valueStart;
+            int valueEnd;
+            char quote = html.charAt(position);
+            if (quote == '"' || quote == '\'') {
+                valueStart = position + 1;
+                valueEnd = html.indexOf(quote, valueStart);
+                if (valueEnd < 0) {
+                    // An unterminated value runs to the end of the document
+                    return length;
+                }
+                position = valueEnd + 1;
+            } else {
+                quote = 0;
+                valueStart = position;
+                valueEnd = position;
+                while (valueEnd < length && !Character.isWhitespace(html.charAt(valueEnd))
+                        && html.charAt(valueEnd) != '>') {
+                    valueEnd++;
+                }
+                position = valueEnd;
             }
 
-            return cssStyleDecl.getCssText();
-        } catch (IOException | CSSException ioe) {
-            // IOException will never happen since we use InputSource StringReader combo
-            // If CSS parsing had error, preserve style completely.
-            return cssAttribute;
+            String attributeName = html.substring(start, nameEnd).toLowerCase();
+            rewriteAttributeValue(tagName, attributeName, valueStart, valueEnd, quote);
+            return position;
         }
 
-    }
+        private void rewriteAttributeValue(String tagName, String attributeName, int valueStart, int valueEnd,
+                                           char quote) {
+            String value = html.substring(valueStart, valueEnd);
+            String rewrittenValue;
+            switch (attributeName) {
+            case "href":
+            case "src":
+                String unescapedValue = unescape(value);
+                String absoluteUrl = resolve(unescapedValue.trim());
+                if (tagName.equals("base") && attributeName.equals("href")) {
+                    updateBaseUrl(absoluteUrl);
+                }
+                rewrittenValue = absoluteUrl.equals(unescapedValue.trim()) ? value : absoluteUrl;
+                break;
+            case "srcset":
+                rewrittenValue = rewriteSrcset(value);
+                break;
+            case "style":
+                String unescapedCss = unescape(value);
+                String rewrittenCss = rewriteCssUrls(unescapedCss);
+                rewrittenValue = rewrittenCss == unescapedCss ? value : rewrittenCss;
+                break;
+            default:
+                return;
+            }
+            if (rewrittenValue == value) {
+                return;
+            }
+            char outputQuote = quote == 0 ? '"' : quote;
+            output.append(html, copiedUpTo, quote == 0 ? valueStart : valueStart - 1)
+                    .append(outputQuote);
+            escapeAttributeValue(rewrittenValue, outputQuote);
+            output.append(outputQuote);
+            copiedUpTo = quote == 0 ? valueEnd : valueEnd + 1;
+        }
 
-    /**
-     * Converts a URL to absolute form.
-     */
-    private static String convertUrl(URL baseUrl, String url) {
-        try {
-            return new URL(baseUrl, url).toExternalForm();
-        } catch (MalformedURLException mue) {
-            // Do nothing if URL is malformed, basically don't convert
-            return url;
+        /**
+         * Returns the srcset attribute {@code value} with the url of each image candidate resolved,
+         * or {@code value} itself if nothing needed resolving.
+         */
+        private String rewriteSrcset(String value) {
+            String[] candidates = unescape(value).split(",");
+            StringBuilder rewritten = new StringBuilder(value.length() + 64);
+            boolean isChanged = false;
+            for (int i = 0; i < candidates.length; i++) {
+                String candidate = candidates[i].trim();
+                int urlEnd = 0;
+                while (urlEnd < candidate.length() && !Character.isWhitespace(candidate.charAt(urlEnd))) {
+                    urlEnd++;
+                }
+                String url = candidate.substring(0, urlEnd);
+                String absoluteUrl = resolve(url);
+                isChanged |= !absoluteUrl.equals(url);
+                if (i > 0) {
+                    rewritten.append(", ");
+                }
+                rewritten.append(absoluteUrl).append(candidate, urlEnd, candidate.length());
+            }
+            return isChanged ? rewritten.toString() : value;
+        }
+
+        /**
+         * Returns {@code css} with the urls of its {@code url()} references resolved,
+         * or {@code css} itself if nothing needed resolving.
+         * References which are not terminated are left as they are, with the rest of the css.
+         */
+        private String rewriteCssUrls(String css) {
+            StringBuilder rewritten = null;
+            int copied = 0;
+            int position = 0;
+            while (true) {
+                int functionStart = indexOfIgnoreCase(css, CSS_URL_FUNCTION, position);
+                if (functionStart < 0) {
+                    break;
+                }
+                int urlStart = functionStart + CSS_URL_FUNCTION.length();
+                while (urlStart < css.length() && Character.isWhitespace(css.charAt(urlStart))) {
+                    urlStart++;
+                }
+                if (urlStart >= css.length()) {
+                    break;
+                }
+                int urlEnd;
+                char quote = css.charAt(urlStart);
+                if (quote == '"' || quote == '\'') {
+                    urlStart++;
+                    urlEnd = css.indexOf(quote, urlStart);
+                } else {
+                    urlEnd = css.indexOf(')', urlStart);
+                    while (urlEnd > urlStart && Character.isWhitespace(css.charAt(urlEnd - 1))) {
+                        urlEnd--;
+                    }
+                }
+                if (urlEnd < 0) {
+                    break;
+                }
+
+                String url = css.substring(urlStart, urlEnd);
+                String absoluteUrl = resolve(url);
+                if (!absoluteUrl.equals(url)) {
+                    if (rewritten == null) {
+                        rewritten = new StringBuilder(css.length() + 64);
+                    }
+                    rewritten.append(css, copied, urlStart).append(absoluteUrl);
+                    copied = urlEnd;
+                }
+                position = urlEnd;
+            }
+            if (rewritten == null) {
+                return css;
+            }
+            return rewritten.append(css, copied, css.length()).toString();
+        }
+
+        /**
+         * Copies the raw text contents of the {@code tagName} element starting at {@code start} up to its end tag,
+         * rewriting the css urls in them if {@code isCss}, and returns the index of the end tag.
+         */
+        private int rewriteRawText(String tagName, int start, boolean isCss) {
+            int end = start;
+            while (true) {
+                end = html.indexOf("</", end);
+                if (end < 0) {
+                    end = html.length();
+                    break;
+                }
+                if (html.regionMatches(true, end + 2, tagName, 0, tagName.length())) {
+                    break;
+                }
+                end += 2;
+            }
+            if (isCss) {
+                String css = html.substring(start, end);
+                String rewrittenCss = rewriteCssUrls(css);
+                if (rewrittenCss != css) {
+                    output.append(html, copiedUpTo, start).append(rewrittenCss);
+                    copiedUpTo = end;
+                }
+            }
+            return end;
+        }
+
+        /**
+         * Returns the absolute form of {@code url}, or {@code url} itself if it cannot be resolved.
+         */
+        private String resolve(String url) {
+            if (url.isEmpty()) {
+                return url;
+            }
+            try {
+                return new URL(baseUrl, url).toExternalForm();
+            } catch (MalformedURLException mue) {
+                // Do nothing if URL is malformed, basically don't convert
+                return url;
+            }
+        }
+
+        /**
+         * Resolves the urls after a {@code <base>} element against its url, like browsers do.
+         */
+        private void updateBaseUrl(String absoluteUrl) {
+            try {
+                baseUrl = new URL(absoluteUrl);
+            } catch (MalformedURLException mue) {
+                // Keep resolving against the document url
+            }
+        }
+
+        private int indexAfter(String delimiter, int from) {
+            int index = html.indexOf(delimiter, from);
+            return index < 0 ? html.length() : index + delimiter.length();
+        }
+
+        private int skipWhitespace(int position) {
+            while (position < html.length() && Character.isWhitespace(html.charAt(position))) {
+                position++;
+            }
+            return position;
+        }
+
+        private void escapeAttributeValue(String value, char quote) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '&') {
+                    output.append("&amp;");
+                } else if (c == quote) {
+                    output.append(quote == '"' ? "&quot;" : "&#39;");
+                } else {
+                    output.append(c);
+                }
+            }
+        }
+
+        private static boolean isTagNameEnd(char c) {
+            return c == '>' || c == '/' || Character.isWhitespace(c);
+        }
+
+        private static boolean isAttributeNameEnd(char c) {
+            return c == '>' || c == '/' || c == '=' || Character.isWhitespace(c);
+        }
+
+        private static int indexOfIgnoreCase(String text, String target, int from) {
+            for (int i = from; i <= text.length() - target.length(); i++) {
+                if (text.regionMatches(true, i, target, 0, target.length())) {
+                    return i;
+                }
+            }
+            return -1;
         }
-    }
 
+        /**
+         * Returns {@code value} with the character references that may occur in urls replaced by their characters.
+         */
+        private static String unescape(String value) {
+            if (value.indexOf('&') < 0) {
+                return value;
+            }
+            StringBuilder unescaped = new StringBuilder(value.length());
+            int i = 0;
+            while (i < value.length()) {
+                char c = value.charAt(i);
+                int referenceEnd = c == '&' ? value.indexOf(';', i) : -1;
+                if (referenceEnd < 0) {
+                    unescaped.append(c);
+                    i++;
+                    continue;
+                }
+                String reference = value.substring(i + 1, referenceEnd);
+                int codePoint = decodeReference(reference);
+                if (codePoint < 0) {
+                    unescaped.append(c);
+                    i++;
+                    continue;
+                }
+                unescaped.appendCodePoint(codePoint);
+                i = referenceEnd + 1;
+            }
+            return unescaped.toString();
+        }
+
+        /**
+         * Returns the code point of the character reference {@code reference}, without its '&' and ';',
+         * or -1 if it is not a reference that is decoded.
+         */
+        private static int decodeReference(String reference) {
+            switch (reference) {
+            case "amp":
+                return '&';
+            case "quot":
+                return '"';
+            case "apos":
+                return '\'';
+            case "lt":
+                return '<';
+            case "gt":
+                return '>';
+            default:
+                break;
+            }
+            if (reference.length() < 2 || reference.charAt(0) != '#') {
+                return -1;
+            }
+            try {
+                boolean isHex = reference.charAt(1) == 'x' || reference.charAt(1) == 'X';
+                int codePoint = isHex
+                        ? Integer.parseInt(reference.substring(2), 16)
+                        : Integer.parseInt(reference.substring(1));
+                return Character.isValidCodePoint(codePoint) ? codePoint : -1;
+            } catch (NumberFormatException nfe) {
+                return -1;
+            }
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package seedu.address.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+/**
+ * The outcome of fetching a resource only if it has changed since the given {@link HttpValidators}.
+ * Either the resource was not modified, or it comes with its content and its new validators, if any.
+ */
+public class ConditionalResponse {
+
+    private static final ConditionalResponse NOT_MODIFIED = new ConditionalResponse(null, Optional.empty());
+
+    private final byte[] content;
+    private final Optional<HttpValidators> validators;
+
+    private ConditionalResponse(byte[] content, Optional<HttpValidators> validators) {
+        this.content = content;
+        this.validators = validators;
+    }
+
+    /** Returns a response for a resource which has not been modified. */
+    public static ConditionalResponse notModified() {
+        return NOT_MODIFIED;
+    }
+
+    /** Returns a response for a resource which was fetched, with its {@code content} and {@code validators}. */
+    public static ConditionalResponse modified(byte[] content, Optional<HttpValidators> validators) {
+        requireNonNull(content);
+        requireNonNull(validators);
+        return new ConditionalResponse(content, validators);
+    }
+
+    public boolean isNotModified() {
+        return content == null;
+    }
+
+    /**
+     * Returns the content of the fetched resource.
+     * Must only be called if the resource was modified.
+     */
+    public byte[] getContent() {
+        assert !isNotModified();
+        return content;
+    }
+
+    /**
+     * Returns the validators of the fetched resource, if the server sent any.
+     * Empty if the resource was not modified.
+     */
+    public Optional<HttpValidators> getValidators() {
+        return validators;
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * What was seen of a feed when it was last refreshed, so that the next refresh only processes what is new.
+ * Guarantees: immutable; the content hash is present.
+ */
+public class FeedState {
+
+    private final String contentHash;
+    private final String lastItemId;
+    private final Instant lastPublished;
+    private final Set<String> seenItemIds;
+
+    /**
+     * @param contentHash hash of the content of the feed, as returned by {@link #hashContent}.
+     * @param lastItemId guid, or link if it has none, of the newest item of a feed listing its newest item first,
+     *                   or null if there is no such item.
+     * @param lastPublished latest date any item seen was published or updated, or null if no item had a date.
+     * @param seenItemIds guids, or links if they have none, of the items seen.
+     */
+    public FeedState(String contentHash, String lastItemId, Instant lastPublished, Collection<String> seenItemIds) {
+        requireNonNull(contentHash);
+        requireNonNull(seenItemIds);
+        this.contentHash = contentHash;
+        this.lastItemId = lastItemId;
+        this.lastPublished = lastPublished;
+        this.seenItemIds = Collections.unmodifiableSet(new LinkedHashSet<>(seenItemIds));
+    }
+
+    /**
+     * Returns the hash of the content of a feed, which only matches the hash of exactly the same content.
+     */
+    public static String hashContent(byte[] feedContent) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(feedContent));
+        } catch (NoSuchAlgorithmException nsae) {
+            // Every Java platform is required to support SHA-256
+            throw new AssertionError(nsae);
+        }
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public Optional<String> getLastItemId() {
+        return Optional.ofNullable(lastItemId);
+    }
+
+    public Optional<Instant> getLastPublished() {
+        return Optional.ofNullable(lastPublished);
+    }
+
+    /**
+     * Returns an unmodifiable set of the ids of the items seen, which is empty for states saved before
+     * they were remembered.
+     */
+    public Set<String> getSeenItemIds() {
+        return seenItemIds;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FeedState // instanceof handles nulls
+                && contentHash.equals(((FeedState) other).contentHash)
+                && Objects.equals(lastItemId, ((FeedState) other).lastItemId)
+                && Objects.equals(lastPublished, ((FeedState) other).lastPublished)
+                && seenItemIds.equals(((FeedState) other).seenItemIds));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contentHash, lastItemId, lastPublished, seenItemIds);
+    }
+
+    @Override
+    public String toString() {
+        return "Content hash: " + contentHash + ", Last item: " + lastItemId + ", Last published: " + lastPublished
+                + ", Seen items: " + seenItemIds.size();
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.util;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The validators a server sent with a resource, which can be sent back to only fetch the resource again if
+ * it has changed since.
+ * Guarantees: immutable; at least one of the validators is present.
+ */
+public class HttpValidators {
+
+    private final String entityTag;
+    private final String lastModified;
+
+    private HttpValidators(String entityTag, String lastModified) {
+        this.entityTag = entityTag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Returns the validators made of the given {@code ETag} and {@code Last-Modified} header values,
+     * or {@code Optional.empty()} if both are null or empty.
+     */
+    public static Optional<HttpValidators> of(String entityTag, String lastModified) {
+        String presentEntityTag = entityTag == null || entityTag.isEmpty() ? null : entityTag;
+        String presentLastModified = lastModified == null || lastModified.isEmpty() ? null : lastModified;
+        if (presentEntityTag == null && presentLastModified == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new HttpValidators(presentEntityTag, presentLastModified));
+    }
+
+    /** Returns the value of the {@code ETag} header, to be sent back as {@code If-None-Match}. */
+    public Optional<String> getEntityTag() {
+        return Optional.ofNullable(entityTag);
+    }
+
+    /** Returns the value of the {@code Last-Modified} header, to be sent back as {@code If-Modified-Since}. */
+    public Optional<String> getLastModified() {
+        return Optional.ofNullable(lastModified);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof HttpValidators // instanceof handles nulls
+                && Objects.equals(entityTag, ((HttpValidators) other).entityTag)
+                && Objects.equals(lastModified, ((HttpValidators) other).lastModified));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entityTag, lastModified);
+    }
+
+    @Override
+    public String toString() {
+        return "ETag: " + entityTag + ", Last-Modified: " + lastModified;
+    }
+}
@@ -1,18 +1,29 @@
 package seedu.address.util;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 import org.asynchttpclient.AsyncHttpClient;
+import org.asynchttpclient.BoundRequestBuilder;
 import org.asynchttpclient.Dsl;
 import org.asynchttpclient.Response;
+import org.asynchttpclient.netty.channel.ChannelManager;
 
+import io.netty.channel.Channel;
 import seedu.address.commons.core.LogsCenter;
 
 /**
@@ -26,11 +37,136 @@ public abstract class Network {
     private static final int CONNECTION_TIMEOUT_MILLIS = 1000 * 10; // 10 seconds
     private static final int READ_TIMEOUT_MILLIS = 1000 * 10; // 10 seconds
     private static final int REQUEST_TIMEOUT_MILLIS = 1000 * 60; // 60 seconds
+    private static final int STATUS_NOT_MODIFIED = 304;
+    private static final String ACCEPTED_CONTENT_ENCODINGS = "gzip, deflate";
 
     private static final AsyncHttpClient asyncHttpClient = Dsl.asyncHttpClient(Dsl.config()
         .setConnectTimeout(CONNECTION_TIMEOUT_MILLIS)
         .setReadTimeout(READ_TIMEOUT_MILLIS)
-        .setRequestTimeout(REQUEST_TIMEOUT_MILLIS));
+        .setRequestTimeout(REQUEST_TIMEOUT_MILLIS)
+        .setHttpAdditionalChannelInitializer(Network::removeInflater));
+
+    private static final LongAdder wireBytesReceived = new LongAdder();
+    private static final LongAdder decodedBytesReceived = new LongAdder();
+
+    private static volatile RequestLimiter requestLimiter = new RequestLimiter();
+
+    /**
+     * Removes the inflater which AsyncHttpClient installs on every channel,
+     * so that response bodies arrive still compressed and are only decompressed while being consumed.
+     */
+    private static void removeInflater(Channel channel) {
+        if (channel.pipeline().get(ChannelManager.INFLATER_HANDLER) != null) {
+            channel.pipeline().remove(ChannelManager.INFLATER_HANDLER);
+        }
+    }
+
+    /**
+     * Returns the request limiter which commands, feed polling and article downloads all submit their requests to,
+     * so that together they stay within one set of limits.
+     */
+    public static RequestLimiter getRequestLimiter() {
+        return requestLimiter;
+    }
+
+    /**
+     * Replaces the shared request limiter with one with the given limits.
+     * Should be called once on startup, as requests already submitted stay under the old limits.
+     */
+    public static void setRequestLimits(int maxConcurrentRequests, int maxConcurrentRequestsPerHost) {
+        requestLimiter = new RequestLimiter(maxConcurrentRequests, maxConcurrentRequestsPerHost);
+    }
+
+    /** Returns the total number of response body bytes received over http(s), before decompression. */
+    public static long getWireBytesReceived() {
+        return wireBytesReceived.sum();
+    }
+
+    /** Returns the total number of response body bytes consumed after decompression. */
+    public static long getDecodedBytesReceived() {
+        return decodedBytesReceived.sum();
+    }
+
+    /**
+     * Returns a stream which decompresses {@code body} according to {@code contentEncoding} as it is read.
+     * @throws IOException if the content encoding is not supported, or the body is not validly compressed.
+     */
+    static InputStream decodeBody(byte[] body, String contentEncoding) throws IOException {
+        InputStream bodyStream = new ByteArrayInputStream(body);
+        if (contentEncoding == null) {
+            return bodyStream;
+        }
+        switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+        case "":
+        case "identity":
+            return bodyStream;
+        case "gzip":
+        case "x-gzip":
+            return new GZIPInputStream(bodyStream);
+        case "deflate":
+            // Some servers send a raw deflate stream instead of the zlib-wrapped one required by the spec
+            return new InflaterInputStream(bodyStream, new Inflater(!hasZlibHeader(body)));
+        default:
+            throw new IOException("Unsupported content encoding: " + contentEncoding);
+        }
+    }
+
+    /** Returns true if {@code body} starts with a zlib header (RFC 1950). */
+    private static boolean hasZlibHeader(byte[] body) {
+        if (body.length < 2) {
+            return false;
+        }
+        int compressionMethodAndFlags = body[0] & 0xff;
+        int flags = body[1] & 0xff;
+        return (compressionMethodAndFlags & 0x0f) == 8 && ((compressionMethodAndFlags << 8) | flags) % 31 == 0;
+    }
+
+    /**
+     * Returns the body of the response as a stream, which is decompressed as it is read.
+     * AsyncHttpClient only hands over the body once it has fully arrived, so it is held in memory compressed,
+     * and only the decompressed copy is built up by the caller as it reads.
+     * Both the compressed and decompressed sizes are added to the byte counters.
+     */
+    private static InputStream getDecodedBodyAsStream(Response response) throws IOException {
+        byte[] body = response.getResponseBodyAsBytes();
+        wireBytesReceived.add(body.length);
+        return new DecodedByteCountingInputStream(decodeBody(body, response.getHeader("Content-Encoding")));
+    }
+
+    /**
+     * Counts every byte read through it into the decoded bytes counter.
+     */
+    private static class DecodedByteCountingInputStream extends FilterInputStream {
+
+        DecodedByteCountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int result = super.read();
+            if (result != -1) {
+                decodedBytesReceived.increment();
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int bytesRead = super.read(b, off, len);
+            if (bytesRead > 0) {
+                decodedBytesReceived.add(bytesRead);
+            }
+            return bytesRead;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long bytesSkipped = super.skip(n);
+            decodedBytesReceived.add(bytesSkipped);
+            return bytesSkipped;
+        }
+    }
 
     /**
      * Fetches the resource (i.e. webpage) at url asynchronously,
@@ -38,8 +174,26 @@ public abstract class Network {
      * returning it as a Response
      */
     private static CompletableFuture<Response> fetchAsResponseAsync(URL url, int maxRedirects) {
+        return fetchAsResponseAsync(url, maxRedirects, Optional.empty());
+    }
+
+    /**
+     * Fetches the resource (i.e. webpage) at url asynchronously,
+     * redirecting at most maxRedirect times,
+     * returning it as a Response.
+     * If {@code validators} are given, the server is asked to respond with 304 Not Modified if they still match.
+     */
+    private static CompletableFuture<Response> fetchAsResponseAsync(URL url, int maxRedirects,
+                                                                    Optional<HttpValidators> validators) {
         logger.info("Initiating network response to fetch: " + url + " with at most " + maxRedirects + " redirects");
-        return asyncHttpClient.prepareGet(url.toString())
+        BoundRequestBuilder request = asyncHttpClient.prepareGet(url.toString())
+            .setHeader("Accept-Encoding", ACCEPTED_CONTENT_ENCODINGS);
+        validators.ifPresent(presentValidators -> {
+            presentValidators.getEntityTag().ifPresent(entityTag -> request.setHeader("If-None-Match", entityTag));
+            presentValidators.getLastModified().ifPresent(lastModified ->
+                    request.setHeader("If-Modified-Since", lastModified));
+        });
+        return request
             .execute()
             .toCompletableFuture()
             .thenCompose(response -> {
@@ -54,7 +208,7 @@ public abstract class Network {
                         try {
                             URL newUrl = new URL(url, response.getHeader("Location"));
                             logger.info("While fetching " + url + ", we got redirected to " + newUrl);
-                            return fetchAsResponseAsync(newUrl, maxRedirects - 1);
+                            return fetchAsResponseAsync(newUrl, maxRedirects - 1, validators);
                         } catch (MalformedURLException mue) {
                             // If the redirect was invalid, just give up
                             break;
@@ -81,7 +235,13 @@ public abstract class Network {
                 return CompletableFuture.failedFuture(ioe);
             }
         }
-        return fetchAsResponseAsync(url, maxRedirects).thenApply(Response::getResponseBodyAsStream);
+        return fetchAsResponseAsync(url, maxRedirects).thenCompose(response -> {
+            try {
+                return CompletableFuture.completedFuture(getDecodedBodyAsStream(response));
+            } catch (IOException ioe) {
+                return CompletableFuture.failedFuture(ioe);
+            }
+        });
     }
 
     /**
@@ -193,8 +353,74 @@ public abstract class Network {
             .thenApply(articleContent -> AbsoluteUrlDocumentConverter.convert(url, articleContent));
     }
 
-    /** Cleans up by closing the AsyncHttpClient. */
+    /**
+     * Fetches the resource (i.e. webpage) at url asynchronously, unless it has not been modified since
+     * {@code validators} were sent with it.
+     * Resources which are not fetched over http(s) are always fetched, and come without validators.
+     */
+    public static CompletableFuture<ConditionalResponse> fetchIfModifiedAsync(URL url,
+                                                                             Optional<HttpValidators> validators) {
+        if (!url.getProtocol().equals("http")
+            && !url.getProtocol().equals("https")) {
+            return fetchAsBytesAsync(url)
+                .thenApply(content -> ConditionalResponse.modified(content, Optional.empty()));
+        }
+        return fetchAsResponseAsync(url, DEFAULT_NUM_REDIRECTS, validators)
+            .thenApply(response -> {
+                if (response.getStatusCode() == STATUS_NOT_MODIFIED) {
+                    logger.info("Not modified since last fetched: " + url);
+                    return ConditionalResponse.notModified();
+                }
+                byte[] content;
+                try {
+                    content = getDecodedBodyAsStream(response).readAllBytes();
+                } catch (IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+                return ConditionalResponse.modified(content,
+                    HttpValidators.of(response.getHeader("ETag"), response.getHeader("Last-Modified")));
+            });
+    }
+
+    /**
+     * Fetches the resource (i.e. webpage) at url, unless it has not been modified since
+     * {@code validators} were sent with it.
+     */
+    public static ConditionalResponse fetchIfModified(URL url, Optional<HttpValidators> validators)
+            throws IOException {
+        try {
+            return fetchIfModifiedAsync(url, validators).get();
+        } catch (ExecutionException | InterruptedException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            } else if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else {
+                throw new IOException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Fetches the article linked at the URL, unless it has not been modified since {@code validators}
+     * were sent with it, pre-processing a fetched article by converting all links to absolute form.
+     */
+    public static ConditionalResponse fetchArticleIfModified(URL url, Optional<HttpValidators> validators)
+            throws IOException {
+        ConditionalResponse response = fetchIfModified(url, validators);
+        if (response.isNotModified()) {
+            return response;
+        }
+        // Convert all links in article to absolute links
+        return ConditionalResponse.modified(
+                AbsoluteUrlDocumentConverter.convert(url, response.getContent()),
+                response.getValidators());
+    }
+
+    /** Cleans up by closing the AsyncHttpClient, logging how much compression saved while it was open. */
     public static void stop() throws IOException {
+        logger.info("Received " + getWireBytesReceived() + " response body bytes over http(s), "
+                + getDecodedBytesReceived() + " bytes after decompression");
         asyncHttpClient.close();
     }
 }
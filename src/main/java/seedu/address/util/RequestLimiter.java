@@ -0,0 +1,136 @@
+package seedu.address.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of asynchronous requests in flight, both in total and per host.
+ * Requests beyond the limits are queued, and started in submission order as earlier requests complete.
+ */
+public class RequestLimiter {
+
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 8;
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST = 2;
+
+    private final int maxConcurrentRequests;
+    private final int maxConcurrentRequestsPerHost;
+
+    // All fields below are guarded by this.
+    private final LinkedList<PendingRequest<?>> pendingRequests = new LinkedList<>();
+    private final Map<String, Integer> numRequestsInFlightPerHost = new HashMap<>();
+    private int numRequestsInFlight = 0;
+
+    public RequestLimiter() {
+        this(DEFAULT_MAX_CONCURRENT_REQUESTS, DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST);
+    }
+
+    /**
+     * Constructs a {@code RequestLimiter} with the given limits, which must both be positive.
+     */
+    public RequestLimiter(int maxConcurrentRequests, int maxConcurrentRequestsPerHost) {
+        if (maxConcurrentRequests <= 0 || maxConcurrentRequestsPerHost <= 0) {
+            throw new IllegalArgumentException("Concurrency limits must be positive");
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+    }
+
+    /**
+     * Submits a request to {@code url}, which is started by calling {@code request}
+     * once the limits allow it.
+     * @return A future which completes with the result of the request.
+     */
+    public <T> CompletableFuture<T> submit(URL url, Supplier<CompletableFuture<T>> request) {
+        requireNonNull(url);
+        requireNonNull(request);
+
+        PendingRequest<T> pendingRequest = new PendingRequest<>(getHostKey(url), request);
+        synchronized (this) {
+            pendingRequests.add(pendingRequest);
+        }
+        dispatch();
+        return pendingRequest.result;
+    }
+
+    /**
+     * Returns the number of requests which have been started but not yet completed.
+     */
+    public synchronized int getNumRequestsInFlight() {
+        return numRequestsInFlight;
+    }
+
+    /**
+     * Starts as many pending requests as the limits allow.
+     * Requests are started outside of the lock, as they may complete synchronously.
+     */
+    private void dispatch() {
+        List<PendingRequest<?>> requestsToStart = new ArrayList<>();
+        synchronized (this) {
+            Iterator<PendingRequest<?>> iterator = pendingRequests.iterator();
+            while (numRequestsInFlight < maxConcurrentRequests && iterator.hasNext()) {
+                PendingRequest<?> pendingRequest = iterator.next();
+                int numRequestsInFlightForHost = numRequestsInFlightPerHost.getOrDefault(pendingRequest.host, 0);
+                if (numRequestsInFlightForHost >= maxConcurrentRequestsPerHost) {
+                    continue;
+                }
+                iterator.remove();
+                numRequestsInFlight++;
+                numRequestsInFlightPerHost.put(pendingRequest.host, numRequestsInFlightForHost + 1);
+                requestsToStart.add(pendingRequest);
+            }
+        }
+        requestsToStart.forEach(this::start);
+    }
+
+    private <T> void start(PendingRequest<T> pendingRequest) {
+        CompletableFuture<T> future;
+        try {
+            future = pendingRequest.request.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((value, throwable) -> {
+            release(pendingRequest.host);
+            if (throwable != null) {
+                pendingRequest.result.completeExceptionally(throwable);
+            } else {
+                pendingRequest.result.complete(value);
+            }
+        });
+    }
+
+    private void release(String host) {
+        synchronized (this) {
+            numRequestsInFlight--;
+            numRequestsInFlightPerHost.computeIfPresent(host, (unused, count) -> count > 1 ? count - 1 : null);
+        }
+        dispatch();
+    }
+
+    private static String getHostKey(URL url) {
+        return url.getHost().toLowerCase();
+    }
+
+    /**
+     * A request which has been submitted, together with the future its result is passed on to.
+     */
+    private static class PendingRequest<T> {
+        private final String host;
+        private final Supplier<CompletableFuture<T>> request;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private PendingRequest(String host, Supplier<CompletableFuture<T>> request) {
+            this.host = host;
+            this.request = request;
+        }
+    }
+}
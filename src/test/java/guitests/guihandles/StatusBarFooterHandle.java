@@ -2,6 +2,7 @@ package guitests.guihandles;
 
 import javafx.scene.Node;
 import javafx.scene.control.Labeled;
+import seedu.address.ui.StatusBarFooter;
 
 /**
  * A handle for the {@code StatusBarFooter} at the footer of the application.
@@ -12,10 +13,12 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
     private static final String SYNC_STATUS_ID = "#syncStatus";
     private static final String SAVE_LOCATION_STATUS_ID = "#saveLocationStatus";
     private static final String CONTEXT_ENTRY_COUNT_STATUS_ID = "#contextEntryCountStatus";
+    private static final String COMMAND_STATUS_ID = "#commandStatus";
 
     private final Labeled syncStatusNode;
     private final Labeled saveLocationNode;
     private final Labeled contextEntryCountNode;
+    private final Labeled commandStatusNode;
 
     private String lastRememberedSyncStatus;
     private String lastRememberedSaveLocation;
@@ -26,6 +29,7 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
         syncStatusNode = getChildNode(SYNC_STATUS_ID);
         saveLocationNode = getChildNode(SAVE_LOCATION_STATUS_ID);
         contextEntryCountNode = getChildNode(CONTEXT_ENTRY_COUNT_STATUS_ID);
+        commandStatusNode = getChildNode(COMMAND_STATUS_ID);
     }
 
     /**
@@ -49,6 +53,20 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
         return contextEntryCountNode.getText();
     }
 
+    /**
+     * Returns the text of the 'command status' section of the status bar.
+     */
+    public String getCommandStatus() {
+        return commandStatusNode.getText();
+    }
+
+    /**
+     * Waits until no commands are being executed in the background.
+     */
+    public void waitUntilCommandsFinished() {
+        guiRobot.waitForEvent(() -> getCommandStatus().equals(StatusBarFooter.COMMAND_STATUS_IDLE));
+    }
+
     /**
      * Remembers the content of the sync status portion of the status bar.
      */
@@ -109,6 +109,8 @@ public class TestApp extends MainApp {
         userPrefs.setListEntryBookFilePath(saveFileLocationListEntryBook);
         userPrefs.setArchivesEntryBookFilePath(saveFileLocationArchivesEntryBook);
         userPrefs.setFeedsEntryBookFilePath(saveFileLocationFeedsEntryBook);
+        // Save synchronously, so that the storage files can be checked right after each command
+        userPrefs.setEntryBookSaveDelayMillis(0);
         return userPrefs;
     }
 
@@ -1,12 +1,20 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.util.FeedUtil.fromFeedContent;
 import static seedu.address.commons.util.FeedUtil.fromFeedUrl;
+import static seedu.address.commons.util.FeedUtil.updateFromFeedContent;
 import static seedu.address.testutil.TypicalEntries.ANIMEREVIEW_FEED_BASE_URL;
 import static seedu.address.testutil.TypicalEntries.LOCAL_FEED_BASE_URL;
 import static seedu.address.testutil.TypicalEntries.NOT_A_FEED_BASE_URL;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.Rule;
@@ -15,10 +23,13 @@ import org.junit.rules.ExpectedException;
 
 import com.rometools.rome.io.FeedException;
 
+import seedu.address.model.EntryBook;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.TypicalEntries;
+import seedu.address.util.FeedState;
 
 public class FeedUtilTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "FeedUtilTest");
     private static final Tag TAG_TECH = new Tag("Tech");
 
     @Rule
@@ -41,6 +52,76 @@ public class FeedUtilTest {
                 .allMatch(entry -> entry.getTags().contains(TAG_TECH)));
     }
 
+    @Test
+    public void fromFeedContent_formatUnsupportedByStreamingParser_parsedByRome() throws Exception {
+        Path feedPath = TEST_DATA_FOLDER.resolve("atom03.xml");
+        EntryBook entryBook = fromFeedContent(Files.readAllBytes(feedPath), feedPath.toUri().toURL(), Set.of());
+        assertEquals(1, entryBook.getEntryList().size());
+        assertEquals("https://therapsid.example/dicynodonts",
+                entryBook.getEntryList().get(0).getLink().value.toString());
+    }
+
+    @Test
+    public void updateFromFeedContent_noLastState_allEntries() throws Exception {
+        Optional<FeedUpdate> feedUpdate = updateFromFeedData("rssBeforeRefresh.xml", Optional.empty());
+        assertEquals(2, feedUpdate.get().getNewEntries().getEntryList().size());
+        assertEquals(Optional.of("https://palaeo.example/?p=2"), feedUpdate.get().getFeedState().getLastItemId());
+    }
+
+    @Test
+    public void updateFromFeedContent_contentUnchanged_emptyResult() throws Exception {
+        FeedState lastState = updateFromFeedData("rssBeforeRefresh.xml", Optional.empty()).get().getFeedState();
+        assertFalse(updateFromFeedData("rssBeforeRefresh.xml", Optional.of(lastState)).isPresent());
+    }
+
+    @Test
+    public void updateFromFeedContent_newestFirstFeedWithNewItem_onlyNewEntry() throws Exception {
+        FeedState lastState = updateFromFeedData("rssBeforeRefresh.xml", Optional.empty()).get().getFeedState();
+        FeedUpdate feedUpdate = updateFromFeedData("rssAfterRefresh.xml", Optional.of(lastState)).get();
+        assertEquals(1, feedUpdate.getNewEntries().getEntryList().size());
+        assertEquals("https://palaeo.example/feathered-amber",
+                feedUpdate.getNewEntries().getEntryList().get(0).getLink().value.toString());
+        assertEquals(Optional.of("https://palaeo.example/?p=3"), feedUpdate.getFeedState().getLastItemId());
+    }
+
+    @Test
+    public void updateFromFeedContent_oldestFirstFeedWithNewItem_onlyNewEntry() throws Exception {
+        FeedState lastState =
+                updateFromFeedData("atomOldestFirstBeforeRefresh.xml", Optional.empty()).get().getFeedState();
+        assertFalse(lastState.getLastItemId().isPresent());
+        FeedUpdate feedUpdate = updateFromFeedData("atomOldestFirstAfterRefresh.xml", Optional.of(lastState)).get();
+        assertEquals(1, feedUpdate.getNewEntries().getEntryList().size());
+        assertEquals("https://trilobite.example/moulting",
+                feedUpdate.getNewEntries().getEntryList().get(0).getLink().value.toString());
+        assertEquals(Optional.of(Instant.parse("2018-11-05T12:00:00Z")), feedUpdate.getFeedState().getLastPublished());
+    }
+
+    @Test
+    public void updateFromFeedContent_newItemPublishedWithLastItem_onlyNewEntry() throws Exception {
+        FeedState lastState = updateFromFeedData("rssBeforeRefresh.xml", Optional.empty()).get().getFeedState();
+        FeedUpdate feedUpdate =
+                updateFromFeedData("rssAfterRefreshWithItemAtSameTime.xml", Optional.of(lastState)).get();
+        assertEquals(1, feedUpdate.getNewEntries().getEntryList().size());
+        assertEquals("https://palaeo.example/pterosaur-eggs",
+                feedUpdate.getNewEntries().getEntryList().get(0).getLink().value.toString());
+    }
+
+    @Test
+    public void updateFromFeedContent_newItemBackdated_onlyNewEntry() throws Exception {
+        FeedState lastState = updateFromFeedData("rssBeforeRefresh.xml", Optional.empty()).get().getFeedState();
+        FeedUpdate feedUpdate =
+                updateFromFeedData("rssAfterRefreshWithBackdatedItem.xml", Optional.of(lastState)).get();
+        assertEquals(1, feedUpdate.getNewEntries().getEntryList().size());
+        assertEquals("https://palaeo.example/trilobite-eyes",
+                feedUpdate.getNewEntries().getEntryList().get(0).getLink().value.toString());
+    }
+
+    private Optional<FeedUpdate> updateFromFeedData(String feedFileInTestDataFolder, Optional<FeedState> lastState)
+            throws Exception {
+        Path feedPath = TEST_DATA_FOLDER.resolve(feedFileInTestDataFolder);
+        return updateFromFeedContent(Files.readAllBytes(feedPath), feedPath.toUri().toURL(), Set.of(), lastState);
+    }
+
     @Test
     public void fromFeedUrl_notValidFeed_throwsException() throws Exception {
         thrown.expect(FeedException.class);
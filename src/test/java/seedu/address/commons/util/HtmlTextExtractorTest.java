@@ -0,0 +1,110 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.jsoup.Jsoup;
+import org.junit.Test;
+
+public class HtmlTextExtractorTest {
+
+    /** Descriptions in the styles of feeds seen in the wild, and some markup they commonly get wrong. */
+    private static final String[] DESCRIPTION_SAMPLES = {
+        // WordPress
+        "<p>The post <a href=\"https://example.com/x\">Hello World</a> appeared first on "
+                + "<a href=\"https://example.com\">Example Blog</a>.</p>",
+        "<p>Dicynodonts had tusks&nbsp;and beaks [&#8230;]</p>\n<p>The post <a href=\"x\">Dicynodonts</a> "
+                + "appeared first.</p>",
+        // Reddit
+        "<!-- SC_OFF --><div class=\"md\"><p>What is your favourite therapsid?</p>\n</div><!-- SC_ON --> &#32; "
+                + "submitted by &#32; <a href=\"https://www.reddit.com/user/x\"> /u/x </a> <br/> "
+                + "<span><a href=\"y\">[link]</a></span> &#32; <span><a href=\"z\">[comments]</a></span>",
+        // Google News
+        "<ol><li><a href=\"https://news.example/1\" target=\"_blank\">Gorgonopsians found</a>&nbsp;&nbsp;"
+                + "<font color=\"#6f6f6f\">The Times</font></li><li><a href=\"2\">More fossils</a>&nbsp;&nbsp;"
+                + "<font color=\"#6f6f6f\">BBC</font></li></ol>",
+        // Hacker News
+        "<a href=\"https://news.ycombinator.com/item?id=1\">Comments</a>",
+        // Medium
+        "<div class=\"medium-feed-item\"><p class=\"medium-feed-image\"><a href=\"x\">"
+                + "<img src=\"https://cdn.example/1.jpeg\" width=\"800\"></a></p>"
+                + "<p class=\"medium-feed-snippet\">Therapsids were the ancestors of mammals&#x2026;</p>"
+                + "<p class=\"medium-feed-link\"><a href=\"y\">Continue reading on Medium \u00bb</a></p></div>",
+        // Podcasts
+        "<p>In this episode:</p><ul><li>Dicynodonts</li><li>Gorgonopsians</li></ul>"
+                + "<p>Links:<br>one<br/>two<br />three</p>",
+        "<p>Line one<br>\nLine two</p>\n\n<p>Paragraph two</p>",
+        // Plain text
+        "Sabre-toothed\n    predators of the Permian\n\nMore at https://example.com",
+        "Zero\u200bwidth soft\u00adhyphen \u00a0 nbsp\ttab\r\ncrlf \ud83d\ude00 emoji",
+        "   ",
+        "",
+        // Character references
+        "a < b &amp;&amp; c > d, &lt;tag&gt; &quot;quoted&quot; &apos;s &copy; 2019 &AMP; &#169; &#xA9; &#X1F600; "
+                + "&unknown; &amp",
+        "Fish &amp; chips &mdash; 5&euro; &hellip; &lsquo;ok&rsquo; &rarr; &notanentity; & alone",
+        "&#0;&#xD800;&#99999999999; odd numbers",
+        // Other markup
+        "<script>var x = '<p>not text</p>';</script>Visible<style>p { color: red }</style> text",
+        "<pre>  code\n    indented  </pre>after",
+        "<pre>\nleading line break</pre>",
+        "<div>One</div>Two<div>Three</div> Four <span>Five</span><p>Six</p>",
+        "<p>Unclosed paragraph<p>Another one<li>item",
+        "<h2>Heading</h2><blockquote>Quote</blockquote><hr>After rule<hr/>More",
+        "<img src=\"a.png\" alt=\"ignored\"> Caption <em>emphasis</em><strong>strong</strong>",
+        "<table><tr><td>Cell 1</td><td>Cell 2</td></tr></table>",
+        "<o:p>Office markup</o:p><font face=\"Arial\">Font</font>",
+        "<a title=\"a > b\" href='c'>Attribute with angle</a>",
+        "<![CDATA[not really cdata]]> text",
+        "<!DOCTYPE html><html><body><p>Full document</p></body></html>",
+        "Text with a trailing <",
+        "<p>Nested <b>bold <i>italic</i></b> text</p>",
+        "<figure><img src=\"x\"><figcaption>Caption</figcaption></figure>Text",
+        "<iframe src=\"x\"></iframe>After frame",
+        "<textarea>  Keep   spaces &amp; </textarea>",
+        "<?xml version=\"1.0\"?><p>Processing instruction</p>",
+        "<!---->empty comment<!-- a -- b -->end",
+        "Stray</div> end</span> tags</p>here",
+    };
+
+    private final HtmlTextExtractor extractor = new HtmlTextExtractor();
+
+    @Test
+    public void extractText_descriptionSamples_sameAsJsoup() {
+        for (String sample : DESCRIPTION_SAMPLES) {
+            assertEquals(sample, Jsoup.parseBodyFragment(sample).body().text(), extractor.extractText(sample));
+        }
+    }
+
+    @Test
+    public void extractText_markup_stripped() {
+        assertEquals("Dicynodonts had tusks.",
+                extractor.extractText("<p>Dicynodonts had <b>tusks</b>.<!-- comment --></p><script>x</script>"));
+    }
+
+    @Test
+    public void extractText_blockElements_separatedBySpaces() {
+        assertEquals("One Two Three", extractor.extractText("<p>One</p><div>Two</div>Three"));
+        assertEquals("One Two", extractor.extractText("One<br>Two"));
+        assertEquals("OneTwo", extractor.extractText("<b>One</b><i>Two</i>"));
+    }
+
+    @Test
+    public void extractText_characterReferences_decoded() {
+        assertEquals("\u2026 & < \u00a9 \u00a9 \ud83d\ude00",
+                extractor.extractText("&hellip; &amp; &lt; &copy &#169; &#x1F600;"));
+        assertEquals("&notanentity; &", extractor.extractText("&notanentity; &"));
+    }
+
+    @Test
+    public void extractText_whitespace_normalized() {
+        assertEquals("a b c", extractor.extractText("  a \n\t b&nbsp;&nbsp;c  "));
+        assertEquals("a\n  b", extractor.extractText("<pre>a\n  b</pre>"));
+    }
+
+    @Test
+    public void extractText_reused_independentResults() {
+        assertEquals("A much longer first fragment",
+                extractor.extractText("<pre><p>A much longer first fragment"));
+        assertEquals("short text", extractor.extractText("short   text"));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.util.StringUtil.foldCase;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PhraseMatcherTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_blankPhrase_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new PhraseMatcher("  ");
+    }
+
+    @Test
+    public void isFoundIn() {
+        // EP: phrase at the start, middle and end of the text
+        assertFound("ABc def hij", "abc");
+        assertFound("ABc def hij", "dEf hij");
+        assertFound("ABc def", "bc d");
+        assertFound("ABc def", "  def ");
+
+        // EP: phrase as long as the text
+        assertFound("ABc def", "abc def");
+
+        // EP: phrase not in text
+        assertNotFound("ABc def", "b def");
+        assertNotFound("ABc def", "abc def g");
+        assertNotFound("", "a");
+
+        // EP: repeated characters, where a naive shift would skip past the match
+        assertFound("aaaab", "aab");
+        assertFound("abababc", "ababc");
+
+        // EP: characters sharing a bucket in the shift table
+        assertFound("\u0161xabc", "abc");
+        assertFound("abc\u0161a", "c\u0161a");
+        assertNotFound("abc\u0161a", "caa");
+
+        // EP: non-ascii case
+        assertFound("Stra\u00dfe \u00c9COLE", "\u00e9cole");
+    }
+
+    private void assertFound(String text, String phrase) {
+        assertTrue(new PhraseMatcher(phrase).isFoundIn(foldCase(text)));
+    }
+
+    private void assertNotFound(String text, String phrase) {
+        assertFalse(new PhraseMatcher(phrase).isFoundIn(foldCase(text)));
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalEntries.BING_33_FEED_BASE_URL;
+import static seedu.address.testutil.TypicalEntries.EMPTY_FEED_BASE_URL;
+import static seedu.address.testutil.TypicalEntries.LOCAL_FEED_BASE_URL;
+import static seedu.address.testutil.TypicalEntries.NOT_A_FEED_BASE_URL;
+import static seedu.address.testutil.TypicalEntries.ONE_ITEM_FEED_BASE_URL;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.rometools.rome.feed.synd.SyndFeed;
+import com.rometools.rome.io.SyndFeedInput;
+import com.rometools.rome.io.XmlReader;
+
+import seedu.address.model.EntryBook;
+import seedu.address.model.tag.Tag;
+
+public class StreamingFeedParserTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "StreamingFeedParserTest");
+    private static final Set<Tag> TAGS = Set.of(new Tag("Tech"));
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void parse_bundledFeeds_sameAsRome() throws Exception {
+        assertSameAsRome(LOCAL_FEED_BASE_URL);
+        assertSameAsRome(ONE_ITEM_FEED_BASE_URL);
+        assertSameAsRome(EMPTY_FEED_BASE_URL);
+        assertSameAsRome(BING_33_FEED_BASE_URL);
+    }
+
+    @Test
+    public void parse_rssFeed_sameAsRome() throws Exception {
+        EntryBook entryBook = assertSameAsRome(getTestDataUrl("rss.xml"));
+        // Items without a valid link and duplicate items are discarded
+        assertEquals(4, entryBook.getEntryList().size());
+    }
+
+    @Test
+    public void parse_atomFeed_sameAsRome() throws Exception {
+        EntryBook entryBook = assertSameAsRome(getTestDataUrl("atom.xml"));
+        assertEquals(3, entryBook.getEntryList().size());
+    }
+
+    @Test
+    public void parse_rdfFeed_sameAsRome() throws Exception {
+        EntryBook entryBook = assertSameAsRome(getTestDataUrl("rdf.xml"));
+        assertEquals(2, entryBook.getEntryList().size());
+    }
+
+    @Test
+    public void parse_unsupportedFormat_returnsEmptyOptional() throws Exception {
+        URL opmlUrl = getTestDataUrl("opml.xml");
+        try (InputStream feedContent = opmlUrl.openStream()) {
+            assertFalse(StreamingFeedParser.parse(feedContent, opmlUrl.toString(), TAGS).isPresent());
+        }
+    }
+
+    @Test
+    public void parse_notXml_throwsXmlStreamException() throws Exception {
+        try (InputStream feedContent = NOT_A_FEED_BASE_URL.openStream()) {
+            thrown.expect(XMLStreamException.class);
+            StreamingFeedParser.parse(feedContent, NOT_A_FEED_BASE_URL.toString(), TAGS);
+        }
+    }
+
+    /**
+     * Asserts that the feed at {@code feedUrl} is parsed into the same entries as by Rome, and returns them.
+     */
+    private EntryBook assertSameAsRome(URL feedUrl) throws Exception {
+        EntryBook expectedEntryBook;
+        try (InputStream feedContent = feedUrl.openStream()) {
+            SyndFeed syndFeed = new SyndFeedInput().build(new XmlReader(feedContent));
+            expectedEntryBook = FeedUtil.serializeToEntryBook(syndFeed, feedUrl.toString(), TAGS);
+        }
+        try (InputStream feedContent = feedUrl.openStream()) {
+            EntryBook entryBook = StreamingFeedParser.parse(feedContent, feedUrl.toString(), TAGS).get();
+            assertEquals(expectedEntryBook, entryBook);
+            return entryBook;
+        }
+    }
+
+    private URL getTestDataUrl(String fileName) throws Exception {
+        return TEST_DATA_FOLDER.resolve(fileName).toUri().toURL();
+    }
+}
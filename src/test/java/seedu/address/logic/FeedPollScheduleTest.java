@@ -0,0 +1,70 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class FeedPollScheduleTest {
+
+    private FeedPollSchedule schedule = new FeedPollSchedule();
+
+    @Test
+    public void getNextDelay_noPolls_defaultInterval() {
+        assertEquals(FeedPollSchedule.DEFAULT_INTERVAL, schedule.getNextDelay());
+    }
+
+    @Test
+    public void recordParsed_newItems_followsPublishInterval() {
+        schedule.recordParsed(true, Optional.of(Duration.ofHours(3)), Optional.empty());
+        assertEquals(Duration.ofHours(3), schedule.getNextDelay());
+    }
+
+    @Test
+    public void recordParsed_publishIntervalOutOfBounds_clamped() {
+        schedule.recordParsed(true, Optional.of(Duration.ofMinutes(1)), Optional.empty());
+        assertEquals(FeedPollSchedule.MIN_INTERVAL, schedule.getNextDelay());
+
+        schedule.recordParsed(true, Optional.of(Duration.ofDays(30)), Optional.empty());
+        assertEquals(FeedPollSchedule.MAX_INTERVAL, schedule.getNextDelay());
+    }
+
+    @Test
+    public void recordParsed_updateHintLongerThanPublishInterval_followsUpdateHint() {
+        schedule.recordParsed(true, Optional.of(Duration.ofHours(1)), Optional.of(Duration.ofHours(6)));
+        assertEquals(Duration.ofHours(6), schedule.getNextDelay());
+
+        // the hint is remembered when later polls do not find it
+        schedule.recordParsed(true, Optional.of(Duration.ofHours(2)), Optional.empty());
+        assertEquals(Duration.ofHours(6), schedule.getNextDelay());
+    }
+
+    @Test
+    public void recordUnchanged_intervalGrows() {
+        schedule.recordParsed(true, Optional.of(Duration.ofHours(2)), Optional.empty());
+        schedule.recordUnchanged();
+        assertEquals(Duration.ofHours(3), schedule.getNextDelay());
+
+        schedule.recordParsed(false, Optional.of(Duration.ofHours(2)), Optional.empty());
+        assertEquals(Duration.ofMinutes(270), schedule.getNextDelay());
+    }
+
+    @Test
+    public void recordFailure_backsOffExponentiallyUntilSuccess() {
+        schedule.recordFailure();
+        assertEquals(FeedPollSchedule.DEFAULT_INTERVAL.multipliedBy(2), schedule.getNextDelay());
+        schedule.recordFailure();
+        assertEquals(FeedPollSchedule.DEFAULT_INTERVAL.multipliedBy(4), schedule.getNextDelay());
+
+        for (int i = 0; i < 100; i++) {
+            schedule.recordFailure();
+        }
+        assertEquals(FeedPollSchedule.MAX_INTERVAL, schedule.getNextDelay());
+
+        schedule.recordParsed(true, Optional.of(Duration.ofHours(2)), Optional.empty());
+        assertEquals(Duration.ofHours(2), schedule.getNextDelay());
+    }
+
+}
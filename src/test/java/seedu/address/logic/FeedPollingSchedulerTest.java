@@ -0,0 +1,159 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalEntries.ALICE;
+import static seedu.address.testutil.TypicalEntries.BENSON;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import seedu.address.mocks.ManualScheduledExecutorService;
+import seedu.address.mocks.StorageStub;
+import seedu.address.model.ArticleDownloadPolicy;
+import seedu.address.model.EntryBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PollingMode;
+import seedu.address.model.UserPrefs;
+import seedu.address.util.ConditionalResponse;
+
+public class FeedPollingSchedulerTest {
+
+    private static final Path FEED_PATH = Paths.get("src", "test", "data", "FeedPollingSchedulerTest", "rss.xml");
+
+    private final ModelManager model = makeModel();
+    private final ManualScheduledExecutorService pollExecutor = new ManualScheduledExecutorService();
+    private final List<URL> fetchedUrls = new ArrayList<>();
+    private FeedPollingScheduler.FeedFetcher feedFetcher = (feedUrl, validators) -> fetchFeed(feedUrl);
+    private final FeedPollingScheduler scheduler =
+            new FeedPollingScheduler(model, Runnable::run, pollExecutor, (feedUrl, validators) ->
+                    feedFetcher.fetchIfModified(feedUrl, validators));
+
+    @Test
+    public void start_severalFeeds_firstPollsStaggered() {
+        model.addFeedsEntry(ALICE);
+        model.addFeedsEntry(BENSON);
+        scheduler.start();
+
+        pollExecutor.runDueTasks();
+        assertEquals(List.of(ALICE.getLink().value), fetchedUrls);
+        assertEquals(2, model.getListEntryBook().getEntryList().size());
+
+        pollExecutor.advance(FeedPollingScheduler.FIRST_POLL_STAGGER);
+        assertEquals(List.of(ALICE.getLink().value, BENSON.getLink().value), fetchedUrls);
+        // The entries of the second feed were added by the first
+        assertEquals(2, model.getListEntryBook().getEntryList().size());
+    }
+
+    @Test
+    public void setPollingMode_pausedThenRunning_overduePollRescheduledOnResume() {
+        model.addFeedsEntry(ALICE);
+        scheduler.start();
+
+        model.setPollingMode(PollingMode.PAUSED);
+        assertEquals(0, pollExecutor.getNumPendingTasks());
+        pollExecutor.advance(FeedPollSchedule.MAX_INTERVAL);
+        assertTrue(fetchedUrls.isEmpty());
+
+        model.setPollingMode(PollingMode.RUNNING);
+        assertEquals(Optional.of(Duration.ZERO), pollExecutor.getDelayOfNextTask());
+        pollExecutor.runDueTasks();
+        assertEquals(List.of(ALICE.getLink().value), fetchedUrls);
+    }
+
+    @Test
+    public void setPollingMode_pausedDuringPoll_nextPollScheduledOnResume() {
+        model.addFeedsEntry(ALICE);
+        feedFetcher = (feedUrl, validators) -> {
+            model.setPollingMode(PollingMode.PAUSED);
+            return fetchFeed(feedUrl);
+        };
+        scheduler.start();
+
+        pollExecutor.runDueTasks();
+        assertEquals(2, model.getListEntryBook().getEntryList().size());
+        assertEquals(0, pollExecutor.getNumPendingTasks());
+
+        model.setPollingMode(PollingMode.RUNNING);
+        assertEquals(1, pollExecutor.getNumPendingTasks());
+        assertTrue(pollExecutor.getDelayOfNextTask().get().compareTo(FeedPollSchedule.MIN_INTERVAL) > 0);
+    }
+
+    @Test
+    public void deleteFeedsEntry_duringPoll_entriesDiscardedAndNoMorePolls() {
+        model.addFeedsEntry(ALICE);
+        feedFetcher = (feedUrl, validators) -> {
+            model.deleteFeedsEntry(ALICE);
+            return fetchFeed(feedUrl);
+        };
+        scheduler.start();
+
+        pollExecutor.runDueTasks();
+        assertEquals(List.of(ALICE.getLink().value), fetchedUrls);
+        assertTrue(model.getListEntryBook().getEntryList().isEmpty());
+        assertEquals(0, pollExecutor.getNumPendingTasks());
+    }
+
+    @Test
+    public void stop_pollScheduled_noMorePolls() {
+        model.addFeedsEntry(ALICE);
+        scheduler.start();
+        scheduler.stop();
+
+        assertTrue(pollExecutor.isShutdown());
+        assertEquals(0, pollExecutor.getNumPendingTasks());
+
+        // Resuming does nothing once stopped
+        model.setPollingMode(PollingMode.PAUSED);
+        model.setPollingMode(PollingMode.RUNNING);
+        pollExecutor.advance(FeedPollSchedule.MAX_INTERVAL);
+        assertTrue(fetchedUrls.isEmpty());
+    }
+
+    @Test
+    public void poll_fetchFails_retriedAfterGrowingDelay() {
+        model.addFeedsEntry(ALICE);
+        feedFetcher = (feedUrl, validators) -> {
+            fetchedUrls.add(feedUrl);
+            return CompletableFuture.failedFuture(new IOException("Network is unreachable"));
+        };
+        scheduler.start();
+
+        pollExecutor.runDueTasks();
+        assertEquals(1, fetchedUrls.size());
+        assertEquals(Optional.of(FeedPollSchedule.DEFAULT_INTERVAL.multipliedBy(2)),
+                pollExecutor.getDelayOfNextTask());
+
+        pollExecutor.advance(FeedPollSchedule.DEFAULT_INTERVAL.multipliedBy(2));
+        assertEquals(2, fetchedUrls.size());
+        assertEquals(Optional.of(FeedPollSchedule.DEFAULT_INTERVAL.multipliedBy(4)),
+                pollExecutor.getDelayOfNextTask());
+    }
+
+    private CompletableFuture<ConditionalResponse> fetchFeed(URL feedUrl) {
+        fetchedUrls.add(feedUrl);
+        try {
+            return CompletableFuture.completedFuture(
+                    ConditionalResponse.modified(Files.readAllBytes(FEED_PATH), Optional.empty()));
+        } catch (IOException ioe) {
+            return CompletableFuture.failedFuture(ioe);
+        }
+    }
+
+    private static ModelManager makeModel() {
+        UserPrefs userPrefs = new UserPrefs();
+        // Articles are not fetched by the scheduler under the other policies
+        userPrefs.setArticleDownloadPolicy(ArticleDownloadPolicy.ON_SELECT);
+        return new ModelManager(new EntryBook(), new EntryBook(), new EntryBook(), userPrefs, new StorageStub());
+    }
+}
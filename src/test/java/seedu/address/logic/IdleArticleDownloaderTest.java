@@ -0,0 +1,187 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalEntries.ALICE;
+import static seedu.address.testutil.TypicalEntries.BENSON;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
+import seedu.address.mocks.ManualScheduledExecutorService;
+import seedu.address.mocks.ModelStub;
+import seedu.address.model.ArticleDownloadPolicy;
+import seedu.address.model.EntryBook;
+import seedu.address.model.OfflineMode;
+import seedu.address.model.ReadOnlyEntryBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+public class IdleArticleDownloaderTest {
+
+    private static final URL ALICE_URL = ALICE.getLink().value;
+    private static final URL BENSON_URL = BENSON.getLink().value;
+
+    private final ModelStubWithDownloadQueue model = new ModelStubWithDownloadQueue();
+    private final ObservableList<String> runningCommands = FXCollections.observableArrayList();
+    private final ManualScheduledExecutorService idleTimer = new ManualScheduledExecutorService();
+    private final IdleArticleDownloader downloader =
+            new IdleArticleDownloader(model, Runnable::run, runningCommands, idleTimer);
+
+    @Test
+    public void start_articlesQueued_downloadedOneAtATimeOnceIdle() {
+        model.queueDownloads(List.of(ALICE_URL, BENSON_URL));
+        downloader.start();
+
+        idleTimer.runDueTasks();
+        assertTrue(model.downloadedUrls.isEmpty());
+        idleTimer.advance(IdleArticleDownloader.IDLE_DELAY);
+        assertEquals(List.of(ALICE_URL), model.downloadedUrls);
+
+        // the next article is only downloaded once the one before it is done, and then at once
+        idleTimer.advance(IdleArticleDownloader.FAILED_DOWNLOAD_DELAY);
+        assertEquals(List.of(ALICE_URL), model.downloadedUrls);
+        model.downloads.get(ALICE_URL).complete(true);
+        idleTimer.runDueTasks();
+        assertEquals(List.of(ALICE_URL, BENSON_URL), model.downloadedUrls);
+    }
+
+    @Test
+    public void start_commandRunning_downloadedOnceIdleAfterCommandsFinish() {
+        model.queueDownloads(List.of(ALICE_URL));
+        downloader.start();
+
+        // a command starting before the app has been idle long enough holds off the download
+        idleTimer.advance(IdleArticleDownloader.IDLE_DELAY.minusSeconds(1));
+        runningCommands.add("refreshall");
+        idleTimer.advance(IdleArticleDownloader.IDLE_DELAY);
+        assertTrue(model.downloadedUrls.isEmpty());
+        assertEquals(0, idleTimer.getNumPendingTasks());
+
+        runningCommands.clear();
+        assertEquals(Optional.of(IdleArticleDownloader.IDLE_DELAY), idleTimer.getDelayOfNextTask());
+        idleTimer.advance(IdleArticleDownloader.IDLE_DELAY);
+        assertEquals(List.of(ALICE_URL), model.downloadedUrls);
+    }
+
+    @Test
+    public void start_offlineModeDisabled_downloadedOnceIdleAfterEnabled() {
+        model.queueDownloads(List.of(ALICE_URL));
+        model.offlineMode.set(OfflineMode.DISABLED);
+        downloader.start();
+
+        idleTimer.advance(IdleArticleDownloader.FAILED_DOWNLOAD_DELAY);
+        assertTrue(model.downloadedUrls.isEmpty());
+
+        model.offlineMode.set(OfflineMode.ENABLED);
+        idleTimer.advance(IdleArticleDownloader.IDLE_DELAY);
+        assertEquals(List.of(ALICE_URL), model.downloadedUrls);
+    }
+
+    @Test
+    public void start_eagerDownloadPolicy_nothingDownloaded() {
+        model.userPrefs.setArticleDownloadPolicy(ArticleDownloadPolicy.EAGER);
+        model.queueDownloads(List.of(ALICE_URL));
+        downloader.start();
+
+        idleTimer.advance(IdleArticleDownloader.FAILED_DOWNLOAD_DELAY);
+        assertTrue(model.downloadedUrls.isEmpty());
+    }
+
+    @Test
+    public void downloadFails_articleRetriedAfterDelay() {
+        model.queueDownloads(List.of(ALICE_URL));
+        downloader.start();
+        idleTimer.advance(IdleArticleDownloader.IDLE_DELAY);
+
+        model.downloads.remove(ALICE_URL).complete(false);
+        assertEquals(Optional.of(IdleArticleDownloader.FAILED_DOWNLOAD_DELAY), idleTimer.getDelayOfNextTask());
+        idleTimer.advance(IdleArticleDownloader.FAILED_DOWNLOAD_DELAY);
+        assertEquals(List.of(ALICE_URL, ALICE_URL), model.downloadedUrls);
+    }
+
+    @Test
+    public void stop_downloadScheduled_nothingDownloaded() {
+        model.queueDownloads(List.of(ALICE_URL));
+        downloader.start();
+        downloader.stop();
+
+        assertTrue(idleTimer.isShutdown());
+        model.queueDownloads(List.of(BENSON_URL));
+        idleTimer.advance(IdleArticleDownloader.IDLE_DELAY);
+        assertTrue(model.downloadedUrls.isEmpty());
+    }
+
+    /**
+     * A Model stub with a download queue, where downloads only complete when the test completes them.
+     * As in the model, an article is removed from the queue once it is downloaded, but stays queued if it fails to.
+     */
+    private static class ModelStubWithDownloadQueue extends ModelStub {
+        private final UserPrefs userPrefs = new UserPrefs();
+        private final SimpleObjectProperty<OfflineMode> offlineMode = new SimpleObjectProperty<>(OfflineMode.ENABLED);
+        private final ObservableSet<URL> queuedDownloads = FXCollections.observableSet(new LinkedHashSet<>());
+        private final Map<URL, CompletableFuture<Boolean>> downloads = new HashMap<>();
+        private final List<URL> downloadedUrls = new ArrayList<>();
+
+        ModelStubWithDownloadQueue() {
+            userPrefs.setArticleDownloadPolicy(ArticleDownloadPolicy.LAZY);
+        }
+
+        @Override
+        public ReadOnlyUserPrefs getUserPrefs() {
+            return userPrefs;
+        }
+
+        @Override
+        public ReadOnlyEntryBook getListEntryBook() {
+            return new EntryBook();
+        }
+
+        @Override
+        public ReadOnlyProperty<OfflineMode> getOfflineModeProperty() {
+            return offlineMode;
+        }
+
+        @Override
+        public ObservableSet<URL> getQueuedDownloads() {
+            return queuedDownloads;
+        }
+
+        @Override
+        public void queueDownloads(Collection<URL> urls) {
+            queuedDownloads.addAll(urls);
+        }
+
+        @Override
+        public Optional<URL> getNextQueuedDownload() {
+            return queuedDownloads.stream().findFirst();
+        }
+
+        @Override
+        public CompletableFuture<Boolean> ensureDownloaded(URL url) {
+            downloadedUrls.add(url);
+            CompletableFuture<Boolean> download = new CompletableFuture<>();
+            downloads.put(url, download);
+            return download.thenApply(isDownloaded -> {
+                if (isDownloaded) {
+                    queuedDownloads.remove(url);
+                }
+                return isDownloaded;
+            });
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_ENTRY_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.DESCRIPTION_DESC_AMY;
@@ -11,7 +13,11 @@ import static seedu.address.testutil.TypicalEntries.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -39,6 +45,7 @@ import seedu.address.model.entry.Entry;
 import seedu.address.storage.ArticleStorage;
 import seedu.address.storage.DataDirectoryArticleStorage;
 import seedu.address.storage.JsonEntryBookStorage;
+import seedu.address.storage.JsonFeedStateStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.EntryBuilder;
@@ -102,16 +109,22 @@ public class LogicManagerTest {
                 new JsonEntryBookIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
         ArticleStorage articleStorage = new DataDirectoryArticleStorage(temporaryFolder.newFolder().toPath());
+        JsonFeedStateStorage feedStateStorage =
+                new JsonFeedStateStorage(temporaryFolder.newFolder().toPath().resolve("feedstates.json"));
         StorageManager storage = new StorageManager(listEntryBookStorage, archivesEntryBookStorage,
-                feedsEntryBookStorage, userPrefsStorage, articleStorage);
+                feedsEntryBookStorage, userPrefsStorage, articleStorage, feedStateStorage);
+        // Save synchronously, so that the save failure is propagated by the time the command returns
+        UserPrefs userPrefs = new UserPrefs(model.getUserPrefs());
+        userPrefs.setEntryBookSaveDelayMillis(0);
         model = new ModelManager(model.getListEntryBook(), model.getArchivesEntryBook(), model.getFeedsEntryBook(),
-                model.getUserPrefs(), storage);
+                userPrefs, storage);
         logic = new LogicManager(model);
 
         // Execute add command
         String addCommand = AddCommand.COMMAND_WORD + TITLE_DESC_AMY + DESCRIPTION_DESC_AMY + LINK_DESC_AMY;
         Entry expectedEntry = new EntryBuilder(AMY).withTags().build();
         Model expectedModel = new ModelManagerStub();
+        expectedModel.setUserPrefs(userPrefs);
         String expectedInitialMessage = String.format(AddCommand.MESSAGE_SUCCESS, expectedEntry);
         String expectedFinalMessage = ModelManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
         expectedModel.addListEntry(expectedEntry, Optional.empty());
@@ -121,6 +134,37 @@ public class LogicManagerTest {
         assertHistoryCorrect(addCommand);
     }
 
+    @Test
+    public void executeAsync_invalidCommandFormat_failsWithParseException() {
+        String invalidCommand = "uicfhmowqewca";
+        CompletableFuture<CommandResult> result = logic.executeAsync(invalidCommand);
+        Throwable failure = result.handle((commandResult, throwable) -> throwable).join();
+        assertEquals(ParseException.class, failure.getClass());
+        assertEquals(String.format(MESSAGE_UNKNOWN_COMMAND, ModelContext.CONTEXT_LIST), failure.getMessage());
+        assertHistoryCorrect(invalidCommand);
+    }
+
+    @Test
+    public void executeAsync_commandWaitingOnNetwork_runningUntilFinished() {
+        List<Runnable> backgroundTasks = new ArrayList<>();
+        logic = new LogicManager(model, backgroundTasks::add, Runnable::run);
+
+        String addCommand = AddCommand.COMMAND_WORD + TITLE_DESC_AMY + DESCRIPTION_DESC_AMY + LINK_DESC_AMY;
+        CompletableFuture<CommandResult> result = logic.executeAsync(addCommand);
+        assertFalse(result.isDone());
+        assertEquals(Collections.singletonList(addCommand), logic.getRunningCommands());
+        assertHistoryCorrect(addCommand);
+
+        // the model is only modified once the article has been fetched in the background
+        Entry expectedEntry = new EntryBuilder(AMY).withTags().build();
+        assertFalse(model.hasListEntry(expectedEntry));
+        new ArrayList<>(backgroundTasks).forEach(Runnable::run);
+        assertTrue(result.isDone());
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, expectedEntry), result.join().getFeedbackToUser());
+        assertTrue(model.hasListEntry(expectedEntry));
+        assertEquals(Collections.emptyList(), logic.getRunningCommands());
+    }
+
     @Test
     public void execute_manualCommandResultSet_success() {
         String expectedMessage = "Command result successfully set manually";
@@ -5,6 +5,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.Rule;
@@ -56,6 +57,13 @@ public class ArchiveAllCommandTest {
         );
         assertTrue(model.getFilteredEntryList().isEmpty());
 
+        // entries are archived from the bottom of the list up
+        List<Entry> archivesList = model.getArchivesEntryBook().getEntryList();
+        List<Entry> expectedArchivedEntries = new ArrayList<>(entriesToArchive);
+        Collections.reverse(expectedArchivedEntries);
+        assertEquals(expectedArchivedEntries, archivesList.subList(archivesList.size() - numEntries,
+            archivesList.size()));
+
         // Executing the command again results in no entries archived because they are all duplicates
         model.setListEntryBook(TypicalEntries.getTypicalListEntryBook());
 
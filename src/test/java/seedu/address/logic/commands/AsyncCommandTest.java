@@ -0,0 +1,44 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalEntries.REAL_LINK_NO_TITLE_NO_DESCRIPTION_COMPLETE;
+import static seedu.address.testutil.TypicalEntries.REAL_LINK_NO_TITLE_NO_DESCRIPTION_INCOMPLETE;
+import static seedu.address.testutil.TypicalEntries.REAL_LINK_URL;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.model.entry.Entry;
+import seedu.address.testutil.EntryBuilder;
+import seedu.address.util.RequestLimiter;
+
+public class AsyncCommandTest {
+
+    @Test
+    public void fetchArticlesAsync_someArticlesMissing_articlesInOrderOfEntries() throws Exception {
+        Entry missingArticleEntry = new EntryBuilder().withLink(new URL(REAL_LINK_URL, "missing.html")).build();
+        List<Entry> entries = List.of(missingArticleEntry, REAL_LINK_NO_TITLE_NO_DESCRIPTION_COMPLETE);
+
+        Map<Entry, Optional<byte[]>> articles =
+                AsyncCommand.fetchArticlesAsync(entries, new RequestLimiter(1, 1)).join();
+
+        assertEquals(entries, new ArrayList<>(articles.keySet()));
+        assertFalse(articles.get(missingArticleEntry).isPresent());
+        assertTrue(articles.get(REAL_LINK_NO_TITLE_NO_DESCRIPTION_COMPLETE).isPresent());
+    }
+
+    @Test
+    public void fetchArticlesAndAutofillAsync_entryHasNoTitleAndNoDescription_entryAutofilled() {
+        Map<Entry, Optional<byte[]>> articles = AsyncCommand.fetchArticlesAndAutofillAsync(
+                List.of(REAL_LINK_NO_TITLE_NO_DESCRIPTION_INCOMPLETE), new RequestLimiter(), Runnable::run).join();
+
+        assertEquals(List.of(REAL_LINK_NO_TITLE_NO_DESCRIPTION_COMPLETE), new ArrayList<>(articles.keySet()));
+    }
+}
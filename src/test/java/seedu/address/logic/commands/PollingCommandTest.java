@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.mocks.TypicalModelManagerStub;
+import seedu.address.model.Model;
+import seedu.address.model.PollingMode;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code PollingCommand}.
+ */
+public class PollingCommandTest {
+
+    private Model model = new TypicalModelManagerStub();
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_pollingMode_success() {
+        CommandResult commandResult;
+
+        // pause
+        commandResult = new PollingCommand(PollingMode.PAUSED).execute(model, commandHistory);
+        assertEquals(PollingMode.PAUSED, model.getPollingModeProperty().getValue());
+        assertEquals(PollingCommand.MESSAGE_POLLING_PAUSED, commandResult.getFeedbackToUser());
+
+        // resume
+        commandResult = new PollingCommand(PollingMode.RUNNING).execute(model, commandHistory);
+        assertEquals(PollingMode.RUNNING, model.getPollingModeProperty().getValue());
+        assertEquals(PollingCommand.MESSAGE_POLLING_RESUMED, commandResult.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        PollingCommand pauseCommand = new PollingCommand(PollingMode.PAUSED);
+        PollingCommand resumeCommand = new PollingCommand(PollingMode.RUNNING);
+
+        // same object -> returns true
+        assertEquals(pauseCommand, pauseCommand);
+
+        // same values -> returns true
+        assertEquals(pauseCommand, new PollingCommand(PollingMode.PAUSED));
+
+        // different types -> returns false
+        assertNotEquals(pauseCommand, 1);
+
+        // null -> returns false
+        assertNotEquals(pauseCommand, null);
+
+        // different mode -> returns false
+        assertNotEquals(pauseCommand, resumeCommand);
+    }
+
+}
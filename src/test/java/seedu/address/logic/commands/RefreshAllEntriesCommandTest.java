@@ -7,7 +7,12 @@ import static seedu.address.testutil.TypicalEntries.BROWSER_PANEL_TEST_ENTRY;
 import static seedu.address.testutil.TypicalEntries.WIKIPEDIA_ENTRY;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -21,6 +26,7 @@ import seedu.address.mocks.TemporaryStorageManager;
 import seedu.address.mocks.TypicalModelManagerStub;
 import seedu.address.model.EntryBook;
 import seedu.address.model.Model;
+import seedu.address.model.entry.Entry;
 import seedu.address.testutil.EntryBookBuilder;
 
 public class RefreshAllEntriesCommandTest {
@@ -72,6 +78,25 @@ public class RefreshAllEntriesCommandTest {
                 .anyMatch(entry -> model.hasOfflineCopy(entry.getLink().value)));
     }
 
+    @Test
+    public void executeAsync_listFilteredWhileRunning_sameEntriesRefreshed() throws Exception {
+        Model model = makeTestModelWithLocallyLinkedEntries();
+        List<Entry> entries = new ArrayList<>(model.getFilteredEntryList());
+        Queue<Runnable> modelTasks = new ArrayDeque<>();
+
+        CompletableFuture<CommandResult> commandResult = new RefreshAllEntriesCommand()
+                .executeAsync(model, commandHistory, Runnable::run, modelTasks::add);
+        // The first entry is hidden before the second is refreshed
+        model.updateFilteredEntryList(entry -> !entry.equals(entries.get(0)));
+        while (!modelTasks.isEmpty()) {
+            modelTasks.remove().run();
+        }
+
+        assertEquals(String.format(RefreshAllEntriesCommand.MESSAGE_SUCCESS, entries.size()),
+                commandResult.get().getFeedbackToUser());
+        assertTrue(entries.stream().allMatch(entry -> model.hasOfflineCopy(entry.getLink().value)));
+    }
+
     @Test
     public void execute_noEntriesRefreshed_success() throws Exception {
         Model model = new ModelManagerStub();
@@ -42,8 +42,12 @@ public class RefreshAllFeedsCommandTest {
 
         CommandResult commandResult = new RefreshAllFeedsCommand().execute(model, commandHistory);
 
+        String expectedSummary = String.join("\n",
+            String.format(RefreshAllFeedsCommand.MESSAGE_FEED_SUCCESS, 1, EMPTY_FEED_ENTRY.getLink(), 0),
+            String.format(RefreshAllFeedsCommand.MESSAGE_FEED_SUCCESS, 2, ONE_ITEM_FEED_ENTRY.getLink(), 1));
         assertEquals(
-            String.format(RefreshAllFeedsCommand.MESSAGE_SUCCESS, model.getFilteredEntryList().size()),
+            String.format(RefreshAllFeedsCommand.MESSAGE_SUCCESS, model.getFilteredEntryList().size(), 1,
+                expectedSummary),
             commandResult.getFeedbackToUser());
 
         // Check that the wikipedia entry inside ONE_ITEM_FEED_ENTRY is now in reading list
@@ -64,40 +68,36 @@ public class RefreshAllFeedsCommandTest {
 
         CommandResult commandResult = new RefreshAllFeedsCommand().execute(model, commandHistory);
 
-        assertEquals(String.format(
-            RefreshAllFeedsCommand.MESSAGE_PARTIAL_SUCCESS,
-            numValidLinks,
-            numValidLinks + 1,
-            NOT_A_FEED_ENTRY.getLink().value),
-            commandResult.getFeedbackToUser());
+        String feedback = commandResult.getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format("Refreshed %d of %d feeds", numValidLinks, numValidLinks + 1)));
+        assertTrue(feedback.contains(String.format("%d. %s: failed", numValidLinks + 1, NOT_A_FEED_ENTRY.getLink())));
 
         // Check that the wikipedia entry inside ONE_ITEM_FEED_ENTRY is now added
         assertTrue(model.hasEntry(REMOTE_WIKIPEDIA_ENTRY));
     }
 
     @Test
-    public void execute_someEntriesRefreshedSuccessfully_stopAtFirstError() throws Exception {
+    public void execute_someEntriesRefreshedSuccessfully_continuePastError() throws Exception {
         Model model = new ModelManagerStub(new TemporaryStorageManager(temporaryFolder));
         model.setContext(ModelContext.CONTEXT_FEEDS);
         model.addFeedsEntry(EMPTY_FEED_ENTRY);
-        int numValidLinks = model.getFilteredEntryList().size();
         model.addFeedsEntry(NOT_A_FEED_ENTRY);
         model.addFeedsEntry(ONE_ITEM_FEED_ENTRY);
+        int numFeeds = model.getFilteredEntryList().size();
 
         // Check that the wikipedia entry inside ONE_ITEM_FEED_ENTRY has not been added
         assertFalse(model.hasEntry(REMOTE_WIKIPEDIA_ENTRY));
 
         CommandResult commandResult = new RefreshAllFeedsCommand().execute(model, commandHistory);
 
-        assertEquals(String.format(
-            RefreshAllFeedsCommand.MESSAGE_PARTIAL_SUCCESS,
-            numValidLinks,
-            numValidLinks + 1,
-            NOT_A_FEED_ENTRY.getLink().value),
-            commandResult.getFeedbackToUser());
+        String feedback = commandResult.getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format("Refreshed %d of %d feeds", numFeeds - 1, numFeeds)));
+        assertTrue(feedback.contains(String.format("2. %s: failed", NOT_A_FEED_ENTRY.getLink())));
+        assertTrue(feedback.contains(
+            String.format(RefreshAllFeedsCommand.MESSAGE_FEED_SUCCESS, 3, ONE_ITEM_FEED_ENTRY.getLink(), 1)));
 
-        // Check that the wikipedia entry inside ONE_ITEM_FEED_ENTRY has not been added
-        assertFalse(model.hasEntry(REMOTE_WIKIPEDIA_ENTRY));
+        // Check that the wikipedia entry inside ONE_ITEM_FEED_ENTRY has been added despite the earlier failure
+        assertTrue(model.hasEntry(REMOTE_WIKIPEDIA_ENTRY));
     }
 
     @Test
@@ -112,14 +112,14 @@ public class RefreshAllFeedsCommandTest {
     }
 
     @Test
-    public void execute_firstEntryCannotBeRefreshed_throwsCommandException() throws Exception {
+    public void execute_noFeedCanBeRefreshed_throwsCommandException() throws Exception {
         thrown.expect(CommandException.class);
-        thrown.expectMessage(RefreshAllFeedsCommand.MESSAGE_FAILURE);
+        thrown.expectMessage(String.format(RefreshAllFeedsCommand.MESSAGE_FEED_FAILURE, 1, NOT_A_FEED_ENTRY.getLink(),
+            RefreshAllFeedsCommand.MESSAGE_REASON_NOT_A_FEED));
 
         Model model = new ModelManagerStub(new TemporaryStorageManager(temporaryFolder));
         model.setContext(ModelContext.CONTEXT_FEEDS);
         model.addFeedsEntry(NOT_A_FEED_ENTRY);
-        model.addFeedsEntry(ONE_ITEM_FEED_ENTRY);
 
         new RefreshAllFeedsCommand().execute(model, commandHistory);
     }
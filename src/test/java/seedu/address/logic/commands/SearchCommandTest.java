@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ENTRIES;
+import static seedu.address.testutil.TypicalEntries.BENSON;
+import static seedu.address.testutil.TypicalEntries.DANIEL;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.mocks.TypicalModelManagerStub;
+import seedu.address.model.EntryBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelContext;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new TypicalModelManagerStub();
+    private Model expectedModel = new TypicalModelManagerStub();
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand("first");
+        SearchCommand searchSecondCommand = new SearchCommand("second");
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCommand("first")));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_matchingKeywords_showsRankedResults() {
+        EntryBook expectedResults = new EntryBook();
+        expectedResults.setEntries(Arrays.asList(BENSON, DANIEL));
+        expectedModel.setSearchEntryBook(expectedResults);
+        expectedModel.setContext(ModelContext.CONTEXT_SEARCH);
+        expectedModel.updateFilteredEntryList(PREDICATE_SHOW_ALL_ENTRIES);
+
+        assertCommandSuccess(new SearchCommand("meier"), model, commandHistory,
+                String.format(SearchCommand.MESSAGE_SUCCESS, 2, "meier"), expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredEntryList());
+    }
+
+    @Test
+    public void execute_noMatchingKeywords_showsNoResults() {
+        expectedModel.setSearchEntryBook(new EntryBook());
+        expectedModel.setContext(ModelContext.CONTEXT_SEARCH);
+        expectedModel.updateFilteredEntryList(PREDICATE_SHOW_ALL_ENTRIES);
+
+        assertCommandSuccess(new SearchCommand("nonexistent"), model, commandHistory,
+                String.format(SearchCommand.MESSAGE_SUCCESS, 0, "nonexistent"), expectedModel);
+    }
+}
@@ -17,6 +17,7 @@ import static seedu.address.testutil.TypicalEntries.ONE_ITEM_FEED_ENTRY;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -36,6 +37,8 @@ import seedu.address.mocks.TypicalModelManagerStub;
 import seedu.address.model.EntryBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyEntryBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.entry.Entry;
 import seedu.address.model.entry.exceptions.DuplicateEntryException;
 import seedu.address.model.tag.Tag;
@@ -208,6 +211,16 @@ public class SubscribeCommandTest {
         public void addListEntry(Entry entry, Optional<byte[]> articleContent) {
             // pretend to add
         }
+
+        @Override
+        public void addListEntries(Map<Entry, Optional<byte[]>> entries) {
+            // pretend to add
+        }
+
+        @Override
+        public ReadOnlyUserPrefs getUserPrefs() {
+            return new UserPrefs();
+        }
     }
 
     /** A Model stub that contains a single feed. */
@@ -33,8 +33,10 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.OfflineModeCommand;
+import seedu.address.logic.commands.PollingCommand;
 import seedu.address.logic.commands.RefreshAllEntriesCommand;
 import seedu.address.logic.commands.RefreshEntryCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.SubscribeCommand;
 import seedu.address.logic.commands.ViewModeCommand;
@@ -137,6 +139,12 @@ public class EntryBookListParserTest {
         assertTrue(parser.parseCommand(OfflineModeCommand.COMMAND_WORD + " disable") instanceof OfflineModeCommand);
     }
 
+    @Test
+    public void parseCommand_polling() throws Exception {
+        assertTrue(parser.parseCommand(PollingCommand.COMMAND_WORD + " pause") instanceof PollingCommand);
+        assertTrue(parser.parseCommand(PollingCommand.COMMAND_WORD + " resume") instanceof PollingCommand);
+    }
+
     @Test
     public void parseCommand_feed() throws Exception {
         assertTrue(parser.parseCommand(FeedCommand.COMMAND_WORD + " https://url.com/a.xml") instanceof FeedCommand);
@@ -178,6 +186,12 @@ public class EntryBookListParserTest {
             new FindEntryDescriptor(descriptor))), aliasCommand);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + " garbage collection");
+        assertEquals(new SearchCommand("garbage collection"), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -27,6 +28,11 @@ public class FindCommandParserTest {
                 new FindCommand(new EntryContainsSearchTermsPredicate(
                     new FindEntryDescriptorBuilder().withTitle("Alice Bob").build()));
         assertParseSuccess(parser, " " + PREFIX_TITLE + "Alice Bob", expectedFindCommand);
+
+        // article content only
+        expectedFindCommand = new FindCommand(new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withContent("garbage collection").build()));
+        assertParseSuccess(parser, " " + PREFIX_CONTENT + "garbage collection", expectedFindCommand);
     }
 
 }
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.PollingCommand;
+import seedu.address.model.PollingMode;
+
+public class PollingCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, PollingCommand.MESSAGE_USAGE);
+
+    private PollingCommandParser parser = new PollingCommandParser();
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidArgument_throwsParseException() {
+        assertParseFailure(parser, "puase", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "pause resume", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "resume resume", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "_pause", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "res", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgument_returnsPollingCommand() {
+        PollingCommand pauseCommand = new PollingCommand(PollingMode.PAUSED);
+        PollingCommand resumeCommand = new PollingCommand(PollingMode.RUNNING);
+
+        assertParseSuccess(parser, "pause", pauseCommand);
+        assertParseSuccess(parser, "       pause      ", pauseCommand);
+
+        assertParseSuccess(parser, "resume", resumeCommand);
+        assertParseSuccess(parser, "       resume      ", resumeCommand);
+    }
+
+}
@@ -0,0 +1,162 @@
+package seedu.address.mocks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@code ScheduledExecutorService} whose tasks are only run when a test says so, on the test thread,
+ * with a clock which only moves when the test advances it.
+ * Tasks given to {@code execute} or {@code submit} are due at once, but are still only run when told to.
+ */
+public class ManualScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private final List<ManualScheduledFuture<?>> tasks = new ArrayList<>();
+    private long nowMillis = 0;
+    private boolean isShutdown = false;
+
+    /**
+     * Runs every task which is due, including those scheduled by the tasks run, in the order they are due.
+     */
+    public void runDueTasks() {
+        Optional<ManualScheduledFuture<?>> nextTask = nextPendingTask();
+        while (nextTask.isPresent() && nextTask.get().dueAtMillis <= nowMillis) {
+            tasks.remove(nextTask.get());
+            nextTask.get().run();
+            nextTask = nextPendingTask();
+        }
+    }
+
+    /**
+     * Moves the clock forward by {@code duration}, running every task which becomes due on the way
+     * at the time it is due.
+     */
+    public void advance(Duration duration) {
+        long targetMillis = nowMillis + duration.toMillis();
+        Optional<ManualScheduledFuture<?>> nextTask = nextPendingTask();
+        while (nextTask.isPresent() && nextTask.get().dueAtMillis <= targetMillis) {
+            nowMillis = Math.max(nowMillis, nextTask.get().dueAtMillis);
+            runDueTasks();
+            nextTask = nextPendingTask();
+        }
+        nowMillis = targetMillis;
+    }
+
+    /**
+     * Returns the number of tasks which are neither cancelled nor run yet.
+     */
+    public int getNumPendingTasks() {
+        return (int) tasks.stream().filter(task -> !task.isCancelled()).count();
+    }
+
+    /**
+     * Returns how long it is until the next pending task is due, if there is one.
+     */
+    public Optional<Duration> getDelayOfNextTask() {
+        return nextPendingTask().map(task -> Duration.ofMillis(task.dueAtMillis - nowMillis));
+    }
+
+    private Optional<ManualScheduledFuture<?>> nextPendingTask() {
+        tasks.removeIf(ManualScheduledFuture::isCancelled);
+        // Tasks due at the same time run in the order they were scheduled
+        return tasks.stream().min(Comparator.comparingLong(task -> task.dueAtMillis));
+    }
+
+    private <V> ScheduledFuture<V> addTask(Callable<V> callable, long delay, TimeUnit unit) {
+        if (isShutdown) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        ManualScheduledFuture<V> task =
+                new ManualScheduledFuture<>(callable, nowMillis + Math.max(0, unit.toMillis(delay)));
+        tasks.add(task);
+        return task;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return addTask(Executors.callable(command), delay, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return addTask(callable, delay, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        throw new UnsupportedOperationException("This method should not be called.");
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+            TimeUnit unit) {
+        throw new UnsupportedOperationException("This method should not be called.");
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        isShutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        isShutdown = true;
+        tasks.forEach(task -> task.cancel(false));
+        tasks.clear();
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return isShutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return isShutdown;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return isShutdown;
+    }
+
+    /**
+     * A task which is due once the clock of the executor reaches {@code dueAtMillis}.
+     */
+    private class ManualScheduledFuture<V> extends FutureTask<V> implements ScheduledFuture<V> {
+        private final long dueAtMillis;
+
+        ManualScheduledFuture(Callable<V> callable, long dueAtMillis) {
+            super(callable);
+            this.dueAtMillis = dueAtMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - nowMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
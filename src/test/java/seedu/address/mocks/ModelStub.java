@@ -2,21 +2,30 @@ package seedu.address.mocks;
 
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
 import seedu.address.model.ModelContext;
 import seedu.address.model.OfflineMode;
+import seedu.address.model.PollingMode;
 import seedu.address.model.ReadOnlyEntryBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.EntryContainsSearchTermsPredicate;
 import seedu.address.storage.Storage;
 import seedu.address.ui.ViewMode;
+import seedu.address.util.FeedState;
+import seedu.address.util.HttpValidators;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -42,11 +51,41 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void flushPendingSaves() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Optional<Path> addArticle(URL url, byte[] articleContent) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Optional<HttpValidators> getHttpValidators(URL url) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setHttpValidators(URL url, Optional<HttpValidators> validators) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<FeedState> getFeedState(URL feedUrl) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setFeedState(URL feedUrl, Optional<FeedState> feedState) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setFeedStates(Map<URL, FeedState> feedStates) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         throw new AssertionError("This method should not be called.");
@@ -98,6 +137,26 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public ObservableSet<URL> getQueuedDownloads() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void queueDownloads(Collection<URL> urls) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<URL> getNextQueuedDownload() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public CompletableFuture<Boolean> ensureDownloaded(URL url) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasEntry(Entry entry) {
         throw new AssertionError("This method should not be called.");
@@ -108,6 +167,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addListEntries(Map<Entry, Optional<byte[]>> entries) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setListEntryBook(ReadOnlyEntryBook listEntryBook) {
         throw new AssertionError("This method should not be called.");
@@ -128,6 +192,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void deleteListEntries(List<Entry> targets) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setListEntry(Entry target, Entry editedEntry) {
         throw new AssertionError("This method should not be called.");
@@ -153,6 +222,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public ReadOnlyProperty<PollingMode> getPollingModeProperty() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setPollingMode(PollingMode pollingMode) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void addArchivesEntry(Entry entry) {
         throw new AssertionError("This method should not be called.");
@@ -178,6 +257,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void deleteArchivesEntries(List<Entry> targets) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void clearArchivesEntryBook() {
         throw new AssertionError("This method should not be called.");
@@ -228,6 +312,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void findEntries(EntryContainsSearchTermsPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Entry> getTopRankedEntries(String query, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ReadOnlyProperty<Entry> selectedEntryProperty() {
         throw new AssertionError("This method should not be called.");
@@ -313,8 +407,18 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void archiveEntries(List<Entry> targets) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void unarchiveEntry(Entry entry, Optional<byte[]> articleContent) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public void unarchiveEntries(Map<Entry, Optional<byte[]>> entries) {
+        throw new AssertionError("This method should not be called.");
+    }
 }
@@ -2,12 +2,16 @@ package seedu.address.mocks;
 
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import seedu.address.model.ReadOnlyEntryBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.storage.Storage;
+import seedu.address.util.FeedState;
+import seedu.address.util.HttpValidators;
 
 /**
  * A mock for Storage for ease of creating objects in tests
@@ -79,6 +83,16 @@ public class StorageStub implements Storage {
         return null;
     }
 
+    @Override
+    public void loadArticles() {
+        // Do nothing
+    }
+
+    @Override
+    public void indexArticles() {
+        // Do nothing
+    }
+
     @Override
     public void deleteArticle(URL url) {
         // Do nothing
@@ -94,8 +108,58 @@ public class StorageStub implements Storage {
         return null;
     }
 
+    @Override
+    public boolean hasArticle(URL url) {
+        return false;
+    }
+
     @Override
     public Optional<Path> getOfflineLink(URL url) {
         return Optional.empty();
     }
+
+    @Override
+    public Predicate<URL> getArticleContentPredicate(String words) {
+        return unused -> false;
+    }
+
+    @Override
+    public Optional<HttpValidators> getHttpValidators(URL url) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void saveHttpValidators(URL url, HttpValidators validators) {
+        // Do nothing
+    }
+
+    @Override
+    public void deleteHttpValidators(URL url) {
+        // Do nothing
+    }
+
+    @Override
+    public Path getFeedStateFilePath() {
+        return null;
+    }
+
+    @Override
+    public Optional<FeedState> getFeedState(URL feedUrl) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void saveFeedState(URL feedUrl, FeedState feedState) {
+        // Do nothing
+    }
+
+    @Override
+    public void saveFeedStates(Map<URL, FeedState> feedStates) {
+        // Do nothing
+    }
+
+    @Override
+    public void deleteFeedState(URL feedUrl) {
+        // Do nothing
+    }
 }
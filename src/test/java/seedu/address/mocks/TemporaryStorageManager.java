@@ -6,6 +6,7 @@ import org.junit.rules.TemporaryFolder;
 
 import seedu.address.storage.DataDirectoryArticleStorage;
 import seedu.address.storage.JsonEntryBookStorage;
+import seedu.address.storage.JsonFeedStateStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 
@@ -20,7 +21,8 @@ public class TemporaryStorageManager extends StorageManager {
                 new JsonEntryBookStorage(temporaryFolder.newFile().toPath()),
                 new JsonEntryBookStorage(temporaryFolder.newFile().toPath()),
                 new JsonUserPrefsStorage(temporaryFolder.newFile().toPath()),
-                new DataDirectoryArticleStorage(temporaryFolder.newFolder().toPath())
+                new DataDirectoryArticleStorage(temporaryFolder.newFolder().toPath()),
+                new JsonFeedStateStorage(temporaryFolder.newFolder().toPath().resolve("feedstates.json"))
         );
     }
 
@@ -112,6 +112,37 @@ public class EntryBookTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void batch_multipleModifications_listenerCalledOnce() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        entryBook.addListener(observable -> counter.set(counter.get() + 1));
+        entryBook.batch(editor -> {
+            editor.addEntry(ALICE);
+            editor.addEntry(BOB);
+            editor.removeEntry(ALICE);
+        });
+        assertEquals(1, counter.get());
+        assertEquals(Collections.singletonList(BOB), entryBook.getEntryList());
+    }
+
+    @Test
+    public void batch_noModifications_listenerNotCalled() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        entryBook.addListener(observable -> counter.set(counter.get() + 1));
+        entryBook.batch(editor -> editor.hasEntry(ALICE));
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void batch_duplicateEntry_throwsDuplicateEntryException() {
+        entryBook.addEntry(ALICE);
+        thrown.expect(DuplicateEntryException.class);
+        entryBook.batch(editor -> {
+            editor.addEntry(BOB);
+            editor.addEntry(ALICE);
+        });
+    }
+
     /**
      * A stub ReadOnlyEntryBook whose entries list can violate interface constraints.
      */
@@ -3,6 +3,7 @@ package seedu.address.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LINK_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.showEntryAtIndex;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ENTRIES;
@@ -11,6 +12,7 @@ import static seedu.address.testutil.TypicalEntries.BENSON;
 import static seedu.address.testutil.TypicalEntries.BOB;
 import static seedu.address.testutil.TypicalEntries.CARL;
 import static seedu.address.testutil.TypicalEntries.DANIEL;
+import static seedu.address.testutil.TypicalEntries.ELLE;
 import static seedu.address.testutil.TypicalEntries.KATTIS_FEED_ENTRY;
 import static seedu.address.testutil.TypicalEntries.WIKIPEDIA_ENTRY;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_ENTRY;
@@ -19,19 +21,27 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.mocks.ModelManagerStub;
 import seedu.address.mocks.StorageStub;
 import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.exceptions.DuplicateEntryException;
 import seedu.address.model.entry.exceptions.EntryNotFoundException;
 import seedu.address.storage.Storage;
 import seedu.address.testutil.EntryBookBuilder;
@@ -295,6 +305,187 @@ public class ModelManagerTest {
         assertEquals(ALICE, modelManager.getSelectedEntry());
     }
 
+    @Test
+    public void addListEntries_lazyDownloadPolicy_entriesWithoutArticlesQueued() {
+        modelManager = makeModelManagerWithDownloadPolicy(ArticleDownloadPolicy.LAZY);
+        modelManager.addListEntries(makeEntriesWithAndWithoutArticles());
+        assertEquals(List.of(ALICE.getLink().value, DANIEL.getLink().value, ELLE.getLink().value),
+                new ArrayList<>(modelManager.getQueuedDownloads()));
+    }
+
+    @Test
+    public void addListEntries_eagerDownloadPolicy_nothingQueued() {
+        modelManager = makeModelManagerWithDownloadPolicy(ArticleDownloadPolicy.EAGER);
+        modelManager.addListEntries(makeEntriesWithAndWithoutArticles());
+        assertTrue(modelManager.getQueuedDownloads().isEmpty());
+    }
+
+    @Test
+    public void deleteListEntry_articleQueued_removedFromQueue() {
+        modelManager = makeModelManagerWithDownloadPolicy(ArticleDownloadPolicy.LAZY);
+        modelManager.addListEntries(makeEntriesWithAndWithoutArticles());
+        modelManager.deleteListEntry(DANIEL);
+        assertEquals(List.of(ALICE.getLink().value, ELLE.getLink().value),
+                new ArrayList<>(modelManager.getQueuedDownloads()));
+    }
+
+    @Test
+    public void requeueFailedDownload_queuedArticle_movedToBackUntilTooManyAttempts() {
+        modelManager = makeModelManagerWithDownloadPolicy(ArticleDownloadPolicy.LAZY);
+        modelManager.addListEntries(makeEntriesWithAndWithoutArticles());
+
+        modelManager.requeueFailedDownload(ALICE.getLink().value);
+        assertEquals(List.of(DANIEL.getLink().value, ELLE.getLink().value, ALICE.getLink().value),
+                new ArrayList<>(modelManager.getQueuedDownloads()));
+
+        for (int attempt = 2; attempt <= ModelManager.MAX_DOWNLOAD_ATTEMPTS; attempt++) {
+            modelManager.requeueFailedDownload(ALICE.getLink().value);
+        }
+        assertEquals(List.of(DANIEL.getLink().value, ELLE.getLink().value),
+                new ArrayList<>(modelManager.getQueuedDownloads()));
+    }
+
+    @Test
+    public void requeueFailedDownload_articleNotQueued_notQueued() {
+        modelManager = makeModelManagerWithDownloadPolicy(ArticleDownloadPolicy.LAZY);
+        modelManager.requeueFailedDownload(ALICE.getLink().value);
+        assertTrue(modelManager.getQueuedDownloads().isEmpty());
+    }
+
+    @Test
+    public void addListEntries_validEntries_addedInOneChangeWithArticles() {
+        StorageStubRecordingArticles storage = new StorageStubRecordingArticles();
+        modelManager = new ModelManager(new EntryBook(), new EntryBook(), new EntryBook(), new UserPrefs(), storage);
+        List<Integer> numChanges = new ArrayList<>(List.of(0, 0));
+        modelManager.getListEntryBook().addListener(observable -> numChanges.set(0, numChanges.get(0) + 1));
+        modelManager.getListEntryBook().getEntryList().addListener((ListChangeListener<Entry>) change ->
+                numChanges.set(1, numChanges.get(1) + 1));
+
+        modelManager.addListEntries(makeEntriesWithAndWithoutArticles());
+
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, ELLE), modelManager.getListEntryBook().getEntryList());
+        assertEquals(List.of(1, 1), numChanges);
+        assertEquals(Set.of(BENSON.getLink().value, CARL.getLink().value), storage.savedArticles);
+    }
+
+    @Test
+    public void addListEntries_entryAlreadyInList_nothingAddedAndNoArticlesSaved() {
+        StorageStubRecordingArticles storage = new StorageStubRecordingArticles();
+        EntryBook listEntryBook = new EntryBookBuilder().withEntry(CARL).build();
+        modelManager = new ModelManager(listEntryBook, new EntryBook(), new EntryBook(), new UserPrefs(), storage);
+
+        try {
+            modelManager.addListEntries(makeEntriesWithAndWithoutArticles());
+            fail("Expected DuplicateEntryException");
+        } catch (DuplicateEntryException dee) {
+            assertEquals(List.of(CARL), modelManager.getListEntryBook().getEntryList());
+            assertTrue(storage.savedArticles.isEmpty());
+        }
+    }
+
+    @Test
+    public void deleteListEntries_entryNotInList_nothingDeletedAndArticlesKept() {
+        StorageStubRecordingArticles storage = new StorageStubRecordingArticles();
+        EntryBook listEntryBook = new EntryBookBuilder().withEntry(ALICE).withEntry(BENSON).build();
+        modelManager = new ModelManager(listEntryBook, new EntryBook(), new EntryBook(), new UserPrefs(), storage);
+
+        try {
+            modelManager.deleteListEntries(List.of(ALICE, CARL));
+            fail("Expected EntryNotFoundException");
+        } catch (EntryNotFoundException enfe) {
+            assertEquals(List.of(ALICE, BENSON), modelManager.getListEntryBook().getEntryList());
+            assertTrue(storage.deletedArticles.isEmpty());
+        }
+    }
+
+    @Test
+    public void archiveEntries_validEntries_movedToArchives() {
+        StorageStubRecordingArticles storage = new StorageStubRecordingArticles();
+        EntryBook listEntryBook = new EntryBookBuilder().withEntry(ALICE).withEntry(BENSON).withEntry(CARL).build();
+        modelManager = new ModelManager(listEntryBook, new EntryBook(), new EntryBook(), new UserPrefs(), storage);
+
+        modelManager.archiveEntries(List.of(CARL, ALICE));
+
+        assertEquals(List.of(BENSON), modelManager.getListEntryBook().getEntryList());
+        assertEquals(List.of(CARL, ALICE), modelManager.getArchivesEntryBook().getEntryList());
+        assertEquals(Set.of(ALICE.getLink().value, CARL.getLink().value), storage.deletedArticles);
+    }
+
+    @Test
+    public void archiveEntries_entryNotInList_nothingMoved() {
+        EntryBook listEntryBook = new EntryBookBuilder().withEntry(ALICE).build();
+        modelManager = new ModelManager(listEntryBook, new EntryBook(), new EntryBook(), new UserPrefs(),
+                new StorageStub());
+
+        try {
+            modelManager.archiveEntries(List.of(ALICE, BENSON));
+            fail("Expected EntryNotFoundException");
+        } catch (EntryNotFoundException enfe) {
+            assertEquals(List.of(ALICE), modelManager.getListEntryBook().getEntryList());
+            assertTrue(modelManager.getArchivesEntryBook().getEntryList().isEmpty());
+        }
+    }
+
+    @Test
+    public void unarchiveEntries_validEntries_movedToList() {
+        StorageStubRecordingArticles storage = new StorageStubRecordingArticles();
+        EntryBook archivesEntryBook = new EntryBookBuilder().withEntry(ALICE).withEntry(BENSON).build();
+        modelManager = new ModelManager(new EntryBook(), archivesEntryBook, new EntryBook(), new UserPrefs(), storage);
+        Map<Entry, Optional<byte[]>> entries = new LinkedHashMap<>();
+        entries.put(BENSON, Optional.of(new byte[0]));
+        entries.put(ALICE, Optional.empty());
+
+        modelManager.unarchiveEntries(entries);
+
+        assertEquals(List.of(BENSON, ALICE), modelManager.getListEntryBook().getEntryList());
+        assertTrue(modelManager.getArchivesEntryBook().getEntryList().isEmpty());
+        assertEquals(Set.of(BENSON.getLink().value), storage.savedArticles);
+    }
+
+    @Test
+    public void unarchiveEntries_entryAlreadyInList_nothingMoved() {
+        StorageStubRecordingArticles storage = new StorageStubRecordingArticles();
+        EntryBook listEntryBook = new EntryBookBuilder().withEntry(ALICE).build();
+        EntryBook archivesEntryBook = new EntryBookBuilder().withEntry(ALICE).withEntry(BENSON).build();
+        modelManager = new ModelManager(listEntryBook, archivesEntryBook, new EntryBook(), new UserPrefs(), storage);
+        Map<Entry, Optional<byte[]>> entries = new LinkedHashMap<>();
+        entries.put(BENSON, Optional.of(new byte[0]));
+        entries.put(ALICE, Optional.of(new byte[0]));
+
+        try {
+            modelManager.unarchiveEntries(entries);
+            fail("Expected DuplicateEntryException");
+        } catch (DuplicateEntryException dee) {
+            assertEquals(List.of(ALICE), modelManager.getListEntryBook().getEntryList());
+            assertEquals(List.of(ALICE, BENSON), modelManager.getArchivesEntryBook().getEntryList());
+            assertTrue(storage.savedArticles.isEmpty());
+        }
+    }
+
+    @Test
+    public void getNextQueuedDownload_nothingQueued_returnsEmpty() {
+        assertFalse(modelManager.getNextQueuedDownload().isPresent());
+    }
+
+    @Test
+    public void getNextQueuedDownload_entrySelected_selectedAndNearestEntriesFirst() {
+        modelManager = makeModelManagerWithDownloadPolicy(ArticleDownloadPolicy.LAZY);
+        // Keep selected entries from being downloaded
+        modelManager.setOfflineMode(OfflineMode.DISABLED);
+        modelManager.addListEntries(makeEntriesWithAndWithoutArticles());
+
+        // no selection -> first queued
+        assertEquals(Optional.of(ALICE.getLink().value), modelManager.getNextQueuedDownload());
+
+        // selected entry queued -> selected entry
+        modelManager.setSelectedEntry(ELLE);
+        assertEquals(Optional.of(ELLE.getLink().value), modelManager.getNextQueuedDownload());
+
+        // selected entry not queued -> nearest queued entry
+        modelManager.setSelectedEntry(CARL);
+        assertEquals(Optional.of(DANIEL.getLink().value), modelManager.getNextQueuedDownload());
+    }
+
     @Test
     public void offlineMode_offlineLinksFetchedIffOfflineModeEnabled() {
         modelManager = new ModelManagerStub(new StorageStubReturnsFakeLink());
@@ -394,7 +585,50 @@ public class ModelManagerTest {
         return testFolder.getRoot().toPath().resolve(fileName);
     }
 
+    private ModelManager makeModelManagerWithDownloadPolicy(ArticleDownloadPolicy articleDownloadPolicy) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setArticleDownloadPolicy(articleDownloadPolicy);
+        return new ModelManager(new EntryBook(), new EntryBook(), new EntryBook(), userPrefs, new StorageStub());
+    }
+
+    /**
+     * Returns ALICE, BENSON, CARL, DANIEL and ELLE in that order, where only BENSON and CARL have articles.
+     */
+    private Map<Entry, Optional<byte[]>> makeEntriesWithAndWithoutArticles() {
+        Map<Entry, Optional<byte[]>> entries = new LinkedHashMap<>();
+        entries.put(ALICE, Optional.empty());
+        entries.put(BENSON, Optional.of(new byte[0]));
+        entries.put(CARL, Optional.of(new byte[0]));
+        entries.put(DANIEL, Optional.empty());
+        entries.put(ELLE, Optional.empty());
+        return entries;
+    }
+
+    /**
+     * A Storage stub which records the links of the articles saved and deleted.
+     */
+    private class StorageStubRecordingArticles extends StorageStub {
+        private final Set<URL> savedArticles = new HashSet<>();
+        private final Set<URL> deletedArticles = new HashSet<>();
+
+        @Override
+        public Optional<Path> addArticle(URL url, byte[] content) {
+            savedArticles.add(url);
+            return Optional.empty();
+        }
+
+        @Override
+        public void deleteArticle(URL url) {
+            deletedArticles.add(url);
+        }
+    }
+
     class StorageStubReturnsFakeLink extends StorageStub {
+        @Override
+        public boolean hasArticle(URL url) {
+            return true;
+        }
+
         @Override
         public Optional<Path> getOfflineLink(URL url) {
             return Optional.of(TestUtil.getFilePathInSandboxFolder("fake"));
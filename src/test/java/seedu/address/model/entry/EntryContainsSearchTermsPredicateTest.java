@@ -5,6 +5,7 @@ import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.testutil.EntryBuilder;
 import seedu.address.testutil.FindEntryDescriptorBuilder;
 
@@ -428,4 +429,21 @@ public class EntryContainsSearchTermsPredicateTest {
             .withTags("dumb");
         assertTrue(predicate.test(builder.build()));
     }
+
+    @Test
+    public void test_descriptorModifiedAfterCreation_searchTermsUnchanged() {
+        FindCommand.FindEntryDescriptor descriptor = new FindEntryDescriptorBuilder().withTitle("Bob").build();
+        EntryContainsSearchTermsPredicate predicate = new EntryContainsSearchTermsPredicate(descriptor);
+        descriptor.setTitle("Zed");
+
+        assertTrue(predicate.test(new EntryBuilder().withTitle("Alice Bob Chloe").build()));
+        assertFalse(predicate.test(new EntryBuilder().withTitle("Zed").build()));
+    }
+
+    @Test
+    public void test_blankPhrase_returnsFalse() {
+        EntryContainsSearchTermsPredicate predicate = new EntryContainsSearchTermsPredicate(
+            new FindEntryDescriptorBuilder().withTitle("  ").withAll("").build());
+        assertFalse(predicate.test(new EntryBuilder().withTitle("Alice Bob Chloe").build()));
+    }
 }
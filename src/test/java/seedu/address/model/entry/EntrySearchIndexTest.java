@@ -0,0 +1,141 @@
+package seedu.address.model.entry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalEntries.ALICE;
+import static seedu.address.testutil.TypicalEntries.BENSON;
+import static seedu.address.testutil.TypicalEntries.CARL;
+import static seedu.address.testutil.TypicalEntries.DANIEL;
+import static seedu.address.testutil.TypicalEntries.ELLE;
+import static seedu.address.testutil.TypicalEntries.getTypicalEntries;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FindCommand.FindEntryDescriptor;
+import seedu.address.model.EntryBook;
+import seedu.address.testutil.EntryBuilder;
+import seedu.address.testutil.FindEntryDescriptorBuilder;
+
+public class EntrySearchIndexTest {
+
+    @Test
+    public void getCandidates_includesEveryMatchingEntry() {
+        EntryBook entryBook = new EntryBook();
+        entryBook.setEntries(getTypicalEntries());
+
+        assertCandidatesIncludeMatches(entryBook, new FindEntryDescriptorBuilder().withTitle("meier").build());
+        assertCandidatesIncludeMatches(entryBook, new FindEntryDescriptorBuilder().withTitle("n mei").build());
+        assertCandidatesIncludeMatches(entryBook, new FindEntryDescriptorBuilder().withTitle("ARL").build());
+        assertCandidatesIncludeMatches(entryBook, new FindEntryDescriptorBuilder().withLink("werner.carl").build());
+        assertCandidatesIncludeMatches(entryBook, new FindEntryDescriptorBuilder().withLink("://").build());
+        assertCandidatesIncludeMatches(entryBook,
+                new FindEntryDescriptorBuilder().withDescription("place-holder Carl").build());
+        assertCandidatesIncludeMatches(entryBook, new FindEntryDescriptorBuilder().withTags("friends").build());
+        assertCandidatesIncludeMatches(entryBook, new FindEntryDescriptorBuilder().withAll("Carl").build());
+        assertCandidatesIncludeMatches(entryBook, new FindEntryDescriptorBuilder().withAll("two words").build());
+    }
+
+    @Test
+    public void getCandidates_wholeWordsInPhrase_narrowsDownCandidates() {
+        EntryBook entryBook = new EntryBook();
+        entryBook.setEntries(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), entryBook.getSearchIndex()
+                .getCandidates(new FindEntryDescriptorBuilder().withTitle("meier").build()));
+        assertEquals(Collections.singleton(ELLE), entryBook.getSearchIndex()
+                .getCandidates(new FindEntryDescriptorBuilder().withLink("werner.carl").build()));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, DANIEL)), entryBook.getSearchIndex()
+                .getCandidates(new FindEntryDescriptorBuilder().withTags("friends").build()));
+    }
+
+    @Test
+    public void getCandidates_entryBookModified_indexUpdated() {
+        EntryBook entryBook = new EntryBook();
+        entryBook.setEntries(Arrays.asList(ALICE, BENSON));
+        FindEntryDescriptor findMeier = new FindEntryDescriptorBuilder().withTitle("meier").build();
+
+        entryBook.removeEntry(BENSON);
+        assertEquals(Collections.emptySet(), entryBook.getSearchIndex().getCandidates(findMeier));
+
+        Entry editedAlice = new EntryBuilder(ALICE).withTitle("Alice Meier").build();
+        entryBook.setEntry(ALICE, editedAlice);
+        assertEquals(Collections.singleton(editedAlice), entryBook.getSearchIndex().getCandidates(findMeier));
+
+        entryBook.batch(editor -> {
+            editor.addEntry(BENSON);
+            editor.removeEntry(editedAlice);
+            editor.addEntry(DANIEL);
+        });
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)),
+                entryBook.getSearchIndex().getCandidates(findMeier));
+
+        entryBook.clear();
+        assertEquals(Collections.emptySet(), entryBook.getSearchIndex().getCandidates(findMeier));
+    }
+
+    @Test
+    public void getTopRanked_ordersByRelevance() {
+        Entry titleMatch = new EntryBuilder().withTitle("Garbage collection tuning")
+                .withDescription("Shorter pauses").withLink("https://test.com/1").build();
+        Entry descriptionMatch = new EntryBuilder().withTitle("Compilers")
+                .withDescription("Compilers and garbage collection").withLink("https://test.com/2").build();
+        Entry tagMatch = new EntryBuilder().withTitle("Memory").withDescription("Allocation")
+                .withTags("garbage").withLink("https://test.com/3").build();
+        Entry noMatch = new EntryBuilder().withTitle("Networking").withDescription("Sockets")
+                .withLink("https://test.com/4").build();
+        EntryBook entryBook = new EntryBook();
+        entryBook.setEntries(Arrays.asList(noMatch, tagMatch, descriptionMatch, titleMatch));
+
+        assertEquals(Arrays.asList(titleMatch, descriptionMatch, tagMatch),
+                entryBook.getSearchIndex().getTopRanked("GARBAGE collection", 10));
+
+        // Only the best entries are kept
+        assertEquals(Collections.singletonList(titleMatch),
+                entryBook.getSearchIndex().getTopRanked("garbage collection", 1));
+
+        // Words are matched whole
+        assertEquals(Collections.emptyList(), entryBook.getSearchIndex().getTopRanked("garb", 10));
+
+        entryBook.removeEntry(titleMatch);
+        assertEquals(Arrays.asList(descriptionMatch, tagMatch),
+                entryBook.getSearchIndex().getTopRanked("garbage collection", 10));
+    }
+
+    @Test
+    public void getTopRanked_withFilter_onlyAcceptedEntriesRanked() {
+        Entry shortTitle = new EntryBuilder().withTitle("Lambda").withLink("https://test.com/1").build();
+        Entry longTitle = new EntryBuilder().withTitle("Lambda calculus for the working programmer")
+                .withLink("https://test.com/2").build();
+        EntryBook entryBook = new EntryBook();
+        entryBook.setEntries(Arrays.asList(longTitle, shortTitle));
+
+        assertEquals(Collections.singletonList(longTitle),
+                entryBook.getSearchIndex().getTopRanked("lambda", 10, entry -> !entry.equals(shortTitle)));
+    }
+
+    @Test
+    public void getTopRanked_shorterFieldRanksHigher() {
+        Entry shortTitle = new EntryBuilder().withTitle("Lambda").withLink("https://test.com/1").build();
+        Entry longTitle = new EntryBuilder().withTitle("Lambda calculus for the working programmer")
+                .withLink("https://test.com/2").build();
+        EntryBook entryBook = new EntryBook();
+        entryBook.setEntries(Arrays.asList(longTitle, shortTitle));
+
+        assertEquals(Arrays.asList(shortTitle, longTitle), entryBook.getSearchIndex().getTopRanked("lambda", 10));
+    }
+
+    /**
+     * Checks that every entry in {@code entryBook} matching the descriptor is a candidate.
+     */
+    private void assertCandidatesIncludeMatches(EntryBook entryBook, FindEntryDescriptor findEntryDescriptor) {
+        EntryContainsSearchTermsPredicate predicate = new EntryContainsSearchTermsPredicate(findEntryDescriptor);
+        Set<Entry> matchingEntries = entryBook.getEntryList().stream().filter(predicate).collect(Collectors.toSet());
+        assertTrue(entryBook.getSearchIndex().getCandidates(findEntryDescriptor).containsAll(matchingEntries));
+    }
+}
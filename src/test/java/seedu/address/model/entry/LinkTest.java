@@ -1,5 +1,8 @@
 package seedu.address.model.entry;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
 import java.net.MalformedURLException;
 import java.net.URL;
 
@@ -23,4 +26,15 @@ public class LinkTest {
         Assert.assertThrows(MalformedURLException.class, () -> new Link("https://foo.bar:badport/"));
     }
 
+    @Test
+    public void equals_differentCase_consistentWithHashCode() throws MalformedURLException {
+        Link link = new Link("https://example.com/Some/Path");
+        Link upperCaseLink = new Link("HTTPS://EXAMPLE.COM/SOME/PATH");
+        assertEquals(link, upperCaseLink);
+        assertEquals(link.hashCode(), upperCaseLink.hashCode());
+        assertEquals(link.getNormalizedValue(), upperCaseLink.getNormalizedValue());
+
+        assertNotEquals(link, new Link("https://example.com/other/path"));
+    }
+
 }
@@ -3,10 +3,12 @@ package seedu.address.model.entry;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_SCIENCE;
 import static seedu.address.testutil.TypicalEntries.ALICE;
 import static seedu.address.testutil.TypicalEntries.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -15,11 +17,17 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ListChangeListener;
 import seedu.address.model.entry.exceptions.DuplicateEntryException;
 import seedu.address.model.entry.exceptions.EntryNotFoundException;
 import seedu.address.testutil.EntryBuilder;
 
 public class UniqueEntryListTest {
+    /** Large enough that a quadratic scan over the list would not finish within {@code SCALING_TIMEOUT_MILLIS}. */
+    private static final int SCALING_NUM_ENTRIES = 100_000;
+    private static final long SCALING_TIMEOUT_MILLIS = 10_000;
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
@@ -49,6 +57,13 @@ public class UniqueEntryListTest {
         assertTrue(uniqueEntryList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_entryWithLinkDifferingOnlyInCaseInList_returnsTrue() {
+        uniqueEntryList.add(ALICE);
+        Entry upperCaseAlice = new EntryBuilder(ALICE).withLink(ALICE.getLink().toString().toUpperCase()).build();
+        assertTrue(uniqueEntryList.contains(upperCaseAlice));
+    }
+
     @Test
     public void add_nullEntry_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -129,6 +144,14 @@ public class UniqueEntryListTest {
         uniqueEntryList.remove(ALICE);
     }
 
+    @Test
+    public void remove_entryWithSameIdentityButDifferentFields_throwsEntryNotFoundException() {
+        uniqueEntryList.add(ALICE);
+        Entry editedAlice = new EntryBuilder(ALICE).withTags(VALID_TAG_SCIENCE).build();
+        thrown.expect(EntryNotFoundException.class);
+        uniqueEntryList.remove(editedAlice);
+    }
+
     @Test
     public void remove_existingEntry_removesEntry() {
         uniqueEntryList.add(ALICE);
@@ -175,9 +198,125 @@ public class UniqueEntryListTest {
         uniqueEntryList.setEntries(listWithDuplicateEntries);
     }
 
+    @Test
+    public void setEntries_listWithEntriesDifferingOnlyInLinkCase_throwsDuplicateEntryException() {
+        Entry upperCaseAlice = new EntryBuilder(ALICE).withLink(ALICE.getLink().toString().toUpperCase()).build();
+        thrown.expect(DuplicateEntryException.class);
+        uniqueEntryList.setEntries(Arrays.asList(ALICE, upperCaseAlice));
+    }
+
+    @Test(timeout = SCALING_TIMEOUT_MILLIS)
+    public void setEntries_largeList_scalesLinearly() {
+        List<Entry> entries = buildDistinctEntries(SCALING_NUM_ENTRIES);
+        uniqueEntryList.setEntries(entries);
+        assertEquals(SCALING_NUM_ENTRIES, uniqueEntryList.asUnmodifiableObservableList().size());
+    }
+
+    @Test(timeout = SCALING_TIMEOUT_MILLIS)
+    public void add_largeList_scalesLinearly() {
+        List<Entry> entries = buildDistinctEntries(SCALING_NUM_ENTRIES);
+        entries.forEach(uniqueEntryList::add);
+        for (Entry entry : entries) {
+            assertTrue(uniqueEntryList.contains(entry));
+        }
+        assertFalse(uniqueEntryList.contains(ALICE));
+    }
+
+    @Test(timeout = SCALING_TIMEOUT_MILLIS)
+    public void setEntry_largeList_scalesLinearly() {
+        List<Entry> entries = buildDistinctEntries(SCALING_NUM_ENTRIES);
+        uniqueEntryList.setEntries(entries);
+        // replace every entry, so that finding each one by scanning the backing list would be quadratic
+        List<Entry> editedEntries = new ArrayList<>();
+        for (Entry entry : entries) {
+            Entry editedEntry = new EntryBuilder(entry).withTags(VALID_TAG_SCIENCE).build();
+            uniqueEntryList.setEntry(entry, editedEntry);
+            editedEntries.add(editedEntry);
+        }
+        assertEquals(editedEntries, uniqueEntryList.asUnmodifiableObservableList());
+    }
+
+    @Test(timeout = SCALING_TIMEOUT_MILLIS)
+    public void remove_largeList_scalesLinearly() {
+        List<Entry> entries = buildDistinctEntries(SCALING_NUM_ENTRIES);
+        uniqueEntryList.setEntries(entries);
+        // remove every entry from the back, which no entry has to shift for, but a scan from the front would reach last
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            uniqueEntryList.remove(entries.get(i));
+        }
+        assertTrue(uniqueEntryList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void remove_thenSetEntryAfterRemovedEntry_entryReplacedInPlace() {
+        Entry carl = new EntryBuilder().withLink("https://carl.example.com").build();
+        uniqueEntryList.setEntries(Arrays.asList(ALICE, BOB, carl));
+        uniqueEntryList.remove(ALICE);
+
+        // the recorded positions of BOB and carl have shifted
+        Entry editedCarl = new EntryBuilder(carl).withTags(VALID_TAG_SCIENCE).build();
+        uniqueEntryList.setEntry(carl, editedCarl);
+        uniqueEntryList.remove(BOB);
+        assertEquals(Collections.singletonList(editedCarl), uniqueEntryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void batch_nullModifications_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueEntryList.batch(null);
+    }
+
+    @Test
+    public void batch_multipleModifications_singleChangeFired() {
+        uniqueEntryList.add(ALICE);
+        SimpleIntegerProperty numChanges = new SimpleIntegerProperty();
+        uniqueEntryList.asUnmodifiableObservableList().addListener((ListChangeListener<Entry>) change ->
+                numChanges.set(numChanges.get() + 1));
+
+        Entry editedAlice = new EntryBuilder(ALICE).withTags(VALID_TAG_SCIENCE).build();
+        uniqueEntryList.batch(() -> {
+            uniqueEntryList.add(BOB);
+            uniqueEntryList.setEntry(ALICE, editedAlice);
+            uniqueEntryList.remove(BOB);
+        });
+
+        assertEquals(1, numChanges.get());
+        assertEquals(Collections.singletonList(editedAlice), uniqueEntryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void batch_failingModification_listUnchanged() {
+        uniqueEntryList.add(ALICE);
+        try {
+            uniqueEntryList.batch(() -> {
+                uniqueEntryList.add(BOB);
+                uniqueEntryList.remove(ALICE);
+                uniqueEntryList.add(BOB);
+            });
+            fail();
+        } catch (DuplicateEntryException dee) {
+            UniqueEntryList expectedUniqueEntryList = new UniqueEntryList();
+            expectedUniqueEntryList.add(ALICE);
+            assertEquals(expectedUniqueEntryList, uniqueEntryList);
+            assertTrue(uniqueEntryList.contains(ALICE));
+            assertFalse(uniqueEntryList.contains(BOB));
+        }
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
         uniqueEntryList.asUnmodifiableObservableList().remove(0);
     }
+
+    /**
+     * Returns {@code numEntries} entries with distinct links.
+     */
+    private static List<Entry> buildDistinctEntries(int numEntries) {
+        List<Entry> entries = new ArrayList<>(numEntries);
+        for (int i = 0; i < numEntries; i++) {
+            entries.add(new EntryBuilder().withLink("https://example.com/entries/" + i).build());
+        }
+        return entries;
+    }
 }
@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.testutil.TestUtil;
+
+public class CompressedArticleStorageTest {
+
+    private static final URL URL_A = TestUtil.toUrl("https://test.com/a");
+    private static final URL URL_B = TestUtil.toUrl("https://test.com/b");
+    private static final byte[] CONTENT_1 = "<html><body>test1 test1 test1 test1</body></html>".getBytes();
+    private static final byte[] CONTENT_2 = "<html><body>test2 test2 test2 test2</body></html>".getBytes();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void addArticle_servesDecompressedContent() throws IOException {
+        CompressedArticleStorage storage = new CompressedArticleStorage(testFolder.getRoot().toPath());
+
+        assertFalse(storage.getOfflineLink(URL_A).isPresent());
+
+        storage.addArticle(URL_A, CONTENT_1);
+        assertOfflineContent(storage, URL_A, CONTENT_1);
+
+        // Re-adding replaces the content, including any copy already served
+        storage.addArticle(URL_A, CONTENT_2);
+        assertOfflineContent(storage, URL_A, CONTENT_2);
+        assertEquals(1, storage.getStoredContentCount());
+    }
+
+    @Test
+    public void addArticle_identicalContent_storedOnce() throws IOException {
+        CompressedArticleStorage storage = new CompressedArticleStorage(testFolder.getRoot().toPath());
+
+        storage.addArticle(URL_A, CONTENT_1);
+        storage.addArticle(URL_B, CONTENT_1);
+        assertEquals(1, storage.getStoredContentCount());
+
+        // Deleting one article keeps the content shared with the other
+        storage.deleteArticle(URL_A);
+        assertFalse(storage.getOfflineLink(URL_A).isPresent());
+        assertOfflineContent(storage, URL_B, CONTENT_1);
+        assertEquals(1, storage.getStoredContentCount());
+
+        storage.deleteArticle(URL_B);
+        assertFalse(storage.getOfflineLink(URL_B).isPresent());
+        assertEquals(0, storage.getStoredContentCount());
+    }
+
+    @Test
+    public void constructor_reloadsSavedArticles() throws IOException {
+        Path directoryPath = testFolder.getRoot().toPath();
+        CompressedArticleStorage storage = new CompressedArticleStorage(directoryPath);
+        storage.addArticle(URL_A, CONTENT_1);
+        storage.addArticle(URL_B, CONTENT_1);
+
+        CompressedArticleStorage reloadedStorage = new CompressedArticleStorage(directoryPath);
+        assertOfflineContent(reloadedStorage, URL_A, CONTENT_1);
+        assertOfflineContent(reloadedStorage, URL_B, CONTENT_1);
+        assertEquals(1, reloadedStorage.getStoredContentCount());
+    }
+
+    @Test
+    public void loadArticles_plainArticles_migrated() throws IOException {
+        Path directoryPath = testFolder.getRoot().toPath();
+        DataDirectoryArticleStorage plainStorage = new DataDirectoryArticleStorage(directoryPath);
+        plainStorage.addArticle(URL_A, CONTENT_1);
+        plainStorage.addArticle(URL_B, CONTENT_2);
+
+        CompressedArticleStorage storage = new CompressedArticleStorage(directoryPath);
+        storage.loadArticles();
+
+        // The plain copies are removed once migrated, before any article is accessed
+        assertFalse(Files.exists(plainStorage.getArticlePath(URL_A)));
+        assertFalse(Files.exists(plainStorage.getArticlePath(URL_B)));
+
+        assertOfflineContent(storage, URL_A, CONTENT_1);
+        assertOfflineContent(storage, URL_B, CONTENT_2);
+        assertEquals(2, storage.getStoredContentCount());
+    }
+
+    @Test
+    public void hasArticle_savedArticle_notDecompressed() throws IOException {
+        CompressedArticleStorage storage = new CompressedArticleStorage(testFolder.getRoot().toPath());
+        storage.addArticle(URL_A, CONTENT_1);
+
+        assertTrue(storage.hasArticle(URL_A));
+        assertFalse(storage.hasArticle(URL_B));
+        assertFalse(Files.exists(storage.getArticlePath(URL_A)));
+    }
+
+    @Test
+    public void loadArticles_flatLayout_movedIntoSubdirectories() throws IOException {
+        Path directoryPath = testFolder.getRoot().toPath();
+        new CompressedArticleStorage(directoryPath).addArticle(URL_A, CONTENT_1);
+        List<Path> flatDirectories = List.of(directoryPath.resolve(CompressedArticleStorage.OBJECTS_DIRECTORY_NAME),
+                directoryPath.resolve(CompressedArticleStorage.REFS_DIRECTORY_NAME));
+        for (Path directory : flatDirectories) {
+            for (Path path : listFiles(directory)) {
+                Files.move(path, directory.resolve(path.getFileName()));
+            }
+        }
+
+        CompressedArticleStorage storage = new CompressedArticleStorage(directoryPath);
+        storage.loadArticles();
+        assertOfflineContent(storage, URL_A, CONTENT_1);
+        for (Path directory : flatDirectories) {
+            for (Path path : listFiles(directory)) {
+                assertEquals(directory, path.getParent().getParent());
+            }
+        }
+    }
+
+    private static List<Path> listFiles(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Checks that the offline link for the URL serves exactly {@code content}.
+     */
+    private void assertOfflineContent(ArticleStorage storage, URL url, byte[] content) throws IOException {
+        Optional<Path> offlineLink = storage.getOfflineLink(url);
+        assertTrue(offlineLink.isPresent());
+        assertArrayEquals(content, Files.readAllBytes(offlineLink.get()));
+    }
+}
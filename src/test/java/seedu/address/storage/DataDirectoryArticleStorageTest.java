@@ -1,19 +1,27 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.testutil.TestUtil;
+import seedu.address.util.HttpValidators;
 
 public class DataDirectoryArticleStorageTest {
 
@@ -81,6 +89,171 @@ public class DataDirectoryArticleStorageTest {
         assertFalse(ddas.getOfflineLink(TestUtil.toUrl("http://test.com")).isPresent());
     }
 
+    @Test
+    public void saveHttpValidators_readBackAndClearedByArticleChanges() throws IOException {
+        DataDirectoryArticleStorage ddas = new DataDirectoryArticleStorage(testFolder.getRoot().toPath());
+        HttpValidators validators = HttpValidators.of("\"abc\"", "Wed, 21 Oct 2015 07:28:00 GMT").get();
+
+        // No validators are stored for an unknown URL.
+        assertFalse(ddas.getHttpValidators(TestUtil.toUrl("https://test.com")).isPresent());
+
+        ddas.saveHttpValidators(TestUtil.toUrl("https://test.com"), validators);
+        assertEquals(validators, ddas.getHttpValidators(TestUtil.toUrl("https://test.com")).get());
+        assertFalse(ddas.getHttpValidators(TestUtil.toUrl("https://test.io")).isPresent());
+
+        // Validators describe the stored content, so replacing the content invalidates them.
+        ddas.addArticle(TestUtil.toUrl("https://test.com"), "test1".getBytes());
+        assertFalse(ddas.getHttpValidators(TestUtil.toUrl("https://test.com")).isPresent());
+
+        ddas.saveHttpValidators(TestUtil.toUrl("https://test.com"), validators);
+        ddas.deleteArticle(TestUtil.toUrl("https://test.com"));
+        assertFalse(ddas.getHttpValidators(TestUtil.toUrl("https://test.com")).isPresent());
+    }
+
+    @Test
+    public void addArticle_savedInSubdirectoryNamedByHashPrefix() throws IOException {
+        Path directoryPath = testFolder.getRoot().toPath();
+        DataDirectoryArticleStorage ddas = new DataDirectoryArticleStorage(directoryPath);
+
+        Path articlePath = ddas.addArticle(TestUtil.toUrl("https://test.com"), "test1".getBytes()).get();
+        Path shardPath = articlePath.getParent();
+        assertEquals(directoryPath, shardPath.getParent());
+        assertTrue(articlePath.getFileName().toString().startsWith(shardPath.getFileName().toString()));
+    }
+
+    @Test
+    public void loadArticles_articlesInFlatLayout_movedIntoSubdirectories() throws IOException {
+        Path directoryPath = testFolder.getRoot().toPath();
+        DataDirectoryArticleStorage ddas = new DataDirectoryArticleStorage(directoryPath);
+        Path articlePath = ddas.getArticlePath(TestUtil.toUrl("https://test.com"));
+        Path flatPath = directoryPath.resolve(articlePath.getFileName());
+        Files.write(flatPath, "test1".getBytes());
+
+        ddas.loadArticles();
+        assertFalse(Files.exists(flatPath));
+        assertFetchSuccess(ddas, "https://test.com", "test1".getBytes());
+        assertEquals(articlePath, ddas.getOfflineLink(TestUtil.toUrl("https://test.com")).get());
+    }
+
+    @Test
+    public void loadArticles_directoryNotNamedByHashPrefix_ignored() throws IOException {
+        Path directoryPath = testFolder.getRoot().toPath();
+        DataDirectoryArticleStorage ddas = new DataDirectoryArticleStorage(directoryPath);
+        Path articlePath = ddas.getArticlePath(TestUtil.toUrl("https://test.com"));
+        // Base32 hashes never contain lowercase letters
+        Path otherPath = directoryPath.resolve("zz").resolve(articlePath.getFileName());
+        FileUtil.createParentDirsOfFile(otherPath);
+        Files.write(otherPath, "test1".getBytes());
+
+        ddas.loadArticles();
+        assertFalse(ddas.getOfflineLink(TestUtil.toUrl("https://test.com")).isPresent());
+        assertTrue(Files.exists(otherPath));
+    }
+
+    @Test
+    public void deleteArticle_noLongerOffline() throws IOException {
+        DataDirectoryArticleStorage ddas = new DataDirectoryArticleStorage(testFolder.getRoot().toPath());
+
+        ddas.addArticle(TestUtil.toUrl("https://test.com"), "test1".getBytes());
+        ddas.deleteArticle(TestUtil.toUrl("https://test.com"));
+        assertFalse(ddas.getOfflineLink(TestUtil.toUrl("https://test.com")).isPresent());
+
+        // A new storage on the same directory sees the same articles
+        ddas.addArticle(TestUtil.toUrl("https://test.io"), "test2".getBytes());
+        DataDirectoryArticleStorage reloaded = new DataDirectoryArticleStorage(testFolder.getRoot().toPath());
+        assertTrue(reloaded.getOfflineLink(TestUtil.toUrl("https://test.io")).isPresent());
+        assertFalse(reloaded.getOfflineLink(TestUtil.toUrl("https://test.com")).isPresent());
+    }
+
+    @Test
+    public void getArticleContentPredicate_matchesArticlesContainingAllWords() throws IOException {
+        Path directoryPath = testFolder.getRoot().toPath();
+        DataDirectoryArticleStorage ddas = new DataDirectoryArticleStorage(directoryPath);
+        URL firstUrl = TestUtil.toUrl("https://test.com/gc");
+        URL secondUrl = TestUtil.toUrl("https://test.com/jit");
+        ddas.addArticle(firstUrl, "<html><title>Tuning</title><body><p>Garbage collection pauses</p></body></html>"
+                .getBytes());
+        ddas.addArticle(secondUrl, "<html><body><p>JIT compilation and garbage</p></body></html>".getBytes());
+
+        Predicate<URL> predicate = ddas.getArticleContentPredicate("GARBAGE");
+        assertTrue(predicate.test(firstUrl));
+        assertTrue(predicate.test(secondUrl));
+
+        predicate = ddas.getArticleContentPredicate("collection garbage");
+        assertTrue(predicate.test(firstUrl));
+        assertFalse(predicate.test(secondUrl));
+
+        // Markup is not part of the text
+        assertFalse(ddas.getArticleContentPredicate("html").test(firstUrl));
+
+        ddas.deleteArticle(firstUrl);
+        assertFalse(ddas.getArticleContentPredicate("collection").test(firstUrl));
+    }
+
+    @Test
+    public void indexArticles_articlesSavedBeforeIndex_indexed() throws IOException {
+        Path directoryPath = testFolder.getRoot().toPath();
+        URL url = TestUtil.toUrl("https://test.com");
+        DataDirectoryArticleStorage storage = new DataDirectoryArticleStorage(directoryPath);
+        storage.addArticle(url, "<p>Escape analysis</p>".getBytes());
+        storage.awaitTextIndexing();
+        Path textIndexPath = directoryPath.resolve(DataDirectoryArticleStorage.TEXT_INDEX_DIRECTORY_NAME);
+        try (Stream<Path> paths = Files.walk(textIndexPath)) {
+            paths.filter(Files::isRegularFile).forEach(path -> path.toFile().delete());
+        }
+
+        // Searching only reads the index
+        DataDirectoryArticleStorage reloaded = new DataDirectoryArticleStorage(directoryPath);
+        assertFalse(reloaded.getArticleContentPredicate("escape").test(url));
+
+        reloaded.indexArticles();
+        assertTrue(reloaded.getArticleContentPredicate("escape").test(url));
+    }
+
+    @Test
+    public void getArticleContentPredicate_indexInFlatLayout_movedIntoSubdirectories() throws IOException {
+        Path directoryPath = testFolder.getRoot().toPath();
+        URL url = TestUtil.toUrl("https://test.com");
+        DataDirectoryArticleStorage storage = new DataDirectoryArticleStorage(directoryPath);
+        storage.addArticle(url, "<p>Escape analysis</p>".getBytes());
+        storage.awaitTextIndexing();
+        Path textIndexPath = directoryPath.resolve(DataDirectoryArticleStorage.TEXT_INDEX_DIRECTORY_NAME);
+        Path shardedWordsPath;
+        try (Stream<Path> paths = Files.walk(textIndexPath)) {
+            shardedWordsPath = paths.filter(Files::isRegularFile).findFirst().get();
+        }
+        Path flatWordsPath = textIndexPath.resolve(shardedWordsPath.getFileName());
+        Files.move(shardedWordsPath, flatWordsPath);
+
+        DataDirectoryArticleStorage reloaded = new DataDirectoryArticleStorage(directoryPath);
+        assertTrue(reloaded.getArticleContentPredicate("escape").test(url));
+        assertTrue(FileUtil.isFileExists(shardedWordsPath));
+        assertFalse(FileUtil.isFileExists(flatWordsPath));
+    }
+
+    @Test
+    public void getArticleContentPredicate_mostArticlesDeleted_remainingArticlesStillMatched() throws IOException {
+        DataDirectoryArticleStorage ddas = new DataDirectoryArticleStorage(testFolder.getRoot().toPath());
+        List<URL> urls = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            urls.add(TestUtil.toUrl("https://test.com/" + i));
+            ddas.addArticle(urls.get(i), ("<p>Article number" + i + "</p>").getBytes());
+        }
+
+        // Deleting most articles compacts the ids of the remaining ones
+        for (int i = 0; i < 150; i++) {
+            ddas.deleteArticle(urls.get(i));
+        }
+        ddas.addArticle(urls.get(0), "<p>Article number0</p>".getBytes());
+
+        Predicate<URL> predicate = ddas.getArticleContentPredicate("article");
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i == 0 || i >= 150, predicate.test(urls.get(i)));
+        }
+        assertTrue(ddas.getArticleContentPredicate("number199").test(urls.get(199)));
+        assertFalse(ddas.getArticleContentPredicate("number1").test(urls.get(1)));
+    }
+
     /**
      * Checks that the content saved for the URL matches.
      */
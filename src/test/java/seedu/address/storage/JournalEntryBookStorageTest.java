@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_SCIENCE;
+import static seedu.address.testutil.TypicalEntries.ALICE;
+import static seedu.address.testutil.TypicalEntries.BENSON;
+import static seedu.address.testutil.TypicalEntries.HOON;
+import static seedu.address.testutil.TypicalEntries.IDA;
+import static seedu.address.testutil.TypicalEntries.getTypicalListEntryBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.EntryBook;
+import seedu.address.model.entry.Entry;
+import seedu.address.testutil.EntryBuilder;
+
+public class JournalEntryBookStorageTest {
+    private static final int NO_COMPACTION = Integer.MAX_VALUE;
+    private static final long COMPACTION_TIMEOUT_MILLIS = 10_000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("entrybook.json");
+        journalFilePath = JournalEntryBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readEntryBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalEntryBookStorage(filePath, NO_COMPACTION).readEntryBook(null);
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalEntryBookStorage(filePath, NO_COMPACTION).readEntryBook().isPresent());
+    }
+
+    @Test
+    public void read_snapshotSavedByJsonEntryBookStorage_success() throws Exception {
+        EntryBook original = getTypicalListEntryBook();
+        new JsonEntryBookStorage(filePath).saveEntryBook(original);
+        assertEquals(original, new EntryBook(new JournalEntryBookStorage(filePath, NO_COMPACTION)
+                .readEntryBook().get()));
+    }
+
+    @Test
+    public void saveEntryBook_modifiedAfterRead_onlyJournalWritten() throws Exception {
+        EntryBook original = getTypicalListEntryBook();
+        new JsonEntryBookStorage(filePath).saveEntryBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        JournalEntryBookStorage storage = new JournalEntryBookStorage(filePath, NO_COMPACTION);
+        storage.readEntryBook();
+        original.addEntry(HOON);
+        original.removeEntry(ALICE);
+        original.setEntry(BENSON, new EntryBuilder(BENSON).withTags(VALID_TAG_SCIENCE).build());
+        storage.saveEntryBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new EntryBook(new JournalEntryBookStorage(filePath, NO_COMPACTION)
+                .readEntryBook().get()));
+    }
+
+    @Test
+    public void saveEntryBook_unmodified_nothingWritten() throws Exception {
+        EntryBook original = getTypicalListEntryBook();
+        JournalEntryBookStorage storage = new JournalEntryBookStorage(filePath, NO_COMPACTION);
+        storage.saveEntryBook(original);
+        storage.saveEntryBook(original);
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveEntryBook_reordered_snapshotWritten() throws Exception {
+        EntryBook original = getTypicalListEntryBook();
+        JournalEntryBookStorage storage = new JournalEntryBookStorage(filePath, NO_COMPACTION);
+        storage.saveEntryBook(original);
+        original.addEntry(IDA);
+        storage.saveEntryBook(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        List<Entry> reversedEntries = new ArrayList<>(original.getEntryList());
+        Collections.reverse(reversedEntries);
+        original.setEntries(reversedEntries);
+        storage.saveEntryBook(original);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new EntryBook(new StreamingJsonEntryBookStorage(filePath).readEntryBook().get()));
+    }
+
+    @Test
+    public void readEntryBook_incompleteLastOperation_operationDiscarded() throws Exception {
+        EntryBook original = getTypicalListEntryBook();
+        JournalEntryBookStorage storage = new JournalEntryBookStorage(filePath, NO_COMPACTION);
+        storage.saveEntryBook(original);
+        original.addEntry(IDA);
+        storage.saveEntryBook(original);
+        EntryBook expected = new EntryBook(original);
+
+        Files.write(journalFilePath, "{\"operation\":\"put\",\"entry\":{\"ti".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournalEntryBookStorage reopenedStorage = new JournalEntryBookStorage(filePath, NO_COMPACTION);
+        assertEquals(expected, new EntryBook(reopenedStorage.readEntryBook().get()));
+
+        // the incomplete operation does not get in the way of later operations
+        original.addEntry(HOON);
+        reopenedStorage.saveEntryBook(original);
+        assertEquals(original, new EntryBook(new JournalEntryBookStorage(filePath, NO_COMPACTION)
+                .readEntryBook().get()));
+    }
+
+    @Test
+    public void readEntryBook_invalidOperation_throwsDataConversionException() throws Exception {
+        new JournalEntryBookStorage(filePath, NO_COMPACTION).saveEntryBook(getTypicalListEntryBook());
+        Files.write(journalFilePath, "{\"operation\":\"rename\"}\n".getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        new JournalEntryBookStorage(filePath, NO_COMPACTION).readEntryBook();
+    }
+
+    @Test
+    public void saveEntryBook_journalExceedsThreshold_compactedInBackground() throws Exception {
+        EntryBook original = getTypicalListEntryBook();
+        JournalEntryBookStorage storage = new JournalEntryBookStorage(filePath, 2);
+        storage.saveEntryBook(original);
+        original.addEntry(HOON);
+        original.addEntry(IDA);
+        storage.saveEntryBook(original);
+
+        long deadline = System.currentTimeMillis() + COMPACTION_TIMEOUT_MILLIS;
+        while (Files.size(journalFilePath) > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, Files.size(journalFilePath));
+        assertEquals(original, new EntryBook(new StreamingJsonEntryBookStorage(filePath).readEntryBook().get()));
+    }
+
+    @Test
+    public void saveEntryBook_nullEntryBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalEntryBookStorage(filePath, NO_COMPACTION).saveEntryBook(null);
+    }
+}
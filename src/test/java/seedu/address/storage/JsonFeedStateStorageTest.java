@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.util.FeedState;
+
+public class JsonFeedStateStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonFeedStateStorageTest");
+
+    private static final FeedState FEED_STATE =
+            new FeedState("hash", "https://palaeo.example/?p=2", Instant.parse("2018-11-04T10:15:30Z"),
+                    List.of("https://palaeo.example/?p=2", "https://palaeo.example/?p=1"));
+    private static final FeedState FEED_STATE_WITHOUT_ITEMS = new FeedState("otherhash", null, null, List.of());
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void getFeedState_missingFile_emptyResult() throws Exception {
+        JsonFeedStateStorage storage = new JsonFeedStateStorage(getTempFilePath("feedstates.json"));
+        assertFalse(storage.getFeedState(new URL("https://palaeo.example/feed.xml")).isPresent());
+    }
+
+    @Test
+    public void getFeedState_invalidFile_emptyResult() throws Exception {
+        JsonFeedStateStorage storage =
+                new JsonFeedStateStorage(TEST_DATA_FOLDER.resolve("missingContentHashFeedStates.json"));
+        assertFalse(storage.getFeedState(new URL("https://palaeo.example/feed.xml")).isPresent());
+    }
+
+    @Test
+    public void saveFeedState_allInOrder_readBackByNewStorage() throws Exception {
+        Path filePath = getTempFilePath("feedstates.json");
+        URL feedUrl = new URL("https://palaeo.example/feed.xml");
+        URL otherFeedUrl = new URL("https://trilobite.example/atom.xml");
+        JsonFeedStateStorage storage = new JsonFeedStateStorage(filePath);
+        storage.saveFeedState(feedUrl, FEED_STATE);
+        storage.saveFeedState(otherFeedUrl, FEED_STATE_WITHOUT_ITEMS);
+
+        JsonFeedStateStorage newStorage = new JsonFeedStateStorage(filePath);
+        assertEquals(Optional.of(FEED_STATE), newStorage.getFeedState(feedUrl));
+        assertEquals(Optional.of(FEED_STATE_WITHOUT_ITEMS), newStorage.getFeedState(otherFeedUrl));
+    }
+
+    @Test
+    public void getFeedState_savedWithoutSeenItemIds_noSeenItemIds() throws Exception {
+        JsonFeedStateStorage storage =
+                new JsonFeedStateStorage(TEST_DATA_FOLDER.resolve("withoutSeenItemIdsFeedStates.json"));
+        assertEquals(Optional.of(new FeedState("hash", "https://palaeo.example/?p=2", null, List.of())),
+                storage.getFeedState(new URL("https://palaeo.example/feed.xml")));
+    }
+
+    @Test
+    public void saveFeedStates_severalFeeds_readBackByNewStorage() throws Exception {
+        Path filePath = getTempFilePath("feedstates.json");
+        URL feedUrl = new URL("https://palaeo.example/feed.xml");
+        URL otherFeedUrl = new URL("https://trilobite.example/atom.xml");
+        JsonFeedStateStorage storage = new JsonFeedStateStorage(filePath);
+        storage.saveFeedStates(Map.of(feedUrl, FEED_STATE, otherFeedUrl, FEED_STATE_WITHOUT_ITEMS));
+
+        JsonFeedStateStorage newStorage = new JsonFeedStateStorage(filePath);
+        assertEquals(Optional.of(FEED_STATE), newStorage.getFeedState(feedUrl));
+        assertEquals(Optional.of(FEED_STATE_WITHOUT_ITEMS), newStorage.getFeedState(otherFeedUrl));
+    }
+
+    @Test
+    public void deleteFeedState_savedState_deletedFromFile() throws Exception {
+        Path filePath = getTempFilePath("feedstates.json");
+        URL feedUrl = new URL("https://palaeo.example/feed.xml");
+        JsonFeedStateStorage storage = new JsonFeedStateStorage(filePath);
+        storage.saveFeedState(feedUrl, FEED_STATE);
+        storage.deleteFeedState(feedUrl);
+
+        assertFalse(storage.getFeedState(feedUrl).isPresent());
+        assertFalse(new JsonFeedStateStorage(filePath).getFeedState(feedUrl).isPresent());
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+}
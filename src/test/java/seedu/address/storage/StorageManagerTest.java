@@ -9,6 +9,9 @@ import static seedu.address.testutil.TypicalEntries.getTypicalListEntryBook;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -19,6 +22,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.EntryBook;
 import seedu.address.model.ReadOnlyEntryBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.util.FeedState;
 
 public class StorageManagerTest {
 
@@ -34,8 +38,9 @@ public class StorageManagerTest {
         JsonEntryBookStorage feedsEntryBookStorage = new JsonEntryBookStorage(getTempFilePath("feeds"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
         ArticleStorage articleStorage = new DataDirectoryArticleStorage(getTempFilePath("articles"));
+        JsonFeedStateStorage feedStateStorage = new JsonFeedStateStorage(getTempFilePath("feedstates"));
         storageManager = new StorageManager(listEntryBookStorage, archivesEntryBookStorage, feedsEntryBookStorage,
-                userPrefsStorage, articleStorage);
+                userPrefsStorage, articleStorage, feedStateStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -97,6 +102,20 @@ public class StorageManagerTest {
         assertArrayEquals(Files.readAllBytes(savedArticlePath), testContent);
     }
 
+    @Test
+    public void feedStateReadSave() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link JsonFeedStateStorage} class.
+         * More extensive testing of feed state saving/reading is done in {@link JsonFeedStateStorageTest} class.
+         */
+        URL feedUrl = new URL("https://test.url/feed.xml");
+        FeedState original = new FeedState("hash", "https://test.url/item", Instant.parse("2018-11-04T10:15:30Z"),
+                List.of("https://test.url/item"));
+        storageManager.saveFeedState(feedUrl, original);
+        assertEquals(Optional.of(original), storageManager.getFeedState(feedUrl));
+    }
+
     @Test
     public void getListEntryBookFilePath() {
         assertNotNull(storageManager.getListEntryBookFilePath());
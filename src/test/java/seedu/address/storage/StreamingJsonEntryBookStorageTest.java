@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalEntries.ALICE;
+import static seedu.address.testutil.TypicalEntries.HOON;
+import static seedu.address.testutil.TypicalEntries.IDA;
+import static seedu.address.testutil.TypicalEntries.getTypicalListEntryBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.EntryBook;
+import seedu.address.model.ReadOnlyEntryBook;
+
+public class StreamingJsonEntryBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonEntryBookStorageTest");
+    private static final Path DUPLICATE_ENTRY_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableEntryBookTest", "duplicateEntryEntryBook.json");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readEntryBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new StreamingJsonEntryBookStorage(null).readEntryBook(null);
+    }
+
+    private Optional<ReadOnlyEntryBook> readEntryBook(String filePath) throws Exception {
+        Path path = TEST_DATA_FOLDER.resolve(filePath);
+        return new StreamingJsonEntryBookStorage(path).readEntryBook(path);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(readEntryBook("NonExistentFile.json").isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readEntryBook("notJsonFormatEntryBook.json");
+    }
+
+    @Test
+    public void readEntryBook_invalidEntryEntryBook_throwDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readEntryBook("invalidEntryEntryBook.json");
+    }
+
+    @Test
+    public void readEntryBook_invalidAndValidEntryEntryBook_throwDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readEntryBook("invalidAndValidEntryEntryBook.json");
+    }
+
+    @Test
+    public void readEntryBook_duplicateEntries_throwDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new StreamingJsonEntryBookStorage(DUPLICATE_ENTRY_FILE).readEntryBook();
+    }
+
+    @Test
+    public void readAndSaveEntryBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        EntryBook original = getTypicalListEntryBook();
+        StreamingJsonEntryBookStorage storage = new StreamingJsonEntryBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveEntryBook(original, filePath);
+        ReadOnlyEntryBook readBack = storage.readEntryBook(filePath).get();
+        assertEquals(original, new EntryBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addEntry(HOON);
+        original.removeEntry(ALICE);
+        storage.saveEntryBook(original, filePath);
+        readBack = storage.readEntryBook(filePath).get();
+        assertEquals(original, new EntryBook(readBack));
+
+        // Save and read without specifying file path
+        original.addEntry(IDA);
+        storage.saveEntryBook(original); // file path not specified
+        readBack = storage.readEntryBook().get(); // file path not specified
+        assertEquals(original, new EntryBook(readBack));
+    }
+
+    @Test
+    public void saveEntryBook_sameDataAsJsonEntryBookStorage_identicalFiles() throws Exception {
+        Path streamingFilePath = testFolder.getRoot().toPath().resolve("streaming.json");
+        Path jsonFilePath = testFolder.getRoot().toPath().resolve("json.json");
+
+        EntryBook entryBook = getTypicalListEntryBook();
+        new StreamingJsonEntryBookStorage(streamingFilePath).saveEntryBook(entryBook);
+        new JsonEntryBookStorage(jsonFilePath).saveEntryBook(entryBook);
+        assertArrayEquals(Files.readAllBytes(jsonFilePath), Files.readAllBytes(streamingFilePath));
+
+        // empty entry book
+        new StreamingJsonEntryBookStorage(streamingFilePath).saveEntryBook(new EntryBook());
+        new JsonEntryBookStorage(jsonFilePath).saveEntryBook(new EntryBook());
+        assertArrayEquals(Files.readAllBytes(jsonFilePath), Files.readAllBytes(streamingFilePath));
+    }
+
+    @Test
+    public void readEntryBook_fileSavedByJsonEntryBookStorage_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("json.json");
+        EntryBook original = getTypicalListEntryBook();
+        new JsonEntryBookStorage(filePath).saveEntryBook(original);
+        assertEquals(original, new EntryBook(new StreamingJsonEntryBookStorage(filePath).readEntryBook().get()));
+    }
+
+    @Test
+    public void saveEntryBook_nullEntryBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new StreamingJsonEntryBookStorage(Paths.get("SomeFile.json")).saveEntryBook(null);
+    }
+
+    @Test
+    public void saveEntryBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new StreamingJsonEntryBookStorage(null).saveEntryBook(new EntryBook(), null);
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalEntries.ALICE;
+import static seedu.address.testutil.TypicalEntries.BOB;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import seedu.address.model.EntryBook;
+import seedu.address.model.ReadOnlyEntryBook;
+
+public class WriteBehindEntryBookSaverTest {
+    private static final long SAVE_DELAY_MILLIS = 50;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final List<ReadOnlyEntryBook> savedEntryBooks = new CopyOnWriteArrayList<>();
+    private final List<IOException> reportedFailures = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void markModified_noSaveDelay_savesImmediately() {
+        WriteBehindEntryBookSaver saver = new WriteBehindEntryBookSaver(0, Runnable::run, reportedFailures::add);
+        EntryBook entryBook = new EntryBook();
+        entryBook.addEntry(ALICE);
+
+        saver.markModified(entryBook, savedEntryBooks::add);
+
+        assertEquals(1, savedEntryBooks.size());
+        assertEquals(entryBook, savedEntryBooks.get(0));
+    }
+
+    @Test
+    public void markModified_noSaveDelayAndSaveFails_reportsFailure() {
+        WriteBehindEntryBookSaver saver = new WriteBehindEntryBookSaver(0, Runnable::run, reportedFailures::add);
+        IOException saveFailure = new IOException("dummy exception");
+
+        saver.markModified(new EntryBook(), unused -> {
+            throw saveFailure;
+        });
+
+        assertEquals(List.of(saveFailure), reportedFailures);
+    }
+
+    @Test
+    public void markModified_manyModifications_coalescedIntoSingleSave() throws Exception {
+        CountDownLatch saved = new CountDownLatch(1);
+        WriteBehindEntryBookSaver saver =
+                new WriteBehindEntryBookSaver(SAVE_DELAY_MILLIS, Runnable::run, reportedFailures::add);
+        EntryBook entryBook = new EntryBook();
+        IoExceptionThrowingConsumer<ReadOnlyEntryBook> saveFunction = savedEntryBook -> {
+            savedEntryBooks.add(savedEntryBook);
+            saved.countDown();
+        };
+
+        synchronized (saver) {
+            // Hold the saver's lock, so that the save cannot happen before all modifications have been made
+            entryBook.addEntry(ALICE);
+            saver.markModified(entryBook, saveFunction);
+            entryBook.addEntry(BOB);
+            saver.markModified(entryBook, saveFunction);
+        }
+
+        assertTrue(saved.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        saver.flush();
+        assertEquals(1, savedEntryBooks.size());
+        assertEquals(entryBook, savedEntryBooks.get(0));
+    }
+
+    @Test
+    public void markModified_saveFails_reportsFailureOnModelThread() throws Exception {
+        CountDownLatch reported = new CountDownLatch(1);
+        List<Runnable> modelThreadTasks = new ArrayList<>();
+        IOException saveFailure = new IOException("dummy exception");
+        WriteBehindEntryBookSaver saver = new WriteBehindEntryBookSaver(SAVE_DELAY_MILLIS, task -> {
+            synchronized (modelThreadTasks) {
+                modelThreadTasks.add(task);
+            }
+            task.run();
+        }, ioe -> {
+            reportedFailures.add(ioe);
+            reported.countDown();
+        });
+
+        saver.markModified(new EntryBook(), unused -> {
+            throw saveFailure;
+        });
+
+        assertTrue(reported.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(List.of(saveFailure), reportedFailures);
+        synchronized (modelThreadTasks) {
+            // one task to take the snapshot, and another to report the failure
+            assertEquals(2, modelThreadTasks.size());
+        }
+    }
+
+    @Test
+    public void flush_pendingModifications_savesSnapshotImmediately() {
+        WriteBehindEntryBookSaver saver =
+                new WriteBehindEntryBookSaver(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS), Runnable::run,
+                        reportedFailures::add);
+        EntryBook entryBook = new EntryBook();
+        entryBook.addEntry(ALICE);
+        saver.markModified(entryBook, savedEntryBooks::add);
+
+        saver.flush();
+        // modifications made after the flush are not part of the saved snapshot
+        entryBook.addEntry(BOB);
+
+        assertEquals(1, savedEntryBooks.size());
+        EntryBook expectedEntryBook = new EntryBook();
+        expectedEntryBook.addEntry(ALICE);
+        assertEquals(expectedEntryBook, savedEntryBooks.get(0));
+
+        // nothing left to save
+        saver.flush();
+        assertEquals(1, savedEntryBooks.size());
+    }
+
+    @Test
+    public void flush_saveFails_reportsFailure() {
+        WriteBehindEntryBookSaver saver =
+                new WriteBehindEntryBookSaver(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS), Runnable::run,
+                        reportedFailures::add);
+        IOException saveFailure = new IOException("dummy exception");
+        saver.markModified(new EntryBook(), unused -> {
+            throw saveFailure;
+        });
+
+        saver.flush();
+
+        assertEquals(List.of(saveFailure), reportedFailures);
+    }
+}
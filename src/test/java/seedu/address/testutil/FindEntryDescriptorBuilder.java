@@ -76,6 +76,14 @@ public class FindEntryDescriptorBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code String} words for article content of the {@code FindEntryDescriptor} that we are building.
+     */
+    public FindEntryDescriptorBuilder withContent(String content) {
+        descriptor.setContent(content);
+        return this;
+    }
+
     /**
      * Resets all the fields to empty.
      */
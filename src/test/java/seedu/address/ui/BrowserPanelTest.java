@@ -22,7 +22,9 @@ import org.junit.Test;
 import guitests.guihandles.BrowserPanelHandle;
 import javafx.beans.property.SimpleObjectProperty;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.entry.Entry;
+import seedu.address.ui.util.ReaderViewCache;
 import seedu.address.ui.util.ReaderViewUtil;
 
 public class BrowserPanelTest extends GuiUnitTest {
@@ -34,7 +36,8 @@ public class BrowserPanelTest extends GuiUnitTest {
     @Before
     public void setUp() {
         guiRobot.interact(() -> {
-            browserPanel = new BrowserPanel(selectedEntry, viewMode, url -> Optional.empty(), url -> Optional.empty());
+            browserPanel = new BrowserPanel(selectedEntry, viewMode, url -> Optional.empty(), url -> Optional.empty(),
+                    new ReaderViewCache(UserPrefs.DEFAULT_READER_VIEW_CACHE_SIZE, Optional.empty()));
         });
         uiPartRule.setUiPart(browserPanel);
 
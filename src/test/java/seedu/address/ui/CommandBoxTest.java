@@ -3,6 +3,7 @@ package seedu.address.ui;
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -17,10 +18,12 @@ public class CommandBoxTest extends GuiUnitTest {
 
     private static final String COMMAND_THAT_SUCCEEDS = ListCommand.COMMAND_WORD;
     private static final String COMMAND_THAT_FAILS = "invalid command";
+    private static final String COMMAND_THAT_WAITS = "refreshall";
 
     private ArrayList<String> defaultStyleOfCommandBox;
     private ArrayList<String> errorStyleOfCommandBox;
     private final ArrayList<String> history = new ArrayList<>();
+    private final CompletableFuture<CommandResult> waitingCommandResult = new CompletableFuture<>();
 
     private CommandBoxHandle commandBoxHandle;
 
@@ -29,9 +32,11 @@ public class CommandBoxTest extends GuiUnitTest {
         CommandBox commandBox = new CommandBox(commandText -> {
             history.add(commandText);
             if (commandText.equals(COMMAND_THAT_SUCCEEDS)) {
-                return new CommandResult("Command successful");
+                return CompletableFuture.completedFuture(new CommandResult("Command successful"));
+            } else if (commandText.equals(COMMAND_THAT_WAITS)) {
+                return waitingCommandResult;
             }
-            throw new CommandException("Command failed");
+            return CompletableFuture.failedFuture(new CommandException("Command failed"));
         }, history);
         commandBoxHandle = new CommandBoxHandle(getChildNode(commandBox.getRoot(),
                 CommandBoxHandle.COMMAND_INPUT_FIELD_ID));
@@ -71,6 +76,24 @@ public class CommandBoxTest extends GuiUnitTest {
         assertEquals(defaultStyleOfCommandBox, commandBoxHandle.getStyleClass());
     }
 
+    @Test
+    public void commandBox_commandFinishingLater() {
+        // text remains until the command has finished executing
+        commandBoxHandle.run(COMMAND_THAT_WAITS);
+        assertEquals(COMMAND_THAT_WAITS, commandBoxHandle.getInput());
+        assertEquals(defaultStyleOfCommandBox, commandBoxHandle.getStyleClass());
+
+        // other commands can be executed in the meantime
+        assertBehaviorForSuccessfulCommand();
+
+        // text typed in while the command was executing is left as it is
+        guiRobot.push(KeyCode.A);
+        guiRobot.interact(() -> waitingCommandResult.completeExceptionally(new CommandException("Command failed")));
+        assertEquals("a", commandBoxHandle.getInput());
+        assertEquals(defaultStyleOfCommandBox, commandBoxHandle.getStyleClass());
+        assertInputHistory(KeyCode.UP, COMMAND_THAT_SUCCEEDS);
+    }
+
     @Test
     public void handleKeyPress_startingWithUp() {
         // empty history
@@ -0,0 +1,125 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalEntries.ALICE;
+import static seedu.address.testutil.TypicalEntries.BENSON;
+import static seedu.address.testutil.TypicalEntries.BROWSER_PANEL_TEST_ENTRY;
+import static seedu.address.testutil.TypicalEntries.CARL;
+import static seedu.address.testutil.TypicalEntries.DANIEL;
+import static seedu.address.testutil.TypicalEntries.ELLE;
+import static seedu.address.testutil.TypicalEntries.FIONA;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ModelContext;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.entry.Entry;
+import seedu.address.ui.util.ReaderViewCache;
+import seedu.address.util.Network;
+
+public class NeighbourPrefetcherTest {
+
+    private final ObservableList<Entry> entryList =
+            FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA);
+    private final SimpleObjectProperty<Entry> selectedEntry = new SimpleObjectProperty<>();
+    private final SimpleObjectProperty<ViewMode> viewMode = new SimpleObjectProperty<>(new ViewMode());
+    private final SimpleObjectProperty<ModelContext> context =
+            new SimpleObjectProperty<>(ModelContext.CONTEXT_LIST);
+    private final Map<URL, CompletableFuture<Boolean>> downloads = new HashMap<>();
+    private final List<URL> downloadedUrls = new ArrayList<>();
+    private final List<URL> readUrls = new ArrayList<>();
+
+    @Test
+    public void selectEntry_listContext_neighboursDownloadedNearestFirst() {
+        makePrefetcher(2);
+        downloadAtOnce(false);
+        selectedEntry.set(CARL);
+        assertEquals(toUrls(DANIEL, BENSON, ELLE, ALICE), downloadedUrls);
+    }
+
+    @Test
+    public void selectEntry_notListContext_nothingDownloaded() {
+        makePrefetcher(2);
+        downloadAtOnce(false);
+        context.set(ModelContext.CONTEXT_ARCHIVES);
+        selectedEntry.set(CARL);
+        assertTrue(downloadedUrls.isEmpty());
+    }
+
+    @Test
+    public void selectEntry_selectionJumps_stalePrefetchesDropped() {
+        makePrefetcher(1);
+
+        // neighbours are downloaded one at a time
+        selectedEntry.set(DANIEL);
+        assertEquals(toUrls(ELLE), downloadedUrls);
+
+        // the remaining neighbours of DANIEL are not downloaded once the selection has moved away
+        selectedEntry.set(ALICE);
+        downloads.get(ELLE.getLink().value).complete(true);
+        assertEquals(toUrls(ELLE, BENSON), downloadedUrls);
+    }
+
+    @Test
+    public void selectEntry_readerViewMode_readerViewOfNeighbourGenerated() {
+        entryList.setAll(ALICE, BROWSER_PANEL_TEST_ENTRY);
+        makePrefetcher(1);
+        downloadAtOnce(true);
+        viewMode.set(new ViewMode(ViewType.READER));
+        selectedEntry.set(ALICE);
+        assertEquals(toUrls(BROWSER_PANEL_TEST_ENTRY), readUrls);
+    }
+
+    @Test
+    public void selectEntry_browserViewMode_noReaderViewGenerated() {
+        entryList.setAll(ALICE, BROWSER_PANEL_TEST_ENTRY);
+        makePrefetcher(1);
+        downloadAtOnce(true);
+        selectedEntry.set(ALICE);
+        assertTrue(readUrls.isEmpty());
+    }
+
+    /**
+     * Returns a prefetcher which runs every task directly, where the offline copy of every entry is its link.
+     */
+    private NeighbourPrefetcher makePrefetcher(int windowSize) {
+        Function<URL, Optional<String>> getHtmlFromUrl = url -> {
+            readUrls.add(url);
+            return Network.fetchAsStringOptional(url);
+        };
+        return new NeighbourPrefetcher(entryList, selectedEntry, viewMode, context, windowSize, url -> {
+            downloadedUrls.add(url);
+            return downloads.computeIfAbsent(url, unused -> new CompletableFuture<>());
+        }, Optional::of, getHtmlFromUrl, new ReaderViewCache(UserPrefs.DEFAULT_READER_VIEW_CACHE_SIZE,
+                Optional.empty()), Runnable::run, Runnable::run);
+    }
+
+    /**
+     * Makes every download complete as soon as it is started, with {@code isDownloaded}.
+     */
+    private void downloadAtOnce(boolean isDownloaded) {
+        entryList.forEach(entry ->
+                downloads.put(entry.getLink().value, CompletableFuture.completedFuture(isDownloaded)));
+    }
+
+    private static List<URL> toUrls(Entry... entries) {
+        List<URL> urls = new ArrayList<>();
+        for (Entry entry : entries) {
+            urls.add(entry.getLink().value);
+        }
+        return urls;
+    }
+}
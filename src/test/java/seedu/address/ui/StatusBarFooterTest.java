@@ -2,6 +2,9 @@ package seedu.address.ui;
 
 import static org.junit.Assert.assertEquals;
 import static seedu.address.testutil.TypicalEntries.ALICE;
+import static seedu.address.ui.StatusBarFooter.COMMAND_STATUS_IDLE;
+import static seedu.address.ui.StatusBarFooter.COMMAND_STATUS_RUNNING;
+import static seedu.address.ui.StatusBarFooter.COMMAND_STATUS_RUNNING_MANY;
 import static seedu.address.ui.StatusBarFooter.CONTEXT_ENTRY_COUNT_STATUS;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
@@ -20,6 +23,8 @@ import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.model.EntryBook;
 import seedu.address.model.ModelContext;
 
@@ -34,6 +39,7 @@ public class StatusBarFooterTest extends GuiUnitTest {
     private StatusBarFooterHandle statusBarFooterHandle;
     private final EntryBook entryBook = new EntryBook();
     private final SimpleObjectProperty<ModelContext> context = new SimpleObjectProperty<>(ModelContext.CONTEXT_LIST);
+    private final ObservableList<String> runningCommands = FXCollections.observableArrayList();
 
     @BeforeClass
     public static void setUpBeforeClass() {
@@ -50,7 +56,7 @@ public class StatusBarFooterTest extends GuiUnitTest {
     @Before
     public void setUp() {
         StatusBarFooter statusBarFooter = new StatusBarFooter(STUB_SAVE_LOCATION, entryBook,
-                entryBook.getEntryList(), context);
+                entryBook.getEntryList(), context, runningCommands);
         uiPartRule.setUiPart(statusBarFooter);
 
         statusBarFooterHandle = new StatusBarFooterHandle(statusBarFooter.getRoot());
@@ -78,6 +84,24 @@ public class StatusBarFooterTest extends GuiUnitTest {
                 String.format(CONTEXT_ENTRY_COUNT_STATUS, initialEntryCount + 1, newContext));
     }
 
+    @Test
+    public void display_runningCommands() {
+        assertEquals(COMMAND_STATUS_IDLE, statusBarFooterHandle.getCommandStatus());
+
+        guiRobot.interact(() -> runningCommands.add("refreshall"));
+        assertEquals(String.format(COMMAND_STATUS_RUNNING, "refreshall"), statusBarFooterHandle.getCommandStatus());
+
+        guiRobot.interact(() -> runningCommands.add("refresh 1"));
+        assertEquals(String.format(COMMAND_STATUS_RUNNING_MANY, "refreshall", 1),
+                statusBarFooterHandle.getCommandStatus());
+
+        guiRobot.interact(() -> runningCommands.remove("refreshall"));
+        assertEquals(String.format(COMMAND_STATUS_RUNNING, "refresh 1"), statusBarFooterHandle.getCommandStatus());
+
+        guiRobot.interact(runningCommands::clear);
+        assertEquals(COMMAND_STATUS_IDLE, statusBarFooterHandle.getCommandStatus());
+    }
+
     /**
      * Asserts that the save location matches that of {@code expectedSaveLocation}, and the
      * sync status matches that of {@code expectedSyncStatus}.
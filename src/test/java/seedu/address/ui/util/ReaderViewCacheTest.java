@@ -0,0 +1,68 @@
+package seedu.address.ui.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalEntries.BROWSER_PANEL_TEST_ENTRY_BASE_URL;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.util.Network;
+
+public class ReaderViewCacheTest {
+
+    private static final String OTHER_BASE_URL = "http://example.com/";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final String rawHtml = Network.fetchAsStringOptional(BROWSER_PANEL_TEST_ENTRY_BASE_URL).get();
+    private final String baseUrl = BROWSER_PANEL_TEST_ENTRY_BASE_URL.toExternalForm();
+
+    @Test
+    public void getReaderViewOf_sameHtmlTwice_cachedReaderViewReturned() {
+        ReaderViewCache cache = new ReaderViewCache(1, Optional.empty());
+        String readerView = cache.getReaderViewOf(rawHtml, baseUrl);
+
+        assertEquals(ReaderViewUtil.generateReaderViewStringFrom(rawHtml, baseUrl), readerView);
+        assertSame(readerView, cache.getReaderViewOf(rawHtml, baseUrl));
+    }
+
+    @Test
+    public void getReaderViewOf_evictedWithoutSpillDirectory_readerViewGeneratedAgain() {
+        ReaderViewCache cache = new ReaderViewCache(1, Optional.empty());
+        String readerView = cache.getReaderViewOf(rawHtml, baseUrl);
+        cache.getReaderViewOf(rawHtml, OTHER_BASE_URL);
+
+        String regeneratedReaderView = cache.getReaderViewOf(rawHtml, baseUrl);
+        assertEquals(readerView, regeneratedReaderView);
+        assertNotSame(readerView, regeneratedReaderView);
+    }
+
+    @Test
+    public void getReaderViewOf_evictedWithSpillDirectory_readerViewReadBackFromDisk() {
+        Path spillDirectoryPath = testFolder.getRoot().toPath().resolve("readerviews");
+        ReaderViewCache cache = new ReaderViewCache(1, Optional.of(spillDirectoryPath));
+        String readerView = cache.getReaderViewOf(rawHtml, baseUrl);
+
+        // the evicted reader view is spilled to disk
+        String otherReaderView = cache.getReaderViewOf(rawHtml, OTHER_BASE_URL);
+        assertEquals(1, countFiles(spillDirectoryPath));
+
+        // the spilled reader view is read back, and the one evicted in its place is spilled instead
+        assertEquals(readerView, cache.getReaderViewOf(rawHtml, baseUrl));
+        assertEquals(1, countFiles(spillDirectoryPath));
+        assertEquals(otherReaderView, cache.getReaderViewOf(rawHtml, OTHER_BASE_URL));
+    }
+
+    private static int countFiles(Path directoryPath) {
+        File[] files = directoryPath.toFile().listFiles();
+        return files == null ? 0 : files.length;
+    }
+}
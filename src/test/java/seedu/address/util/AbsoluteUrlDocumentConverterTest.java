@@ -1,9 +1,11 @@
 package seedu.address.util;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 
 import org.jsoup.Jsoup;
 import org.junit.Test;
@@ -70,8 +72,81 @@ public class AbsoluteUrlDocumentConverterTest {
         assertLinkConversion(
             "<!doctype html><head></head><body><div style=\"background-image: url(%s); color: red\"></div></body>");
 
-        // Cases like url('...') and url("...") are transparently handled by CSS parser,
-        // No need to test.
+        // Quoted urls keep their quotes
+        assertLinkConversion(
+            "<!doctype html><head></head><body><div style=\"background-image: url('%s')\"></div></body>");
+        assertLinkConversion(
+            "<!doctype html><head></head><body><div style='background-image: url(\"%s\")'></div></body>");
+    }
+
+    @Test
+    public void convert_escapedStyleUrlsProperlyConverted() {
+        // Quotes and ampersands escaped in the attribute are part of the css, and stay escaped
+        assertSuccessfulConversion(
+                "<!doctype html><body><div style=\"background-image: "
+                        + "url(&quot;https://en.wikipedia.org/img/a.png?x=1&amp;y=2&quot;)\"></div></body>",
+                baseUrl,
+                "<!doctype html><body><div style=\"background-image: url(&quot;/img/a.png?x=1&amp;y=2&quot;)\">"
+                        + "</div></body>");
+        assertSuccessfulConversion(
+                "<!doctype html><body><div style=\"background-image: "
+                        + "url(https://en.wikipedia.org/img/a.png?x=1&amp;y=2)\"></div></body>",
+                baseUrl,
+                "<!doctype html><body><div style=\"background-image: url(/img/a.png?x=1&amp;y=2)\"></div></body>");
+    }
+
+    @Test
+    public void convert_styleElementUrlsProperlyConverted() {
+        assertLinkConversion(
+            "<!doctype html><head><style>body { background-image: url(%s) }</style></head><body></body>");
+    }
+
+    @Test
+    public void convert_srcsetProperlyConverted() {
+        assertLinkConversion(
+                "<!doctype html><head></head><body><img srcset=\"%s\"></body>");
+        assertSuccessfulConversion(
+                "<!doctype html><body><img srcset=\"https://en.wikipedia.org/wiki/small.png 1x, "
+                        + "https://en.wikipedia.org/large.png 2x\"></body>",
+                baseUrl,
+                "<!doctype html><body><img srcset=\"small.png 1x, /large.png 2x\"></body>");
+    }
+
+    @Test
+    public void convert_escapedLinkProperlyConverted() {
+        assertSuccessfulConversion(
+                "<!doctype html><body><a href=\"https://en.wikipedia.org/w/index.php?a=1&amp;b=2\"></a></body>",
+                baseUrl,
+                "<!doctype html><body><a href=\"/w/index.php?a=1&amp;b=2\"></a></body>");
+    }
+
+    @Test
+    public void convert_baseElementUsedForLaterLinks() {
+        assertSuccessfulConversion(
+                "<!doctype html><head><base href=\"https://en.wikipedia.org/base/\"></head>"
+                        + "<body><a href=\"https://en.wikipedia.org/base/and/path\"></a></body>",
+                baseUrl,
+                "<!doctype html><head><base href=\"/base/\"></head><body><a href=\"and/path\"></a></body>");
+    }
+
+    @Test
+    public void convert_nonLinksUntouched() {
+        String document = "<!doctype html><body><!-- <a href=\"and/path\"> -->"
+                + "<script>if (a < b) { s = '<img src=\"and/path\">'; }</script>"
+                + "<a href=\"javascript:void(0)\" title=\"and/path\">a < b</a></body>";
+        assertEquals(document,
+                new String(AbsoluteUrlDocumentConverter.convert(baseUrl, document.getBytes(StandardCharsets.UTF_8)),
+                        StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void convert_declaredCharsetPreserved() {
+        String document = "<!doctype html><head><meta charset=\"iso-8859-1\"></head>"
+                + "<body><p>caf\u00e9</p><a href=\"and/path\"></a></body>";
+        String expected = "<!doctype html><head><meta charset=\"iso-8859-1\"></head>"
+                + "<body><p>caf\u00e9</p><a href=\"https://en.wikipedia.org/wiki/and/path\"></a></body>";
+        assertArrayEquals(expected.getBytes(StandardCharsets.ISO_8859_1),
+                AbsoluteUrlDocumentConverter.convert(baseUrl, document.getBytes(StandardCharsets.ISO_8859_1)));
     }
 
     /**
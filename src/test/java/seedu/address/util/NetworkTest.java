@@ -10,12 +10,16 @@ import static seedu.address.testutil.TypicalEntries.VALID_FILE_LINK;
 import static seedu.address.testutil.TypicalEntries.VALID_HTTPS_LINK;
 import static seedu.address.testutil.TypicalEntries.VALID_HTTP_LINK;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -199,4 +203,51 @@ public class NetworkTest {
             .get();
     }
 
+    @Test
+    public void fetchAsBytes_countsWireAndDecodedBytes() throws IOException {
+        long wireBytesBefore = Network.getWireBytesReceived();
+        long decodedBytesBefore = Network.getDecodedBytesReceived();
+
+        byte[] content = Network.fetchAsBytes(HTTPS_TEST_URL);
+
+        assertTrue(Network.getWireBytesReceived() > wireBytesBefore);
+        assertTrue(Network.getDecodedBytesReceived() - decodedBytesBefore >= content.length);
+    }
+
+    @Test
+    public void decodeBody_supportedEncodings_decompresses() throws IOException {
+        byte[] content = FILE_TEST_CONTENTS.getBytes(StandardCharsets.UTF_8);
+
+        assertArrayEquals(content, Network.decodeBody(content, null).readAllBytes());
+        assertArrayEquals(content, Network.decodeBody(content, "identity").readAllBytes());
+
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(gzipped)) {
+            gzipStream.write(content);
+        }
+        assertArrayEquals(content, Network.decodeBody(gzipped.toByteArray(), "gzip").readAllBytes());
+        assertArrayEquals(content, Network.decodeBody(gzipped.toByteArray(), "X-GZIP").readAllBytes());
+
+        assertArrayEquals(content, Network.decodeBody(deflate(content, false), "deflate").readAllBytes());
+        // raw deflate streams without the zlib wrapper are also accepted
+        assertArrayEquals(content, Network.decodeBody(deflate(content, true), "deflate").readAllBytes());
+    }
+
+    @Test
+    public void decodeBody_unsupportedEncoding_throwsIoexception() throws IOException {
+        thrown.expect(IOException.class);
+        Network.decodeBody(FILE_TEST_CONTENTS.getBytes(StandardCharsets.UTF_8), "br");
+    }
+
+    /**
+     * Compresses {@code content} with deflate, optionally without the zlib wrapper.
+     */
+    private static byte[] deflate(byte[] content, boolean nowrap) throws IOException {
+        ByteArrayOutputStream deflated = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflaterStream =
+                     new DeflaterOutputStream(deflated, new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap))) {
+            deflaterStream.write(content);
+        }
+        return deflated.toByteArray();
+    }
 }
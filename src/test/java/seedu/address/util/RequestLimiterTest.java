@@ -0,0 +1,121 @@
+package seedu.address.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.testutil.TestUtil;
+
+public class RequestLimiterTest {
+    private static final URL HOST_A_URL = TestUtil.toUrl("https://a.example.com/1");
+    private static final URL OTHER_HOST_A_URL = TestUtil.toUrl("https://A.EXAMPLE.COM/2");
+    private static final URL HOST_B_URL = TestUtil.toUrl("https://b.example.com/1");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_nonPositiveLimit_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new RequestLimiter(0, 1);
+    }
+
+    @Test
+    public void submit_withinLimits_startsImmediately() {
+        RequestLimiter requestLimiter = new RequestLimiter(2, 2);
+        List<CompletableFuture<String>> requests = submitManualRequests(requestLimiter, HOST_A_URL, HOST_B_URL);
+        assertEquals(2, requestLimiter.getNumRequestsInFlight());
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    public void submit_exceedsGlobalLimit_queuesUntilCompletion() {
+        RequestLimiter requestLimiter = new RequestLimiter(1, 1);
+        List<CompletableFuture<String>> requests = new ArrayList<>();
+        CompletableFuture<String> first = requestLimiter.submit(HOST_A_URL, () -> addNewFuture(requests));
+        CompletableFuture<String> second = requestLimiter.submit(HOST_B_URL, () -> addNewFuture(requests));
+
+        // only the first request has started
+        assertEquals(1, requests.size());
+
+        requests.get(0).complete("first");
+        assertEquals("first", first.join());
+
+        // completing the first request starts the second
+        assertEquals(2, requests.size());
+        assertFalse(second.isDone());
+        requests.get(1).complete("second");
+        assertEquals("second", second.join());
+        assertEquals(0, requestLimiter.getNumRequestsInFlight());
+    }
+
+    @Test
+    public void submit_exceedsPerHostLimit_startsRequestsToOtherHosts() {
+        RequestLimiter requestLimiter = new RequestLimiter(4, 1);
+        List<CompletableFuture<String>> requests = new ArrayList<>();
+        requestLimiter.submit(HOST_A_URL, () -> addNewFuture(requests));
+        // same host, differing only in case
+        requestLimiter.submit(OTHER_HOST_A_URL, () -> addNewFuture(requests));
+        requestLimiter.submit(HOST_B_URL, () -> addNewFuture(requests));
+
+        // the second request to host A is held back, but the request to host B is not
+        assertEquals(2, requests.size());
+        assertEquals(2, requestLimiter.getNumRequestsInFlight());
+
+        requests.get(0).complete("done");
+        assertEquals(3, requests.size());
+    }
+
+    @Test
+    public void submit_requestFails_propagatesFailureAndReleasesSlot() throws Exception {
+        RequestLimiter requestLimiter = new RequestLimiter(1, 1);
+        CompletableFuture<String> failing = requestLimiter.submit(HOST_A_URL, () ->
+                CompletableFuture.failedFuture(new IOException("failed")));
+        CompletableFuture<String> succeeding = requestLimiter.submit(HOST_A_URL, () ->
+                CompletableFuture.completedFuture("succeeded"));
+
+        assertTrue(failing.isCompletedExceptionally());
+        assertEquals("succeeded", succeeding.get());
+
+        thrown.expect(ExecutionException.class);
+        failing.get();
+    }
+
+    @Test
+    public void submit_requestThrows_propagatesFailure() {
+        RequestLimiter requestLimiter = new RequestLimiter(1, 1);
+        CompletableFuture<String> throwing = requestLimiter.submit(HOST_A_URL, () -> {
+            throw new IllegalStateException();
+        });
+        assertTrue(throwing.isCompletedExceptionally());
+        assertEquals(0, requestLimiter.getNumRequestsInFlight());
+    }
+
+    /**
+     * Submits a request for each of {@code urls} which only completes when completed manually.
+     */
+    private static List<CompletableFuture<String>> submitManualRequests(RequestLimiter requestLimiter, URL... urls) {
+        List<CompletableFuture<String>> requests = new ArrayList<>();
+        for (URL url : urls) {
+            requestLimiter.submit(url, () -> addNewFuture(requests));
+        }
+        return requests;
+    }
+
+    private static CompletableFuture<String> addNewFuture(List<CompletableFuture<String>> futures) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        futures.add(future);
+        return future;
+    }
+}
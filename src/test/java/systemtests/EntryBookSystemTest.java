@@ -186,6 +186,8 @@ public abstract class EntryBookSystemTest {
 
         mainWindowHandle.getCommandBox().run(command);
 
+        // Commands which wait on the network finish executing in the background
+        getStatusBarFooter().waitUntilCommandsFinished();
         waitUntilBrowserLoaded(getBrowserPanel());
     }
 